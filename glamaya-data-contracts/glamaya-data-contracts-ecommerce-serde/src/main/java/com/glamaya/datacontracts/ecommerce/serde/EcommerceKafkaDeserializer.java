@@ -0,0 +1,67 @@
+package com.glamaya.datacontracts.ecommerce.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Kafka value deserializer for records published by glamaya-sync, in JSON or SMILE (see EcommercePayloadCodec).
+ * The encoding is detected per record, so a topic can switch to SMILE while consumers still read older JSON records.
+ * The value is read into the class named by the type header; only classes of the data contracts are accepted.
+ * Without a type header it is read into a JsonNode.
+ * <p>
+ * Use as {@code value.deserializer=com.glamaya.datacontracts.ecommerce.serde.EcommerceKafkaDeserializer}.
+ */
+public class EcommerceKafkaDeserializer implements Deserializer<Object> {
+
+    private static final String TRUSTED_PACKAGE = "com.glamaya.datacontracts.";
+
+    private final ObjectMapper jsonMapper = EcommercePayloadCodec.jsonMapper();
+    private final ObjectMapper smileMapper = EcommercePayloadCodec.smileMapper();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        // Nothing to configure
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        ObjectMapper mapper = EcommercePayloadCodec.isSmile(data) ? smileMapper : jsonMapper;
+        try {
+            Class<?> type = typeOf(headers);
+            return type != null ? mapper.readValue(data, type) : mapper.readTree(data);
+        } catch (IOException e) {
+            throw new SerializationException("Cannot deserialize record of topic " + topic, e);
+        }
+    }
+
+    private static Class<?> typeOf(Headers headers) {
+        Header header = headers != null ? headers.lastHeader(EcommercePayloadCodec.TYPE_ID_HEADER) : null;
+        if (header == null) {
+            return null;
+        }
+        String className = new String(header.value(), StandardCharsets.UTF_8);
+        if (!className.startsWith(TRUSTED_PACKAGE)) {
+            throw new SerializationException("Type " + className + " is not a data contract");
+        }
+        try {
+            return Class.forName(className, true, EcommerceKafkaDeserializer.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new SerializationException("Unknown type " + className, e);
+        }
+    }
+}
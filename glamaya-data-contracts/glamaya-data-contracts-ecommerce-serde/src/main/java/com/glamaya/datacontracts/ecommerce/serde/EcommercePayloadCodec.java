@@ -0,0 +1,67 @@
+package com.glamaya.datacontracts.ecommerce.serde;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Payload encodings of the ecommerce contracts (Order, Contact) on Kafka.
+ * <p>
+ * JSON is the default. SMILE is binary JSON: it encodes the classes generated from contact.json and order.json, so it
+ * follows the schemas without a second schema to keep in sync, while field names are written once per record and
+ * numbers and dates in binary. Both use the same mapper settings, so a model reads back the same either way.
+ * Records carry the class name in the TYPE_ID_HEADER; SMILE records also carry FORMAT_HEADER, and start with the
+ * SMILE signature, so a reader can tell the encodings apart with or without headers.
+ */
+public final class EcommercePayloadCodec {
+
+    public static final String TYPE_ID_HEADER = "__TypeId__";
+    public static final String FORMAT_HEADER = "__PayloadFormat__";
+    public static final String FORMAT_SMILE = "smile";
+
+    private EcommercePayloadCodec() {
+    }
+
+    /**
+     * JSON mapper builder with the shared settings; producers may add modules that do not change the output.
+     */
+    public static JsonMapper.Builder jsonMapperBuilder() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * SMILE mapper builder with the shared settings; producers may add modules that do not change the output.
+     */
+    public static SmileMapper.Builder smileMapperBuilder() {
+        return SmileMapper.builder()
+                .findAndAddModules()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public static ObjectMapper jsonMapper() {
+        return jsonMapperBuilder().build();
+    }
+
+    public static ObjectMapper smileMapper() {
+        return smileMapperBuilder().build();
+    }
+
+    /**
+     * Returns whether the bytes start with the SMILE signature ':)\n'; JSON never does.
+     */
+    public static boolean isSmile(byte[] bytes) {
+        return bytes != null && bytes.length >= 3 && bytes[0] == ':' && bytes[1] == ')' && bytes[2] == '\n';
+    }
+}
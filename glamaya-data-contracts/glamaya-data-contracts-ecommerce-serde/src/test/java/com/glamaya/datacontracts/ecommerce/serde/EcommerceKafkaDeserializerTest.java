@@ -0,0 +1,86 @@
+package com.glamaya.datacontracts.ecommerce.serde;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.glamaya.datacontracts.ecommerce.Contact;
+import com.glamaya.datacontracts.ecommerce.Name;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EcommerceKafkaDeserializerTest {
+
+    private final EcommerceKafkaDeserializer deserializer = new EcommerceKafkaDeserializer();
+
+    @Test
+    void readsJsonAndSmileIntoTheTypeOfTheHeader() throws Exception {
+        Contact contact = contact();
+
+        for (ObjectMapper mapper : List.of(EcommercePayloadCodec.jsonMapper(), EcommercePayloadCodec.smileMapper())) {
+            Object read = deserializer.deserialize("ecom-contacts", typeHeader(Contact.class.getName()),
+                    mapper.writeValueAsBytes(contact));
+
+            assertThat(read).isEqualTo(contact);
+        }
+    }
+
+    @Test
+    void readsJsonAndSmileIntoATreeWithoutTypeHeader() throws Exception {
+        Contact contact = contact();
+
+        for (ObjectMapper mapper : List.of(EcommercePayloadCodec.jsonMapper(), EcommercePayloadCodec.smileMapper())) {
+            Object read = deserializer.deserialize("ecom-contacts", new RecordHeaders(), mapper.writeValueAsBytes(contact));
+
+            assertThat(read).isInstanceOf(JsonNode.class);
+            assertThat(((JsonNode) read).get("id").asText()).isEqualTo("c-1");
+            assertThat(((JsonNode) read).get("name").get("full").asText()).isEqualTo("Asha Rao");
+        }
+    }
+
+    @Test
+    void detectsSmileBySignature() throws Exception {
+        Contact contact = contact();
+
+        assertThat(EcommercePayloadCodec.isSmile(EcommercePayloadCodec.smileMapper().writeValueAsBytes(contact))).isTrue();
+        assertThat(EcommercePayloadCodec.isSmile(EcommercePayloadCodec.jsonMapper().writeValueAsBytes(contact))).isFalse();
+    }
+
+    @Test
+    void rejectsTypesOutsideTheDataContracts() throws Exception {
+        byte[] json = EcommercePayloadCodec.jsonMapper().writeValueAsBytes(contact());
+
+        assertThatThrownBy(() -> deserializer.deserialize("ecom-contacts", typeHeader("java.util.HashMap"), json))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void returnsNullForTombstones() {
+        assertThat(deserializer.deserialize("ecom-contacts", new RecordHeaders(), (byte[]) null)).isNull();
+    }
+
+    private static RecordHeaders typeHeader(String className) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(EcommercePayloadCodec.TYPE_ID_HEADER, className.getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+    private static Contact contact() {
+        Name name = new Name();
+        name.setFirst("Asha");
+        name.setLast("Rao");
+        name.setFull("Asha Rao");
+        Contact contact = new Contact();
+        contact.setId("c-1");
+        contact.setName(name);
+        contact.setCreatedDate(Instant.parse("2025-01-02T03:04:05Z"));
+        contact.setUpdatedDate(Instant.parse("2025-06-07T08:09:10.123Z"));
+        return contact;
+    }
+}
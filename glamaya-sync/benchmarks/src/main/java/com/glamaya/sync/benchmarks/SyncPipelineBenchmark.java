@@ -0,0 +1,159 @@
+package com.glamaya.sync.benchmarks;
+
+import com.glamaya.sync.benchmarks.support.BenchmarkProcessorConfiguration;
+import com.glamaya.sync.benchmarks.support.DelayedNotificationPort;
+import com.glamaya.sync.benchmarks.support.InMemoryStatusStore;
+import com.glamaya.sync.benchmarks.support.SyntheticDataProvider;
+import com.glamaya.sync.benchmarks.support.SyntheticSyncProcessor;
+import com.glamaya.sync.core.application.service.FailureLane;
+import com.glamaya.sync.core.application.service.ProcessorShardCoordinator;
+import com.glamaya.sync.core.application.service.SyncOrchestrationService;
+import com.glamaya.sync.core.application.service.VirtualThreadSyncOrchestrator;
+import com.glamaya.sync.core.application.usecase.SyncOrchestrator;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.core.domain.port.out.SyncProcessor;
+import com.glamaya.sync.core.support.InMemoryLeasePort;
+import com.glamaya.sync.core.support.NoopSyncPorts;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs complete syncs of several synthetic processors through a SyncOrchestrator, all ports in memory.
+ * Each invocation syncs every processor from its first page to its last. The items counter reports
+ * notified items per second; run with the gc profiler (the default of BenchmarkRunner) for the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SyncPipelineBenchmark {
+
+    private static final int PAGES = 20;
+
+    @Param({"50", "200"})
+    public int pageSize;
+
+    /**
+     * Payload size of every item, in bytes.
+     */
+    @Param({"512", "8192"})
+    public int itemBytes;
+
+    /**
+     * CPU spent mapping each item, in JMH Blackhole tokens.
+     */
+    @Param({"0", "2000"})
+    public long mapperCost;
+
+    /**
+     * Latency of every notification, in microseconds.
+     */
+    @Param({"0", "500"})
+    public long notifyLatencyMicros;
+
+    /**
+     * Execution mode as in glamaya.sync.execution.mode: sequential, platform-parallel or parallel.
+     */
+    @Param({"sequential", "parallel"})
+    public String mode;
+
+    /**
+     * Sync engine as in glamaya.sync.engine: reactor or virtual-threads.
+     */
+    @Param({"reactor", "virtual-threads"})
+    public String engine;
+
+    @Param({"4"})
+    public int processors;
+
+    @Param({"1"})
+    public int pageConcurrency;
+
+    private SyncOrchestrator orchestrator;
+    private DelayedNotificationPort notificationPort;
+    private List<ProcessorType> processorTypes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        processorTypes = Arrays.asList(ProcessorType.values()).subList(0, Math.min(processors, ProcessorType.values().length));
+        ProcessorConfiguration<Void> configuration = BenchmarkProcessorConfiguration.builder()
+                .pageSize(pageSize)
+                .prefetchPages(1)
+                .notifyBufferPages(1)
+                .pageConcurrency(pageConcurrency)
+                .build();
+        List<SyncProcessor<?, ?, ?>> syncProcessors = new ArrayList<>();
+        for (ProcessorType type : processorTypes) {
+            syncProcessors.add(new SyntheticSyncProcessor(type, configuration, new SyntheticDataProvider(PAGES, itemBytes), mapperCost));
+        }
+        notificationPort = new DelayedNotificationPort(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(notifyLatencyMicros)));
+        InMemoryStatusStore statusStore = new InMemoryStatusStore();
+        NoopSyncPorts noop = new NoopSyncPorts();
+        ProcessorShardCoordinator shardCoordinator = new ProcessorShardCoordinator(
+                new InMemoryLeasePort(Clock.systemUTC()), "benchmark", Duration.ofMinutes(5), processorTypes);
+        shardCoordinator.heartbeat().block();
+        FailureLane failureLane = new FailureLane(noop, notificationPort, noop, noop, shardCoordinator, syncProcessors,
+                FailureLane.Settings.disabled());
+        orchestrator = switch (engine) {
+            case "reactor" -> new SyncOrchestrationService(statusStore, notificationPort, noop, noop, shardCoordinator,
+                    failureLane, syncProcessors);
+            case "virtual-threads" -> new VirtualThreadSyncOrchestrator(statusStore, notificationPort, noop, noop, shardCoordinator,
+                    failureLane, syncProcessors, 64);
+            default -> throw new IllegalArgumentException("Invalid engine: " + engine);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (orchestrator instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Benchmark
+    public void sync(ItemCounters counters) {
+        switch (mode) {
+            case "sequential" -> processorTypes.forEach(type -> orchestrator.syncSequential(type).block());
+            case "platform-parallel" -> orchestrator.syncPlatformParallel(processorTypes, 0).block();
+            case "parallel" -> orchestrator.syncParallel(0).block();
+            default -> throw new IllegalArgumentException("Invalid mode: " + mode);
+        }
+        counters.items += notificationPort.drainNotified();
+    }
+
+    /**
+     * Items notified, reported by JMH as a rate next to the invocation throughput.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ItemCounters {
+        public long items;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            items = 0;
+        }
+    }
+}
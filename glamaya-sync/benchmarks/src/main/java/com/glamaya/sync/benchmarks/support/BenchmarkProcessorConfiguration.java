@@ -0,0 +1,94 @@
+package com.glamaya.sync.benchmarks.support;
+
+import com.glamaya.sync.core.domain.model.BufferOverflowPolicy;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.PayloadFormat;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * ProcessorConfiguration for benchmark processors. Every run starts from the first page, and the Kafka
+ * channel is the only one enabled.
+ */
+@Getter
+@Builder
+public class BenchmarkProcessorConfiguration implements ProcessorConfiguration<Void> {
+
+    private static final NotificationConfig KAFKA = new NotificationConfig() {
+        @Override
+        public String getPlatformName() {
+            return "benchmark";
+        }
+
+        @Override
+        public Boolean getEnable() {
+            return true;
+        }
+
+        @Override
+        public String getTopic() {
+            return "benchmark";
+        }
+
+        @Override
+        public String getUrl() {
+            return null;
+        }
+
+        @Override
+        public Integer getMaxConcurrency() {
+            return null;
+        }
+
+        @Override
+        public Integer getMaxQueued() {
+            return null;
+        }
+
+        @Override
+        public Long getTimeoutMs() {
+            return null;
+        }
+
+        @Override
+        public PayloadFormat getPayloadFormat() {
+            return null;
+        }
+    };
+
+    @Builder.Default
+    private final boolean enable = true;
+    @Builder.Default
+    private final boolean resetOnStartup = true;
+    @Builder.Default
+    private final Integer initPage = 1;
+    private final Integer pageSize;
+    private final String queryUrl;
+    private final Long fetchActiveDelayMs;
+    private final Long stalenessSloMs;
+    private final Long pollActiveIntervalMs;
+    private final Long pollPassiveIntervalMs;
+    private final Integer minPageSize;
+    private final Integer maxPageSize;
+    private final Long targetPageLatencyMs;
+    private final Long maxPageBytes;
+    private final Integer prefetchPages;
+    private final Integer pageConcurrency;
+    private final boolean dedup;
+    private final Integer mappingParallelism;
+    private final Integer notifyBufferPages;
+    @Builder.Default
+    private final BufferOverflowPolicy bufferOverflowPolicy = BufferOverflowPolicy.BLOCK;
+    private final Long bufferStallTimeoutMs;
+
+    @Override
+    public Void get() {
+        return null;
+    }
+
+    @Override
+    public NotificationConfig getNotificationConfig(NotificationType notificationType) {
+        return notificationType == NotificationType.KAFKA ? KAFKA : null;
+    }
+}
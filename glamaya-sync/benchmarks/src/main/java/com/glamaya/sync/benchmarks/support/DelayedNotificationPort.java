@@ -0,0 +1,45 @@
+package com.glamaya.sync.benchmarks.support;
+
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.port.out.NotificationPort;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * NotificationPort that completes every notification after a fixed latency without blocking a thread,
+ * like a remote broker acknowledging a send, and counts the notified items.
+ */
+public class DelayedNotificationPort implements NotificationPort<EcomModel<?>> {
+
+    private final Duration latency;
+    private final LongAdder notified = new LongAdder();
+
+    /**
+     * @param latency Time until a notification completes; zero completes it at once.
+     */
+    public DelayedNotificationPort(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public boolean supports(NotificationType type) {
+        return true;
+    }
+
+    @Override
+    public Mono<Void> notify(EcomModel<?> payload, ProcessorConfiguration<?> processorConfiguration, NotificationType type) {
+        Mono<Void> sent = Mono.fromRunnable(notified::increment);
+        return latency.isZero() ? sent : Mono.delay(latency).then(sent);
+    }
+
+    /**
+     * Returns the number of items notified so far and starts counting from zero again.
+     */
+    public long drainNotified() {
+        return notified.sumThenReset();
+    }
+}
@@ -0,0 +1,27 @@
+package com.glamaya.sync.benchmarks.support;
+
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.StatusStorePort;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StatusStorePort keeping the latest status of every processor in memory.
+ */
+public class InMemoryStatusStore implements StatusStorePort {
+
+    private final Map<ProcessorType, ProcessorStatus> statuses = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<ProcessorStatus> findStatus(ProcessorType processorType) {
+        return Mono.justOrEmpty(statuses.get(processorType));
+    }
+
+    @Override
+    public Mono<Void> saveStatus(ProcessorStatus status) {
+        return Mono.fromRunnable(() -> statuses.put(status.getProcessorType(), status));
+    }
+}
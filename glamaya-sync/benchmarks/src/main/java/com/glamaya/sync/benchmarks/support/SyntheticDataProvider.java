@@ -0,0 +1,51 @@
+package com.glamaya.sync.benchmarks.support;
+
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.SyncContext;
+import com.glamaya.sync.core.domain.port.out.DataProvider;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataProvider serving a fixed number of pages of synthetic items from memory. It advances the status like the
+ * page-based platform providers do and reports the total page count, so concurrent page fetching applies.
+ * Every item gets a fresh copy of the payload, standing in for the allocation of decoding a response.
+ */
+public class SyntheticDataProvider implements DataProvider<SyntheticItem> {
+
+    private final int pages;
+    private final byte[] payload;
+
+    /**
+     * @param pages     Number of pages per run.
+     * @param itemBytes Payload size of every item.
+     */
+    public SyntheticDataProvider(int pages, int itemBytes) {
+        this.pages = pages;
+        this.payload = new byte[itemBytes];
+        for (int i = 0; i < itemBytes; i++) {
+            payload[i] = (byte) ('a' + i % 26);
+        }
+    }
+
+    @Override
+    public Flux<SyntheticItem> fetchData(SyncContext<?> context) {
+        return Flux.defer(() -> {
+            ProcessorStatus status = context.status();
+            int page = status.getNextPage();
+            int pageSize = status.getPageSize();
+            List<SyntheticItem> items = new ArrayList<>(pageSize);
+            for (int i = 0; i < pageSize; i++) {
+                items.add(new SyntheticItem(page + "-" + i, payload.clone()));
+            }
+            status.setNextPage(page + 1);
+            status.setTotalPages(pages);
+            status.setMoreDataAvailable(page < pages);
+            status.setTotalItemsSynced((status.getTotalItemsSynced() != null ? status.getTotalItemsSynced() : 0) + pageSize);
+            status.setLastPageBytes((long) pageSize * payload.length);
+            return Flux.fromIterable(items);
+        });
+    }
+}
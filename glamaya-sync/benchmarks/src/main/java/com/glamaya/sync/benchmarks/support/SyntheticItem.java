@@ -0,0 +1,10 @@
+package com.glamaya.sync.benchmarks.support;
+
+/**
+ * A raw platform item as a data provider would emit it after decoding.
+ *
+ * @param id      The item id.
+ * @param payload The decoded payload; its size stands in for the item size.
+ */
+public record SyntheticItem(String id, byte[] payload) {
+}
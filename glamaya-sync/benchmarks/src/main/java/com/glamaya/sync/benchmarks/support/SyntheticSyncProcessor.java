@@ -0,0 +1,41 @@
+package com.glamaya.sync.benchmarks.support;
+
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.DataMapper;
+import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.core.domain.port.out.SyncProcessor;
+import lombok.Getter;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * SyncProcessor over a SyntheticDataProvider whose mapper burns a configurable amount of CPU per item.
+ */
+@Getter
+public class SyntheticSyncProcessor implements SyncProcessor<SyntheticItem, EcomModel<byte[]>, Void> {
+
+    private final ProcessorType processorType;
+    private final ProcessorConfiguration<Void> configuration;
+    private final DataProvider<SyntheticItem> dataProvider;
+    private final DataMapper<SyntheticItem, EcomModel<byte[]>> dataMapper;
+
+    /**
+     * @param processorType The processor type to register under.
+     * @param configuration The processor configuration.
+     * @param dataProvider  The data provider to fetch from.
+     * @param mapperCost    CPU spent mapping each item, in JMH Blackhole tokens.
+     */
+    public SyntheticSyncProcessor(ProcessorType processorType, ProcessorConfiguration<Void> configuration,
+                                  DataProvider<SyntheticItem> dataProvider, long mapperCost) {
+        this.processorType = processorType;
+        this.configuration = configuration;
+        this.dataProvider = dataProvider;
+        this.dataMapper = item -> {
+            if (mapperCost > 0) {
+                Blackhole.consumeCPU(mapperCost);
+            }
+            return new EcomModel<>(item.id(), item.payload());
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.glamaya.sync.core.application.service;
+
+import com.glamaya.sync.core.common.LoggerConstants;
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * Adapts the page size of a processor between fetches, within the configured bounds.
+ * The size is doubled while pages come back fast and small, and halved when a page exceeds the target latency
+ * or the maximum payload size. Without adaptive bounds the configured page size is used.
+ * <p>
+ * Page-numbered pagination addresses items by (nextPage - initPage) * pageSize, so a new size is only applied
+ * when that offset is a multiple of it; nextPage is then renumbered for the new size and no item is skipped or
+ * fetched twice. Otherwise the change is retried after the next page.
+ */
+@Slf4j
+final class AdaptivePageSizeController {
+
+    private AdaptivePageSizeController() {}
+
+    /**
+     * Adjusts the page size of the status after a page fetch.
+     *
+     * @param status  The processor status, already advanced by the data provider.
+     * @param config  The processor configuration with the page size bounds.
+     * @param latency The time the page fetch took.
+     */
+    static void adjust(ProcessorStatus status, ProcessorConfiguration<?> config, Duration latency) {
+        Integer current = status.getPageSize();
+        if (current == null) {
+            status.setPageSize(config.getPageSize());
+            return;
+        }
+        int desired = desiredPageSize(current, config, latency, status.getLastPageBytes());
+        if (desired == current) {
+            return;
+        }
+        int initPage = config.getInitPage() != null ? config.getInitPage() : 1;
+        int nextPage = status.getNextPage() != null ? status.getNextPage() : initPage;
+        long offset = (long) (nextPage - initPage) * current;
+        if (offset % desired != 0) {
+            return;
+        }
+        status.setNextPage(initPage + (int) (offset / desired));
+        status.setPageSize(desired);
+        // Totals were reported for the old page size
+        status.setTotalPages(null);
+        log.info(LoggerConstants.ORCH_PAGE_SIZE_CHANGED, status.getProcessorType(), current, desired,
+                latency.toMillis(), status.getLastPageBytes());
+    }
+
+    private static int desiredPageSize(int current, ProcessorConfiguration<?> config, Duration latency, Long bytes) {
+        Integer min = config.getMinPageSize();
+        Integer max = config.getMaxPageSize();
+        if (min == null || max == null || min <= 0 || min >= max) {
+            return config.getPageSize();
+        }
+        Long targetLatencyMs = config.getTargetPageLatencyMs();
+        Long maxBytes = config.getMaxPageBytes();
+        long latencyMs = latency.toMillis();
+
+        boolean tooSlow = targetLatencyMs != null && latencyMs > targetLatencyMs;
+        boolean tooLarge = maxBytes != null && bytes != null && bytes > maxBytes;
+        if (tooSlow || tooLarge) {
+            return clamp(current / 2, min, max);
+        }
+        boolean fast = targetLatencyMs == null || latencyMs * 2 < targetLatencyMs;
+        boolean roomToGrow = maxBytes == null || bytes == null || bytes * 2 <= maxBytes;
+        if (fast && roomToGrow) {
+            return clamp(current * 2, min, max);
+        }
+        return clamp(current, min, max);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,287 @@
+package com.glamaya.sync.core.application.service;
+
+import com.glamaya.sync.core.common.LoggerConstants;
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.FailedItem;
+import com.glamaya.sync.core.domain.model.FailureStage;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.DedupPort;
+import com.glamaya.sync.core.domain.port.out.FailedItemPort;
+import com.glamaya.sync.core.domain.port.out.NotificationPort;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.core.domain.port.out.SyncMetricsPort;
+import com.glamaya.sync.core.domain.port.out.SyncProcessor;
+import com.glamaya.sync.core.domain.port.out.SyncSink;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Takes items whose mapping or notification failed out of the sync stream, so their page still completes and
+ * its checkpoint advances. The failed item ids and reasons are persisted through the FailedItemPort without
+ * waiting for the store.
+ * <p>
+ * retryDue, driven by the runner outside of any sync run, fetches due items again by id, maps them and
+ * notifies them on the failed channel (all channels after a mapping failure). A failed retry is rescheduled
+ * with exponential backoff until the attempts are used up, then the item is dead-lettered. Items of platforms
+ * that cannot fetch single items are dead-lettered at once; they are only kept for inspection. Only items of
+ * processors this instance holds the lease of are retried.
+ */
+@Slf4j
+public class FailureLane {
+
+    private final FailedItemPort failedItemPort;
+    private final NotificationPort<EcomModel<?>> notificationPort;
+    private final DedupPort dedupPort;
+    private final SyncMetricsPort metricsPort;
+    private final ProcessorShardCoordinator shardCoordinator;
+    private final Settings settings;
+    // The processor that fetches the items of each processor or sink type, together with the sink
+    private final Map<ProcessorType, Route<?>> routes = new EnumMap<>(ProcessorType.class);
+
+    /**
+     * @param failedItemPort   Port for persisting failed items.
+     * @param notificationPort Port for notifying recovered items.
+     * @param dedupPort        Port for recording recovered items as notified.
+     * @param metricsPort      Port for recording failures and retries.
+     * @param shardCoordinator Decides which processors this instance may retry items of.
+     * @param syncProcessors   List of all available sync processors.
+     * @param settings         Whether failures are persisted and how they are retried.
+     */
+    public FailureLane(FailedItemPort failedItemPort,
+                       NotificationPort<EcomModel<?>> notificationPort,
+                       DedupPort dedupPort,
+                       SyncMetricsPort metricsPort,
+                       ProcessorShardCoordinator shardCoordinator,
+                       List<SyncProcessor<?, ?, ?>> syncProcessors,
+                       Settings settings) {
+        this.failedItemPort = failedItemPort;
+        this.notificationPort = notificationPort;
+        this.dedupPort = dedupPort;
+        this.metricsPort = metricsPort;
+        this.shardCoordinator = shardCoordinator;
+        this.settings = settings;
+        syncProcessors.forEach(this::addRoutes);
+        log.info(LoggerConstants.FAILURE_LANE_INIT, settings.enabled(), settings.maxAttempts(),
+                settings.initialBackoff().toMillis(), settings.maxBackoff().toMillis());
+    }
+
+    /**
+     * Hands an item whose mapping failed to the lane.
+     *
+     * @param processorType The processor or sink type whose mapper failed.
+     * @param itemId        The platform id of the raw item; null if the platform has none.
+     * @param reason        Why mapping failed.
+     */
+    public void mappingFailed(ProcessorType processorType, String itemId, String reason) {
+        log.warn(LoggerConstants.FAILURE_LANE_MAPPING_FAILED, processorType, itemId, reason);
+        metricsPort.recordFailedItems(processorType, FailureStage.MAPPING, 1);
+        if (settings.enabled() && itemId != null) {
+            persist(List.of(newFailure(processorType, itemId, FailureStage.MAPPING, null, reason)));
+        }
+    }
+
+    /**
+     * Hands items whose notification on one channel failed to the lane.
+     *
+     * @param processorType    The processor or sink type the items belong to.
+     * @param notificationType The channel that failed.
+     * @param itemIds          The platform ids of the raw items; null entries are not retried.
+     * @param reason           Why notifying failed.
+     */
+    public void notificationFailed(ProcessorType processorType, NotificationType notificationType, List<String> itemIds,
+                                   String reason) {
+        log.warn(LoggerConstants.FAILURE_LANE_NOTIFICATION_FAILED, processorType, notificationType, itemIds.size(), reason);
+        metricsPort.recordFailedItems(processorType, FailureStage.NOTIFICATION, itemIds.size());
+        if (!settings.enabled()) {
+            return;
+        }
+        persist(itemIds.stream()
+                .filter(Objects::nonNull)
+                .map(itemId -> newFailure(processorType, itemId, FailureStage.NOTIFICATION, notificationType, reason))
+                .toList());
+    }
+
+    /**
+     * Retries the items whose next attempt is due, up to the batch size.
+     *
+     * @return Mono emitting the number of recovered items.
+     */
+    public Mono<Long> retryDue() {
+        if (!settings.enabled()) {
+            return Mono.just(0L);
+        }
+        return failedItemPort.findDue(Instant.now(), settings.batchSize())
+                .filter(this::ownedHere)
+                .flatMap(this::retry, settings.concurrency())
+                .filter(Boolean::booleanValue)
+                .count();
+    }
+
+    private void persist(List<FailedItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        // The page does not wait for the store; a failure to persist is only logged
+        Flux.fromIterable(items)
+                .concatMap(failedItemPort::recordFailure)
+                .subscribe(null, e -> log.error(LoggerConstants.FAILURE_LANE_PERSIST_FAILED, items.getFirst().getProcessorType(),
+                        items.size(), e.getMessage()));
+    }
+
+    private FailedItem newFailure(ProcessorType processorType, String itemId, FailureStage stage,
+                                  NotificationType notificationType, String reason) {
+        Instant now = Instant.now();
+        Route<?> route = routes.get(processorType);
+        boolean retriable = route != null && route.processor().getDataProvider().supportsFetchById();
+        return FailedItem.builder()
+                .processorType(processorType)
+                .itemId(itemId)
+                .stage(stage)
+                .notificationType(notificationType)
+                .reason(retriable ? reason : reason + " (platform cannot fetch single items, not retried)")
+                .attempts(0)
+                .firstFailedAt(now)
+                .lastFailedAt(now)
+                .nextAttemptAt(now.plus(backoff(1)))
+                .deadLettered(!retriable)
+                .build();
+    }
+
+    private boolean ownedHere(FailedItem item) {
+        Route<?> route = routes.get(item.getProcessorType());
+        return route == null || shardCoordinator.owns(route.processor().getProcessorType());
+    }
+
+    private Mono<Boolean> retry(FailedItem item) {
+        Route<?> route = routes.get(item.getProcessorType());
+        if (route == null) {
+            log.warn(LoggerConstants.FAILURE_LANE_NOT_CONFIGURED, item.getProcessorType(), item.getItemId());
+            return failedItemPort.remove(item).thenReturn(false);
+        }
+        return retry(item, route);
+    }
+
+    private <P> Mono<Boolean> retry(FailedItem item, Route<P> route) {
+        SyncProcessor<P, ?, ?> processor = route.processor();
+        return processor.getDataProvider().fetchById(item.getItemId(), processor.getConfiguration())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(rawItem -> {
+                    if (rawItem.isEmpty()) {
+                        log.info(LoggerConstants.FAILURE_LANE_GONE, item.getProcessorType(), item.getItemId());
+                        metricsPort.recordRetry(item.getProcessorType(), "gone");
+                        return failedItemPort.remove(item).thenReturn(false);
+                    }
+                    return renotify(item, route.sink(), rawItem.get())
+                            .then(Mono.defer(() -> {
+                                log.info(LoggerConstants.FAILURE_LANE_RECOVERED, item.getProcessorType(), item.getItemId(),
+                                        item.getAttempts() + 1);
+                                metricsPort.recordRetry(item.getProcessorType(), "recovered");
+                                return failedItemPort.remove(item).thenReturn(true);
+                            }));
+                })
+                .onErrorResume(e -> reschedule(item, e).thenReturn(false));
+    }
+
+    /**
+     * Maps the refetched item with the sink and notifies it on the failed channel, or on all enabled channels if
+     * mapping failed; then records it as notified if the sink deduplicates.
+     */
+    private <P, C extends EcomModel<?>, T> Mono<Void> renotify(FailedItem item, SyncSink<P, C, T> sink, P rawItem) {
+        ProcessorConfiguration<T> config = sink.getConfiguration();
+        return Mono.fromCallable(() -> sink.getDataMapper().mapToCanonical(rawItem))
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Canonical mapping returned null")))
+                .flatMap(model -> {
+                    List<EcomModel<?>> models = List.of(model);
+                    return Flux.fromArray(NotificationType.values())
+                            .filter(type -> item.getNotificationType() != null
+                                    ? type == item.getNotificationType()
+                                    : SyncSupport.isChannelEnabled(config, type))
+                            .concatMap(type -> notificationPort.notifyBatch(models, config, type))
+                            .then(config.isDedup() ? dedupPort.markNotified(sink.getProcessorType(), models) : Mono.empty());
+                });
+    }
+
+    private Mono<Void> reschedule(FailedItem item, Throwable e) {
+        Instant now = Instant.now();
+        int attempts = item.getAttempts() + 1;
+        boolean exhausted = attempts >= settings.maxAttempts();
+        FailedItem next = item.toBuilder()
+                .attempts(attempts)
+                .reason(e.getMessage())
+                .lastFailedAt(now)
+                .nextAttemptAt(now.plus(backoff(attempts + 1)))
+                .deadLettered(exhausted)
+                .build();
+        if (exhausted) {
+            log.error(LoggerConstants.FAILURE_LANE_DEAD_LETTERED, item.getProcessorType(), item.getItemId(), attempts, e.getMessage());
+        } else {
+            log.warn(LoggerConstants.FAILURE_LANE_RESCHEDULED, item.getProcessorType(), item.getItemId(), attempts,
+                    next.getNextAttemptAt(), e.getMessage());
+        }
+        metricsPort.recordRetry(item.getProcessorType(), exhausted ? "dead-lettered" : "rescheduled");
+        return failedItemPort.save(next);
+    }
+
+    /**
+     * Returns the delay before the given attempt: the initial backoff doubled for every earlier attempt, capped
+     * at the maximum, with up to 20% jitter so items that failed together are not retried together.
+     */
+    private Duration backoff(int attempt) {
+        long initial = Math.max(1, settings.initialBackoff().toMillis());
+        long delay = initial << Math.min(Math.max(0, attempt - 1), 20);
+        delay = Math.min(delay, Math.max(initial, settings.maxBackoff().toMillis()));
+        return Duration.ofMillis(delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1));
+    }
+
+    private <P> void addRoutes(SyncProcessor<P, ?, ?> processor) {
+        routes.put(processor.getProcessorType(), new Route<>(processor, processor));
+        for (SyncSink<P, ?, ?> sink : processor.getSinks()) {
+            routes.put(sink.getProcessorType(), new Route<>(processor, sink));
+        }
+    }
+
+    /**
+     * How the failure lane persists and retries failed items.
+     *
+     * @param enabled        Whether failed items are persisted and retried; if not, failures are only logged.
+     * @param maxAttempts    Retries before an item is dead-lettered.
+     * @param initialBackoff Delay before the first retry; doubled for every further one.
+     * @param maxBackoff     Upper bound of the delay between retries.
+     * @param batchSize      Maximum number of due items retried per retryDue call.
+     * @param concurrency    Items retried at the same time.
+     */
+    public record Settings(boolean enabled, int maxAttempts, Duration initialBackoff, Duration maxBackoff,
+                           int batchSize, int concurrency) {
+
+        public Settings {
+            maxAttempts = Math.max(1, maxAttempts);
+            batchSize = Math.max(1, batchSize);
+            concurrency = Math.max(1, concurrency);
+        }
+
+        /**
+         * Settings that only log failures, e.g. where no FailedItemPort is available.
+         */
+        public static Settings disabled() {
+            return new Settings(false, 1, Duration.ZERO, Duration.ZERO, 1, 1);
+        }
+    }
+
+    /**
+     * The processor that fetches the items of a processor or sink type, and the sink that maps them.
+     */
+    private record Route<P>(SyncProcessor<P, ?, ?> processor, SyncSink<P, ?, ?> sink) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.glamaya.sync.core.application.service;
+
+import com.glamaya.sync.core.domain.model.EcomModel;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The canonical models mapped from raw items, in item order, together with the platform id of the raw item each
+ * model was mapped from; the failure lane needs the ids to fetch the items again if notifying them fails.
+ *
+ * @param models  The mapped models.
+ * @param itemIds The platform item id per model, by identity; null if the platform has none.
+ */
+record MappedItems(List<EcomModel<?>> models, Map<EcomModel<?>, String> itemIds) {
+
+    static MappedItems empty() {
+        return new MappedItems(List.of(), Map.of());
+    }
+
+    /**
+     * Joins mapped chunks of a page in order.
+     */
+    static MappedItems merge(List<MappedItems> chunks) {
+        List<EcomModel<?>> models = new ArrayList<>();
+        Map<EcomModel<?>, String> itemIds = new IdentityHashMap<>();
+        for (MappedItems chunk : chunks) {
+            models.addAll(chunk.models());
+            itemIds.putAll(chunk.itemIds());
+        }
+        return new MappedItems(models, itemIds);
+    }
+
+    /**
+     * Returns the platform item ids of the given models, which must be models of this page.
+     */
+    List<String> itemIdsOf(List<EcomModel<?>> subset) {
+        List<String> ids = new ArrayList<>(subset.size());
+        for (EcomModel<?> model : subset) {
+            ids.add(itemIds.get(model));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,253 @@
+package com.glamaya.sync.core.application.service;
+
+import com.glamaya.sync.core.common.LoggerConstants;
+import com.glamaya.sync.core.domain.model.Lease;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.LeasePort;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Spreads the processor types across runner instances with leases, so that each processor is synced by
+ * exactly one instance at a time.
+ * <p>
+ * Every heartbeat the instance renews its own instance lease and the processor leases it holds, then works
+ * out its fair share (processor count divided by the number of live instances, rounded up). It acquires
+ * free or expired processor leases up to that share, and gives up leases above it so a newly started
+ * instance gets its part; a lease is only given up while its processor is not running. If an instance dies,
+ * its leases expire after the TTL and are taken over by the others.
+ * <p>
+ * A processor lease counts as held only until its last successful renewal plus the TTL, less a safety margin for
+ * clock skew and request latency. An instance whose heartbeats fail (e.g. it cannot reach the lease store) stops
+ * starting runs of those processors before another instance may take them over.
+ */
+@Slf4j
+public class ProcessorShardCoordinator {
+
+    private static final String INSTANCE_LEASE_PREFIX = "instance:";
+    private static final String PROCESSOR_LEASE_PREFIX = "processor:";
+
+    private final LeasePort leasePort;
+    private final String instanceId;
+    private final Duration ttl;
+    // How long after a renewal a lease is relied on: the TTL less a fifth of it as safety margin
+    private final Duration validity;
+    private final List<ProcessorType> processorTypes;
+    private final Consumer<ProcessorType> onLeaseAcquired;
+    private final Clock clock;
+    // The held processor leases, with the time their last successful renewal was started
+    private final Map<ProcessorType, Instant> owned = new ConcurrentHashMap<>();
+    private final Set<ProcessorType> running = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param leasePort      Port for the leases shared by all instances.
+     * @param instanceId     The unique id of this runner instance.
+     * @param ttl            How long a lease stays valid without being renewed; must be well above the heartbeat interval.
+     * @param processorTypes The processor types to spread across instances.
+     */
+    public ProcessorShardCoordinator(LeasePort leasePort, String instanceId, Duration ttl, List<ProcessorType> processorTypes) {
+        this(leasePort, instanceId, ttl, processorTypes, type -> {
+        });
+    }
+
+    /**
+     * @param leasePort       Port for the leases shared by all instances.
+     * @param instanceId      The unique id of this runner instance.
+     * @param ttl             How long a lease stays valid without being renewed; must be well above the heartbeat interval.
+     * @param processorTypes  The processor types to spread across instances.
+     * @param onLeaseAcquired Called when this instance takes over the lease of a processor type, or renews it only
+     *                        after it lapsed, before it may run there, e.g. to drop state cached while another
+     *                        instance ran it.
+     */
+    public ProcessorShardCoordinator(LeasePort leasePort, String instanceId, Duration ttl, List<ProcessorType> processorTypes,
+                                     Consumer<ProcessorType> onLeaseAcquired) {
+        this(leasePort, instanceId, ttl, processorTypes, onLeaseAcquired, Clock.systemUTC());
+    }
+
+    /**
+     * @param leasePort       Port for the leases shared by all instances.
+     * @param instanceId      The unique id of this runner instance.
+     * @param ttl             How long a lease stays valid without being renewed; must be well above the heartbeat interval.
+     * @param processorTypes  The processor types to spread across instances.
+     * @param onLeaseAcquired Called when this instance takes over the lease of a processor type, or renews it only
+     *                        after it lapsed, before it may run there, e.g. to drop state cached while another
+     *                        instance ran it.
+     * @param clock           The clock lease renewals are timed with.
+     */
+    public ProcessorShardCoordinator(LeasePort leasePort, String instanceId, Duration ttl, List<ProcessorType> processorTypes,
+                                     Consumer<ProcessorType> onLeaseAcquired, Clock clock) {
+        this.leasePort = leasePort;
+        this.instanceId = instanceId;
+        this.ttl = ttl;
+        this.validity = ttl.minus(ttl.dividedBy(5));
+        this.processorTypes = processorTypes.stream().sorted().toList();
+        this.onLeaseAcquired = onLeaseAcquired;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the id of this runner instance.
+     */
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Returns whether this instance currently holds the lease of the processor type and renewed it recently
+     * enough that no other instance can have taken it over.
+     */
+    public boolean owns(ProcessorType processorType) {
+        Instant renewed = owned.get(processorType);
+        return renewed != null && clock.instant().isBefore(renewed.plus(validity));
+    }
+
+    /**
+     * Marks the processor as running if this instance holds its lease. A running processor keeps its lease
+     * during rebalancing until endRun is called.
+     *
+     * @param processorType The processor type about to run.
+     * @return True if the processor may run on this instance.
+     */
+    public synchronized boolean tryBeginRun(ProcessorType processorType) {
+        if (!owns(processorType)) {
+            return false;
+        }
+        running.add(processorType);
+        return true;
+    }
+
+    /**
+     * Marks the processor as no longer running.
+     */
+    public synchronized void endRun(ProcessorType processorType) {
+        running.remove(processorType);
+    }
+
+    /**
+     * Renews the leases of this instance and rebalances the processor leases across live instances. If the
+     * heartbeat fails, the leases whose validity has run out since their last renewal are dropped.
+     *
+     * @return Mono signaling completion; fails if the lease store could not be reached.
+     */
+    public Mono<Void> heartbeat() {
+        return leasePort.tryAcquire(INSTANCE_LEASE_PREFIX + instanceId, instanceId, ttl)
+                .thenMany(leasePort.findActive())
+                .collectList()
+                .flatMap(this::rebalance)
+                .doOnError(e -> dropExpired());
+    }
+
+    /**
+     * Releases every lease held by this instance, e.g. on shutdown, so others can take over at once.
+     *
+     * @return Mono signaling completion.
+     */
+    public Mono<Void> releaseAll() {
+        List<ProcessorType> held = List.copyOf(owned.keySet());
+        owned.clear();
+        return Flux.fromIterable(held)
+                .concatMap(type -> leasePort.release(PROCESSOR_LEASE_PREFIX + type.name(), instanceId))
+                .then(leasePort.release(INSTANCE_LEASE_PREFIX + instanceId, instanceId));
+    }
+
+    private Mono<Void> rebalance(List<Lease> activeLeases) {
+        long liveInstances = Math.max(1, activeLeases.stream().filter(lease -> lease.name().startsWith(INSTANCE_LEASE_PREFIX)).count());
+        int fairShare = (int) ((processorTypes.size() + liveInstances - 1) / liveInstances);
+        Map<String, String> owners = activeLeases.stream()
+                .filter(lease -> lease.name().startsWith(PROCESSOR_LEASE_PREFIX))
+                .collect(Collectors.toMap(Lease::name, Lease::owner, (a, b) -> a));
+
+        List<ProcessorType> held = new ArrayList<>();
+        List<ProcessorType> free = new ArrayList<>();
+        for (ProcessorType type : processorTypes) {
+            String owner = owners.get(PROCESSOR_LEASE_PREFIX + type.name());
+            if (instanceId.equals(owner) || (owner == null && owned.containsKey(type))) {
+                held.add(type);
+            } else if (owner == null) {
+                free.add(type);
+            } else if (owned.remove(type) != null) {
+                log.warn(LoggerConstants.SHARD_LEASE_LOST, type, instanceId, owner);
+            }
+        }
+
+        List<ProcessorType> excess = selectExcess(held, fairShare);
+        held.removeAll(excess);
+        int wanted = Math.max(0, fairShare - held.size());
+        return Flux.fromIterable(held)
+                .concatMap(this::acquire)
+                .thenMany(Flux.fromIterable(excess).concatMap(this::release))
+                .thenMany(Flux.fromIterable(free.subList(0, Math.min(wanted, free.size()))).concatMap(this::acquire))
+                .then();
+    }
+
+    /**
+     * Returns the held processors above the fair share that are not running, starting with the last ones.
+     */
+    private synchronized List<ProcessorType> selectExcess(List<ProcessorType> held, int fairShare) {
+        List<ProcessorType> excess = new ArrayList<>();
+        List<ProcessorType> candidates = held.stream().sorted(Comparator.reverseOrder()).toList();
+        for (ProcessorType type : candidates) {
+            if (held.size() - excess.size() <= fairShare) {
+                break;
+            }
+            if (!running.contains(type)) {
+                excess.add(type);
+                // Not owned from now on, so no new run starts before the lease is released
+                owned.remove(type);
+            }
+        }
+        return excess;
+    }
+
+    /**
+     * Drops the leases whose validity has run out, so no new run starts on them; runs in progress are not stopped.
+     */
+    private void dropExpired() {
+        Instant now = clock.instant();
+        owned.forEach((type, renewed) -> {
+            if (!now.isBefore(renewed.plus(validity)) && owned.remove(type, renewed)) {
+                log.warn(LoggerConstants.SHARD_LEASE_EXPIRED, type, instanceId, renewed);
+            }
+        });
+    }
+
+    private Mono<Void> acquire(ProcessorType type) {
+        return Mono.defer(() -> {
+            // The store computes the expiry after this, so the lease is valid for at least the TTL from here
+            Instant requested = clock.instant();
+            return leasePort.tryAcquire(PROCESSOR_LEASE_PREFIX + type.name(), instanceId, ttl)
+                    .doOnNext(acquired -> {
+                        if (acquired) {
+                            Instant renewed = owned.get(type);
+                            // Once the previous renewal lapsed, another instance may have run the processor meanwhile
+                            if (renewed == null || !requested.isBefore(renewed.plus(validity))) {
+                                onLeaseAcquired.accept(type);
+                                log.info(LoggerConstants.SHARD_LEASE_ACQUIRED, type, instanceId);
+                            }
+                            owned.put(type, requested);
+                        } else if (owned.remove(type) != null) {
+                            log.warn(LoggerConstants.SHARD_LEASE_LOST, type, instanceId, "another instance");
+                        }
+                    })
+                    .then();
+        });
+    }
+
+    private Mono<Void> release(ProcessorType type) {
+        log.info(LoggerConstants.SHARD_LEASE_RELEASED, type, instanceId);
+        return leasePort.release(PROCESSOR_LEASE_PREFIX + type.name(), instanceId);
+    }
+}
@@ -0,0 +1,53 @@
+package com.glamaya.sync.core.application.service;
+
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.SyncContext;
+import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.PageRecordPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A DataProvider that feeds the pages recorded in a PageRecordPort instead of calling the platform API.
+ * Pages are replayed in the order they were recorded, one per fetch; the log position of the next page is kept
+ * in the status cursor, so an interrupted replay resumes where it stopped. Watermark fields are left alone.
+ *
+ * @param <T> The type of the platform-specific data transfer object.
+ */
+public class ReplayDataProvider<T> implements DataProvider<T> {
+
+    private final PageRecordPort pageRecordPort;
+    private final Function<byte[], List<T>> decoder;
+
+    /**
+     * @param pageRecordPort The log the pages are read from.
+     * @param decoder        Decodes a raw page body the way the platform API service does.
+     */
+    public ReplayDataProvider(PageRecordPort pageRecordPort, Function<byte[], List<T>> decoder) {
+        this.pageRecordPort = pageRecordPort;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public Flux<T> fetchData(SyncContext<?> context) {
+        ProcessorStatus status = context.status();
+        long position = status.getCursor() != null ? Long.parseLong(status.getCursor()) : 0;
+        return pageRecordPort.read(status.getProcessorType(), position)
+                .map(page -> {
+                    List<T> items = decoder.apply(page.body());
+                    status.setCursor(String.valueOf(page.nextPosition()));
+                    status.setLastPageBytes((long) page.body().length);
+                    int synced = status.getTotalItemsSynced() != null ? status.getTotalItemsSynced() : 0;
+                    status.setTotalItemsSynced(synced + items.size());
+                    return items;
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    status.setMoreDataAvailable(false);
+                    return List.of();
+                }))
+                .flatMapMany(Flux::fromIterable);
+    }
+}
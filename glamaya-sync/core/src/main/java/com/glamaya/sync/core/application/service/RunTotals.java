@@ -0,0 +1,16 @@
+package com.glamaya.sync.core.application.service;
+
+/**
+ * Item counts of a run or of a part of it.
+ *
+ * @param fetchedItems  The number of items fetched.
+ * @param notifiedItems The number of items notified, summed over all sinks.
+ */
+record RunTotals(long fetchedItems, long notifiedItems) {
+
+    static final RunTotals ZERO = new RunTotals(0, 0);
+
+    RunTotals plus(RunTotals other) {
+        return new RunTotals(fetchedItems + other.fetchedItems, notifiedItems + other.notifiedItems);
+    }
+}
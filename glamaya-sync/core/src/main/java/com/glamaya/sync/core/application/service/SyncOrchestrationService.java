@@ -2,33 +2,62 @@ package com.glamaya.sync.core.application.service;
 
 import com.glamaya.sync.core.application.usecase.SyncOrchestrator;
 import com.glamaya.sync.core.common.LoggerConstants;
+import com.glamaya.sync.core.common.PermitQueue;
+import com.glamaya.sync.core.domain.model.BackfillSlice;
+import com.glamaya.sync.core.domain.model.BufferOverflowPolicy;
 import com.glamaya.sync.core.domain.model.EcomModel;
-import com.glamaya.sync.core.domain.model.NotificationType;
 import com.glamaya.sync.core.domain.model.ProcessorStatus;
 import com.glamaya.sync.core.domain.model.ProcessorType;
 import com.glamaya.sync.core.domain.model.SyncContext;
+import com.glamaya.sync.core.domain.model.SyncPage;
+import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.DedupPort;
 import com.glamaya.sync.core.domain.port.out.NotificationPort;
 import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
 import com.glamaya.sync.core.domain.port.out.StatusStorePort;
+import com.glamaya.sync.core.domain.port.out.SyncMetricsPort;
 import com.glamaya.sync.core.domain.port.out.SyncProcessor;
+import com.glamaya.sync.core.domain.port.out.SyncSink;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
-public class SyncOrchestrationService implements SyncOrchestrator {
+public class SyncOrchestrationService implements SyncOrchestrator, AutoCloseable {
+
+    // Stage buffer names reported with the queue depth metric
+    private static final String STAGE_FETCHED = "fetched";
+    private static final String STAGE_MAPPED = "mapped";
 
     private final StatusStorePort statusStorePort;
     private final NotificationPort<EcomModel<?>> notificationPort;
+    private final DedupPort dedupPort;
+    private final SyncMetricsPort metricsPort;
+    private final ProcessorShardCoordinator shardCoordinator;
+    private final FailureLane failureLane;
+    // CPU-bound mapping runs on the mapping scheduler when a processor configures a mapping parallelism; it is
+    // created on first use with as many threads as the largest parallelism configured
+    private final int mappingThreads;
+    private Scheduler mappingScheduler; // Guarded by this
+    private boolean closed; // Guarded by this
     private final Map<ProcessorType, SyncProcessor<?, ?, ?>> syncProcessors;
 
     /**
@@ -36,19 +65,47 @@ public class SyncOrchestrationService implements SyncOrchestrator {
      *
      * @param statusStorePort   Port for storing and retrieving processor status.
      * @param notificationPort  Port for sending notifications for canonical models.
+     * @param dedupPort         Port for skipping unchanged canonical models.
+     * @param metricsPort       Port for recording pipeline stage metrics.
+     * @param shardCoordinator  Decides which processors this instance may run.
+     * @param failureLane       Takes items whose mapping or notification fails.
      * @param syncProcessors    List of all available sync processors.
      */
     public SyncOrchestrationService(
             StatusStorePort statusStorePort,
             NotificationPort<EcomModel<?>> notificationPort,
+            DedupPort dedupPort,
+            SyncMetricsPort metricsPort,
+            ProcessorShardCoordinator shardCoordinator,
+            FailureLane failureLane,
             List<SyncProcessor<?, ?, ?>> syncProcessors) {
         this.statusStorePort = statusStorePort;
         this.notificationPort = notificationPort;
+        this.dedupPort = dedupPort;
+        this.metricsPort = metricsPort;
+        this.shardCoordinator = shardCoordinator;
+        this.failureLane = failureLane;
+        this.mappingThreads = syncProcessors.stream()
+                .flatMap(processor -> Stream.<SyncSink<?, ?, ?>>concat(Stream.of(processor), processor.getSinks().stream()))
+                .mapToInt(sink -> SyncSupport.toMappingParallelism(sink.getConfiguration().getMappingParallelism()))
+                .max()
+                .orElse(0);
         // Map processors by their type for quick lookup
         this.syncProcessors = syncProcessors.stream()
                 .collect(Collectors.toMap(SyncProcessor::getProcessorType, Function.identity()));
     }
 
+    /**
+     * Stops the mapping scheduler, if it was started; runs still mapping in parallel fail.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (mappingScheduler != null) {
+            mappingScheduler.dispose();
+        }
+    }
+
     /**
      * Runs synchronization for a single processor type sequentially.
      *
@@ -57,14 +114,55 @@ public class SyncOrchestrationService implements SyncOrchestrator {
      */
     @Override
     public Mono<Void> syncSequential(ProcessorType processorType) {
+        return syncOnce(processorType).then();
+    }
+
+    /**
+     * Runs synchronization for a single processor type once.
+     *
+     * @param processorType The processor type to synchronize.
+     * @return Mono emitting the number of items fetched during the run; zero if there was nothing new.
+     */
+    @Override
+    public Mono<Long> syncOnce(ProcessorType processorType) {
         SyncProcessor<?, ?, ?> processor = syncProcessors.get(processorType);
         if (processor == null) {
             log.error(LoggerConstants.ORCH_NOT_CONFIGURED, processorType);
-            return Mono.empty();
+            return Mono.just(0L);
         }
         return executeSync(processor);
     }
 
+    /**
+     * Backfills a processor that has no incremental watermark yet by fetching [from, to) in time slices, up to
+     * sliceConcurrency slices at a time, plus one slice for everything modified before from. Each slice has its own sub-checkpoint in the processor status, so an
+     * interrupted backfill resumes where every slice stopped. Once all slices are done, incremental runs continue
+     * from to, overlapping it by a second.
+     *
+     * @param processorType    The processor type to backfill.
+     * @param from             Start of the history split into slices; older items are fetched in one more slice.
+     * @param to               End of the history to load.
+     * @param sliceSize        Length of one time slice.
+     * @param sliceConcurrency Maximum number of slices fetched at the same time.
+     * @return Mono signaling completion.
+     */
+    @Override
+    public Mono<Void> syncBackfill(ProcessorType processorType, Instant from, Instant to, Duration sliceSize, int sliceConcurrency) {
+        SyncProcessor<?, ?, ?> processor = syncProcessors.get(processorType);
+        if (processor == null) {
+            log.error(LoggerConstants.ORCH_NOT_CONFIGURED, processorType);
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            if (!shardCoordinator.tryBeginRun(processorType)) {
+                log.info(LoggerConstants.ORCH_NOT_OWNED, processorType);
+                return Mono.empty();
+            }
+            return runBackfill(processor, from, to, sliceSize, Math.max(1, sliceConcurrency))
+                    .doFinally(signal -> shardCoordinator.endRun(processorType));
+        });
+    }
+
     /**
      * Runs synchronization for all configured processors in parallel.
      *
@@ -82,7 +180,7 @@ public class SyncOrchestrationService implements SyncOrchestrator {
                     ProcessorType pt = proc.getProcessorType();
                     log.info(LoggerConstants.ORCH_START_EXEC, pt);
                     return executeSync(proc)
-                            .doOnSuccess(v -> log.info(LoggerConstants.ORCH_COMPLETE_EXEC, pt));
+                            .doOnSuccess(items -> log.info(LoggerConstants.ORCH_COMPLETE_EXEC, pt));
                 }, concurrency)
                 .then();
     }
@@ -108,155 +206,424 @@ public class SyncOrchestrationService implements SyncOrchestrator {
                     SyncProcessor<?, ?, ?> proc = entry.getValue();
                     log.info(LoggerConstants.ORCH_START_EXEC, pt);
                     return executeSync(proc)
-                            .doOnSuccess(v -> log.info(LoggerConstants.ORCH_COMPLETE_EXEC, pt));
+                            .doOnSuccess(items -> log.info(LoggerConstants.ORCH_COMPLETE_EXEC, pt));
                 }, concurrency)
                 .then();
     }
 
     /**
-     * Executes the synchronization process for a given processor.
+     * Executes the synchronization process for a given processor if this instance holds its lease.
+     *
+     * @param processor The sync processor to execute.
+     * @return Mono emitting the number of items fetched during the run; zero if the run was skipped.
+     */
+    private Mono<Long> executeSync(SyncProcessor<?, ?, ?> processor) {
+        return Mono.defer(() -> {
+            ProcessorType processorType = processor.getProcessorType();
+            if (!shardCoordinator.tryBeginRun(processorType)) {
+                log.info(LoggerConstants.ORCH_NOT_OWNED, processorType);
+                return Mono.just(0L);
+            }
+            return runSync(processor)
+                    .doFinally(signal -> shardCoordinator.endRun(processorType));
+        });
+    }
+
+    /**
+     * Runs the synchronization process for a given processor.
      * Handles status initialization, page fetching, mapping, notification, and status update.
+     * Every fetched item is mapped and notified by each enabled sink of the processor (the processor itself and
+     * its additional sinks); paging, fetch settings and the checkpoint belong to the processor.
      *
      * @param processor The sync processor to execute.
      * @param <P>       Raw data item type.
      * @param <C>       Canonical model type.
      * @param <T>       Processor configuration type.
-     * @return Mono signaling completion.
+     * @return Mono emitting the number of items fetched during the run.
      */
-    private <P, C extends EcomModel<?>, T> Mono<Void> executeSync(SyncProcessor<P, C, T> processor) {
+    private <P, C extends EcomModel<?>, T> Mono<Long> runSync(SyncProcessor<P, C, T> processor) {
         ProcessorType processorType = processor.getProcessorType();
         log.info(LoggerConstants.ORCH_EXEC_INVOKED, processorType);
         ProcessorConfiguration<T> config = processor.getConfiguration();
 
-        if (!config.isEnable()) {
+        List<SyncSink<P, ?, ?>> sinks = SyncSupport.enabledSinks(processor);
+        if (sinks.isEmpty()) {
+            log.info(LoggerConstants.ORCH_SYNC_DISABLED, processorType);
+            return Mono.just(0L);
+        }
+
+        return SyncSupport.loadStatus(statusStorePort, processor, config).flatMap(initialStatus -> {
+            long runStart = System.nanoTime();
+            // Latest fetch status; replaced by the last page checkpoint when pages are fetched concurrently
+            AtomicReference<ProcessorStatus> cursor = new AtomicReference<>(initialStatus);
+            return syncPages(processor, config, sinks, cursor, this::saveCheckpoint)
+                    .flatMap(totals -> {
+                        log.info(LoggerConstants.ORCH_SYNC_COMPLETED, processorType, totals.notifiedItems());
+                        metricsPort.recordRun(processorType, Duration.ofNanos(System.nanoTime() - runStart), totals.notifiedItems());
+                        ProcessorStatus finalStatus = cursor.get();
+                        finalStatus.setLastSuccessfulRun(Instant.now());
+                        return statusStorePort.saveStatus(finalStatus).thenReturn(totals.fetchedItems());
+                    });
+        });
+    }
+
+    /**
+     * Backfills a processor in time slices, see {@link SyncOrchestrator#syncBackfill}. Processors that already
+     * have an incremental watermark, or whose data provider cannot fetch a time window, get a normal run.
+     *
+     * @param processor        The sync processor to backfill.
+     * @param from             Start of the history split into slices; older items are fetched in one more slice.
+     * @param to               End of the history to load; incremental runs continue from here afterwards.
+     * @param sliceSize        Length of one time slice.
+     * @param sliceConcurrency Maximum number of slices fetched at the same time.
+     * @param <P>              Raw data item type.
+     * @param <C>              Canonical model type.
+     * @param <T>              Processor configuration type.
+     * @return Mono signaling completion once every slice is done and the watermark is saved.
+     */
+    private <P, C extends EcomModel<?>, T> Mono<Void> runBackfill(SyncProcessor<P, C, T> processor, Instant from, Instant to,
+                                                                 Duration sliceSize, int sliceConcurrency) {
+        ProcessorType processorType = processor.getProcessorType();
+        ProcessorConfiguration<T> config = processor.getConfiguration();
+        List<SyncSink<P, ?, ?>> sinks = SyncSupport.enabledSinks(processor);
+        if (sinks.isEmpty()) {
             log.info(LoggerConstants.ORCH_SYNC_DISABLED, processorType);
             return Mono.empty();
         }
+        if (!processor.getDataProvider().supportsTimeSlices()) {
+            log.info(LoggerConstants.ORCH_BACKFILL_UNSUPPORTED, processorType);
+            return runSync(processor).then();
+        }
+        return SyncSupport.loadStatus(statusStorePort, processor, config).flatMap(status -> {
+            SyncSupport.BackfillPlan plan = SyncSupport.planBackfill(status, from, to, sliceSize, sliceConcurrency);
+            if (plan == null) {
+                return runSync(processor).then();
+            }
+            long runStart = System.nanoTime();
+            return statusStorePort.saveStatus(status.snapshot())
+                    .thenMany(Flux.fromIterable(plan.pending())
+                            .flatMap(slice -> syncPages(processor, config, sinks,
+                                    new AtomicReference<>(SyncSupport.sliceStatus(processorType, slice, config)),
+                                    checkpoint -> saveSliceCheckpoint(status, slice, checkpoint)), sliceConcurrency))
+                    .reduce(RunTotals.ZERO, RunTotals::plus)
+                    .flatMap(totals -> {
+                        log.info(LoggerConstants.ORCH_BACKFILL_COMPLETED, processorType, totals.fetchedItems(), totals.notifiedItems());
+                        metricsPort.recordRun(processorType, Duration.ofNanos(System.nanoTime() - runStart), totals.notifiedItems());
+                        return statusStorePort.saveStatus(SyncSupport.completeBackfill(status, plan.end(), config, totals.fetchedItems()));
+                    });
+        });
+    }
 
-        // Build initial status from store + configuration
-        Mono<ProcessorStatus> initialStatusMono = statusStorePort.findStatus(processorType)
-                .map(Optional::of)
-                .defaultIfEmpty(Optional.empty())
-                .map(optStatus -> ProcessorStatus.fromConfiguration(processorType, optStatus.orElse(null), config));
+    /**
+     * Records a page checkpoint of a slice in the backfill status and saves the whole status.
+     */
+    private Mono<Void> saveSliceCheckpoint(ProcessorStatus status, BackfillSlice slice, ProcessorStatus checkpoint) {
+        return saveCheckpoint(SyncSupport.sliceCheckpoint(status, slice, checkpoint));
+    }
 
+    /**
+     * Fetches, maps and notifies pages starting from the cursor status until the data provider reports no more
+     * data, handing every page checkpoint to the checkpointer once all its items are notified.
+     *
+     * @param processor    The sync processor to fetch with.
+     * @param config       The processor configuration.
+     * @param sinks        The enabled sinks the items are mapped and notified by.
+     * @param cursor       Holds the status to start from; ends up at the status after the last page.
+     * @param checkpointer Persists a page checkpoint.
+     * @param <P>          Raw data item type.
+     * @param <C>          Canonical model type.
+     * @param <T>          Processor configuration type.
+     * @return Mono emitting the numbers of fetched and notified items.
+     */
+    private <P, C extends EcomModel<?>, T> Mono<RunTotals> syncPages(SyncProcessor<P, C, T> processor,
+                                                                     ProcessorConfiguration<T> config,
+                                                                     List<SyncSink<P, ?, ?>> sinks,
+                                                                     AtomicReference<ProcessorStatus> cursor,
+                                                                     Function<ProcessorStatus, Mono<Void>> checkpointer) {
+        ProcessorType processorType = processor.getProcessorType();
         // Active delay to pace page fetches (0 means no delay)
-        Duration activeDelay = toDuration(config.getFetchActiveDelayMs());
+        Duration activeDelay = SyncSupport.toDuration(config.getFetchActiveDelayMs());
+        // Pages fetched ahead while the current page is mapped (0 means no overlap)
+        int prefetchPages = SyncSupport.toPrefetch(config.getPrefetchPages());
+        // Mapped pages waiting for the notification stage
+        int notifyBufferPages = SyncSupport.toNotifyBuffer(config.getNotifyBufferPages(), prefetchPages);
+        Duration stallTimeout = config.getBufferOverflowPolicy() == BufferOverflowPolicy.FAIL
+                ? SyncSupport.toDuration(config.getBufferStallTimeoutMs())
+                : Duration.ZERO;
 
-        return initialStatusMono.flatMap(initialStatus ->
-                // Start recursive page processing
-                fetchPagedData(processor, config, initialStatus, activeDelay)
-                        // After all pages processed, notify for each item
-                        .flatMap(rawItem -> {
-                            C canonicalModel = mapToCanonical(rawItem, processor, processorType);
-                            // Only notify if mapping succeeded
-                            return canonicalModel == null? Mono.empty() : notifyAll(canonicalModel, config);
-                        })
-                        .count()
-                        .flatMap(totalItems -> {
-                            log.info(LoggerConstants.ORCH_SYNC_COMPLETED, processorType, totalItems);
-                            initialStatus.setLastSuccessfulRun(Instant.now());
-                            return statusStorePort.saveStatus(initialStatus);
-                        })
-        ).then();
+        return Mono.defer(() -> {
+            // Every page takes a permit before it is handed on and gives it back once it is fully notified, so the
+            // pages held between fetching and notification never exceed both buffers plus the page in each stage.
+            // A slow channel therefore fills the notify buffer, then the map buffer, and then stops fetching.
+            // Without prefetching there is a single permit, so a page is only fetched once the last one is notified.
+            // Pages are notified in the order they took their permits, so the oldest permit is the one handed back.
+            PermitQueue fetchPermits = new PermitQueue(processorType + " fetch", prefetchPages + notifyBufferPages + 1, -1);
+            Queue<PermitQueue.Permit> heldPermits = new ConcurrentLinkedQueue<>();
+            Supplier<Mono<Void>> fetchPermit = () -> fetchPermits.acquire().doOnNext(heldPermits::add).then();
+            AtomicLong fetchedItems = new AtomicLong();
+            AtomicInteger fetchedDepth = new AtomicInteger();
+            AtomicInteger mappedDepth = new AtomicInteger();
+            return fetchPagedData(processor, config, cursor, activeDelay, fetchPermit)
+                    .doOnNext(page -> {
+                        fetchedItems.addAndGet(page.items().size());
+                        queueDepth(processorType, STAGE_FETCHED, fetchedDepth, 1);
+                    })
+                    // Map pages in order, at most prefetchPages of them buffered ahead
+                    .concatMap(page -> {
+                        queueDepth(processorType, STAGE_FETCHED, fetchedDepth, -1);
+                        return mapStage(page, processor.getDataProvider(), sinks);
+                    }, Math.max(1, prefetchPages))
+                    .doOnNext(mapped -> queueDepth(processorType, STAGE_MAPPED, mappedDepth, 1))
+                    // Notify pages in order, checkpointing each one once all its items are notified
+                    .concatMap(mapped -> {
+                        queueDepth(processorType, STAGE_MAPPED, mappedDepth, -1);
+                        return notifyStage(mapped, sinks, stallTimeout, checkpointer)
+                                .doOnSuccess(count -> heldPermits.remove().release());
+                    }, Math.max(1, notifyBufferPages))
+                    .doFinally(signal -> {
+                        queueDepth(processorType, STAGE_FETCHED, fetchedDepth, -fetchedDepth.get());
+                        queueDepth(processorType, STAGE_MAPPED, mappedDepth, -mappedDepth.get());
+                    })
+                    .reduce(0L, Long::sum)
+                    .map(notifiedItems -> new RunTotals(fetchedItems.get(), notifiedItems));
+        });
     }
 
     /**
-     * Recursively fetches and emits data items page by page from the given processor,
-     * saving the status after each page and optionally applying a delay between fetches.
-     * The recursion stops when no more data is available.
+     * Fetches pages from the given processor one at a time and emits each one together with a snapshot of the
+     * status it leads to, optionally applying a delay between fetches. Fetching stops after the page that
+     * reports no more data. Every page takes one permit, which lets the caller bound how far fetching
+     * may run ahead of mapping and notification.
+     * <p>
+     * Once a page reports the total page count and the configuration allows a page concurrency above one,
+     * all remaining pages are fetched concurrently instead (see fetchRemainingPagesConcurrently).
      *
-     * @param processor   The sync processor responsible for data fetching and mapping.
-     * @param config      The processor configuration containing fetch and paging settings.
-     * @param status      The current processor status, including paging information.
-     * @param activeDelay The delay to apply between page fetches; zero means no delay.
-     * @param <P>         Raw data item type returned by the processor.
-     * @param <C>         Canonical model type (not used in this method).
-     * @param <T>         Processor configuration type.
-     * @return Flux emitting all raw data items fetched across all pages.
+     * @param processor    The sync processor responsible for data fetching and mapping.
+     * @param config       The processor configuration containing fetch and paging settings.
+     * @param cursor       Holds the current processor status, including paging information.
+     * @param activeDelay  The delay to apply between page fetches; zero means no delay.
+     * @param fetchPermit  Takes one fetch permit; completes once it is granted.
+     * @param <P>          Raw data item type returned by the processor.
+     * @param <C>          Canonical model type (not used in this method).
+     * @param <T>          Processor configuration type.
+     * @return Flux emitting one SyncPage per fetched page.
      */
-    private <P, C extends EcomModel<?>, T> Flux<P> fetchPagedData(SyncProcessor<P, C, T> processor,
-                                                                  ProcessorConfiguration<T> config,
-                                                                  ProcessorStatus status,
-                                                                  Duration activeDelay) {
-        // Recursive function: fetch -> emit -> save -> optional delay -> recur
-        Function<ProcessorStatus, Flux<P>> loop = new Function<>() {
-            @Override
-            public Flux<P> apply(ProcessorStatus current) {
-                if (!current.isMoreDataAvailable()) {
-                    return Flux.empty();
-                }
-                log.info(LoggerConstants.ORCH_FETCH_PAGE, processor.getProcessorType(), current.getNextPage(), current.getPageSize());
-                SyncContext<T> ctx = new SyncContext<>(current, config);
+    private <P, C extends EcomModel<?>, T> Flux<SyncPage<P>> fetchPagedData(SyncProcessor<P, C, T> processor,
+                                                                            ProcessorConfiguration<T> config,
+                                                                            AtomicReference<ProcessorStatus> cursor,
+                                                                            Duration activeDelay,
+                                                                            Supplier<Mono<Void>> fetchPermit) {
+        if (!cursor.get().isMoreDataAvailable()) {
+            return Flux.empty();
+        }
+        int pageConcurrency = SyncSupport.toConcurrency(config.getPageConcurrency());
+        AtomicLong fetches = new AtomicLong();
+        // repeat keeps fetches strictly sequential: each one depends on the status left by the previous one
+        return Flux.defer(() -> {
+                    ProcessorStatus current = cursor.get();
+                    Flux<SyncPage<P>> pages = SyncSupport.canFetchConcurrently(current, pageConcurrency)
+                            ? fetchRemainingPagesConcurrently(processor, config, cursor, pageConcurrency, fetchPermit)
+                            : fetchPermit.get().then(fetchPage(processor, config, current, true)).flux();
+                    // Apply delay if configured before every fetch but the first
+                    if (fetches.getAndIncrement() > 0 && !activeDelay.isZero() && !activeDelay.isNegative()) {
+                        return Mono.delay(activeDelay).thenMany(pages);
+                    }
+                    return pages;
+                })
+                .repeat()
+                .takeUntil(page -> !page.checkpoint().isMoreDataAvailable());
+    }
 
-                Flux<P> pageFlux = processor.getDataProvider().fetchData(ctx);
+    /**
+     * Fetches all pages from the current next page up to the known total page count with bounded concurrency.
+     * Each page is fetched with its own copy of the status; pages are emitted strictly in page order, so each
+     * emitted checkpoint only covers the contiguous range of completed pages before it. Each page takes a fetch
+     * permit before it is emitted, so besides the page waiting for one at most pageConcurrency pages are fetched
+     * ahead of the permits.
+     *
+     * @param processor       The sync processor responsible for data fetching.
+     * @param config          The processor configuration.
+     * @param cursor          Holds the status to start from; updated to the last emitted checkpoint.
+     * @param pageConcurrency Maximum number of pages fetched at the same time.
+     * @param fetchPermit     Takes one fetch permit; completes once it is granted.
+     * @param <P>             Raw data item type returned by the processor.
+     * @param <C>             Canonical model type (not used in this method).
+     * @param <T>             Processor configuration type.
+     * @return Flux emitting the remaining pages in page order.
+     */
+    private <P, C extends EcomModel<?>, T> Flux<SyncPage<P>> fetchRemainingPagesConcurrently(SyncProcessor<P, C, T> processor,
+                                                                                             ProcessorConfiguration<T> config,
+                                                                                             AtomicReference<ProcessorStatus> cursor,
+                                                                                             int pageConcurrency,
+                                                                                             Supplier<Mono<Void>> fetchPermit) {
+        SyncSupport.ConcurrentPages pages = new SyncSupport.ConcurrentPages(processor.getProcessorType(), cursor, pageConcurrency);
+        return Flux.range(pages.firstPage(), pages.lastPage() - pages.firstPage() + 1)
+                // The page size stays fixed while fetching the pages of the reported total
+                .flatMapSequential(pageNumber -> fetchPage(processor, config, pages.statusFor(pageNumber), false),
+                        pageConcurrency, 1)
+                .doOnNext(page -> pages.completed(page.checkpoint()))
+                .concatMap(page -> fetchPermit.get().thenReturn(page), 0);
+    }
 
-                return pageFlux
-                        .collectList()
-                        .flatMapMany(items -> statusStorePort.saveStatus(current)
-                                .thenMany(Flux.fromIterable(items)))
-                        .concatWith(Flux.defer(() -> {
-                            if (!current.isMoreDataAvailable()) {
-                                return Flux.empty();
-                            }
-                            // Apply delay if configured before next page fetch
-                            if (!activeDelay.isZero() && !activeDelay.isNegative()) {
-                                return Mono.delay(activeDelay).thenMany(this.apply(current));
-                            }
-                            return this.apply(current);
-                        }));
-            }
-        };
-        return loop.apply(status);
+    /**
+     * Fetches a single page for the given status. The data provider advances the status as a side effect,
+     * so the emitted page carries a snapshot of it as checkpoint.
+     *
+     * @param processor    The sync processor responsible for data fetching.
+     * @param config       The processor configuration.
+     * @param current      The status to fetch the next page for; advanced by the data provider.
+     * @param adaptiveSize Whether the page size may be adjusted for the next fetch based on this one.
+     * @param <P>          Raw data item type returned by the processor.
+     * @param <C>          Canonical model type (not used in this method).
+     * @param <T>          Processor configuration type.
+     * @return Mono emitting the fetched page.
+     */
+    private <P, C extends EcomModel<?>, T> Mono<SyncPage<P>> fetchPage(SyncProcessor<P, C, T> processor,
+                                                                       ProcessorConfiguration<T> config,
+                                                                       ProcessorStatus current,
+                                                                       boolean adaptiveSize) {
+        return Mono.defer(() -> {
+            log.info(LoggerConstants.ORCH_FETCH_PAGE, processor.getProcessorType(), current.getNextPage(), current.getPageSize());
+            SyncContext<T> ctx = new SyncContext<>(current, config);
+            int requestedPageSize = current.getPageSize() != null ? current.getPageSize() : 0;
+            long start = System.nanoTime();
+            return processor.getDataProvider().fetchData(ctx)
+                    .collectList()
+                    .map(items -> {
+                        Duration latency = Duration.ofNanos(System.nanoTime() - start);
+                        metricsPort.recordFetch(processor.getProcessorType(), latency, requestedPageSize, items.size());
+                        if (adaptiveSize) {
+                            AdaptivePageSizeController.adjust(current, config, latency);
+                        }
+                        return new SyncPage<>(items, current.snapshot());
+                    })
+                    .doOnError(e -> metricsPort.recordFetchFailure(processor.getProcessorType()));
+        });
     }
 
     /**
-     * Notifies all notification types for the given canonical model and configuration.
+     * Maps every item of a page through every sink.
      *
-     * @param canonicalModel The canonical model to notify about.
-     * @param config         The processor configuration.
-     * @param <C>            Canonical model type.
-     * @param <T>            Processor configuration type.
-     * @return Mono emitting 1 after all notifications are sent.
+     * @param page         The fetched page with its checkpoint.
+     * @param dataProvider The provider that fetched the page, which knows the platform ids of its items.
+     * @param sinks        The enabled sinks the page items are mapped by.
+     * @param <P>          Raw data item type.
+     * @return Mono emitting the mapped page, with the canonical models of each sink in sink order.
      */
-    private <C extends EcomModel<?>, T> Mono<Integer> notifyAll(C canonicalModel, ProcessorConfiguration<T> config) {
-        // Notify for each NotificationType
-        return Flux.fromArray(NotificationType.values())
-                .flatMap(type -> notificationPort.notify(canonicalModel, config, type))
-                .then(Mono.just(1));
+    private <P> Mono<MappedPage> mapStage(SyncPage<P> page, DataProvider<P> dataProvider, List<SyncSink<P, ?, ?>> sinks) {
+        return Flux.fromIterable(sinks)
+                .flatMapSequential(sink -> mapPage(page.items(), dataProvider, sink))
+                .collectList()
+                .map(itemsPerSink -> new MappedPage(itemsPerSink, page.checkpoint()));
     }
 
     /**
-     * Maps a raw item to its canonical model, logging errors if mapping fails or returns null.
+     * Notifies the mapped models of a page through every sink, then persists the page checkpoint.
+     * With a stall timeout, the run fails if notifying the page takes longer; the next run resumes from the
+     * last saved checkpoint.
      *
-     * @param rawItem        The raw data item to map.
-     * @param processor      The sync processor providing the mapper.
-     * @param processorType  The processor type (for logging).
-     * @param <P>            Raw data item type.
-     * @param <C>            Canonical model type.
-     * @param <T>            Processor configuration type.
-     * @return The canonical model, or null if mapping fails.
+     * @param page         The mapped page with its checkpoint.
+     * @param sinks        The enabled sinks, in the order the page was mapped by.
+     * @param stallTimeout Maximum time notifying the page may take; zero means no limit.
+     * @param checkpointer Persists the page checkpoint.
+     * @param <P>          Raw data item type.
+     * @return Mono emitting the number of notified items of the page, summed over all sinks.
      */
-    private <P, C extends EcomModel<?>, T> C mapToCanonical(P rawItem, SyncProcessor<P, C, T> processor, ProcessorType processorType) {
-        try {
-            C canonicalModel = processor.getDataMapper().mapToCanonical(rawItem);
-            if (canonicalModel == null) {
-                log.error("Canonical mapping returned null for processor: {} item: {}", processorType, rawItem);
-            }
-            return canonicalModel;
-        } catch (Exception e) {
-            log.error("Canonical mapping failed for processor: {} item: {} error: {}", processorType, rawItem, e.getMessage(), e);
-            return null;
+    private <P> Mono<Long> notifyStage(MappedPage page, List<SyncSink<P, ?, ?>> sinks, Duration stallTimeout,
+                                       Function<ProcessorStatus, Mono<Void>> checkpointer) {
+        Mono<Long> notified = Flux.range(0, sinks.size())
+                .flatMap(i -> {
+                    MappedItems items = page.itemsPerSink().get(i);
+                    return items.models().isEmpty() ? Mono.just(0L) : SyncSupport.notifyChanged(items, sinks.get(i),
+                            notificationPort, dedupPort, metricsPort, failureLane);
+                })
+                .reduce(0L, Long::sum);
+        if (!stallTimeout.isZero()) {
+            ProcessorType processorType = page.checkpoint().getProcessorType();
+            notified = notified.timeout(stallTimeout)
+                    .doOnError(TimeoutException.class, e -> log.error(LoggerConstants.ORCH_BUFFER_STALLED,
+                            processorType, page.checkpoint().getNextPage(), stallTimeout.toMillis()));
+        }
+        return notified.flatMap(count -> checkpointer.apply(page.checkpoint()).thenReturn(count));
+    }
+
+    /**
+     * Adjusts the depth of a stage buffer and reports it.
+     */
+    private void queueDepth(ProcessorType processorType, String stage, AtomicInteger depth, int delta) {
+        metricsPort.recordQueueDepth(processorType, stage, depth.addAndGet(delta));
+    }
+
+    /**
+     * Saves a page checkpoint, recording how long the store took to accept it.
+     *
+     * @param checkpoint The checkpoint to save.
+     * @return Mono signaling completion.
+     */
+    private Mono<Void> saveCheckpoint(ProcessorStatus checkpoint) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return statusStorePort.saveCheckpoint(checkpoint)
+                    .doOnSuccess(v -> metricsPort.recordCheckpoint(checkpoint.getProcessorType(),
+                            Duration.ofNanos(System.nanoTime() - start)));
+        });
+    }
+
+    /**
+     * Maps the raw items of a page with the given sink, handing items whose mapping fails to the failure lane.
+     * With a mapping parallelism configured, the page is split into that many chunks which are mapped on the
+     * dedicated mapping scheduler, off the HTTP event loop. Chunk results are reassembled in page order, so
+     * the models keep the order of the raw items and two versions of the same id never swap.
+     *
+     * @param rawItems     The raw data items of the page.
+     * @param dataProvider The provider that fetched the items.
+     * @param sink         The sink providing mapper and configuration.
+     * @param <P>          Raw data item type.
+     * @param <C>          Canonical model type.
+     * @param <T>          Sink configuration type.
+     * @return Mono emitting the canonical models in page order.
+     */
+    private <P, C extends EcomModel<?>, T> Mono<MappedItems> mapPage(List<P> rawItems, DataProvider<P> dataProvider,
+                                                                     SyncSink<P, C, T> sink) {
+        ProcessorType processorType = sink.getProcessorType();
+        int parallelism = SyncSupport.toMappingParallelism(sink.getConfiguration().getMappingParallelism());
+        long mappingStart = System.nanoTime();
+        Mono<MappedItems> mapped;
+        if (parallelism == 0 || rawItems.isEmpty()) {
+            mapped = Mono.fromCallable(() -> SyncSupport.mapChunk(rawItems, sink, dataProvider, failureLane));
+        } else {
+            mapped = Flux.fromIterable(SyncSupport.chunks(rawItems, parallelism))
+                    .flatMapSequential(chunk -> Mono.fromCallable(() -> SyncSupport.mapChunk(chunk, sink, dataProvider, failureLane))
+                            .subscribeOn(mappingScheduler()), parallelism)
+                    .collectList()
+                    .map(MappedItems::merge);
+        }
+        return mapped.doOnNext(items -> metricsPort.recordMapping(processorType,
+                Duration.ofNanos(System.nanoTime() - mappingStart), items.models().size(),
+                rawItems.size() - items.models().size()));
+    }
+
+    /**
+     * Returns the mapping scheduler, starting it on first use.
+     *
+     * @throws IllegalStateException if the service has been closed.
+     */
+    private synchronized Scheduler mappingScheduler() {
+        if (closed) {
+            throw new IllegalStateException("SyncOrchestrationService is closed");
+        }
+        if (mappingScheduler == null) {
+            mappingScheduler = Schedulers.newParallel("sync-mapping", Math.max(1, mappingThreads));
         }
+        return mappingScheduler;
     }
 
     /**
-     * Converts a millisecond value to a Duration, returning zero if null or non-positive.
+     * A page whose items have been mapped by every sink and that is waiting to be notified.
      *
-     * @param ms Milliseconds to convert.
-     * @return Duration representing the given milliseconds, or zero if invalid.
+     * @param itemsPerSink The canonical models of the page, one per sink in sink order.
+     * @param checkpoint   The status checkpoint of the page.
      */
-    private Duration toDuration(Long ms) {
-        if (ms == null || ms <= 0) return Duration.ZERO;
-        return Duration.ofMillis(ms);
+    private record MappedPage(List<MappedItems> itemsPerSink, ProcessorStatus checkpoint) {
     }
 }
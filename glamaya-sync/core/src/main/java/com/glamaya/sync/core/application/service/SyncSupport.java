@@ -0,0 +1,514 @@
+package com.glamaya.sync.core.application.service;
+
+import com.glamaya.sync.core.common.LoggerConstants;
+import com.glamaya.sync.core.domain.model.BackfillSlice;
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.DedupPort;
+import com.glamaya.sync.core.domain.port.out.NotificationPort;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.core.domain.port.out.StatusStorePort;
+import com.glamaya.sync.core.domain.port.out.SyncMetricsPort;
+import com.glamaya.sync.core.domain.port.out.SyncProcessor;
+import com.glamaya.sync.core.domain.port.out.SyncSink;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Engine-independent steps of a sync run, shared by the Reactor and the virtual-thread orchestrator.
+ */
+@Slf4j
+final class SyncSupport {
+
+    private SyncSupport() {}
+
+    /**
+     * Returns the enabled sinks of a processor: the processor itself if enabled, followed by its enabled
+     * additional sinks.
+     *
+     * @param processor The sync processor.
+     * @param <P>       Raw data item type.
+     * @return The enabled sinks; empty if the processor has nothing to sync.
+     */
+    static <P> List<SyncSink<P, ?, ?>> enabledSinks(SyncProcessor<P, ?, ?> processor) {
+        List<SyncSink<P, ?, ?>> sinks = new ArrayList<>();
+        if (processor.getConfiguration().isEnable()) {
+            sinks.add(processor);
+        }
+        for (SyncSink<P, ?, ?> sink : processor.getSinks()) {
+            if (sink.getConfiguration().isEnable()) {
+                sinks.add(sink);
+            } else {
+                log.info(LoggerConstants.ORCH_SYNC_DISABLED, sink.getProcessorType());
+            }
+        }
+        return sinks;
+    }
+
+    /**
+     * Builds the initial status of a run from the stored status and the configuration, first adopting the
+     * statuses the processor's sinks left from when they were processors of their own.
+     *
+     * @param statusStorePort The status store.
+     * @param processor       The processor about to run.
+     * @param config          The processor configuration.
+     * @return Mono emitting the status to start from.
+     */
+    static Mono<ProcessorStatus> loadStatus(StatusStorePort statusStorePort, SyncProcessor<?, ?, ?> processor,
+                                            ProcessorConfiguration<?> config) {
+        ProcessorType processorType = processor.getProcessorType();
+        return statusStorePort.findStatus(processorType)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(stored -> adoptSinkStatuses(statusStorePort, processor, stored))
+                .map(stored -> ProcessorStatus.fromConfiguration(processorType, stored.orElse(null), config));
+    }
+
+    /**
+     * Sinks that used to fetch for themselves (WOOCOMMERCE_ORDER_TO_CONTACT paged the orders on its own before it
+     * became a sink of WOOCOMMERCE_ORDER) may have a watermark older than their processor's. The processor then
+     * continues from the oldest of them once, so the items such a sink had not seen yet are fetched again; items
+     * the processor itself already notified are skipped by dedup. The sink statuses are retired afterwards.
+     */
+    private static Mono<Optional<ProcessorStatus>> adoptSinkStatuses(StatusStorePort statusStorePort,
+                                                                     SyncProcessor<?, ?, ?> processor,
+                                                                     Optional<ProcessorStatus> stored) {
+        return Flux.fromIterable(processor.getSinks())
+                .concatMap(sink -> statusStorePort.findStatus(sink.getProcessorType()))
+                .filter(sinkStatus -> sinkStatus.getLastDateModified() != null)
+                .collectList()
+                .flatMap(sinkStatuses -> {
+                    if (sinkStatuses.isEmpty()) {
+                        return Mono.just(stored);
+                    }
+                    // Without a status of its own the processor fetches everything anyway
+                    Mono<Void> adopted = stored
+                            .filter(status -> adoptSinkStatuses(status, sinkStatuses, processor.getConfiguration()))
+                            .map(status -> statusStorePort.saveStatus(status.snapshot()))
+                            .orElse(Mono.empty());
+                    return adopted
+                            .thenMany(Flux.fromIterable(sinkStatuses)
+                                    .concatMap(sinkStatus -> statusStorePort.saveStatus(retiredSinkStatus(sinkStatus))))
+                            .then(Mono.just(stored));
+                });
+    }
+
+    /**
+     * Moves the watermark of a processor status back to the oldest watermark of the given sink statuses.
+     *
+     * @return Whether the status was moved back.
+     */
+    static boolean adoptSinkStatuses(ProcessorStatus status, List<ProcessorStatus> sinkStatuses,
+                                     ProcessorConfiguration<?> config) {
+        ProcessorStatus oldest = sinkStatuses.stream()
+                .filter(sinkStatus -> sinkStatus.getLastDateModified() != null)
+                .min(Comparator.comparing(ProcessorStatus::getLastDateModified))
+                .orElse(null);
+        if (oldest == null || status.getLastDateModified() == null
+                || !oldest.getLastDateModified().isBefore(status.getLastDateModified())) {
+            return false;
+        }
+        log.info(LoggerConstants.ORCH_SINK_STATUS_ADOPTED, status.getProcessorType(), oldest.getProcessorType(),
+                oldest.getLastDateModified(), status.getLastDateModified());
+        status.setLastDateModified(oldest.getLastDateModified());
+        status.setUseLastDateModifiedInQuery(true);
+        status.setNextPage(config.getInitPage());
+        status.setTotalPages(null);
+        return true;
+    }
+
+    /**
+     * Returns the status a sink keeps once its processor has adopted it: without a watermark, so it is not
+     * adopted again.
+     */
+    static ProcessorStatus retiredSinkStatus(ProcessorStatus sinkStatus) {
+        ProcessorStatus retired = sinkStatus.snapshot();
+        retired.setLastDateModified(null);
+        retired.setUseLastDateModifiedInQuery(false);
+        retired.setMoreDataAvailable(false);
+        return retired;
+    }
+
+    /**
+     * Splits a page into at most parallelism chunks of about equal size, in page order.
+     */
+    static <P> List<List<P>> chunks(List<P> rawItems, int parallelism) {
+        int chunkSize = Math.max(1, (rawItems.size() + parallelism - 1) / parallelism);
+        List<List<P>> chunks = new ArrayList<>();
+        for (int from = 0; from < rawItems.size(); from += chunkSize) {
+            chunks.add(rawItems.subList(from, Math.min(rawItems.size(), from + chunkSize)));
+        }
+        return chunks;
+    }
+
+    /**
+     * Maps a chunk of raw items in order, handing items whose mapping fails to the failure lane instead.
+     */
+    static <P, C extends EcomModel<?>, T> MappedItems mapChunk(List<P> rawItems, SyncSink<P, C, T> sink,
+                                                               DataProvider<P> dataProvider, FailureLane failureLane) {
+        List<EcomModel<?>> canonicalModels = new ArrayList<>(rawItems.size());
+        Map<EcomModel<?>, String> itemIds = new IdentityHashMap<>(rawItems.size());
+        for (P rawItem : rawItems) {
+            C canonicalModel = mapToCanonical(rawItem, sink, dataProvider, failureLane);
+            // Only notify if mapping succeeded
+            if (canonicalModel != null) {
+                canonicalModels.add(canonicalModel);
+                itemIds.put(canonicalModel, dataProvider.getItemId(rawItem));
+            }
+        }
+        return new MappedItems(canonicalModels, itemIds);
+    }
+
+    /**
+     * Maps a raw item to its canonical model, handing it to the failure lane if mapping fails or returns null.
+     *
+     * @param rawItem      The raw data item to map.
+     * @param sink         The sink providing the mapper.
+     * @param dataProvider The provider that fetched the item, which knows its platform id.
+     * @param failureLane  Takes the item if mapping fails.
+     * @param <P>          Raw data item type.
+     * @param <C>          Canonical model type.
+     * @param <T>          Processor configuration type.
+     * @return The canonical model, or null if mapping fails.
+     */
+    private static <P, C extends EcomModel<?>, T> C mapToCanonical(P rawItem, SyncSink<P, C, T> sink,
+                                                                   DataProvider<P> dataProvider, FailureLane failureLane) {
+        ProcessorType processorType = sink.getProcessorType();
+        try {
+            C canonicalModel = sink.getDataMapper().mapToCanonical(rawItem);
+            if (canonicalModel == null) {
+                failureLane.mappingFailed(processorType, dataProvider.getItemId(rawItem), LoggerConstants.ORCH_MAPPING_NULL);
+            }
+            return canonicalModel;
+        } catch (Exception e) {
+            log.debug(LoggerConstants.ORCH_MAPPING_FAILED, processorType, e);
+            failureLane.mappingFailed(processorType, dataProvider.getItemId(rawItem), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the given notification channel is configured and enabled.
+     */
+    static boolean isChannelEnabled(ProcessorConfiguration<?> config, NotificationType type) {
+        ProcessorConfiguration.NotificationConfig channelConfig = config.getNotificationConfig(type);
+        return channelConfig != null && Boolean.TRUE.equals(channelConfig.getEnable());
+    }
+
+    /**
+     * Notifies the canonical models of a page, skipping unchanged ones if the sink has dedup enabled.
+     *
+     * @param items            The mapped page.
+     * @param sink             The sink the models were mapped by.
+     * @param notificationPort Port the models are notified through.
+     * @param dedupPort        Port for skipping unchanged models.
+     * @param metricsPort      Port for recording notification metrics.
+     * @param failureLane      Takes the items of a channel that fails.
+     * @param <P>              Raw data item type.
+     * @param <C>              Canonical model type.
+     * @param <T>              Sink configuration type.
+     * @return Mono emitting the number of notified items after all notifications are sent.
+     */
+    static <P, C extends EcomModel<?>, T> Mono<Long> notifyChanged(MappedItems items, SyncSink<P, C, T> sink,
+                                                                  NotificationPort<EcomModel<?>> notificationPort,
+                                                                  DedupPort dedupPort, SyncMetricsPort metricsPort,
+                                                                  FailureLane failureLane) {
+        ProcessorType processorType = sink.getProcessorType();
+        ProcessorConfiguration<T> config = sink.getConfiguration();
+        List<EcomModel<?>> canonicalModels = items.models();
+        if (!config.isDedup()) {
+            return notifyAll(canonicalModels, items, processorType, config, notificationPort, metricsPort, failureLane)
+                    .thenReturn((long) canonicalModels.size());
+        }
+        return dedupPort.filterChanged(processorType, canonicalModels)
+                .flatMap(changed -> {
+                    log.debug(LoggerConstants.ORCH_DEDUP, processorType, canonicalModels.size() - changed.size(), changed.size());
+                    if (changed.isEmpty()) {
+                        return Mono.just(0L);
+                    }
+                    // Fingerprints are recorded only once the items have been notified on every channel; items of a
+                    // failed channel are recorded by the failure lane when it delivers them
+                    return notifyAll(changed, items, processorType, config, notificationPort, metricsPort, failureLane)
+                            .flatMap(allNotified -> allNotified ? dedupPort.markNotified(processorType, changed) : Mono.empty())
+                            .thenReturn((long) changed.size());
+                });
+    }
+
+    /**
+     * Notifies all enabled notification types for the given canonical models, one batch per type and all types
+     * concurrently. A channel that fails hands the batch to the failure lane, so the page still completes.
+     *
+     * @return Mono emitting whether every channel accepted the batch.
+     */
+    private static <T> Mono<Boolean> notifyAll(List<EcomModel<?>> canonicalModels, MappedItems items,
+                                               ProcessorType processorType, ProcessorConfiguration<T> config,
+                                               NotificationPort<EcomModel<?>> notificationPort,
+                                               SyncMetricsPort metricsPort, FailureLane failureLane) {
+        return Flux.fromArray(NotificationType.values())
+                .filter(type -> isChannelEnabled(config, type))
+                .flatMap(type -> Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return notificationPort.notifyBatch(canonicalModels, config, type)
+                            .doOnSuccess(v -> metricsPort.recordNotify(processorType, type,
+                                    Duration.ofNanos(System.nanoTime() - start), canonicalModels.size(), false))
+                            .doOnError(e -> metricsPort.recordNotify(processorType, type,
+                                    Duration.ofNanos(System.nanoTime() - start), canonicalModels.size(), true))
+                            .thenReturn(true)
+                            .onErrorResume(e -> {
+                                failureLane.notificationFailed(processorType, type, items.itemIdsOf(canonicalModels), e.getMessage());
+                                return Mono.just(false);
+                            });
+                }))
+                .all(Boolean::booleanValue);
+    }
+
+    /**
+     * Returns whether the remaining pages can be fetched concurrently: concurrency is enabled, the provider
+     * reported the total page count and at least one page is left.
+     */
+    static boolean canFetchConcurrently(ProcessorStatus status, int pageConcurrency) {
+        return pageConcurrency > 1
+                && status.getTotalPages() != null
+                && status.getNextPage() != null
+                && status.getNextPage() <= status.getTotalPages();
+    }
+
+    /**
+     * Splits the history up to to into backfill slices: one slice without a lower bound for everything modified
+     * before from, so the backfill starts at the platform's oldest record, followed by [from, to) in consecutive
+     * slices of the given size; the last one may be shorter.
+     */
+    static List<BackfillSlice> slices(Instant from, Instant to, Duration sliceSize) {
+        List<BackfillSlice> slices = new ArrayList<>();
+        slices.add(BackfillSlice.builder().to(from).build());
+        Duration size = sliceSize.isZero() || sliceSize.isNegative() ? Duration.between(from, to) : sliceSize;
+        for (Instant start = from; start.isBefore(to); start = start.plus(size)) {
+            Instant end = start.plus(size).isBefore(to) ? start.plus(size) : to;
+            slices.add(BackfillSlice.builder().from(start).to(end).build());
+        }
+        return slices;
+    }
+
+    /**
+     * Prepares a backfill in the given status: resumes its unfinished slices, or splits the history into new
+     * slices if the processor has no incremental watermark yet.
+     *
+     * @param status           The loaded processor status; gets the new slices.
+     * @param from             Start of the history split into slices.
+     * @param to               End of the history to load.
+     * @param sliceSize        Length of one time slice.
+     * @param sliceConcurrency Maximum number of slices fetched at the same time (for logging).
+     * @return The slices left to fetch and the end of the backfilled range, or null if the processor already has
+     * a watermark and gets a normal run instead.
+     */
+    static BackfillPlan planBackfill(ProcessorStatus status, Instant from, Instant to, Duration sliceSize,
+                                     int sliceConcurrency) {
+        boolean resuming = status.getBackfillSlices() != null && !status.getBackfillSlices().isEmpty();
+        if (!resuming && status.getLastDateModified() != null) {
+            log.info(LoggerConstants.ORCH_BACKFILL_SKIPPED, status.getProcessorType(), status.getLastDateModified());
+            return null;
+        }
+        if (!resuming) {
+            status.setBackfillSlices(slices(from, to, sliceSize));
+        }
+        List<BackfillSlice> slices = status.getBackfillSlices();
+        List<BackfillSlice> pending = slices.stream().filter(slice -> !slice.isDone()).toList();
+        Instant end = slices.getLast().getTo();
+        log.info(LoggerConstants.ORCH_BACKFILL_START, status.getProcessorType(), slices.getFirst().getTo(), end,
+                slices.size(), pending.size(), sliceConcurrency);
+        return new BackfillPlan(pending, end);
+    }
+
+    /**
+     * Builds the fetch status of a slice from its sub-checkpoint.
+     */
+    static ProcessorStatus sliceStatus(ProcessorType processorType, BackfillSlice slice, ProcessorConfiguration<?> config) {
+        return ProcessorStatus.builder()
+                .processorType(processorType)
+                // modified_after and modified_before are exclusive: overlap by a second so no boundary item is lost;
+                // items fetched twice are skipped by dedup. The first slice has no lower bound.
+                .lastDateModified(slice.getFrom() != null ? slice.getFrom().minusSeconds(1) : null)
+                .useLastDateModifiedInQuery(slice.getFrom() != null)
+                .modifiedBefore(slice.getTo())
+                .nextPage(slice.getNextPage() != null ? slice.getNextPage() : config.getInitPage())
+                .pageSize(slice.getPageSize() != null ? slice.getPageSize() : config.getPageSize())
+                .moreDataAvailable(true)
+                .totalItemsSynced(0)
+                .build();
+    }
+
+    /**
+     * Records a page checkpoint of a slice in the backfill status.
+     *
+     * @return A snapshot of the whole backfill status to save.
+     */
+    static ProcessorStatus sliceCheckpoint(ProcessorStatus status, BackfillSlice slice, ProcessorStatus checkpoint) {
+        synchronized (status) {
+            slice.setNextPage(checkpoint.getNextPage());
+            slice.setPageSize(checkpoint.getPageSize());
+            slice.setDone(!checkpoint.isMoreDataAvailable());
+            return status.snapshot();
+        }
+    }
+
+    /**
+     * Merges a completed backfill into the incremental watermark: the next runs fetch what was modified after
+     * the backfilled range.
+     *
+     * @param status       The backfill status.
+     * @param to           End of the backfilled range; the last slice fetched up to, but excluding, this instant.
+     * @param config       The processor configuration.
+     * @param fetchedItems Number of items fetched by the backfill.
+     * @return A snapshot of the final status to save.
+     */
+    static ProcessorStatus completeBackfill(ProcessorStatus status, Instant to, ProcessorConfiguration<?> config,
+                                            long fetchedItems) {
+        synchronized (status) {
+            status.setBackfillSlices(null);
+            // The last slice excluded items modified exactly at to, and modified_after is exclusive as well: overlap
+            // by a second like the slices do, so those items are fetched by the next run
+            status.setLastDateModified(to.minusSeconds(1));
+            status.setUseLastDateModifiedInQuery(true);
+            status.setNextPage(config.getInitPage());
+            status.setTotalPages(null);
+            status.setMoreDataAvailable(false);
+            int synced = status.getTotalItemsSynced() != null ? status.getTotalItemsSynced() : 0;
+            status.setTotalItemsSynced(synced + (int) fetchedItems);
+            status.setLastSuccessfulRun(Instant.now());
+            return status.snapshot();
+        }
+    }
+
+    /**
+     * The slices a backfill still has to fetch.
+     *
+     * @param pending The slices that are not done yet.
+     * @param end     End of the backfilled range; incremental runs continue from here.
+     */
+    record BackfillPlan(List<BackfillSlice> pending, Instant end) {
+    }
+
+    /**
+     * The pages from the cursor's next page up to the reported total page count, fetched concurrently. Every page
+     * is fetched with its own copy of the cursor status; the engine hands completed pages back in page order, so
+     * each checkpoint only covers the contiguous range of completed pages before it.
+     */
+    static final class ConcurrentPages {
+
+        private final AtomicReference<ProcessorStatus> cursor;
+        private final ProcessorStatus base;
+        private final AtomicInteger itemsSynced;
+
+        /**
+         * @param processorType   The processor the pages belong to (for logging).
+         * @param cursor          Holds the status to start from; updated to the last completed checkpoint.
+         * @param pageConcurrency Maximum number of pages fetched at the same time (for logging).
+         */
+        ConcurrentPages(ProcessorType processorType, AtomicReference<ProcessorStatus> cursor, int pageConcurrency) {
+            this.cursor = cursor;
+            this.base = cursor.get();
+            this.itemsSynced = new AtomicInteger(base.getTotalItemsSynced() != null ? base.getTotalItemsSynced() : 0);
+            log.info(LoggerConstants.ORCH_FETCH_CONCURRENT, processorType, firstPage(), lastPage(), pageConcurrency);
+        }
+
+        int firstPage() {
+            return base.getNextPage();
+        }
+
+        int lastPage() {
+            return base.getTotalPages();
+        }
+
+        /**
+         * Returns the status to fetch the given page with.
+         */
+        ProcessorStatus statusFor(int pageNumber) {
+            ProcessorStatus pageStatus = base.snapshot();
+            pageStatus.setNextPage(pageNumber);
+            // Count this page only; the running total is folded in by completed once pages are in order
+            pageStatus.setTotalItemsSynced(0);
+            return pageStatus;
+        }
+
+        /**
+         * Folds the running total into the checkpoint of the next page in page order and moves the cursor to it.
+         */
+        void completed(ProcessorStatus checkpoint) {
+            checkpoint.setTotalItemsSynced(itemsSynced.addAndGet(checkpoint.getTotalItemsSynced()));
+            cursor.set(checkpoint.snapshot());
+        }
+    }
+
+    /**
+     * Converts a millisecond value to a Duration, returning zero if null or non-positive.
+     *
+     * @param ms Milliseconds to convert.
+     * @return Duration representing the given milliseconds, or zero if invalid.
+     */
+    static Duration toDuration(Long ms) {
+        if (ms == null || ms <= 0) return Duration.ZERO;
+        return Duration.ofMillis(ms);
+    }
+
+    /**
+     * Converts the configured prefetch page count, returning zero if null or non-positive.
+     *
+     * @param pages Configured number of pages to prefetch.
+     * @return Number of pages to fetch ahead, or zero to disable prefetching.
+     */
+    static int toPrefetch(Integer pages) {
+        if (pages == null || pages <= 0) return 0;
+        return pages;
+    }
+
+    /**
+     * Converts the configured notify buffer page count, returning one if null or non-positive. Without
+     * prefetching nothing is buffered at all, so pages are processed strictly one after another.
+     *
+     * @param pages         Configured number of mapped pages buffered ahead of the notification stage.
+     * @param prefetchPages Number of pages fetched ahead, as returned by toPrefetch.
+     * @return Number of mapped pages to buffer, or zero without prefetching.
+     */
+    static int toNotifyBuffer(Integer pages, int prefetchPages) {
+        if (prefetchPages == 0) return 0;
+        if (pages == null || pages <= 0) return 1;
+        return pages;
+    }
+
+    /**
+     * Converts the configured mapping parallelism, returning zero (map inline) if null or non-positive.
+     *
+     * @param parallelism Configured number of chunks a page is mapped in at the same time.
+     * @return Mapping parallelism, or zero to map on the calling thread.
+     */
+    static int toMappingParallelism(Integer parallelism) {
+        if (parallelism == null || parallelism <= 0) return 0;
+        return parallelism;
+    }
+
+    /**
+     * Converts the configured page concurrency, returning one (sequential) if null or non-positive.
+     *
+     * @param concurrency Configured number of pages fetched at the same time.
+     * @return Page concurrency, at least one.
+     */
+    static int toConcurrency(Integer concurrency) {
+        if (concurrency == null || concurrency <= 1) return 1;
+        return concurrency;
+    }
+}
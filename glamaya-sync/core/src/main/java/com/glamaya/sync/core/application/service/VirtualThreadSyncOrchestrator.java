@@ -0,0 +1,684 @@
+package com.glamaya.sync.core.application.service;
+
+import com.glamaya.sync.core.application.usecase.SyncOrchestrator;
+import com.glamaya.sync.core.common.LoggerConstants;
+import com.glamaya.sync.core.domain.model.BackfillSlice;
+import com.glamaya.sync.core.domain.model.BufferOverflowPolicy;
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.model.SyncContext;
+import com.glamaya.sync.core.domain.model.SyncPage;
+import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.DedupPort;
+import com.glamaya.sync.core.domain.port.out.NotificationPort;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.core.domain.port.out.StatusStorePort;
+import com.glamaya.sync.core.domain.port.out.SyncMetricsPort;
+import com.glamaya.sync.core.domain.port.out.SyncProcessor;
+import com.glamaya.sync.core.domain.port.out.SyncSink;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * SyncOrchestrator that runs the sync pipeline as plain blocking code on Java 21 virtual threads instead of a
+ * Reactor pipeline, so it can be profiled with ordinary thread dumps and compared with SyncOrchestrationService
+ * on the same ports and configuration.
+ * <p>
+ * Every processor run gets its own virtual thread. Within a run, a fetcher, a mapper and the run thread itself
+ * (notifying and checkpointing) are connected by bounded queues of prefetch-pages and notify-buffer-pages, so a
+ * slow channel stops fetching just like in the Reactor engine. Page fetches, mapping chunks and notifications
+ * run under a shared pool of worker permits that bounds the work in flight across all processors. The stages of
+ * a run are scoped to it: they are stopped when the run fails and always finish before it returns.
+ */
+@Slf4j
+public class VirtualThreadSyncOrchestrator implements SyncOrchestrator, AutoCloseable {
+
+    // Stage buffer names reported with the queue depth metric
+    private static final String STAGE_FETCHED = "fetched";
+    private static final String STAGE_MAPPED = "mapped";
+
+    private final StatusStorePort statusStorePort;
+    private final NotificationPort<EcomModel<?>> notificationPort;
+    private final DedupPort dedupPort;
+    private final SyncMetricsPort metricsPort;
+    private final ProcessorShardCoordinator shardCoordinator;
+    private final FailureLane failureLane;
+    private final Map<ProcessorType, SyncProcessor<?, ?, ?>> syncProcessors;
+    private final ExecutorService workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sync-worker-", 0).factory());
+    private final Semaphore workerPermits;
+
+    /**
+     * Constructs the VirtualThreadSyncOrchestrator with required ports and processors.
+     *
+     * @param statusStorePort   Port for storing and retrieving processor status.
+     * @param notificationPort  Port for sending notifications for canonical models.
+     * @param dedupPort         Port for skipping unchanged canonical models.
+     * @param metricsPort       Port for recording pipeline stage metrics.
+     * @param shardCoordinator  Decides which processors this instance may run.
+     * @param failureLane       Takes items whose mapping or notification fails.
+     * @param syncProcessors    List of all available sync processors.
+     * @param workerPoolSize    Maximum number of page fetches, mapping chunks and notifications in flight.
+     */
+    public VirtualThreadSyncOrchestrator(
+            StatusStorePort statusStorePort,
+            NotificationPort<EcomModel<?>> notificationPort,
+            DedupPort dedupPort,
+            SyncMetricsPort metricsPort,
+            ProcessorShardCoordinator shardCoordinator,
+            FailureLane failureLane,
+            List<SyncProcessor<?, ?, ?>> syncProcessors,
+            int workerPoolSize) {
+        this.statusStorePort = statusStorePort;
+        this.notificationPort = notificationPort;
+        this.dedupPort = dedupPort;
+        this.metricsPort = metricsPort;
+        this.shardCoordinator = shardCoordinator;
+        this.failureLane = failureLane;
+        this.syncProcessors = syncProcessors.stream()
+                .collect(Collectors.toMap(SyncProcessor::getProcessorType, Function.identity()));
+        this.workerPermits = new Semaphore(Math.max(1, workerPoolSize), true);
+        log.info(LoggerConstants.ORCH_VIRTUAL_THREADS_INIT, this.syncProcessors.size(), Math.max(1, workerPoolSize));
+    }
+
+    @Override
+    public Mono<Void> syncSequential(ProcessorType processorType) {
+        return syncOnce(processorType).then();
+    }
+
+    @Override
+    public Mono<Long> syncOnce(ProcessorType processorType) {
+        SyncProcessor<?, ?, ?> processor = syncProcessors.get(processorType);
+        if (processor == null) {
+            log.error(LoggerConstants.ORCH_NOT_CONFIGURED, processorType);
+            return Mono.just(0L);
+        }
+        return executeSync(processor);
+    }
+
+    @Override
+    public Mono<Void> syncBackfill(ProcessorType processorType, Instant from, Instant to, Duration sliceSize, int sliceConcurrency) {
+        SyncProcessor<?, ?, ?> processor = syncProcessors.get(processorType);
+        if (processor == null) {
+            log.error(LoggerConstants.ORCH_NOT_CONFIGURED, processorType);
+            return Mono.empty();
+        }
+        return onProcessorThread(processorType, () -> {
+            if (!shardCoordinator.tryBeginRun(processorType)) {
+                log.info(LoggerConstants.ORCH_NOT_OWNED, processorType);
+                return null;
+            }
+            try {
+                runBackfill(processor, from, to, sliceSize, Math.max(1, sliceConcurrency));
+                return null;
+            } finally {
+                shardCoordinator.endRun(processorType);
+            }
+        }).then();
+    }
+
+    @Override
+    public Mono<Void> syncParallel(int maxConcurrency) {
+        int concurrency = maxConcurrency > 0 ? Math.min(maxConcurrency, syncProcessors.size()) : syncProcessors.size();
+        log.info(LoggerConstants.ORCH_SYNC, "All Platforms", syncProcessors.size(), concurrency);
+        syncProcessors.keySet().forEach(pt -> log.info(LoggerConstants.ORCH_REGISTERED, pt));
+        return Flux.fromIterable(syncProcessors.values())
+                .flatMap(proc -> {
+                    ProcessorType pt = proc.getProcessorType();
+                    log.info(LoggerConstants.ORCH_START_EXEC, pt);
+                    return executeSync(proc)
+                            .doOnSuccess(items -> log.info(LoggerConstants.ORCH_COMPLETE_EXEC, pt));
+                }, Math.max(1, concurrency))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> syncPlatformParallel(List<ProcessorType> types, int maxConcurrency) {
+        Set<ProcessorType> filter = Set.copyOf(types);
+        int available = (int) syncProcessors.keySet().stream().filter(filter::contains).count();
+        int concurrency = maxConcurrency > 0 ? Math.min(maxConcurrency, available) : available;
+        log.info(LoggerConstants.ORCH_SYNC, "Platform processors", available, concurrency);
+        return Flux.fromIterable(syncProcessors.entrySet())
+                .filter(entry -> filter.contains(entry.getKey()))
+                .flatMap(entry -> {
+                    ProcessorType pt = entry.getKey();
+                    log.info(LoggerConstants.ORCH_START_EXEC, pt);
+                    return executeSync(entry.getValue())
+                            .doOnSuccess(items -> log.info(LoggerConstants.ORCH_COMPLETE_EXEC, pt));
+                }, Math.max(1, concurrency))
+                .then();
+    }
+
+    /**
+     * Stops the worker threads; runs still in progress fail.
+     */
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Runs a processor on its own virtual thread if this instance holds its lease.
+     *
+     * @param processor The sync processor to execute.
+     * @return Mono emitting the number of items fetched during the run; zero if the run was skipped.
+     */
+    private Mono<Long> executeSync(SyncProcessor<?, ?, ?> processor) {
+        ProcessorType processorType = processor.getProcessorType();
+        return onProcessorThread(processorType, () -> {
+            if (!shardCoordinator.tryBeginRun(processorType)) {
+                log.info(LoggerConstants.ORCH_NOT_OWNED, processorType);
+                return 0L;
+            }
+            try {
+                return runSync(processor);
+            } finally {
+                shardCoordinator.endRun(processorType);
+            }
+        });
+    }
+
+    /**
+     * Runs the task on a new virtual thread named after the processor; cancelling the Mono interrupts it.
+     */
+    private <R> Mono<R> onProcessorThread(ProcessorType processorType, Callable<R> task) {
+        return Mono.create(sink -> {
+            Thread thread = Thread.ofVirtual().name("sync-" + processorType.name()).start(() -> {
+                try {
+                    sink.success(task.call());
+                } catch (Throwable e) {
+                    sink.error(e);
+                }
+            });
+            sink.onCancel(thread::interrupt);
+        });
+    }
+
+    /**
+     * Runs the synchronization process for a given processor on the calling thread.
+     *
+     * @param processor The sync processor to execute.
+     * @param <P>       Raw data item type.
+     * @param <C>       Canonical model type.
+     * @param <T>       Processor configuration type.
+     * @return The number of items fetched during the run.
+     * @throws Exception If fetching, notifying or saving the status fails.
+     */
+    private <P, C extends EcomModel<?>, T> long runSync(SyncProcessor<P, C, T> processor) throws Exception {
+        ProcessorType processorType = processor.getProcessorType();
+        log.info(LoggerConstants.ORCH_EXEC_INVOKED, processorType);
+        ProcessorConfiguration<T> config = processor.getConfiguration();
+
+        List<SyncSink<P, ?, ?>> sinks = SyncSupport.enabledSinks(processor);
+        if (sinks.isEmpty()) {
+            log.info(LoggerConstants.ORCH_SYNC_DISABLED, processorType);
+            return 0L;
+        }
+
+        long runStart = System.nanoTime();
+        ProcessorStatus initialStatus = SyncSupport.loadStatus(statusStorePort, processor, config).block();
+        // Latest fetch status; replaced by the last page checkpoint when pages are fetched concurrently
+        AtomicReference<ProcessorStatus> cursor = new AtomicReference<>(initialStatus);
+        RunTotals totals = syncPages(processor, config, sinks, cursor, this::saveCheckpoint);
+        log.info(LoggerConstants.ORCH_SYNC_COMPLETED, processorType, totals.notifiedItems());
+        metricsPort.recordRun(processorType, Duration.ofNanos(System.nanoTime() - runStart), totals.notifiedItems());
+        ProcessorStatus finalStatus = cursor.get();
+        finalStatus.setLastSuccessfulRun(Instant.now());
+        statusStorePort.saveStatus(finalStatus).block();
+        return totals.fetchedItems();
+    }
+
+    /**
+     * Backfills a processor in time slices, see {@link SyncOrchestrator#syncBackfill}; one virtual thread per
+     * slice, at most sliceConcurrency of them fetching at the same time.
+     */
+    private <P, C extends EcomModel<?>, T> void runBackfill(SyncProcessor<P, C, T> processor, Instant from, Instant to,
+                                                           Duration sliceSize, int sliceConcurrency) throws Exception {
+        ProcessorType processorType = processor.getProcessorType();
+        ProcessorConfiguration<T> config = processor.getConfiguration();
+        List<SyncSink<P, ?, ?>> sinks = SyncSupport.enabledSinks(processor);
+        if (sinks.isEmpty()) {
+            log.info(LoggerConstants.ORCH_SYNC_DISABLED, processorType);
+            return;
+        }
+        if (!processor.getDataProvider().supportsTimeSlices()) {
+            log.info(LoggerConstants.ORCH_BACKFILL_UNSUPPORTED, processorType);
+            runSync(processor);
+            return;
+        }
+        ProcessorStatus status = SyncSupport.loadStatus(statusStorePort, processor, config).block();
+        SyncSupport.BackfillPlan plan = SyncSupport.planBackfill(status, from, to, sliceSize, sliceConcurrency);
+        if (plan == null) {
+            runSync(processor);
+            return;
+        }
+        long runStart = System.nanoTime();
+        statusStorePort.saveStatus(status.snapshot()).block();
+
+        RunTotals totals = RunTotals.ZERO;
+        Semaphore sliceSlots = new Semaphore(sliceConcurrency);
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<RunTotals>> results = new ArrayList<>();
+            for (BackfillSlice slice : plan.pending()) {
+                results.add(scope.submit(() -> {
+                    sliceSlots.acquire();
+                    try {
+                        return syncPages(processor, config, sinks,
+                                new AtomicReference<>(SyncSupport.sliceStatus(processorType, slice, config)),
+                                checkpoint -> saveCheckpoint(SyncSupport.sliceCheckpoint(status, slice, checkpoint)));
+                    } finally {
+                        sliceSlots.release();
+                    }
+                }));
+            }
+            try {
+                for (Future<RunTotals> result : results) {
+                    totals = totals.plus(await(result));
+                }
+            } catch (Exception e) {
+                scope.shutdownNow();
+                throw e;
+            }
+        }
+        log.info(LoggerConstants.ORCH_BACKFILL_COMPLETED, processorType, totals.fetchedItems(), totals.notifiedItems());
+        metricsPort.recordRun(processorType, Duration.ofNanos(System.nanoTime() - runStart), totals.notifiedItems());
+        statusStorePort.saveStatus(SyncSupport.completeBackfill(status, plan.end(), config, totals.fetchedItems())).block();
+    }
+
+    /**
+     * Fetches, maps and notifies pages starting from the cursor status until the data provider reports no more
+     * data, handing every page checkpoint to the checkpointer once all its items are notified. The fetcher and
+     * the mapper run on their own virtual threads; notifying and checkpointing happen on the calling thread.
+     * Without prefetching, all stages run on the calling thread, one page after another.
+     *
+     * @param processor    The sync processor to fetch with.
+     * @param config       The processor configuration.
+     * @param sinks        The enabled sinks the items are mapped and notified by.
+     * @param cursor       Holds the status to start from; ends up at the status after the last page.
+     * @param checkpointer Persists a page checkpoint.
+     * @param <P>          Raw data item type.
+     * @param <C>          Canonical model type.
+     * @param <T>          Processor configuration type.
+     * @return The numbers of fetched and notified items.
+     * @throws Exception If any stage fails; the other stages are stopped first.
+     */
+    private <P, C extends EcomModel<?>, T> RunTotals syncPages(SyncProcessor<P, C, T> processor,
+                                                               ProcessorConfiguration<T> config,
+                                                               List<SyncSink<P, ?, ?>> sinks,
+                                                               AtomicReference<ProcessorStatus> cursor,
+                                                               Consumer<ProcessorStatus> checkpointer) throws Exception {
+        ProcessorType processorType = processor.getProcessorType();
+        Duration activeDelay = SyncSupport.toDuration(config.getFetchActiveDelayMs());
+        int prefetchPages = SyncSupport.toPrefetch(config.getPrefetchPages());
+        int notifyBufferPages = SyncSupport.toNotifyBuffer(config.getNotifyBufferPages(), prefetchPages);
+        Duration stallTimeout = config.getBufferOverflowPolicy() == BufferOverflowPolicy.FAIL
+                ? SyncSupport.toDuration(config.getBufferStallTimeoutMs())
+                : Duration.ZERO;
+
+        AtomicLong fetchedItems = new AtomicLong();
+        if (prefetchPages == 0) {
+            // No overlap: every page is mapped and notified on this thread before the next one is fetched
+            long[] notified = new long[1];
+            fetchPages(processor, config, cursor, activeDelay, page -> {
+                fetchedItems.addAndGet(page.items().size());
+                notified[0] += notifyStage(mapStage(page, processor.getDataProvider(), sinks), sinks, stallTimeout,
+                        checkpointer);
+            });
+            return new RunTotals(fetchedItems.get(), notified[0]);
+        }
+        Handoff<SyncPage<P>> fetched = new Handoff<>(processorType, STAGE_FETCHED, prefetchPages);
+        Handoff<MappedPage> mapped = new Handoff<>(processorType, STAGE_MAPPED, notifyBufferPages);
+        long notifiedItems = 0;
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            scope.submit(() -> fetched.run(() -> fetchPages(processor, config, cursor, activeDelay, page -> {
+                fetchedItems.addAndGet(page.items().size());
+                fetched.put(page);
+            })));
+            scope.submit(() -> mapped.run(() -> {
+                SyncPage<P> page;
+                while ((page = fetched.take()) != null) {
+                    mapped.put(mapStage(page, processor.getDataProvider(), sinks));
+                }
+            }));
+            try {
+                MappedPage page;
+                while ((page = mapped.take()) != null) {
+                    notifiedItems += notifyStage(page, sinks, stallTimeout, checkpointer);
+                }
+            } catch (Exception e) {
+                scope.shutdownNow();
+                throw e;
+            } finally {
+                fetched.reset();
+                mapped.reset();
+            }
+        }
+        return new RunTotals(fetchedItems.get(), notifiedItems);
+    }
+
+    /**
+     * Fetches pages one at a time until a page reports no more data, applying the active delay between fetches.
+     * Once a page reports the total page count and the configuration allows a page concurrency above one, the
+     * remaining pages are fetched concurrently and handed on in page order.
+     */
+    private <P, C extends EcomModel<?>, T> void fetchPages(SyncProcessor<P, C, T> processor,
+                                                           ProcessorConfiguration<T> config,
+                                                           AtomicReference<ProcessorStatus> cursor,
+                                                           Duration activeDelay,
+                                                           PageConsumer<SyncPage<P>> out) throws Exception {
+        int pageConcurrency = SyncSupport.toConcurrency(config.getPageConcurrency());
+        boolean first = true;
+        while (cursor.get().isMoreDataAvailable()) {
+            if (!first && !activeDelay.isZero()) {
+                Thread.sleep(activeDelay);
+            }
+            first = false;
+            ProcessorStatus current = cursor.get();
+            if (SyncSupport.canFetchConcurrently(current, pageConcurrency)) {
+                fetchRemainingPagesConcurrently(processor, config, cursor, pageConcurrency, out);
+            } else {
+                out.accept(withPermit(() -> fetchPage(processor, config, current, true)));
+            }
+        }
+    }
+
+    /**
+     * Fetches all pages from the current next page up to the known total page count, at most pageConcurrency at
+     * a time. Pages are handed on strictly in page order, so each checkpoint only covers completed pages.
+     */
+    private <P, C extends EcomModel<?>, T> void fetchRemainingPagesConcurrently(SyncProcessor<P, C, T> processor,
+                                                                                ProcessorConfiguration<T> config,
+                                                                                AtomicReference<ProcessorStatus> cursor,
+                                                                                int pageConcurrency,
+                                                                                PageConsumer<SyncPage<P>> out) throws Exception {
+        SyncSupport.ConcurrentPages pages = new SyncSupport.ConcurrentPages(processor.getProcessorType(), cursor, pageConcurrency);
+        Deque<Future<SyncPage<P>>> window = new ArrayDeque<>();
+        int nextPage = pages.firstPage();
+        try {
+            while (nextPage <= pages.lastPage() || !window.isEmpty()) {
+                while (nextPage <= pages.lastPage() && window.size() < pageConcurrency) {
+                    ProcessorStatus pageStatus = pages.statusFor(nextPage++);
+                    // The page size stays fixed while fetching the pages of the reported total
+                    window.add(submit(() -> fetchPage(processor, config, pageStatus, false)));
+                }
+                SyncPage<P> page = await(window.poll());
+                pages.completed(page.checkpoint());
+                out.accept(page);
+            }
+        } finally {
+            window.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Fetches a single page for the given status. The data provider advances the status as a side effect,
+     * so the page carries a snapshot of it as checkpoint.
+     */
+    private <P, C extends EcomModel<?>, T> SyncPage<P> fetchPage(SyncProcessor<P, C, T> processor,
+                                                                 ProcessorConfiguration<T> config,
+                                                                 ProcessorStatus current,
+                                                                 boolean adaptiveSize) {
+        log.info(LoggerConstants.ORCH_FETCH_PAGE, processor.getProcessorType(), current.getNextPage(), current.getPageSize());
+        SyncContext<T> ctx = new SyncContext<>(current, config);
+        int requestedPageSize = current.getPageSize() != null ? current.getPageSize() : 0;
+        long start = System.nanoTime();
+        List<P> items;
+        try {
+            items = processor.getDataProvider().fetchData(ctx).collectList().block();
+        } catch (RuntimeException e) {
+            metricsPort.recordFetchFailure(processor.getProcessorType());
+            throw e;
+        }
+        Duration latency = Duration.ofNanos(System.nanoTime() - start);
+        metricsPort.recordFetch(processor.getProcessorType(), latency, requestedPageSize, items.size());
+        if (adaptiveSize) {
+            AdaptivePageSizeController.adjust(current, config, latency);
+        }
+        return new SyncPage<>(items, current.snapshot());
+    }
+
+    /**
+     * Maps every item of a page through every sink.
+     */
+    private <P> MappedPage mapStage(SyncPage<P> page, DataProvider<P> dataProvider, List<SyncSink<P, ?, ?>> sinks)
+            throws Exception {
+        List<MappedItems> itemsPerSink = new ArrayList<>(sinks.size());
+        for (SyncSink<P, ?, ?> sink : sinks) {
+            itemsPerSink.add(mapPage(page.items(), dataProvider, sink));
+        }
+        return new MappedPage(itemsPerSink, page.checkpoint());
+    }
+
+    /**
+     * Maps the raw items of a page with the given sink, handing items whose mapping fails to the failure lane. With
+     * a mapping parallelism configured, the page is mapped in that many chunks on worker threads and reassembled in
+     * page order.
+     */
+    private <P, C extends EcomModel<?>, T> MappedItems mapPage(List<P> rawItems, DataProvider<P> dataProvider,
+                                                               SyncSink<P, C, T> sink) throws Exception {
+        int parallelism = SyncSupport.toMappingParallelism(sink.getConfiguration().getMappingParallelism());
+        long mappingStart = System.nanoTime();
+        MappedItems items;
+        if (parallelism == 0 || rawItems.isEmpty()) {
+            items = SyncSupport.mapChunk(rawItems, sink, dataProvider, failureLane);
+        } else {
+            List<Future<MappedItems>> chunks = new ArrayList<>();
+            for (List<P> chunk : SyncSupport.chunks(rawItems, parallelism)) {
+                chunks.add(submit(() -> SyncSupport.mapChunk(chunk, sink, dataProvider, failureLane)));
+            }
+            List<MappedItems> mappedChunks = new ArrayList<>(chunks.size());
+            for (Future<MappedItems> chunk : chunks) {
+                mappedChunks.add(await(chunk));
+            }
+            items = MappedItems.merge(mappedChunks);
+        }
+        metricsPort.recordMapping(sink.getProcessorType(), Duration.ofNanos(System.nanoTime() - mappingStart),
+                items.models().size(), rawItems.size() - items.models().size());
+        return items;
+    }
+
+    /**
+     * Notifies the mapped models of a page through every sink on worker threads, then persists the page
+     * checkpoint. With a stall timeout, the run fails if notifying the page takes longer.
+     *
+     * @return The number of notified items of the page, summed over all sinks.
+     */
+    private <P> long notifyStage(MappedPage page, List<SyncSink<P, ?, ?>> sinks, Duration stallTimeout,
+                                 Consumer<ProcessorStatus> checkpointer) throws Exception {
+        List<Future<Long>> notified = new ArrayList<>();
+        for (int i = 0; i < sinks.size(); i++) {
+            MappedItems items = page.itemsPerSink().get(i);
+            SyncSink<P, ?, ?> sink = sinks.get(i);
+            if (!items.models().isEmpty()) {
+                notified.add(submit(() -> SyncSupport.notifyChanged(items, sink, notificationPort, dedupPort, metricsPort,
+                        failureLane).block()));
+            }
+        }
+        long deadline = System.nanoTime() + stallTimeout.toNanos();
+        long count = 0;
+        try {
+            for (Future<Long> result : notified) {
+                if (stallTimeout.isZero()) {
+                    count += await(result);
+                } else {
+                    count += result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            }
+        } catch (TimeoutException e) {
+            log.error(LoggerConstants.ORCH_BUFFER_STALLED, page.checkpoint().getProcessorType(),
+                    page.checkpoint().getNextPage(), stallTimeout.toMillis());
+            throw e;
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            notified.forEach(result -> result.cancel(true));
+        }
+        checkpointer.accept(page.checkpoint());
+        return count;
+    }
+
+    /**
+     * Saves a page checkpoint, recording how long the store took to accept it.
+     */
+    private void saveCheckpoint(ProcessorStatus checkpoint) {
+        long start = System.nanoTime();
+        statusStorePort.saveCheckpoint(checkpoint).block();
+        metricsPort.recordCheckpoint(checkpoint.getProcessorType(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Runs the task on a worker thread once a worker permit is free.
+     */
+    private <R> Future<R> submit(Callable<R> task) {
+        return workers.submit(() -> withPermit(task));
+    }
+
+    /**
+     * Runs the task on the calling thread while holding a worker permit. Tasks run this way must not wait for
+     * other permit holders, so the pool cannot deadlock.
+     */
+    private <R> R withPermit(Callable<R> task) throws Exception {
+        workerPermits.acquire();
+        try {
+            return task.call();
+        } finally {
+            workerPermits.release();
+        }
+    }
+
+    private static <R> R await(Future<R> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static Exception unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return cause instanceof Exception exception ? exception : e;
+    }
+
+    /**
+     * Receives the pages of a stage; may block while the next stage is behind.
+     */
+    @FunctionalInterface
+    private interface PageConsumer<X> {
+        void accept(X page) throws Exception;
+    }
+
+    /**
+     * A stage body that may fail.
+     */
+    @FunctionalInterface
+    private interface StageBody {
+        void run() throws Exception;
+    }
+
+    /**
+     * A bounded queue between two pipeline stages. The producing stage ends it, or fails it so the failure
+     * reaches the consuming stage; its depth is reported with the queue depth metric. The end marker does not
+     * take one of the capacity slots, so at most capacity items are ever queued.
+     */
+    private final class Handoff<X> {
+        private final ProcessorType processorType;
+        private final String stage;
+        private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+        private final Semaphore slots;
+
+        private Handoff(ProcessorType processorType, String stage, int capacity) {
+            this.processorType = processorType;
+            this.stage = stage;
+            this.slots = new Semaphore(capacity);
+        }
+
+        /**
+         * Runs the producing stage, then ends the queue, or fails it if the stage fails.
+         */
+        private Void run(StageBody body) throws InterruptedException {
+            Object end = End.DONE;
+            try {
+                body.run();
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                end = new End(e);
+            }
+            queue.put(end);
+            return null;
+        }
+
+        private void put(X item) throws InterruptedException {
+            slots.acquire();
+            queue.put(item);
+            metricsPort.recordQueueDepth(processorType, stage, queue.size());
+        }
+
+        /**
+         * Returns the next item, or null once the producing stage is done.
+         *
+         * @throws Exception The failure of the producing stage.
+         */
+        @SuppressWarnings("unchecked")
+        private X take() throws Exception {
+            Object item = queue.take();
+            if (item instanceof End end) {
+                if (end.failure() != null) {
+                    throw end.failure();
+                }
+                return null;
+            }
+            slots.release();
+            metricsPort.recordQueueDepth(processorType, stage, queue.size());
+            return (X) item;
+        }
+
+        private void reset() {
+            metricsPort.recordQueueDepth(processorType, stage, 0);
+        }
+    }
+
+    /**
+     * Marks the end of a Handoff, with the failure of the producing stage if it failed.
+     */
+    private record End(Exception failure) {
+        private static final End DONE = new End(null);
+    }
+
+    /**
+     * A page whose items have been mapped by every sink and that is waiting to be notified.
+     *
+     * @param itemsPerSink The canonical models of the page, one per sink in sink order.
+     * @param checkpoint   The status checkpoint of the page.
+     */
+    private record MappedPage(List<MappedItems> itemsPerSink, ProcessorStatus checkpoint) {
+    }
+}
@@ -3,6 +3,8 @@ package com.glamaya.sync.core.application.usecase;
 import com.glamaya.sync.core.domain.model.ProcessorType;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -14,6 +16,18 @@ public interface SyncOrchestrator {
 
     Mono<Void> syncSequential(ProcessorType processorType);
 
+    /**
+     * Runs a single processor once and reports how many items it fetched, so callers can adapt their cadence.
+     */
+    Mono<Long> syncOnce(ProcessorType processorType);
+
+    /**
+     * Loads the history of a processor that has no incremental watermark yet by splitting [from, to) into time
+     * slices fetched concurrently, with everything modified before {@code from} in one more slice; afterwards
+     * incremental runs continue from {@code to}.
+     */
+    Mono<Void> syncBackfill(ProcessorType processorType, Instant from, Instant to, Duration sliceSize, int sliceConcurrency);
+
     Mono<Void> syncParallel(int maxConcurrency);
 
     Mono<Void> syncPlatformParallel(List<ProcessorType> types, int maxConcurrency);
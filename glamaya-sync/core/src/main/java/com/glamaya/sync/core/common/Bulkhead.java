@@ -0,0 +1,56 @@
+package com.glamaya.sync.core.common;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * A non-blocking bulkhead that keeps one slow downstream from taking up more than its share of in-flight calls.
+ * <p>
+ * At most maxConcurrent calls run at a time and at most maxQueued more wait for a slot, in arrival order; any
+ * further call fails at once with a RejectedExecutionException. A slot is held until the call completes, fails
+ * or is cancelled. A non-positive maxConcurrent means unlimited, a negative maxQueued an unbounded queue; calls
+ * in flight are counted either way.
+ */
+@Slf4j
+public final class Bulkhead {
+
+    private final PermitQueue slots;
+
+    /**
+     * @param name          The downstream the bulkhead guards (for logging).
+     * @param maxConcurrent Maximum number of calls in flight; non-positive means unlimited.
+     * @param maxQueued     Maximum number of calls waiting for a slot; negative means unbounded.
+     */
+    public Bulkhead(String name, int maxConcurrent, int maxQueued) {
+        this.slots = new PermitQueue(name, maxConcurrent, maxQueued);
+        log.info(LoggerConstants.BULKHEAD_INIT, name, maxConcurrent > 0 ? maxConcurrent : "unlimited",
+                maxQueued >= 0 ? maxQueued : "unbounded");
+    }
+
+    /**
+     * Subscribes to the call once a slot is free.
+     *
+     * @param call Supplies the call to run; only invoked once it may start.
+     * @param <T>  Result type.
+     * @return Mono emitting the result of the call, or failing with a RejectedExecutionException if the queue is full.
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        return slots.withPermit(call);
+    }
+
+    /**
+     * Returns the number of calls in flight.
+     */
+    public int inFlight() {
+        return slots.taken();
+    }
+
+    /**
+     * Returns the number of calls waiting for a slot.
+     */
+    public int queued() {
+        return slots.queued();
+    }
+}
@@ -12,5 +12,41 @@ public final class LoggerConstants {
     public static final String ORCH_SYNC_DISABLED = "{}: sync disabled.";
     public static final String ORCH_SYNC_COMPLETED = "{}: sync completed. totalItems={}";
     public static final String ORCH_FETCH_PAGE = "{}: fetching data. page={}, pageSize={}";
+    public static final String ORCH_FETCH_CONCURRENT = "{}: fetching remaining pages concurrently. fromPage={}, toPage={}, concurrency={}";
+    public static final String ORCH_PAGE_SIZE_CHANGED = "{}: page size changed. from={}, to={}, latencyMs={}, bytes={}";
+    public static final String ORCH_DEDUP = "{}: skipped unchanged items. skipped={}, changed={}";
+    public static final String ORCH_BUFFER_STALLED = "{}: notification stalled, failing run. page={}, stallTimeoutMs={}";
     public static final String ORCH_NOT_CONFIGURED = "{}: not configured for sync.";
+    public static final String ORCH_NOT_OWNED = "{}: leased by another instance, skipping run.";
+    public static final String ORCH_SINK_STATUS_ADOPTED = "{}: continuing from the older checkpoint sink {} left as a processor of its own. lastDateModified={}, was={}";
+    public static final String ORCH_BACKFILL_START = "{}: backfill started. sliced history from={}, to={}, slices={}, pendingSlices={}, concurrency={}";
+    public static final String ORCH_BACKFILL_COMPLETED = "{}: backfill completed. fetchedItems={}, notifiedItems={}";
+    public static final String ORCH_BACKFILL_SKIPPED = "{}: already synced incrementally, no backfill needed. lastDateModified={}";
+    public static final String ORCH_BACKFILL_UNSUPPORTED = "{}: data provider cannot fetch time slices, running a normal sync instead.";
+    public static final String ORCH_VIRTUAL_THREADS_INIT = "VirtualThreadSyncOrchestrator initialized. processorCount={}, workerPoolSize={}";
+    public static final String ORCH_MAPPING_NULL = "Canonical mapping returned null";
+    public static final String ORCH_MAPPING_FAILED = "{}: canonical mapping threw";
+
+    // --- Failure lane ---
+    public static final String FAILURE_LANE_INIT = "FailureLane initialized. enabled={}, maxAttempts={}, initialBackoffMs={}, maxBackoffMs={}";
+    public static final String FAILURE_LANE_MAPPING_FAILED = "{}: mapping failed, item set aside. itemId={}, error={}";
+    public static final String FAILURE_LANE_NOTIFICATION_FAILED = "{}: notification failed, items set aside. channel={}, items={}, error={}";
+    public static final String FAILURE_LANE_PERSIST_FAILED = "{}: failed items could not be stored. items={}, error={}";
+    public static final String FAILURE_LANE_RECOVERED = "{}: failed item recovered. itemId={}, attempts={}";
+    public static final String FAILURE_LANE_RESCHEDULED = "{}: retry failed, rescheduled. itemId={}, attempts={}, nextAttemptAt={}, error={}";
+    public static final String FAILURE_LANE_DEAD_LETTERED = "{}: retries used up, item dead-lettered. itemId={}, attempts={}, error={}";
+    public static final String FAILURE_LANE_GONE = "{}: failed item no longer exists on the platform, dropped. itemId={}";
+    public static final String FAILURE_LANE_NOT_CONFIGURED = "{}: processor no longer configured, failed item dropped. itemId={}";
+
+    // --- Sharding ---
+    public static final String SHARD_LEASE_ACQUIRED = "{}: lease acquired. instance={}";
+    public static final String SHARD_LEASE_RELEASED = "{}: lease released for rebalancing. instance={}";
+    public static final String SHARD_LEASE_LOST = "{}: lease lost. instance={}, newOwner={}";
+    public static final String SHARD_LEASE_EXPIRED = "{}: lease not renewed in time, no new runs until it is reacquired. instance={}, lastRenewal={}";
+
+    // --- Rate limiter ---
+    public static final String RATE_LIMITER_INIT = "{}: request rate limiter initialized. requestsPerSecond={}, maxConcurrentRequests={}";
+    public static final String BULKHEAD_INIT = "{}: bulkhead initialized. maxConcurrent={}, maxQueued={}";
+    public static final String PERMIT_QUEUED = "{}: waiting for a permit. queued={}";
+    public static final String PERMIT_REJECTED = "{}: no permit free and queue full, rejected. queued={}";
 }
@@ -0,0 +1,155 @@
+package com.glamaya.sync.core.common;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A non-blocking, fair semaphore: permits are handed out in arrival order, and callers that have to wait for
+ * one do so without holding a thread. The Bulkhead and the RequestRateLimiter are built on it.
+ * <p>
+ * At most maxPermits permits are taken at a time and at most maxQueued callers wait for one; any further
+ * caller fails at once with a RejectedExecutionException. A waiter that is cancelled leaves the queue, and a
+ * permit granted concurrently with the cancellation is handed on. A non-positive maxPermits means unlimited,
+ * a negative maxQueued an unbounded queue; permits taken are counted either way.
+ */
+@Slf4j
+public final class PermitQueue {
+
+    private final String name;
+    private final int maxPermits;
+    private final int maxQueued;
+
+    // Guarded by this
+    private int taken;
+    private final Queue<Permit> waiting = new ArrayDeque<>();
+
+    /**
+     * @param name       What the permits guard (for logging).
+     * @param maxPermits Maximum number of permits taken at a time; non-positive means unlimited.
+     * @param maxQueued  Maximum number of callers waiting for a permit; negative means unbounded.
+     */
+    public PermitQueue(String name, int maxPermits, int maxQueued) {
+        this.name = name;
+        this.maxPermits = maxPermits > 0 ? maxPermits : Integer.MAX_VALUE;
+        this.maxQueued = maxQueued >= 0 ? maxQueued : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Subscribes to the call once a permit is free and holds the permit until the call completes, fails or
+     * is cancelled.
+     *
+     * @param call Supplies the call to run; only invoked once it may start.
+     * @param <T>  Result type.
+     * @return Mono emitting the result of the call, or failing with a RejectedExecutionException if the queue is full.
+     */
+    public <T> Mono<T> withPermit(Supplier<Mono<T>> call) {
+        return Mono.usingWhen(
+                acquire(),
+                permit -> Mono.defer(call),
+                permit -> Mono.fromRunnable(permit::release),
+                (permit, e) -> Mono.fromRunnable(permit::release),
+                permit -> Mono.fromRunnable(permit::release));
+    }
+
+    /**
+     * Takes a permit, waiting in line if none is free. The caller must release it.
+     *
+     * @return Mono emitting the permit, or failing with a RejectedExecutionException if the queue is full.
+     */
+    public Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            Permit permit = new Permit(sink);
+            boolean granted;
+            boolean rejected = false;
+            int queued;
+            synchronized (this) {
+                granted = taken < maxPermits;
+                if (granted) {
+                    taken++;
+                } else if (waiting.size() < maxQueued) {
+                    waiting.add(permit);
+                } else {
+                    rejected = true;
+                }
+                queued = waiting.size();
+            }
+            if (granted) {
+                sink.success(permit);
+                return;
+            }
+            if (rejected) {
+                log.debug(LoggerConstants.PERMIT_REJECTED, name, queued);
+                sink.error(new RejectedExecutionException(name + ": queue full, " + queued + " callers already waiting"));
+                return;
+            }
+            log.debug(LoggerConstants.PERMIT_QUEUED, name, queued);
+            sink.onCancel(() -> {
+                boolean stillWaiting;
+                synchronized (this) {
+                    stillWaiting = waiting.remove(permit);
+                }
+                // Granted concurrently with the cancellation: the permit may never reach its subscriber
+                if (!stillWaiting) {
+                    permit.release();
+                }
+            });
+        });
+    }
+
+    /**
+     * Returns the number of permits taken.
+     */
+    public synchronized int taken() {
+        return taken;
+    }
+
+    /**
+     * Returns the number of callers waiting for a permit.
+     */
+    public synchronized int queued() {
+        return waiting.size();
+    }
+
+    /**
+     * Hands a freed permit to the next waiting caller, or returns it to the pool.
+     */
+    private void handOn() {
+        Permit next;
+        synchronized (this) {
+            next = waiting.poll();
+            if (next == null) {
+                taken--;
+                return;
+            }
+        }
+        next.sink.success(next);
+    }
+
+    /**
+     * A permit; released at most once.
+     */
+    public final class Permit {
+        private final MonoSink<Permit> sink;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        /**
+         * Returns the permit; further calls have no effect.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                handOn();
+            }
+        }
+    }
+}
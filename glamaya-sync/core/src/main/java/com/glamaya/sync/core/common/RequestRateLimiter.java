@@ -0,0 +1,70 @@
+package com.glamaya.sync.core.common;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * A non-blocking token-bucket rate limiter with a cap on concurrent requests, meant to be shared by all
+ * processors that call the same remote host.
+ * <p>
+ * A request first waits for one of maxConcurrentRequests slots (in arrival order), then for a token; tokens
+ * are refilled at requestsPerSecond up to a burst of one second's worth. The slot is held until the request
+ * completes, fails or is cancelled. A non-positive rate or concurrency disables that limit.
+ */
+@Slf4j
+public final class RequestRateLimiter {
+
+    private final double nanosPerToken;
+    private final double burst;
+    private final PermitQueue slots;
+
+    // Guarded by this
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * @param name                  The host or platform the limiter belongs to (for logging).
+     * @param requestsPerSecond     Sustained request rate; non-positive means unlimited.
+     * @param maxConcurrentRequests Maximum number of requests in flight; non-positive means unlimited.
+     */
+    public RequestRateLimiter(String name, double requestsPerSecond, int maxConcurrentRequests) {
+        this.nanosPerToken = requestsPerSecond > 0 ? 1_000_000_000d / requestsPerSecond : 0;
+        this.burst = Math.max(1, requestsPerSecond);
+        this.slots = new PermitQueue(name, maxConcurrentRequests, -1);
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+        log.info(LoggerConstants.RATE_LIMITER_INIT, name, requestsPerSecond > 0 ? requestsPerSecond : "unlimited",
+                maxConcurrentRequests > 0 ? maxConcurrentRequests : "unlimited");
+    }
+
+    /**
+     * Subscribes to the request once a concurrency slot and a token are available.
+     *
+     * @param request Supplies the request to run; only invoked once the request may start.
+     * @param <T>     Result type.
+     * @return Mono emitting the result of the request.
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> request) {
+        return slots.withPermit(() -> {
+            Duration wait = reserveToken();
+            return wait.isZero() ? request.get() : Mono.delay(wait).then(Mono.defer(request));
+        });
+    }
+
+    /**
+     * Takes a token, possibly ahead of time, and returns how long to wait until it is actually available.
+     */
+    private synchronized Duration reserveToken() {
+        if (nanosPerToken == 0) {
+            return Duration.ZERO;
+        }
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) / nanosPerToken);
+        lastRefillNanos = now;
+        tokens -= 1;
+        return tokens >= 0 ? Duration.ZERO : Duration.ofNanos((long) (-tokens * nanosPerToken));
+    }
+}
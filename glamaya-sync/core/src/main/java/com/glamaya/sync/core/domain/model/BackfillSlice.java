@@ -0,0 +1,33 @@
+package com.glamaya.sync.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * The sub-checkpoint of one time slice of a backfill: items modified within [from, to) are fetched page by
+ * page, and nextPage records how far that has progressed. Persisted as part of the processor status so an
+ * interrupted backfill resumes each slice where it stopped.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillSlice {
+
+    private Instant from; // Null for the first slice, which reaches back to the oldest record
+    private Instant to;
+    private Integer nextPage; // Next page to fetch; null until the first page checkpoint
+    private Integer pageSize; // Page size nextPage refers to
+    private boolean done;
+
+    /**
+     * Returns a detached copy of this slice.
+     */
+    public BackfillSlice copy() {
+        return toBuilder().build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.glamaya.sync.core.domain.model;
+
+/**
+ * What the sync pipeline does when the bounded buffers between its stages are full.
+ */
+public enum BufferOverflowPolicy {
+    /**
+     * Wait for space: a slow notification stage slows down mapping and, in turn, fetching.
+     */
+    BLOCK,
+    /**
+     * Fail the run when the notification stage stalls for longer than the configured stall timeout.
+     * The next run resumes from the last checkpoint.
+     */
+    FAIL;
+}
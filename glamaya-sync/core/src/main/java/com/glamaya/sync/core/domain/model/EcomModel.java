@@ -1,12 +1,86 @@
 package com.glamaya.sync.core.domain.model;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A canonical model with its id, as handed to the notification channels.
+ * Serialized forms of the data are cached per format, so a model notified on several channels (and retried by the
+ * failure lane) is serialized once per format rather than once per channel. The dedup content fingerprint is
+ * cached the same way, so checking and recording it costs one computation.
+ */
 @Data
-@AllArgsConstructor
 public class EcomModel<T> {
 
     private String id;
     private T data;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient volatile Map<String, byte[]> serialized; // Created on first use
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient volatile Long fingerprint;
+
+    public EcomModel(String id, T data) {
+        this.id = id;
+        this.data = data;
+    }
+
+    public void setData(T data) {
+        this.data = data;
+        this.serialized = null;
+        this.fingerprint = null;
+    }
+
+    /**
+     * Returns the data serialized in the given format, serializing it on the first call for that format.
+     * Callers must not modify the returned array, it is shared by every channel using the format.
+     *
+     * @param format     Identifies the serializer, e.g. "json"; one serializer per format.
+     * @param serializer Serializes the data; may throw an unchecked exception, which is passed on uncached.
+     * @return The serialized data.
+     */
+    public byte[] serialized(String format, Function<? super T, byte[]> serializer) {
+        Map<String, byte[]> cache = serialized;
+        if (cache == null) {
+            synchronized (this) {
+                cache = serialized;
+                if (cache == null) {
+                    cache = new ConcurrentHashMap<>(2);
+                    serialized = cache;
+                }
+            }
+        }
+        return cache.computeIfAbsent(format, f -> serializer.apply(data));
+    }
+
+    /**
+     * Returns the content fingerprint of the data, computing it on the first call.
+     *
+     * @param fingerprinter Computes the fingerprint; a null result (no fingerprint) is not cached.
+     * @return The fingerprint, or null if the fingerprinter returned null.
+     */
+    public Long fingerprint(Function<? super T, Long> fingerprinter) {
+        Long cached = fingerprint;
+        if (cached == null) {
+            // Threads racing here compute the same value
+            cached = fingerprinter.apply(data);
+            fingerprint = cached;
+        }
+        return cached;
+    }
 }
@@ -12,7 +12,19 @@ public enum ExecutionMode {
     /**
      * Run all processors across platforms in parallel with a cap.
      */
-    PARALLEL("parallel");
+    PARALLEL("parallel"),
+    /**
+     * Run the processors whose data is most overdue relative to their staleness SLO first, with a cap.
+     */
+    PRIORITY("priority"),
+    /**
+     * Run every processor in its own loop, re-running quickly while it finds new items and backing off when idle.
+     */
+    CADENCE("cadence"),
+    /**
+     * Load the history of processors without a watermark in parallel time slices, then run sequentially.
+     */
+    BACKFILL("backfill");
 
     private final String value;
 
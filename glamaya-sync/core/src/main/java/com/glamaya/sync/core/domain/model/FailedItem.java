@@ -0,0 +1,40 @@
+package com.glamaya.sync.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * An item that failed to map or notify and was set aside instead of failing its page. Only the platform id
+ * and the reason are kept; a retry fetches the item again by id, maps it and notifies it on the failed
+ * channel, or on all channels if mapping failed. Dead-lettered items are no longer retried, either because
+ * their attempts are used up or because their platform cannot fetch single items.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class FailedItem {
+
+    private ProcessorType processorType; // The processor or sink whose mapping or notification failed
+    private String itemId; // Platform id of the raw item
+    private FailureStage stage;
+    private NotificationType notificationType; // The failed channel; null if mapping failed
+    private String reason;
+    private int attempts; // Retries so far
+    private Instant firstFailedAt;
+    private Instant lastFailedAt;
+    private Instant nextAttemptAt;
+    private boolean deadLettered;
+
+    /**
+     * Returns the key of the failure: one per processor type, item and failed channel (or mapping), so a
+     * repeated failure updates the earlier one instead of adding another.
+     */
+    public String key() {
+        return processorType + ":" + itemId + ":" + (notificationType != null ? notificationType : stage);
+    }
+}
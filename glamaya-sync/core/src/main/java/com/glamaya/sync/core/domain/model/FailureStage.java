@@ -0,0 +1,15 @@
+package com.glamaya.sync.core.domain.model;
+
+/**
+ * The pipeline stage in which an item failed and was handed to the failure lane.
+ */
+public enum FailureStage {
+    /**
+     * Mapping the raw item to its canonical model failed or returned nothing; the item was not notified.
+     */
+    MAPPING,
+    /**
+     * Sending the canonical model on a notification channel failed; other channels may have succeeded.
+     */
+    NOTIFICATION;
+}
@@ -0,0 +1,17 @@
+package com.glamaya.sync.core.domain.model;
+
+import java.time.Instant;
+
+/**
+ * A time-limited claim of a runner instance on a named resource, e.g. a processor type.
+ *
+ * @param name      The name of the leased resource.
+ * @param owner     The id of the runner instance holding the lease.
+ * @param expiresAt When the lease expires unless it is renewed.
+ */
+public record Lease(
+        String name,
+        String owner,
+        Instant expiresAt
+) {
+}
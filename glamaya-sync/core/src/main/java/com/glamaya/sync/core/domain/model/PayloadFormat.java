@@ -0,0 +1,15 @@
+package com.glamaya.sync.core.domain.model;
+
+/**
+ * Encoding of the canonical models a notification channel sends.
+ */
+public enum PayloadFormat {
+    /**
+     * JSON, readable by any consumer.
+     */
+    JSON,
+    /**
+     * Binary JSON (Smile): smaller records and cheaper to parse; consumers need a Smile-aware deserializer.
+     */
+    SMILE;
+}
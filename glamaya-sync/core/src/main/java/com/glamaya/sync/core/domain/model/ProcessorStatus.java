@@ -6,13 +6,15 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A class holding the state of a single sync process (e.g., for "WooCommerce Orders").
  * This object is used by the core logic and persisted by an adapter for the StatusStorePort.
  */
 @Data
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @NoArgsConstructor
 public class ProcessorStatus {
 
@@ -22,9 +24,13 @@ public class ProcessorStatus {
     private boolean useLastDateModifiedInQuery;
     private String cursor; // For cursor-based pagination
     private Integer nextPage; // For page-based pagination
-    private Integer pageSize;
+    private Integer pageSize; // Page size nextPage refers to; may differ from the configured one if it adapts
+    private Integer totalPages; // Total page count reported by the platform, if known
     private boolean moreDataAvailable;
     private Integer totalItemsSynced;
+    private Long lastPageBytes; // Payload size of the last fetched page, if known; not persisted
+    private Instant modifiedBefore; // Upper bound of the modification window while fetching a backfill slice; not persisted
+    private List<BackfillSlice> backfillSlices; // Sub-checkpoints of a backfill in progress, null otherwise
 
     /**
      * Factory method to create a new status initialized from configuration.
@@ -45,7 +51,24 @@ public class ProcessorStatus {
                     .build();
         }
 
+        if (status.getPageSize() == null) {
+            status.setPageSize(configuration.getPageSize());
+        }
         status.setMoreDataAvailable(true);
         return status;
     }
+
+    /**
+     * Returns a detached copy of this status, used as an immutable checkpoint while the
+     * original keeps advancing with further page fetches.
+     */
+    public ProcessorStatus snapshot() {
+        ProcessorStatus copy = toBuilder().build();
+        if (backfillSlices != null) {
+            List<BackfillSlice> slices = new ArrayList<>(backfillSlices.size());
+            backfillSlices.forEach(slice -> slices.add(slice.copy()));
+            copy.setBackfillSlices(slices);
+        }
+        return copy;
+    }
 }
@@ -0,0 +1,24 @@
+package com.glamaya.sync.core.domain.model;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A raw page response as recorded from a platform API.
+ *
+ * @param processorType The processor the page was fetched for.
+ * @param recordedAt    When the response was received.
+ * @param queryParams   The query parameters of the request.
+ * @param body          The raw response body.
+ * @param position      Position of the record in the processor's page log.
+ * @param nextPosition  Position of the record that follows it.
+ */
+public record RecordedPage(
+        ProcessorType processorType,
+        Instant recordedAt,
+        Map<String, String> queryParams,
+        byte[] body,
+        long position,
+        long nextPosition
+) {
+}
@@ -0,0 +1,17 @@
+package com.glamaya.sync.core.domain.model;
+
+import java.util.List;
+
+/**
+ * A single fetched page of raw items together with the status checkpoint that becomes valid
+ * once every item of the page has been processed.
+ *
+ * @param items      The raw items of the page, in the order returned by the platform.
+ * @param checkpoint A snapshot of the processor status taken right after the page was fetched.
+ * @param <P>        Raw data item type.
+ */
+public record SyncPage<P>(
+        List<P> items,
+        ProcessorStatus checkpoint
+) {
+}
@@ -2,6 +2,7 @@ package com.glamaya.sync.core.domain.port.out;
 
 import com.glamaya.sync.core.domain.model.SyncContext;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * An outbound port defining the contract for fetching raw data from an external platform.
@@ -18,4 +19,38 @@ public interface DataProvider<T> {
      * @return A Flux that emits raw, platform-specific DTOs. Emits nothing if no new data is found.
      */
     Flux<T> fetchData(SyncContext<?> context);
+
+    /**
+     * Returns whether fetchData honours ProcessorStatus#getModifiedBefore() together with lastDateModified, i.e.
+     * can fetch only the items modified within a time window. Only such providers are backfilled in slices.
+     */
+    default boolean supportsTimeSlices() {
+        return false;
+    }
+
+    /**
+     * Returns the platform id of a raw item, under which fetchById finds it again; null if the platform has
+     * no such id. Items without an id cannot be handed to the failure lane.
+     */
+    default String getItemId(T item) {
+        return null;
+    }
+
+    /**
+     * Returns whether fetchById can fetch a single item again, which the failure lane needs to retry it.
+     */
+    default boolean supportsFetchById() {
+        return false;
+    }
+
+    /**
+     * Fetches the current version of a single item by its platform id.
+     *
+     * @param id            The platform id returned by getItemId.
+     * @param configuration The configuration of the processor that owns this provider.
+     * @return A Mono emitting the item, or empty if it no longer exists or fetching by id is not supported.
+     */
+    default Mono<T> fetchById(String id, ProcessorConfiguration<?> configuration) {
+        return Mono.empty();
+    }
 }
@@ -0,0 +1,34 @@
+package com.glamaya.sync.core.domain.port.out;
+
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * An outbound port for content-based deduplication of canonical models.
+ * Implementations keep a fingerprint of the last notified content per processor type and canonical id,
+ * so that re-synced items whose content did not change are not notified again.
+ */
+public interface DedupPort {
+
+    /**
+     * Returns the models whose content differs from the last notified content for the same id,
+     * including models that were never notified.
+     *
+     * @param processorType The processor type the models belong to.
+     * @param models        The canonical models of one page.
+     * @return A Mono emitting the changed models, in their original order.
+     */
+    Mono<List<EcomModel<?>>> filterChanged(ProcessorType processorType, List<EcomModel<?>> models);
+
+    /**
+     * Records the content of the given models as notified.
+     *
+     * @param processorType The processor type the models belong to.
+     * @param models        The canonical models that were notified.
+     * @return A Mono<Void> that completes when the fingerprints are stored.
+     */
+    Mono<Void> markNotified(ProcessorType processorType, List<EcomModel<?>> models);
+}
@@ -0,0 +1,48 @@
+package com.glamaya.sync.core.domain.port.out;
+
+import com.glamaya.sync.core.domain.model.FailedItem;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * An outbound port for persisting the items of the failure lane: items whose mapping or notification failed,
+ * together with their retry schedule.
+ */
+public interface FailedItemPort {
+
+    /**
+     * Saves the failed item, replacing a stored one with the same key.
+     *
+     * @param item The failed item.
+     * @return A Mono<Void> that completes when the item is stored.
+     */
+    Mono<Void> save(FailedItem item);
+
+    /**
+     * Records a new failure of an item. An item not stored yet is saved as given; for a stored one only the
+     * reason and lastFailedAt are updated, so its attempts, retry schedule and dead-letter flag are kept.
+     *
+     * @param item The newly failed item.
+     * @return A Mono<Void> that completes when the failure is stored.
+     */
+    Mono<Void> recordFailure(FailedItem item);
+
+    /**
+     * Returns the items that are not dead-lettered and whose next attempt is due, earliest first.
+     *
+     * @param now   The current time.
+     * @param limit The maximum number of items to return.
+     * @return A Flux emitting the due items.
+     */
+    Flux<FailedItem> findDue(Instant now, int limit);
+
+    /**
+     * Removes the failed item, e.g. once a retry succeeded.
+     *
+     * @param item The failed item.
+     * @return A Mono<Void> that completes when the item is removed.
+     */
+    Mono<Void> remove(FailedItem item);
+}
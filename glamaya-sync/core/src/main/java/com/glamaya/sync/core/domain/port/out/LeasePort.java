@@ -0,0 +1,41 @@
+package com.glamaya.sync.core.domain.port.out;
+
+import com.glamaya.sync.core.domain.model.Lease;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * An outbound port for leases shared by all runner instances.
+ * Implementations must make acquiring a lease atomic: of several instances trying to acquire the same free
+ * lease at the same time, exactly one succeeds.
+ */
+public interface LeasePort {
+
+    /**
+     * Acquires the lease if it is free or expired, or renews it if the owner already holds it.
+     *
+     * @param name  The name of the lease.
+     * @param owner The id of the acquiring runner instance.
+     * @param ttl   How long the lease is valid from now on.
+     * @return A Mono emitting true if the owner holds the lease afterwards, false if another instance does.
+     */
+    Mono<Boolean> tryAcquire(String name, String owner, Duration ttl);
+
+    /**
+     * Releases the lease if the owner holds it; does nothing otherwise.
+     *
+     * @param name  The name of the lease.
+     * @param owner The id of the releasing runner instance.
+     * @return A Mono<Void> that completes when the lease is released.
+     */
+    Mono<Void> release(String name, String owner);
+
+    /**
+     * Returns all leases that have not expired.
+     *
+     * @return A Flux emitting the active leases.
+     */
+    Flux<Lease> findActive();
+}
@@ -2,8 +2,11 @@ package com.glamaya.sync.core.domain.port.out;
 
 import com.glamaya.sync.core.domain.model.NotificationType;
 import com.glamaya.sync.core.domain.model.EcomModel;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Outbound notification port. Implementations send the payload to specific channels (Kafka, n8n, etc.).
  * The channel is indicated by NotificationType; per-channel config is read from ProcessorConfiguration.
@@ -22,4 +25,15 @@ public interface NotificationPort<C extends EcomModel<?>> {
      * Implementations should read per-channel config via processorConfiguration.getNotificationConfig(type).
      */
     Mono<Void> notify(C payload, ProcessorConfiguration<?> processorConfiguration, NotificationType type);
+
+    /**
+     * Notify the given channel about a batch of payloads, typically all items of one fetched page.
+     * The default sends every payload through {@link #notify}; channels that can send several payloads in one
+     * call should override it.
+     */
+    default Mono<Void> notifyBatch(List<C> payloads, ProcessorConfiguration<?> processorConfiguration, NotificationType type) {
+        return Flux.fromIterable(payloads)
+                .flatMap(payload -> notify(payload, processorConfiguration, type))
+                .then();
+    }
 }
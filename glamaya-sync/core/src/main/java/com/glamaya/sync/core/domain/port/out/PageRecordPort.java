@@ -0,0 +1,45 @@
+package com.glamaya.sync.core.domain.port.out;
+
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.model.RecordedPage;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * An outbound port for an append-only log of raw page responses per processor type.
+ * While recording, the platform API services append every page they receive. While replaying, the recorded
+ * pages are fed through the sync instead of calling the platform APIs, e.g. to re-derive canonical models
+ * after a mapper change or to get deterministic inputs for benchmarks.
+ */
+public interface PageRecordPort {
+
+    /**
+     * Returns whether received pages are to be appended to the log.
+     */
+    boolean isRecording();
+
+    /**
+     * Returns whether pages are to be read from the log instead of the platform APIs.
+     */
+    boolean isReplaying();
+
+    /**
+     * Appends a raw page response to the log of the processor type.
+     *
+     * @param processorType The processor the page was fetched for.
+     * @param queryParams   The query parameters of the request.
+     * @param body          The raw response body.
+     * @return A Mono<Void> that completes when the record is appended.
+     */
+    Mono<Void> append(ProcessorType processorType, Map<String, String> queryParams, byte[] body);
+
+    /**
+     * Reads the first record at or after the given position.
+     *
+     * @param processorType The processor type whose log is read.
+     * @param position      The position to read from; 0 for the start of the log.
+     * @return A Mono emitting the record, or empty at the end of the log.
+     */
+    Mono<RecordedPage> read(ProcessorType processorType, long position);
+}
@@ -1,6 +1,8 @@
 package com.glamaya.sync.core.domain.port.out;
 
+import com.glamaya.sync.core.domain.model.BufferOverflowPolicy;
 import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.PayloadFormat;
 
 /**
  * Strongly-typed configuration contract returned by SyncProcessor implementations.
@@ -24,6 +26,90 @@ public interface ProcessorConfiguration<T> {
 
     Long getFetchActiveDelayMs();
 
+    /**
+     * Maximum time since the last successful run the processor's data may lag behind the platform.
+     * The priority scheduler runs the processors that exceed it most first. Null means the scheduler default.
+     */
+    Long getStalenessSloMs();
+
+    /**
+     * Delay before the next run after a run that fetched new items, used by the cadence scheduler.
+     * Null means the scheduler default.
+     */
+    Long getPollActiveIntervalMs();
+
+    /**
+     * Longest delay between runs while runs keep finding nothing new; the delay doubles from
+     * getPollActiveIntervalMs() up to this value. Null means the scheduler default.
+     */
+    Long getPollPassiveIntervalMs();
+
+    /**
+     * Lower bound of the adaptive page size. The page size adapts to observed latency and payload size only
+     * if both bounds are set and the minimum is below the maximum; otherwise getPageSize() is used as is.
+     */
+    Integer getMinPageSize();
+
+    /**
+     * Upper bound of the adaptive page size, see getMinPageSize().
+     */
+    Integer getMaxPageSize();
+
+    /**
+     * Page fetch latency the adaptive page size aims for: pages taking longer shrink the page size, pages
+     * taking less than half of it grow the page size. Null means latency does not limit growth.
+     */
+    Long getTargetPageLatencyMs();
+
+    /**
+     * Maximum payload size of one page in bytes for the adaptive page size. Null means no limit.
+     */
+    Long getMaxPageBytes();
+
+    /**
+     * Number of pages that may be fetched ahead while the current page is still being mapped and notified.
+     * Null or non-positive disables prefetching and the notify buffer, i.e. the next page is fetched only after
+     * the current one is notified (pages of a known total are still fetched getPageConcurrency() at a time).
+     */
+    Integer getPrefetchPages();
+
+    /**
+     * Maximum number of pages fetched at the same time once the data provider has reported the total page
+     * count in {@link com.glamaya.sync.core.domain.model.ProcessorStatus#getTotalPages()}.
+     * Null or values up to one keep page fetching sequential.
+     */
+    Integer getPageConcurrency();
+
+    /**
+     * Whether items whose canonical content did not change since they were last notified are skipped.
+     */
+    boolean isDedup();
+
+    /**
+     * Number of chunks a page is mapped in at the same time on the dedicated mapping scheduler.
+     * Null or non-positive maps the page on the calling thread.
+     */
+    Integer getMappingParallelism();
+
+    /**
+     * Number of mapped pages buffered ahead of the notification stage. Null or non-positive means one, unless
+     * prefetching is disabled, in which case no page is buffered.
+     * Together with getPrefetchPages() (the buffer between fetching and mapping) it bounds how many pages
+     * are held in memory per processor.
+     */
+    Integer getNotifyBufferPages();
+
+    /**
+     * What to do when the stage buffers are full; null means {@link BufferOverflowPolicy#BLOCK}.
+     */
+    BufferOverflowPolicy getBufferOverflowPolicy();
+
+    /**
+     * How long the notification of a single page may take before the run fails, used with
+     * {@link BufferOverflowPolicy#FAIL}. Null or non-positive disables the timeout.
+     */
+    Long getBufferStallTimeoutMs();
+
     /**
      * Returns the notification configuration for the given notification type for this processor.
      */
@@ -41,6 +127,30 @@ public interface ProcessorConfiguration<T> {
         String getTopic();
 
         String getUrl();
+
+        /**
+         * Maximum number of batches in flight on this channel and target (the Kafka topic or the webhook host),
+         * shared by all processors that use the same target. Null or non-positive means unlimited.
+         */
+        Integer getMaxConcurrency();
+
+        /**
+         * Maximum number of batches waiting for one of the getMaxConcurrency() slots; further batches are rejected
+         * and handed to the failure lane. Null means unbounded.
+         */
+        Integer getMaxQueued();
+
+        /**
+         * How long a batch may take on this channel, including the wait for a slot, before it is given up and
+         * handed to the failure lane. Null or non-positive means no timeout.
+         */
+        Long getTimeoutMs();
+
+        /**
+         * Encoding of the payloads on this channel; null means {@link PayloadFormat#JSON}. Only Kafka supports
+         * other formats, so it is chosen per topic; webhooks always send JSON.
+         */
+        PayloadFormat getPayloadFormat();
         // Add other generic notification fields as needed
     }
 }
@@ -24,4 +24,26 @@ public interface StatusStorePort {
      * @return A Mono<Void> that completes when the save operation is finished.
      */
     Mono<Void> saveStatus(ProcessorStatus status);
+
+    /**
+     * Saves an intermediate checkpoint of a running sync, e.g. after each page.
+     * Unlike saveStatus, implementations may defer and coalesce checkpoints as long as the latest one is
+     * eventually persisted; the default saves it immediately.
+     *
+     * @param status The ProcessorStatus checkpoint to save.
+     * @return A Mono<Void> that completes when the checkpoint is accepted.
+     */
+    default Mono<Void> saveCheckpoint(ProcessorStatus status) {
+        return saveStatus(status);
+    }
+
+    /**
+     * Drops any status held in memory for the processor type, so the next findStatus reads the backing store.
+     * Called when another instance may have written the status, e.g. after taking over its lease; the default
+     * does nothing.
+     *
+     * @param processorType The processor type whose status may have changed elsewhere.
+     */
+    default void invalidate(ProcessorType processorType) {
+    }
 }
@@ -0,0 +1,103 @@
+package com.glamaya.sync.core.domain.port.out;
+
+import com.glamaya.sync.core.domain.model.FailureStage;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+
+import java.time.Duration;
+
+/**
+ * An outbound port for recording metrics of the sync pipeline stages, tagged by processor type.
+ * Implementations forward the measurements to a metrics backend; they must be cheap and must not throw.
+ */
+public interface SyncMetricsPort {
+
+    /**
+     * Records a completed page fetch, including the request, body decoding and status update.
+     *
+     * @param processorType The processor type that fetched the page.
+     * @param latency       The time the fetch took.
+     * @param pageSize      The page size requested.
+     * @param items         The number of items returned.
+     */
+    void recordFetch(ProcessorType processorType, Duration latency, int pageSize, int items);
+
+    /**
+     * Records a failed page fetch.
+     *
+     * @param processorType The processor type that fetched the page.
+     */
+    void recordFetchFailure(ProcessorType processorType);
+
+    /**
+     * Records the time spent reading and decoding a response body of the platform API.
+     *
+     * @param processorType The processor type the response belongs to.
+     * @param latency       The time from the response headers until the body was decoded.
+     */
+    void recordDecode(ProcessorType processorType, Duration latency);
+
+    /**
+     * Records the mapping of one page to canonical models.
+     *
+     * @param processorType The processor (or sink) type that mapped the page.
+     * @param latency       The time mapping took.
+     * @param mapped        The number of items mapped successfully.
+     * @param failed        The number of items whose mapping failed or returned null.
+     */
+    void recordMapping(ProcessorType processorType, Duration latency, int mapped, int failed);
+
+    /**
+     * Records the notification of one batch on one channel.
+     *
+     * @param processorType    The processor (or sink) type the batch belongs to.
+     * @param notificationType The channel.
+     * @param latency          The time the notification took.
+     * @param items            The number of items in the batch.
+     * @param failed           Whether the notification failed.
+     */
+    void recordNotify(ProcessorType processorType, NotificationType notificationType, Duration latency, int items, boolean failed);
+
+    /**
+     * Records the number of pages waiting in a buffer between two pipeline stages.
+     *
+     * @param processorType The processor type the pipeline belongs to.
+     * @param stage         The stage whose output is buffered, e.g. "fetched" or "mapped".
+     * @param depth         The number of buffered pages.
+     */
+    void recordQueueDepth(ProcessorType processorType, String stage, int depth);
+
+    /**
+     * Records saving a page checkpoint.
+     *
+     * @param processorType The processor type the checkpoint belongs to.
+     * @param latency       The time until the store accepted the checkpoint.
+     */
+    void recordCheckpoint(ProcessorType processorType, Duration latency);
+
+    /**
+     * Records items handed to the failure lane.
+     *
+     * @param processorType The processor (or sink) type the items belong to.
+     * @param stage         The stage the items failed in.
+     * @param items         The number of failed items.
+     */
+    void recordFailedItems(ProcessorType processorType, FailureStage stage, int items);
+
+    /**
+     * Records a retry of an item by the failure lane.
+     *
+     * @param processorType The processor (or sink) type the item belongs to.
+     * @param outcome       "recovered", "rescheduled", "dead-lettered" or "gone" (no longer on the platform).
+     */
+    void recordRetry(ProcessorType processorType, String outcome);
+
+    /**
+     * Records a completed sync run.
+     *
+     * @param processorType The processor type that ran.
+     * @param duration      The duration of the run.
+     * @param items         The number of items notified during the run.
+     */
+    void recordRun(ProcessorType processorType, Duration duration, long items);
+}
@@ -1,18 +1,22 @@
 package com.glamaya.sync.core.domain.port.out;
 
 import com.glamaya.sync.core.domain.model.EcomModel;
-import com.glamaya.sync.core.domain.model.ProcessorType;
+
+import java.util.List;
 
 /**
  * A port that represents a self-contained processing unit for a specific data type.
  * It encapsulates the data fetching, mapping, and configuration logic, preserving the
  * generic type link between the platform model and the canonical model.
+ * <p>
+ * A processor is the primary sink of its own data stream. Additional sinks returned by {@link #getSinks()}
+ * are fed from the same fetched pages and share the processor's checkpoint, so the platform is paged once.
  *
  * @param <P> The Platform-specific model type.
  * @param <C> The Canonical core model type, enforced to be an EcomModel.
  * @param <T> The typed configuration object type.
  */
-public interface SyncProcessor<P, C extends EcomModel<?>, T> {
+public interface SyncProcessor<P, C extends EcomModel<?>, T> extends SyncSink<P, C, T> {
 
     /**
      * Returns the data provider for the platform-specific model.
@@ -22,21 +26,11 @@ public interface SyncProcessor<P, C extends EcomModel<?>, T> {
     DataProvider<P> getDataProvider();
 
     /**
-     * Returns the data mapper to convert the platform model to the canonical model.
-     *
-     * @return The DataMapper instance.
-     */
-    DataMapper<P, C> getDataMapper();
-
-    /**
-     * Returns the unique processor type this processor handles.
+     * Returns the additional sinks fed from this processor's data stream.
      *
-     * @return The ProcessorType enum.
-     */
-    ProcessorType getProcessorType();
-
-    /**
-     * Returns typed processor configuration wrapper.
+     * @return The additional sinks; empty if the stream is only mapped by this processor.
      */
-    ProcessorConfiguration<T> getConfiguration();
+    default List<SyncSink<P, ?, ?>> getSinks() {
+        return List.of();
+    }
 }
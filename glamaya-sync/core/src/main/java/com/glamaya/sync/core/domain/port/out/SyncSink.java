@@ -0,0 +1,35 @@
+package com.glamaya.sync.core.domain.port.out;
+
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+
+/**
+ * A port that represents one output of a data stream: a mapper to a canonical model together with the
+ * configuration (including notification targets) used for the mapped items.
+ * Every {@link SyncProcessor} is a sink of its own data stream and may feed additional sinks from the same fetch.
+ *
+ * @param <P> The Platform-specific model type.
+ * @param <C> The Canonical core model type, enforced to be an EcomModel.
+ * @param <T> The typed configuration object type.
+ */
+public interface SyncSink<P, C extends EcomModel<?>, T> {
+
+    /**
+     * Returns the data mapper to convert the platform model to the canonical model.
+     *
+     * @return The DataMapper instance.
+     */
+    DataMapper<P, C> getDataMapper();
+
+    /**
+     * Returns the unique processor type this sink handles.
+     *
+     * @return The ProcessorType enum.
+     */
+    ProcessorType getProcessorType();
+
+    /**
+     * Returns typed sink configuration wrapper.
+     */
+    ProcessorConfiguration<T> getConfiguration();
+}
@@ -0,0 +1,89 @@
+package com.glamaya.sync.core.application.service;
+
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.support.TestProcessorConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptivePageSizeControllerTest {
+
+    private static final Duration FAST = Duration.ofMillis(100);
+    private static final Duration SLOW = Duration.ofMillis(5000);
+
+    private final TestProcessorConfiguration config = TestProcessorConfiguration.builder()
+            .pageSize(100)
+            .minPageSize(25)
+            .maxPageSize(400)
+            .targetPageLatencyMs(1000L)
+            .maxPageBytes(1_000_000L)
+            .build();
+
+    @Test
+    void fastSmallPagesDoubleThePageSizeAndRenumberTheNextPage() {
+        // Pages 1 and 2 of 100 items are done: the next item is the 201st, i.e. page 2 of 200 items
+        ProcessorStatus status = status(3, 100, 10_000L);
+
+        AdaptivePageSizeController.adjust(status, config, FAST);
+
+        assertThat(status.getPageSize()).isEqualTo(200);
+        assertThat(status.getNextPage()).isEqualTo(2);
+        assertThat(status.getTotalPages()).isNull();
+    }
+
+    @Test
+    void growthWaitsUntilTheOffsetFitsTheNewPageSize() {
+        // 100 items are done, which is not a whole number of pages of 200
+        ProcessorStatus status = status(2, 100, 10_000L);
+
+        AdaptivePageSizeController.adjust(status, config, FAST);
+
+        assertThat(status.getPageSize()).isEqualTo(100);
+        assertThat(status.getNextPage()).isEqualTo(2);
+        assertThat(status.getTotalPages()).isEqualTo(10);
+    }
+
+    @Test
+    void slowPagesHalveThePageSize() {
+        ProcessorStatus status = status(3, 100, 10_000L);
+
+        AdaptivePageSizeController.adjust(status, config, SLOW);
+
+        assertThat(status.getPageSize()).isEqualTo(50);
+        assertThat(status.getNextPage()).isEqualTo(5);
+    }
+
+    @Test
+    void oversizedPagesShrinkDownToTheMinimum() {
+        ProcessorStatus status = status(3, 25, 5_000_000L);
+
+        AdaptivePageSizeController.adjust(status, config, FAST);
+
+        assertThat(status.getPageSize()).isEqualTo(25);
+        assertThat(status.getNextPage()).isEqualTo(3);
+    }
+
+    @Test
+    void withoutBoundsTheConfiguredPageSizeIsRestored() {
+        ProcessorStatus status = status(3, 50, 10_000L);
+
+        AdaptivePageSizeController.adjust(status, TestProcessorConfiguration.builder().pageSize(100).build(), FAST);
+
+        assertThat(status.getPageSize()).isEqualTo(100);
+        assertThat(status.getNextPage()).isEqualTo(2);
+    }
+
+    private static ProcessorStatus status(int nextPage, int pageSize, Long lastPageBytes) {
+        return ProcessorStatus.builder()
+                .processorType(ProcessorType.WOOCOMMERCE_ORDER)
+                .nextPage(nextPage)
+                .pageSize(pageSize)
+                .totalPages(10)
+                .lastPageBytes(lastPageBytes)
+                .moreDataAvailable(true)
+                .build();
+    }
+}
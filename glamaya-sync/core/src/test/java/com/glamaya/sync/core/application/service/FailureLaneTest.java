@@ -0,0 +1,280 @@
+package com.glamaya.sync.core.application.service;
+
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.FailedItem;
+import com.glamaya.sync.core.domain.model.FailureStage;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.model.SyncContext;
+import com.glamaya.sync.core.domain.port.out.DataMapper;
+import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.NotificationPort;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.core.domain.port.out.SyncProcessor;
+import com.glamaya.sync.core.support.InMemoryFailedItemStore;
+import com.glamaya.sync.core.support.InMemoryLeasePort;
+import com.glamaya.sync.core.support.NoopSyncPorts;
+import com.glamaya.sync.core.support.TestNotificationConfig;
+import com.glamaya.sync.core.support.TestProcessorConfiguration;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FailureLaneTest {
+
+    private static final ProcessorType TYPE = ProcessorType.WOOCOMMERCE_ORDER;
+    private static final Duration INITIAL_BACKOFF = Duration.ofMinutes(1);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final InMemoryFailedItemStore store = new InMemoryFailedItemStore();
+    private final RecordingNotificationPort notificationPort = new RecordingNotificationPort();
+    private final ItemProvider provider = new ItemProvider(true);
+
+    @Test
+    void notificationFailureIsScheduledForItsFirstRetry() {
+        FailureLane lane = lane(provider, true);
+        Instant before = Instant.now();
+
+        lane.notificationFailed(TYPE, NotificationType.KAFKA, Arrays.asList("1", null, "2"), "broker down");
+
+        assertThat(store.all()).hasSize(2).allSatisfy(item -> {
+            assertThat(item.getStage()).isEqualTo(FailureStage.NOTIFICATION);
+            assertThat(item.getNotificationType()).isEqualTo(NotificationType.KAFKA);
+            assertThat(item.getReason()).isEqualTo("broker down");
+            assertThat(item.getAttempts()).isZero();
+            assertThat(item.isDeadLettered()).isFalse();
+            assertThat(item.getNextAttemptAt())
+                    .isBetween(before.plus(INITIAL_BACKOFF), Instant.now().plus(INITIAL_BACKOFF.multipliedBy(6).dividedBy(5)));
+        });
+    }
+
+    @Test
+    void itemsOfAPlatformThatCannotFetchSingleItemsAreDeadLetteredAtOnce() {
+        FailureLane lane = lane(new ItemProvider(false), true);
+
+        lane.mappingFailed(TYPE, "1", "unparseable");
+
+        assertThat(store.all()).singleElement().satisfies(item -> {
+            assertThat(item.isDeadLettered()).isTrue();
+            assertThat(item.getReason()).startsWith("unparseable");
+        });
+    }
+
+    @Test
+    void disabledLaneOnlyLogs() {
+        FailureLane lane = new FailureLane(store, notificationPort, new NoopSyncPorts(), new NoopSyncPorts(),
+                coordinator(true), List.of(new ItemProcessor(provider)), FailureLane.Settings.disabled());
+
+        lane.mappingFailed(TYPE, "1", "unparseable");
+
+        assertThat(store.all()).isEmpty();
+        assertThat(lane.retryDue().block()).isZero();
+    }
+
+    @Test
+    void recoveredItemIsNotifiedOnTheFailedChannelOnlyAndRemoved() {
+        FailureLane lane = lane(provider, true);
+        store.save(due("1", NotificationType.WEBHOOK, 0)).block();
+
+        assertThat(lane.retryDue().block()).isEqualTo(1);
+
+        assertThat(notificationPort.notified).containsExactly("WEBHOOK:1");
+        assertThat(store.all()).isEmpty();
+    }
+
+    @Test
+    void itemWhoseMappingFailedIsNotifiedOnEveryEnabledChannel() {
+        FailureLane lane = lane(provider, true);
+        store.save(due("1", null, 0)).block();
+
+        assertThat(lane.retryDue().block()).isEqualTo(1);
+
+        assertThat(notificationPort.notified).containsExactlyInAnyOrder("KAFKA:1", "WEBHOOK:1");
+    }
+
+    @Test
+    void failedRetryIsRescheduledWithExponentialBackoff() {
+        FailureLane lane = lane(provider, true);
+        notificationPort.failing = true;
+        FailedItem item = due("1", NotificationType.KAFKA, 1);
+        store.save(item).block();
+        Instant before = Instant.now();
+
+        assertThat(lane.retryDue().block()).isZero();
+
+        FailedItem rescheduled = store.get(item);
+        assertThat(rescheduled.getAttempts()).isEqualTo(2);
+        assertThat(rescheduled.getReason()).isEqualTo("channel down");
+        assertThat(rescheduled.isDeadLettered()).isFalse();
+        // Third attempt: the initial backoff doubled twice, plus up to 20% jitter
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(4);
+        assertThat(rescheduled.getNextAttemptAt())
+                .isBetween(before.plus(backoff), Instant.now().plus(backoff.multipliedBy(6).dividedBy(5)));
+    }
+
+    @Test
+    void itemIsDeadLetteredOnceItsAttemptsAreUsedUp() {
+        FailureLane lane = lane(provider, true);
+        notificationPort.failing = true;
+        FailedItem item = due("1", NotificationType.KAFKA, MAX_ATTEMPTS - 1);
+        store.save(item).block();
+
+        lane.retryDue().block();
+
+        assertThat(store.get(item).isDeadLettered()).isTrue();
+        assertThat(store.get(item).getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        notificationPort.failing = false;
+        assertThat(lane.retryDue().block()).isZero();
+        assertThat(notificationPort.notified).isEmpty();
+    }
+
+    @Test
+    void itemThatNoLongerExistsIsDropped() {
+        FailureLane lane = lane(provider, true);
+        store.save(due("gone", NotificationType.KAFKA, 0)).block();
+
+        assertThat(lane.retryDue().block()).isZero();
+
+        assertThat(store.all()).isEmpty();
+        assertThat(notificationPort.notified).isEmpty();
+    }
+
+    @Test
+    void itemsOfProcessorsOwnedElsewhereAreLeftAlone() {
+        FailureLane lane = lane(provider, false);
+        FailedItem item = due("1", NotificationType.KAFKA, 0);
+        store.save(item).block();
+
+        assertThat(lane.retryDue().block()).isZero();
+
+        assertThat(store.get(item)).isEqualTo(item);
+        assertThat(notificationPort.notified).isEmpty();
+    }
+
+    @Test
+    void itemsThatAreNotDueYetAreLeftAlone() {
+        FailureLane lane = lane(provider, true);
+        store.save(due("1", NotificationType.KAFKA, 0).toBuilder().nextAttemptAt(Instant.now().plusSeconds(60)).build())
+                .block();
+
+        assertThat(lane.retryDue().block()).isZero();
+
+        assertThat(store.all()).hasSize(1);
+    }
+
+    private FailureLane lane(ItemProvider dataProvider, boolean owned) {
+        return new FailureLane(store, notificationPort, new NoopSyncPorts(), new NoopSyncPorts(), coordinator(owned),
+                List.of(new ItemProcessor(dataProvider)),
+                new FailureLane.Settings(true, MAX_ATTEMPTS, INITIAL_BACKOFF, Duration.ofHours(1), 10, 2));
+    }
+
+    /**
+     * Returns a coordinator that owns the processor, or one that has not acquired any lease yet.
+     */
+    private static ProcessorShardCoordinator coordinator(boolean owned) {
+        ProcessorShardCoordinator coordinator = new ProcessorShardCoordinator(
+                new InMemoryLeasePort(Clock.systemUTC()), "test", Duration.ofMinutes(5), List.of(TYPE));
+        if (owned) {
+            coordinator.heartbeat().block();
+        }
+        return coordinator;
+    }
+
+    private static FailedItem due(String itemId, NotificationType notificationType, int attempts) {
+        Instant failedAt = Instant.now().minusSeconds(600);
+        return FailedItem.builder()
+                .processorType(TYPE)
+                .itemId(itemId)
+                .stage(notificationType != null ? FailureStage.NOTIFICATION : FailureStage.MAPPING)
+                .notificationType(notificationType)
+                .reason("failed")
+                .attempts(attempts)
+                .firstFailedAt(failedAt)
+                .lastFailedAt(failedAt)
+                .nextAttemptAt(failedAt.plusSeconds(60))
+                .build();
+    }
+
+    /**
+     * Fetches every item by id except "gone", which no longer exists.
+     */
+    private static final class ItemProvider implements DataProvider<String> {
+
+        private final boolean fetchById;
+
+        private ItemProvider(boolean fetchById) {
+            this.fetchById = fetchById;
+        }
+
+        @Override
+        public Flux<String> fetchData(SyncContext<?> context) {
+            return Flux.empty();
+        }
+
+        @Override
+        public String getItemId(String item) {
+            return item;
+        }
+
+        @Override
+        public boolean supportsFetchById() {
+            return fetchById;
+        }
+
+        @Override
+        public Mono<String> fetchById(String id, ProcessorConfiguration<?> configuration) {
+            return id.equals("gone") ? Mono.empty() : Mono.just(id);
+        }
+    }
+
+    @Getter
+    private static final class ItemProcessor implements SyncProcessor<String, EcomModel<String>, Void> {
+
+        private final ProcessorType processorType = TYPE;
+        private final ProcessorConfiguration<Void> configuration = TestProcessorConfiguration.builder()
+                .notificationConfig(NotificationType.KAFKA, TestNotificationConfig.builder().topic("orders").build())
+                .notificationConfig(NotificationType.WEBHOOK, TestNotificationConfig.builder().url("http://localhost").build())
+                .build();
+        private final DataProvider<String> dataProvider;
+        private final DataMapper<String, EcomModel<String>> dataMapper = item -> new EcomModel<>(item, item);
+
+        private ItemProcessor(DataProvider<String> dataProvider) {
+            this.dataProvider = dataProvider;
+        }
+    }
+
+    /**
+     * Records "CHANNEL:id" for every item notified; fails every batch while failing is set.
+     */
+    private static final class RecordingNotificationPort implements NotificationPort<EcomModel<?>> {
+
+        private final List<String> notified = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public boolean supports(NotificationType type) {
+            return true;
+        }
+
+        @Override
+        public Mono<Void> notify(EcomModel<?> payload, ProcessorConfiguration<?> processorConfiguration, NotificationType type) {
+            return Mono.defer(() -> {
+                if (failing) {
+                    return Mono.error(new IllegalStateException("channel down"));
+                }
+                notified.add(type + ":" + payload.getId());
+                return Mono.empty();
+            });
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.glamaya.sync.core.application.service;
+
+import com.glamaya.sync.core.application.usecase.SyncOrchestrator;
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.model.SyncContext;
+import com.glamaya.sync.core.domain.port.out.DataMapper;
+import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.NotificationPort;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.core.domain.port.out.StatusStorePort;
+import com.glamaya.sync.core.domain.port.out.SyncProcessor;
+import com.glamaya.sync.core.support.InMemoryLeasePort;
+import com.glamaya.sync.core.support.NoopSyncPorts;
+import com.glamaya.sync.core.support.TestProcessorConfiguration;
+import lombok.Getter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks how many pages each engine fetches while the notification stage is stalled: the checkpoint of the
+ * first page is held back until the test releases it.
+ */
+class PagePipelineBoundsTest {
+
+    private static final ProcessorType TYPE = ProcessorType.WOOCOMMERCE_ORDER;
+    private static final int PAGES = 20;
+
+    private final GatedStatusStore statusStore = new GatedStatusStore();
+    private SyncOrchestrator orchestrator;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        statusStore.release();
+        if (orchestrator instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"reactor", "virtual-threads"})
+    void withoutPrefetchingOnlyTheStalledPageIsFetched(String engine) throws Exception {
+        PagedProvider provider = new PagedProvider();
+        orchestrator = orchestrator(engine, TestProcessorConfiguration.builder()
+                .pageSize(1)
+                .prefetchPages(0)
+                .notifyBufferPages(2)
+                .build(), provider);
+
+        CompletableFuture<Long> run = orchestrator.syncOnce(TYPE).toFuture();
+        statusStore.awaitStall();
+
+        assertThat(provider.fetches).hasValue(1);
+
+        statusStore.release();
+        assertThat(run.get(10, TimeUnit.SECONDS)).isEqualTo(PAGES);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"reactor", "virtual-threads"})
+    void concurrentPagesWaitForFetchPermits(String engine) throws Exception {
+        PagedProvider provider = new PagedProvider();
+        orchestrator = orchestrator(engine, TestProcessorConfiguration.builder()
+                .pageSize(1)
+                .prefetchPages(1)
+                .notifyBufferPages(1)
+                .pageConcurrency(4)
+                .build(), provider);
+
+        CompletableFuture<Long> run = orchestrator.syncOnce(TYPE).toFuture();
+        statusStore.awaitStall();
+
+        // Three permits (the page in each stage plus both buffers), four pages in flight and one waiting for a permit
+        assertThat(provider.fetches.get()).isLessThanOrEqualTo(8);
+
+        statusStore.release();
+        assertThat(run.get(10, TimeUnit.SECONDS)).isEqualTo(PAGES);
+        assertThat(provider.fetches).hasValue(PAGES);
+    }
+
+    private SyncOrchestrator orchestrator(String engine, ProcessorConfiguration<Void> configuration, PagedProvider provider) {
+        List<SyncProcessor<?, ?, ?>> syncProcessors = List.of(new PagedProcessor(configuration, provider));
+        NotificationPort<EcomModel<?>> notificationPort = new NotificationPort<>() {
+            @Override
+            public boolean supports(NotificationType type) {
+                return false;
+            }
+
+            @Override
+            public Mono<Void> notify(EcomModel<?> payload, ProcessorConfiguration<?> processorConfiguration, NotificationType type) {
+                return Mono.empty();
+            }
+        };
+        NoopSyncPorts noop = new NoopSyncPorts();
+        ProcessorShardCoordinator shardCoordinator = new ProcessorShardCoordinator(
+                new InMemoryLeasePort(Clock.systemUTC()), "test", Duration.ofMinutes(5), List.of(TYPE));
+        shardCoordinator.heartbeat().block();
+        FailureLane failureLane = new FailureLane(noop, notificationPort, noop, noop, shardCoordinator, syncProcessors,
+                FailureLane.Settings.disabled());
+        return switch (engine) {
+            case "reactor" -> new SyncOrchestrationService(statusStore, notificationPort, noop, noop, shardCoordinator,
+                    failureLane, syncProcessors);
+            case "virtual-threads" -> new VirtualThreadSyncOrchestrator(statusStore, notificationPort, noop, noop,
+                    shardCoordinator, failureLane, syncProcessors, 16);
+            default -> throw new IllegalArgumentException("Invalid engine: " + engine);
+        };
+    }
+
+    /**
+     * Serves PAGES pages of one item each and reports the total page count after the first one.
+     */
+    private static final class PagedProvider implements DataProvider<String> {
+
+        private final AtomicInteger fetches = new AtomicInteger();
+
+        @Override
+        public Flux<String> fetchData(SyncContext<?> context) {
+            return Flux.defer(() -> {
+                fetches.incrementAndGet();
+                ProcessorStatus status = context.status();
+                int page = status.getNextPage();
+                status.setNextPage(page + 1);
+                status.setTotalPages(PAGES);
+                status.setMoreDataAvailable(page < PAGES);
+                status.setTotalItemsSynced((status.getTotalItemsSynced() != null ? status.getTotalItemsSynced() : 0) + 1);
+                return Flux.just("item-" + page);
+            });
+        }
+    }
+
+    @Getter
+    private static final class PagedProcessor implements SyncProcessor<String, EcomModel<String>, Void> {
+
+        private final ProcessorType processorType = TYPE;
+        private final ProcessorConfiguration<Void> configuration;
+        private final DataProvider<String> dataProvider;
+        private final DataMapper<String, EcomModel<String>> dataMapper = item -> new EcomModel<>(item, item);
+
+        private PagedProcessor(ProcessorConfiguration<Void> configuration, DataProvider<String> dataProvider) {
+            this.configuration = configuration;
+            this.dataProvider = dataProvider;
+        }
+    }
+
+    /**
+     * Holds back every checkpoint until released, so no page is ever fully notified.
+     */
+    private static final class GatedStatusStore implements StatusStorePort {
+
+        private final Sinks.Empty<Void> gate = Sinks.empty();
+        private final CompletableFuture<Void> stalled = new CompletableFuture<>();
+
+        @Override
+        public Mono<ProcessorStatus> findStatus(ProcessorType processorType) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> saveStatus(ProcessorStatus status) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> saveCheckpoint(ProcessorStatus status) {
+            stalled.complete(null);
+            return gate.asMono();
+        }
+
+        void awaitStall() throws Exception {
+            stalled.get(10, TimeUnit.SECONDS);
+            // Leave the fetch stage time to run ahead as far as it may
+            Thread.sleep(300);
+        }
+
+        void release() {
+            gate.tryEmitEmpty();
+        }
+    }
+}
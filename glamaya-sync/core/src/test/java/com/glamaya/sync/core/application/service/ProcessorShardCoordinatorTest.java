@@ -0,0 +1,143 @@
+package com.glamaya.sync.core.application.service;
+
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.support.InMemoryLeasePort;
+import com.glamaya.sync.core.support.MutableClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProcessorShardCoordinatorTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final List<ProcessorType> TYPES = List.of(ProcessorType.WOOCOMMERCE_ORDER,
+            ProcessorType.WOOCOMMERCE_ORDER_TO_CONTACT, ProcessorType.WOOCOMMERCE_PRODUCT, ProcessorType.WOOCOMMERCE_USER);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final InMemoryLeasePort leasePort = new InMemoryLeasePort(clock);
+    private final List<ProcessorType> acquired = new ArrayList<>();
+
+    private ProcessorShardCoordinator coordinator(String instanceId) {
+        return new ProcessorShardCoordinator(leasePort, instanceId, TTL, TYPES, acquired::add, clock);
+    }
+
+    @Test
+    void singleInstanceOwnsEveryProcessor() {
+        ProcessorShardCoordinator a = coordinator("a");
+
+        a.heartbeat().block();
+
+        assertThat(TYPES).allMatch(a::owns);
+        assertThat(acquired).containsExactlyInAnyOrderElementsOf(TYPES);
+    }
+
+    @Test
+    void secondInstanceGetsItsFairShareAfterRebalancing() {
+        ProcessorShardCoordinator a = coordinator("a");
+        ProcessorShardCoordinator b = coordinator("b");
+        a.heartbeat().block();
+
+        // b registers but finds every lease taken; a then gives up the processors above its share
+        b.heartbeat().block();
+        a.heartbeat().block();
+        b.heartbeat().block();
+
+        List<ProcessorType> ownedByA = TYPES.stream().filter(a::owns).toList();
+        List<ProcessorType> ownedByB = TYPES.stream().filter(b::owns).toList();
+        assertThat(ownedByA).containsExactly(ProcessorType.WOOCOMMERCE_ORDER, ProcessorType.WOOCOMMERCE_ORDER_TO_CONTACT);
+        assertThat(ownedByB).containsExactly(ProcessorType.WOOCOMMERCE_PRODUCT, ProcessorType.WOOCOMMERCE_USER);
+    }
+
+    @Test
+    void runningProcessorIsKeptDuringRebalancing() {
+        ProcessorShardCoordinator a = coordinator("a");
+        ProcessorShardCoordinator b = coordinator("b");
+        a.heartbeat().block();
+        assertThat(a.tryBeginRun(ProcessorType.WOOCOMMERCE_USER)).isTrue();
+
+        b.heartbeat().block();
+        a.heartbeat().block();
+
+        assertThat(a.owns(ProcessorType.WOOCOMMERCE_USER)).isTrue();
+        assertThat(a.owns(ProcessorType.WOOCOMMERCE_PRODUCT)).isFalse();
+        assertThat(a.owns(ProcessorType.WOOCOMMERCE_ORDER_TO_CONTACT)).isFalse();
+
+        // The running processor took the place of another one in the fair share
+        b.heartbeat().block();
+        assertThat(TYPES.stream().filter(a::owns).toList())
+                .containsExactly(ProcessorType.WOOCOMMERCE_ORDER, ProcessorType.WOOCOMMERCE_USER);
+        assertThat(TYPES.stream().filter(b::owns).toList())
+                .containsExactly(ProcessorType.WOOCOMMERCE_ORDER_TO_CONTACT, ProcessorType.WOOCOMMERCE_PRODUCT);
+    }
+
+    @Test
+    void processorsOfADeadInstanceAreTakenOver() {
+        ProcessorShardCoordinator a = coordinator("a");
+        ProcessorShardCoordinator b = coordinator("b");
+        a.heartbeat().block();
+
+        clock.advance(TTL.plusSeconds(1));
+        b.heartbeat().block();
+
+        assertThat(TYPES).allMatch(b::owns);
+        assertThat(TYPES).noneMatch(a::owns);
+    }
+
+    @Test
+    void leaseRenewedOnlyAfterItLapsedCountsAsAcquiredAgain() {
+        ProcessorShardCoordinator a = coordinator("a");
+        a.heartbeat().block();
+        a.heartbeat().block();
+        assertThat(acquired).containsExactlyInAnyOrderElementsOf(TYPES);
+
+        // Another instance may have held the leases in between
+        clock.advance(TTL.plusSeconds(1));
+        a.heartbeat().block();
+
+        assertThat(acquired).hasSize(2 * TYPES.size());
+    }
+
+    @Test
+    void noRunStartsOnceTheLeaseIsNoLongerSafelyRenewed() {
+        ProcessorShardCoordinator a = coordinator("a");
+        a.heartbeat().block();
+
+        clock.advance(TTL.minus(TTL.dividedBy(5)).minusMillis(1));
+        assertThat(a.tryBeginRun(ProcessorType.WOOCOMMERCE_ORDER)).isTrue();
+        a.endRun(ProcessorType.WOOCOMMERCE_ORDER);
+
+        // Still before the TTL, but within the safety margin
+        clock.advance(Duration.ofMillis(1));
+        assertThat(a.owns(ProcessorType.WOOCOMMERCE_ORDER)).isFalse();
+        assertThat(a.tryBeginRun(ProcessorType.WOOCOMMERCE_ORDER)).isFalse();
+    }
+
+    @Test
+    void failedHeartbeatDropsExpiredLeasesAndReacquiringNotifiesAgain() {
+        ProcessorShardCoordinator a = coordinator("a");
+        a.heartbeat().block();
+        acquired.clear();
+
+        leasePort.setAvailable(false);
+        clock.advance(Duration.ofSeconds(10));
+        assertThatThrownBy(() -> a.heartbeat().block()).isInstanceOf(IllegalStateException.class);
+        // Renewed recently enough, the leases are still relied on
+        assertThat(TYPES).allMatch(a::owns);
+
+        clock.advance(TTL);
+        assertThatThrownBy(() -> a.heartbeat().block()).isInstanceOf(IllegalStateException.class);
+        assertThat(TYPES).noneMatch(a::owns);
+
+        leasePort.setAvailable(true);
+        a.heartbeat().block();
+        assertThat(TYPES).allMatch(a::owns);
+        // Another instance may have run the processors in between
+        assertThat(acquired).containsExactlyInAnyOrderElementsOf(TYPES);
+    }
+}
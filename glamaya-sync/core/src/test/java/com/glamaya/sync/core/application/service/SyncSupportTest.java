@@ -0,0 +1,429 @@
+package com.glamaya.sync.core.application.service;
+
+import com.glamaya.sync.core.domain.model.BackfillSlice;
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.model.SyncContext;
+import com.glamaya.sync.core.domain.port.out.DataMapper;
+import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.DedupPort;
+import com.glamaya.sync.core.domain.port.out.NotificationPort;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.core.domain.port.out.SyncSink;
+import com.glamaya.sync.core.support.NoopSyncPorts;
+import com.glamaya.sync.core.support.RecordingFailureLane;
+import com.glamaya.sync.core.support.TestNotificationConfig;
+import com.glamaya.sync.core.support.TestProcessorConfiguration;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyncSupportTest {
+
+    private static final ProcessorType TYPE = ProcessorType.WOOCOMMERCE_ORDER;
+    private static final Instant FROM = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2024-01-04T00:00:00Z");
+
+    private final TestProcessorConfiguration config = TestProcessorConfiguration.builder().build();
+
+    @Test
+    void slicesCoverTheWholeHistoryContiguously() {
+        List<BackfillSlice> slices = SyncSupport.slices(FROM, TO, Duration.ofDays(1));
+
+        assertThat(slices).extracting(BackfillSlice::getFrom)
+                .containsExactly(null, FROM, FROM.plus(Duration.ofDays(1)), FROM.plus(Duration.ofDays(2)));
+        assertThat(slices).extracting(BackfillSlice::getTo)
+                .containsExactly(FROM, FROM.plus(Duration.ofDays(1)), FROM.plus(Duration.ofDays(2)), TO);
+    }
+
+    @Test
+    void lastSliceIsCutAtTheEndOfTheRange() {
+        List<BackfillSlice> slices = SyncSupport.slices(FROM, TO, Duration.ofDays(2));
+
+        assertThat(slices).hasSize(3);
+        assertThat(slices.getLast().getFrom()).isEqualTo(FROM.plus(Duration.ofDays(2)));
+        assertThat(slices.getLast().getTo()).isEqualTo(TO);
+    }
+
+    @Test
+    void nonPositiveSliceSizeMeansOneSliceAfterTheOlderHistory() {
+        assertThat(SyncSupport.slices(FROM, TO, Duration.ZERO))
+                .last()
+                .satisfies(slice -> {
+                    assertThat(slice.getFrom()).isEqualTo(FROM);
+                    assertThat(slice.getTo()).isEqualTo(TO);
+                });
+        assertThat(SyncSupport.slices(FROM, TO, Duration.ZERO)).hasSize(2);
+    }
+
+    @Test
+    void emptyRangeStillLoadsTheOlderHistory() {
+        assertThat(SyncSupport.slices(TO, TO, Duration.ofDays(1)))
+                .singleElement()
+                .satisfies(slice -> {
+                    assertThat(slice.getFrom()).isNull();
+                    assertThat(slice.getTo()).isEqualTo(TO);
+                });
+    }
+
+    @Test
+    void firstSliceHasNoLowerBound() {
+        BackfillSlice first = SyncSupport.slices(FROM, TO, Duration.ofDays(1)).getFirst();
+
+        ProcessorStatus status = SyncSupport.sliceStatus(TYPE, first, config);
+
+        assertThat(status.getLastDateModified()).isNull();
+        assertThat(status.isUseLastDateModifiedInQuery()).isFalse();
+        assertThat(status.getModifiedBefore()).isEqualTo(FROM);
+    }
+
+    @Test
+    void sliceStatusOverlapsThePreviousSliceByASecond() {
+        BackfillSlice slice = SyncSupport.slices(FROM, TO, Duration.ofDays(1)).get(2);
+
+        ProcessorStatus status = SyncSupport.sliceStatus(TYPE, slice, config);
+
+        assertThat(status.getLastDateModified()).isEqualTo(slice.getFrom().minusSeconds(1));
+        assertThat(status.getModifiedBefore()).isEqualTo(slice.getTo());
+        assertThat(status.isUseLastDateModifiedInQuery()).isTrue();
+        assertThat(status.getNextPage()).isEqualTo(config.getInitPage());
+        assertThat(status.getPageSize()).isEqualTo(config.getPageSize());
+    }
+
+    @Test
+    void sliceStatusResumesFromTheSubCheckpoint() {
+        BackfillSlice slice = BackfillSlice.builder().from(FROM).to(TO).nextPage(7).pageSize(40).build();
+
+        ProcessorStatus status = SyncSupport.sliceStatus(TYPE, slice, config);
+
+        assertThat(status.getNextPage()).isEqualTo(7);
+        assertThat(status.getPageSize()).isEqualTo(40);
+    }
+
+    @Test
+    void sliceCheckpointMarksTheSliceDoneOnItsLastPage() {
+        ProcessorStatus status = ProcessorStatus.builder().processorType(TYPE)
+                .backfillSlices(SyncSupport.slices(FROM, TO, Duration.ofDays(1))).build();
+        BackfillSlice slice = status.getBackfillSlices().getFirst();
+        ProcessorStatus checkpoint = ProcessorStatus.builder().nextPage(4).pageSize(50).moreDataAvailable(false).build();
+
+        ProcessorStatus saved = SyncSupport.sliceCheckpoint(status, slice, checkpoint);
+
+        assertThat(saved.getBackfillSlices().getFirst().isDone()).isTrue();
+        assertThat(saved.getBackfillSlices().getFirst().getNextPage()).isEqualTo(4);
+        assertThat(saved.getBackfillSlices().get(1).isDone()).isFalse();
+        // The saved status is a snapshot, later checkpoints do not change it
+        slice.setNextPage(5);
+        assertThat(saved.getBackfillSlices().getFirst().getNextPage()).isEqualTo(4);
+    }
+
+    @Test
+    void completedBackfillKeepsItemsModifiedAtTheEndOfTheRange() {
+        List<BackfillSlice> slices = SyncSupport.slices(FROM, TO, Duration.ofDays(1));
+        ProcessorStatus lastSlice = SyncSupport.sliceStatus(TYPE, slices.getLast(), config);
+        ProcessorStatus status = ProcessorStatus.builder().processorType(TYPE).backfillSlices(slices).totalItemsSynced(3).build();
+
+        ProcessorStatus done = SyncSupport.completeBackfill(status, TO, config, 10);
+
+        // The last slice fetched modified < TO; the next run fetches modified > watermark, so TO itself must be in it
+        Instant itemModifiedAtEnd = TO;
+        assertThat(itemModifiedAtEnd).isAfterOrEqualTo(lastSlice.getModifiedBefore());
+        assertThat(itemModifiedAtEnd).isAfter(done.getLastDateModified());
+        assertThat(done.getLastDateModified()).isEqualTo(TO.minusSeconds(1));
+        assertThat(done.isUseLastDateModifiedInQuery()).isTrue();
+        assertThat(done.getBackfillSlices()).isNull();
+        assertThat(done.getNextPage()).isEqualTo(config.getInitPage());
+        assertThat(done.getTotalItemsSynced()).isEqualTo(13);
+    }
+
+    @Test
+    void processorContinuesFromAnOlderSinkCheckpointOnce() {
+        ProcessorStatus status = ProcessorStatus.builder().processorType(TYPE).lastDateModified(TO).nextPage(3).totalPages(9).build();
+        ProcessorStatus sinkStatus = ProcessorStatus.builder().processorType(ProcessorType.WOOCOMMERCE_ORDER_TO_CONTACT)
+                .lastDateModified(FROM).useLastDateModifiedInQuery(true).build();
+
+        assertThat(SyncSupport.adoptSinkStatuses(status, List.of(sinkStatus), config)).isTrue();
+
+        assertThat(status.getLastDateModified()).isEqualTo(FROM);
+        assertThat(status.isUseLastDateModifiedInQuery()).isTrue();
+        assertThat(status.getNextPage()).isEqualTo(config.getInitPage());
+        assertThat(status.getTotalPages()).isNull();
+        // Once retired, the sink status is not adopted again
+        ProcessorStatus retired = SyncSupport.retiredSinkStatus(sinkStatus);
+        assertThat(retired.getLastDateModified()).isNull();
+        assertThat(SyncSupport.adoptSinkStatuses(status, List.of(retired), config)).isFalse();
+    }
+
+    @Test
+    void newerSinkCheckpointLeavesTheProcessorAlone() {
+        ProcessorStatus status = ProcessorStatus.builder().processorType(TYPE).lastDateModified(FROM).nextPage(3).build();
+        ProcessorStatus sinkStatus = ProcessorStatus.builder().processorType(ProcessorType.WOOCOMMERCE_ORDER_TO_CONTACT)
+                .lastDateModified(TO).build();
+
+        assertThat(SyncSupport.adoptSinkStatuses(status, List.of(sinkStatus), config)).isFalse();
+
+        assertThat(status.getLastDateModified()).isEqualTo(FROM);
+        assertThat(status.getNextPage()).isEqualTo(3);
+    }
+
+    @Test
+    void backfillResumesOnlyTheUnfinishedSlices() {
+        ProcessorStatus status = ProcessorStatus.builder().processorType(TYPE).build();
+        SyncSupport.BackfillPlan first = SyncSupport.planBackfill(status, FROM, TO, Duration.ofDays(1), 2);
+        first.pending().getFirst().setDone(true);
+
+        SyncSupport.BackfillPlan resumed = SyncSupport.planBackfill(status, FROM, TO.plus(Duration.ofDays(5)), Duration.ofDays(1), 2);
+
+        assertThat(first.pending()).hasSize(4);
+        assertThat(resumed.pending()).hasSize(3);
+        assertThat(resumed.end()).isEqualTo(TO);
+    }
+
+    @Test
+    void processorWithAWatermarkIsNotBackfilled() {
+        ProcessorStatus status = ProcessorStatus.builder().processorType(TYPE).lastDateModified(FROM).build();
+
+        assertThat(SyncSupport.planBackfill(status, FROM, TO, Duration.ofDays(1), 2)).isNull();
+        assertThat(status.getBackfillSlices()).isNull();
+    }
+
+    @Test
+    void concurrentPagesFoldTheRunningTotalInPageOrder() {
+        ProcessorStatus base = ProcessorStatus.builder().processorType(TYPE).nextPage(3).totalPages(5)
+                .totalItemsSynced(200).moreDataAvailable(true).build();
+        AtomicReference<ProcessorStatus> cursor = new AtomicReference<>(base);
+        SyncSupport.ConcurrentPages pages = new SyncSupport.ConcurrentPages(TYPE, cursor, 4);
+
+        ProcessorStatus page4 = pages.statusFor(4);
+        assertThat(page4.getNextPage()).isEqualTo(4);
+        assertThat(page4.getTotalItemsSynced()).isZero();
+
+        ProcessorStatus checkpoint3 = pages.statusFor(3);
+        checkpoint3.setNextPage(4);
+        checkpoint3.setTotalItemsSynced(100);
+        pages.completed(checkpoint3);
+        page4.setNextPage(5);
+        page4.setTotalItemsSynced(100);
+        pages.completed(page4);
+
+        assertThat(pages.firstPage()).isEqualTo(3);
+        assertThat(pages.lastPage()).isEqualTo(5);
+        assertThat(checkpoint3.getTotalItemsSynced()).isEqualTo(300);
+        assertThat(cursor.get().getNextPage()).isEqualTo(5);
+        assertThat(cursor.get().getTotalItemsSynced()).isEqualTo(400);
+    }
+
+    @Test
+    void conversionsFallBackToTheirDefaults() {
+        assertThat(SyncSupport.toDuration(null)).isZero();
+        assertThat(SyncSupport.toDuration(-5L)).isZero();
+        assertThat(SyncSupport.toDuration(250L)).isEqualTo(Duration.ofMillis(250));
+        assertThat(SyncSupport.toPrefetch(null)).isZero();
+        assertThat(SyncSupport.toPrefetch(3)).isEqualTo(3);
+        assertThat(SyncSupport.toConcurrency(0)).isEqualTo(1);
+        assertThat(SyncSupport.toConcurrency(4)).isEqualTo(4);
+    }
+
+    @Test
+    void notifyBufferIsDroppedWithoutPrefetching() {
+        assertThat(SyncSupport.toNotifyBuffer(2, 0)).isZero();
+        assertThat(SyncSupport.toNotifyBuffer(null, 1)).isEqualTo(1);
+        assertThat(SyncSupport.toNotifyBuffer(0, 1)).isEqualTo(1);
+        assertThat(SyncSupport.toNotifyBuffer(3, 1)).isEqualTo(3);
+    }
+
+    @Test
+    void chunksKeepPageOrder() {
+        assertThat(SyncSupport.chunks(List.of(1, 2, 3, 4, 5), 2))
+                .containsExactly(List.of(1, 2, 3), List.of(4, 5));
+        assertThat(SyncSupport.chunks(List.of(1, 2), 4))
+                .containsExactly(List.of(1), List.of(2));
+    }
+
+    @Test
+    void mapChunkKeepsOrderAndHandsFailedItemsToTheFailureLane() {
+        RecordingFailureLane failureLane = new RecordingFailureLane();
+        SyncSink<String, EcomModel<String>, Void> sink = sink(item -> switch (item) {
+            case "bad" -> throw new IllegalStateException("unparseable");
+            case "empty" -> null;
+            default -> new EcomModel<>(item, item);
+        });
+
+        MappedItems mapped = SyncSupport.mapChunk(List.of("a", "bad", "b", "empty", "c"), sink, ITEM_IDS, failureLane);
+
+        assertThat(mapped.models()).extracting(EcomModel::getId).containsExactly("a", "b", "c");
+        assertThat(mapped.models()).extracting(mapped.itemIds()::get).containsExactly("id-a", "id-b", "id-c");
+        assertThat(failureLane.getMappingFailures()).containsExactly("id-bad", "id-empty");
+    }
+
+    @Test
+    void dedupStageNotifiesAndRecordsOnlyChangedModels() {
+        RecordingDedupPort dedupPort = new RecordingDedupPort(Set.of("b"));
+        RecordingNotificationPort notificationPort = new RecordingNotificationPort();
+
+        Long notified = SyncSupport.notifyChanged(mapped("a", "b", "c"), sink(IDENTITY, dedupConfig(true)),
+                notificationPort, dedupPort, new NoopSyncPorts(), new RecordingFailureLane()).block();
+
+        assertThat(notified).isEqualTo(2);
+        assertThat(notificationPort.notified).containsExactly("a", "c");
+        assertThat(dedupPort.marked).containsExactly("a", "c");
+    }
+
+    @Test
+    void dedupStageRecordsNothingWhenAChannelFails() {
+        RecordingDedupPort dedupPort = new RecordingDedupPort(Set.of());
+        RecordingNotificationPort notificationPort = new RecordingNotificationPort();
+        notificationPort.failing = true;
+        RecordingFailureLane failureLane = new RecordingFailureLane();
+
+        SyncSupport.notifyChanged(mapped("a"), sink(IDENTITY, dedupConfig(true)), notificationPort, dedupPort,
+                new NoopSyncPorts(), failureLane).block();
+
+        assertThat(failureLane.getNotificationFailures()).containsExactly("id-a");
+        assertThat(dedupPort.marked).isEmpty();
+    }
+
+    @Test
+    void sinkWithoutDedupNotifiesEverythingAndLeavesTheDedupPortAlone() {
+        RecordingDedupPort dedupPort = new RecordingDedupPort(Set.of("b"));
+        RecordingNotificationPort notificationPort = new RecordingNotificationPort();
+
+        Long notified = SyncSupport.notifyChanged(mapped("a", "b"), sink(IDENTITY, dedupConfig(false)),
+                notificationPort, dedupPort, new NoopSyncPorts(), new RecordingFailureLane()).block();
+
+        assertThat(notified).isEqualTo(2);
+        assertThat(notificationPort.notified).containsExactly("a", "b");
+        assertThat(dedupPort.filtered).isFalse();
+        assertThat(dedupPort.marked).isEmpty();
+    }
+
+    private static final DataProvider<String> ITEM_IDS = new DataProvider<>() {
+        @Override
+        public Flux<String> fetchData(SyncContext<?> context) {
+            return Flux.empty();
+        }
+
+        @Override
+        public String getItemId(String item) {
+            return "id-" + item;
+        }
+    };
+
+    private static final DataMapper<String, EcomModel<String>> IDENTITY = item -> new EcomModel<>(item, item);
+
+    private SyncSink<String, EcomModel<String>, Void> sink(DataMapper<String, EcomModel<String>> mapper) {
+        return sink(mapper, config);
+    }
+
+    private static SyncSink<String, EcomModel<String>, Void> sink(DataMapper<String, EcomModel<String>> mapper,
+                                                                  ProcessorConfiguration<Void> config) {
+        return new SyncSink<>() {
+            @Override
+            public DataMapper<String, EcomModel<String>> getDataMapper() {
+                return mapper;
+            }
+
+            @Override
+            public ProcessorType getProcessorType() {
+                return TYPE;
+            }
+
+            @Override
+            public ProcessorConfiguration<Void> getConfiguration() {
+                return config;
+            }
+        };
+    }
+
+    private static TestProcessorConfiguration dedupConfig(boolean dedup) {
+        return TestProcessorConfiguration.builder()
+                .dedup(dedup)
+                .notificationConfig(NotificationType.KAFKA, TestNotificationConfig.builder().topic("orders").build())
+                .build();
+    }
+
+    /**
+     * Maps the given items the way mapChunk does, each model keyed to the platform id "id-" + item.
+     */
+    private static MappedItems mapped(String... items) {
+        List<EcomModel<?>> models = new ArrayList<>();
+        Map<EcomModel<?>, String> itemIds = new IdentityHashMap<>();
+        for (String item : items) {
+            EcomModel<String> model = new EcomModel<>(item, item);
+            models.add(model);
+            itemIds.put(model, ITEM_IDS.getItemId(item));
+        }
+        return new MappedItems(models, itemIds);
+    }
+
+    /**
+     * Treats the models with the given ids as unchanged and records the ids of the models marked as notified.
+     */
+    private static final class RecordingDedupPort implements DedupPort {
+
+        private final Set<String> unchanged;
+        private final List<String> marked = new CopyOnWriteArrayList<>();
+        private volatile boolean filtered;
+
+        private RecordingDedupPort(Set<String> unchanged) {
+            this.unchanged = unchanged;
+        }
+
+        @Override
+        public Mono<List<EcomModel<?>>> filterChanged(ProcessorType processorType, List<EcomModel<?>> models) {
+            filtered = true;
+            return Mono.just(models.stream().filter(model -> !unchanged.contains(model.getId())).toList());
+        }
+
+        @Override
+        public Mono<Void> markNotified(ProcessorType processorType, List<EcomModel<?>> models) {
+            models.forEach(model -> marked.add(model.getId()));
+            return Mono.empty();
+        }
+    }
+
+    /**
+     * Records the ids of every model notified; fails every batch while failing is set.
+     */
+    private static final class RecordingNotificationPort implements NotificationPort<EcomModel<?>> {
+
+        private final List<String> notified = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public boolean supports(NotificationType type) {
+            return true;
+        }
+
+        @Override
+        public Mono<Void> notify(EcomModel<?> payload, ProcessorConfiguration<?> processorConfiguration, NotificationType type) {
+            return notifyBatch(List.of(payload), processorConfiguration, type);
+        }
+
+        @Override
+        public Mono<Void> notifyBatch(List<EcomModel<?>> payloads, ProcessorConfiguration<?> processorConfiguration,
+                                      NotificationType type) {
+            return Mono.defer(() -> {
+                if (failing) {
+                    return Mono.error(new IllegalStateException("channel down"));
+                }
+                payloads.forEach(payload -> notified.add(payload.getId()));
+                return Mono.empty();
+            });
+        }
+    }
+}
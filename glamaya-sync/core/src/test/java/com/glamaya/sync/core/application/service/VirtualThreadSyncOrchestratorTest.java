@@ -0,0 +1,268 @@
+package com.glamaya.sync.core.application.service;
+
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.model.SyncContext;
+import com.glamaya.sync.core.domain.port.out.DataMapper;
+import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.NotificationPort;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.core.domain.port.out.StatusStorePort;
+import com.glamaya.sync.core.domain.port.out.SyncProcessor;
+import com.glamaya.sync.core.support.InMemoryLeasePort;
+import com.glamaya.sync.core.support.NoopSyncPorts;
+import com.glamaya.sync.core.support.RecordingFailureLane;
+import com.glamaya.sync.core.support.TestNotificationConfig;
+import com.glamaya.sync.core.support.TestProcessorConfiguration;
+import lombok.Getter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs complete syncs through the virtual-thread engine with every port in memory; notifications and
+ * checkpoints are recorded in the order they happen.
+ */
+class VirtualThreadSyncOrchestratorTest {
+
+    private static final ProcessorType TYPE = ProcessorType.WOOCOMMERCE_ORDER;
+    private static final int PAGES = 20;
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final RecordingFailureLane failureLane = new RecordingFailureLane();
+    private final RecordingNotificationPort notificationPort = new RecordingNotificationPort();
+    private VirtualThreadSyncOrchestrator orchestrator;
+
+    @AfterEach
+    void tearDown() {
+        notificationPort.release();
+        if (orchestrator != null) {
+            orchestrator.close();
+        }
+    }
+
+    @Test
+    void concurrentPagesAreNotifiedAndCheckpointedInPageOrder() {
+        PagedProvider provider = new PagedProvider();
+        orchestrator = orchestrator(configuration().prefetchPages(2).notifyBufferPages(2).pageConcurrency(4), provider,
+                item -> new EcomModel<>(item, item));
+
+        assertThat(orchestrator.syncOnce(TYPE).block()).isEqualTo(PAGES);
+
+        // Every page is notified before its checkpoint, and no page overtakes an earlier one
+        assertThat(events).containsExactlyElementsOf(IntStream.rangeClosed(1, PAGES)
+                .boxed()
+                .flatMap(page -> List.of("notify:item-" + page, "checkpoint:" + page).stream())
+                .toList());
+    }
+
+    @Test
+    void slowChannelStopsFetchingOnceTheBuffersAreFull() throws Exception {
+        PagedProvider provider = new PagedProvider();
+        notificationPort.hold();
+        orchestrator = orchestrator(configuration().prefetchPages(2).notifyBufferPages(1), provider,
+                item -> new EcomModel<>(item, item));
+
+        CompletableFuture<Long> run = orchestrator.syncOnce(TYPE).toFuture();
+        notificationPort.awaitHeld();
+        // Leave the fetcher time to run ahead as far as it may
+        Thread.sleep(300);
+
+        // The page being notified, one mapped page queued and one waiting to be, two fetched pages queued and one
+        // waiting to be
+        assertThat(provider.fetches.get()).isLessThanOrEqualTo(6);
+        assertThat(events).isEmpty();
+
+        notificationPort.release();
+        assertThat(run.get(10, TimeUnit.SECONDS)).isEqualTo(PAGES);
+        assertThat(provider.fetches).hasValue(PAGES);
+    }
+
+    @Test
+    void failedItemsGoToTheFailureLaneAndTheirPagesAreStillCheckpointed() {
+        PagedProvider provider = new PagedProvider();
+        notificationPort.failOn("item-7");
+        orchestrator = orchestrator(configuration().prefetchPages(1), provider, item -> {
+            if (item.equals("item-5")) {
+                throw new IllegalStateException("unparseable");
+            }
+            return new EcomModel<>(item, item);
+        });
+
+        assertThat(orchestrator.syncOnce(TYPE).block()).isEqualTo(PAGES);
+
+        assertThat(failureLane.getMappingFailures()).containsExactly("item-5");
+        assertThat(failureLane.getNotificationFailures()).containsExactly("item-7");
+        assertThat(events).doesNotContain("notify:item-5", "notify:item-7")
+                .contains("checkpoint:5", "checkpoint:7")
+                .endsWith("notify:item-" + PAGES, "checkpoint:" + PAGES);
+    }
+
+    @Test
+    void failedRunSavesNoCheckpointBeyondTheLastNotifiedPage() {
+        PagedProvider provider = new PagedProvider();
+        provider.failOn(4);
+        orchestrator = orchestrator(configuration().prefetchPages(2), provider, item -> new EcomModel<>(item, item));
+
+        assertThat(orchestrator.syncOnce(TYPE).onErrorResume(e -> Mono.just(-1L)).block()).isEqualTo(-1L);
+
+        assertThat(events).containsExactly("notify:item-1", "checkpoint:1", "notify:item-2", "checkpoint:2",
+                "notify:item-3", "checkpoint:3");
+    }
+
+    private static TestProcessorConfiguration.TestProcessorConfigurationBuilder configuration() {
+        return TestProcessorConfiguration.builder()
+                .pageSize(1)
+                .notificationConfig(NotificationType.KAFKA, TestNotificationConfig.builder().topic("orders").build());
+    }
+
+    private VirtualThreadSyncOrchestrator orchestrator(TestProcessorConfiguration.TestProcessorConfigurationBuilder configuration,
+                                                       PagedProvider provider,
+                                                       DataMapper<String, EcomModel<String>> dataMapper) {
+        List<SyncProcessor<?, ?, ?>> syncProcessors = List.of(new PagedProcessor(configuration.build(), provider, dataMapper));
+        NoopSyncPorts noop = new NoopSyncPorts();
+        ProcessorShardCoordinator shardCoordinator = new ProcessorShardCoordinator(
+                new InMemoryLeasePort(Clock.systemUTC()), "test", Duration.ofMinutes(5), List.of(TYPE));
+        shardCoordinator.heartbeat().block();
+        return new VirtualThreadSyncOrchestrator(new RecordingStatusStore(), notificationPort, noop, noop,
+                shardCoordinator, failureLane, syncProcessors, 16);
+    }
+
+    /**
+     * Serves PAGES pages of one item each, named after the page, and reports the total page count after the
+     * first one. Later pages answer faster, so concurrently fetched pages complete out of order.
+     */
+    private static final class PagedProvider implements DataProvider<String> {
+
+        private final AtomicInteger fetches = new AtomicInteger();
+        private volatile int failingPage;
+
+        void failOn(int page) {
+            failingPage = page;
+        }
+
+        @Override
+        public Flux<String> fetchData(SyncContext<?> context) {
+            return Flux.defer(() -> {
+                fetches.incrementAndGet();
+                ProcessorStatus status = context.status();
+                int page = status.getNextPage();
+                if (page == failingPage) {
+                    return Flux.error(new IllegalStateException("page " + page + " failed"));
+                }
+                status.setNextPage(page + 1);
+                status.setTotalPages(PAGES);
+                status.setMoreDataAvailable(page < PAGES);
+                status.setTotalItemsSynced((status.getTotalItemsSynced() != null ? status.getTotalItemsSynced() : 0) + 1);
+                return Flux.just("item-" + page).delayElements(Duration.ofMillis((PAGES - page) % 4 * 5L));
+            });
+        }
+
+        @Override
+        public String getItemId(String item) {
+            return item;
+        }
+    }
+
+    @Getter
+    private static final class PagedProcessor implements SyncProcessor<String, EcomModel<String>, Void> {
+
+        private final ProcessorType processorType = TYPE;
+        private final ProcessorConfiguration<Void> configuration;
+        private final DataProvider<String> dataProvider;
+        private final DataMapper<String, EcomModel<String>> dataMapper;
+
+        private PagedProcessor(ProcessorConfiguration<Void> configuration, DataProvider<String> dataProvider,
+                               DataMapper<String, EcomModel<String>> dataMapper) {
+            this.configuration = configuration;
+            this.dataProvider = dataProvider;
+            this.dataMapper = dataMapper;
+        }
+    }
+
+    /**
+     * Records every batch it is handed; can hold batches back until released, and fail the batch of one item.
+     */
+    private final class RecordingNotificationPort implements NotificationPort<EcomModel<?>> {
+
+        private final Sinks.Empty<Void> gate = Sinks.empty();
+        private final CompletableFuture<Void> held = new CompletableFuture<>();
+        private volatile boolean holding;
+        private volatile String failingItem;
+
+        void hold() {
+            holding = true;
+        }
+
+        void awaitHeld() throws Exception {
+            held.get(10, TimeUnit.SECONDS);
+        }
+
+        void release() {
+            gate.tryEmitEmpty();
+        }
+
+        void failOn(String itemId) {
+            failingItem = itemId;
+        }
+
+        @Override
+        public boolean supports(NotificationType type) {
+            return type == NotificationType.KAFKA;
+        }
+
+        @Override
+        public Mono<Void> notify(EcomModel<?> payload, ProcessorConfiguration<?> processorConfiguration, NotificationType type) {
+            return notifyBatch(List.of(payload), processorConfiguration, type);
+        }
+
+        @Override
+        public Mono<Void> notifyBatch(List<EcomModel<?>> payloads, ProcessorConfiguration<?> processorConfiguration,
+                                      NotificationType type) {
+            Mono<Void> wait = holding ? gate.asMono().doOnSubscribe(s -> held.complete(null)) : Mono.empty();
+            return wait.then(Mono.defer(() -> {
+                if (payloads.stream().anyMatch(payload -> payload.getId().equals(failingItem))) {
+                    return Mono.error(new IllegalStateException("channel down"));
+                }
+                payloads.forEach(payload -> events.add("notify:" + payload.getId()));
+                return Mono.empty();
+            }));
+        }
+    }
+
+    /**
+     * Records the page each checkpoint was taken after.
+     */
+    private final class RecordingStatusStore implements StatusStorePort {
+
+        @Override
+        public Mono<ProcessorStatus> findStatus(ProcessorType processorType) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> saveStatus(ProcessorStatus status) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> saveCheckpoint(ProcessorStatus status) {
+            return Mono.fromRunnable(() -> events.add("checkpoint:" + (status.getNextPage() - 1)));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.glamaya.sync.core.common;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadTest {
+
+    @Test
+    void queuedCallStartsOnceTheRunningOneCompletes() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1);
+        Sinks.Empty<Void> first = Sinks.empty();
+        bulkhead.execute(first::asMono).subscribe();
+        Mono<String> second = bulkhead.execute(() -> Mono.just("second")).cache();
+        second.subscribe();
+
+        assertThat(bulkhead.inFlight()).isEqualTo(1);
+        assertThat(bulkhead.queued()).isEqualTo(1);
+
+        first.tryEmitEmpty();
+
+        assertThat(second.block()).isEqualTo("second");
+        assertThat(bulkhead.inFlight()).isZero();
+        assertThat(bulkhead.queued()).isZero();
+    }
+
+    @Test
+    void callBeyondTheQueueIsRejected() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 0);
+        bulkhead.execute(() -> Mono.never()).subscribe();
+
+        assertThatThrownBy(() -> bulkhead.execute(() -> Mono.just("rejected")).block())
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(bulkhead.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void cancellingARunningCallFreesItsSlot() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 0);
+        Disposable running = bulkhead.execute(() -> Mono.never()).subscribe();
+
+        running.dispose();
+
+        assertThat(bulkhead.inFlight()).isZero();
+        assertThat(bulkhead.execute(() -> Mono.just("next")).block()).isEqualTo("next");
+    }
+
+    @Test
+    void cancellingAWaitingCallLeavesTheQueue() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1);
+        Sinks.Empty<Void> first = Sinks.empty();
+        bulkhead.execute(first::asMono).subscribe();
+        boolean[] started = new boolean[1];
+        Disposable waiting = bulkhead.execute(() -> Mono.fromRunnable(() -> started[0] = true)).subscribe();
+
+        waiting.dispose();
+        first.tryEmitEmpty();
+
+        assertThat(started[0]).isFalse();
+        assertThat(bulkhead.queued()).isZero();
+        assertThat(bulkhead.inFlight()).isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package com.glamaya.sync.core.common;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestRateLimiterTest {
+
+    @Test
+    void requestsBeyondTheConcurrencyLimitWaitForASlot() {
+        RequestRateLimiter limiter = new RequestRateLimiter("test", 0, 1);
+        AtomicInteger started = new AtomicInteger();
+        Sinks.Empty<Void> first = Sinks.empty();
+        limiter.execute(() -> {
+            started.incrementAndGet();
+            return first.asMono();
+        }).subscribe();
+        limiter.execute(() -> Mono.fromRunnable(started::incrementAndGet)).subscribe();
+
+        assertThat(started).hasValue(1);
+
+        first.tryEmitEmpty();
+
+        assertThat(started).hasValue(2);
+    }
+
+    @Test
+    void cancelledRequestsHandTheirSlotOn() {
+        RequestRateLimiter limiter = new RequestRateLimiter("test", 0, 1);
+        Disposable running = limiter.execute(() -> Mono.never()).subscribe();
+        Disposable waiting = limiter.execute(() -> Mono.never()).subscribe();
+
+        waiting.dispose();
+        running.dispose();
+
+        assertThat(limiter.execute(() -> Mono.just("next")).block()).isEqualTo("next");
+    }
+
+    @Test
+    void requestsBeyondTheBurstAreDelayed() {
+        RequestRateLimiter limiter = new RequestRateLimiter("test", 20, 0);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < 22; i++) {
+            limiter.execute(() -> Mono.just("ok")).block();
+        }
+
+        // A burst of 20, then two more tokens at 50ms each
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(80_000_000L);
+    }
+}
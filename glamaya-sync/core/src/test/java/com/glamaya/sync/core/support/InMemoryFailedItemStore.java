@@ -0,0 +1,58 @@
+package com.glamaya.sync.core.support;
+
+import com.glamaya.sync.core.domain.model.FailedItem;
+import com.glamaya.sync.core.domain.port.out.FailedItemPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FailedItemPort keeping the items in a map by key, with the upsert semantics of the Mongo store.
+ */
+public class InMemoryFailedItemStore implements FailedItemPort {
+
+    private final Map<String, FailedItem> items = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the stored item with the key of the given one, or null.
+     */
+    public FailedItem get(FailedItem item) {
+        return items.get(item.key());
+    }
+
+    public List<FailedItem> all() {
+        return List.copyOf(items.values());
+    }
+
+    @Override
+    public Mono<Void> save(FailedItem item) {
+        return Mono.fromRunnable(() -> items.put(item.key(), item.toBuilder().build()));
+    }
+
+    @Override
+    public Mono<Void> recordFailure(FailedItem item) {
+        return Mono.fromRunnable(() -> items.merge(item.key(), item.toBuilder().build(), (stored, failed) -> stored.toBuilder()
+                .reason(failed.getReason())
+                .lastFailedAt(failed.getLastFailedAt())
+                .build()));
+    }
+
+    @Override
+    public Flux<FailedItem> findDue(Instant now, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(items.values().stream()
+                .filter(item -> !item.isDeadLettered() && !item.getNextAttemptAt().isAfter(now))
+                .sorted(Comparator.comparing(FailedItem::getNextAttemptAt))
+                .limit(limit)
+                .toList()));
+    }
+
+    @Override
+    public Mono<Void> remove(FailedItem item) {
+        return Mono.fromRunnable(() -> items.remove(item.key()));
+    }
+}
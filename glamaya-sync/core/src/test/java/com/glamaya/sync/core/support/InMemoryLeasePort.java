@@ -0,0 +1,69 @@
+package com.glamaya.sync.core.support;
+
+import com.glamaya.sync.core.domain.model.Lease;
+import com.glamaya.sync.core.domain.port.out.LeasePort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LeasePort shared by several coordinators in one test, with expiry on the given clock. While unavailable,
+ * every call fails like an unreachable store.
+ */
+public class InMemoryLeasePort implements LeasePort {
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private volatile boolean available = true;
+
+    public InMemoryLeasePort(Clock clock) {
+        this.clock = clock;
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    @Override
+    public synchronized Mono<Boolean> tryAcquire(String name, String owner, Duration ttl) {
+        if (!available) {
+            return unavailable();
+        }
+        Instant now = clock.instant();
+        Lease current = leases.get(name);
+        if (current != null && !current.owner().equals(owner) && current.expiresAt().isAfter(now)) {
+            return Mono.just(false);
+        }
+        leases.put(name, new Lease(name, owner, now.plus(ttl)));
+        return Mono.just(true);
+    }
+
+    @Override
+    public synchronized Mono<Void> release(String name, String owner) {
+        if (!available) {
+            return unavailable();
+        }
+        leases.computeIfPresent(name, (n, lease) -> lease.owner().equals(owner) ? null : lease);
+        return Mono.empty();
+    }
+
+    @Override
+    public synchronized Flux<Lease> findActive() {
+        if (!available) {
+            return Flux.error(new IllegalStateException("lease store unavailable"));
+        }
+        Instant now = clock.instant();
+        List<Lease> active = leases.values().stream().filter(lease -> lease.expiresAt().isAfter(now)).toList();
+        return Flux.fromIterable(active);
+    }
+
+    private static <T> Mono<T> unavailable() {
+        return Mono.error(new IllegalStateException("lease store unavailable"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.glamaya.sync.core.support;
+
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.FailedItem;
+import com.glamaya.sync.core.domain.model.FailureStage;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.DedupPort;
+import com.glamaya.sync.core.domain.port.out.FailedItemPort;
+import com.glamaya.sync.core.domain.port.out.SyncMetricsPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Metrics, dedup and failed item ports that do nothing, for tests of the orchestrators.
+ */
+public class NoopSyncPorts implements SyncMetricsPort, DedupPort, FailedItemPort {
+
+    @Override
+    public void recordFetch(ProcessorType processorType, Duration latency, int pageSize, int items) {
+    }
+
+    @Override
+    public void recordFetchFailure(ProcessorType processorType) {
+    }
+
+    @Override
+    public void recordDecode(ProcessorType processorType, Duration latency) {
+    }
+
+    @Override
+    public void recordMapping(ProcessorType processorType, Duration latency, int mapped, int failed) {
+    }
+
+    @Override
+    public void recordNotify(ProcessorType processorType, NotificationType notificationType, Duration latency, int items, boolean failed) {
+    }
+
+    @Override
+    public void recordQueueDepth(ProcessorType processorType, String stage, int depth) {
+    }
+
+    @Override
+    public void recordCheckpoint(ProcessorType processorType, Duration latency) {
+    }
+
+    @Override
+    public void recordRun(ProcessorType processorType, Duration duration, long items) {
+    }
+
+    @Override
+    public void recordFailedItems(ProcessorType processorType, FailureStage stage, int items) {
+    }
+
+    @Override
+    public void recordRetry(ProcessorType processorType, String outcome) {
+    }
+
+    @Override
+    public Mono<List<EcomModel<?>>> filterChanged(ProcessorType processorType, List<EcomModel<?>> models) {
+        return Mono.just(models);
+    }
+
+    @Override
+    public Mono<Void> markNotified(ProcessorType processorType, List<EcomModel<?>> models) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> save(FailedItem item) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> recordFailure(FailedItem item) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Flux<FailedItem> findDue(Instant now, int limit) {
+        return Flux.empty();
+    }
+
+    @Override
+    public Mono<Void> remove(FailedItem item) {
+        return Mono.empty();
+    }
+}
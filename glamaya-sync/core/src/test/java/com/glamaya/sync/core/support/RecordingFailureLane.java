@@ -0,0 +1,35 @@
+package com.glamaya.sync.core.support;
+
+import com.glamaya.sync.core.application.service.FailureLane;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * FailureLane that only records the ids of the items handed to it, in order.
+ */
+@Getter
+public class RecordingFailureLane extends FailureLane {
+
+    private final List<String> mappingFailures = new CopyOnWriteArrayList<>();
+    private final List<String> notificationFailures = new CopyOnWriteArrayList<>();
+
+    public RecordingFailureLane() {
+        super(new NoopSyncPorts(), null, new NoopSyncPorts(), new NoopSyncPorts(), null, List.of(),
+                FailureLane.Settings.disabled());
+    }
+
+    @Override
+    public void mappingFailed(ProcessorType processorType, String itemId, String reason) {
+        mappingFailures.add(itemId);
+    }
+
+    @Override
+    public void notificationFailed(ProcessorType processorType, NotificationType notificationType, List<String> itemIds,
+                                   String reason) {
+        notificationFailures.addAll(itemIds);
+    }
+}
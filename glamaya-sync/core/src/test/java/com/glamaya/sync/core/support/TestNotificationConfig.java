@@ -0,0 +1,24 @@
+package com.glamaya.sync.core.support;
+
+import com.glamaya.sync.core.domain.model.PayloadFormat;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Notification channel configuration for tests; enabled unless the builder says otherwise.
+ */
+@Getter
+@Builder
+public class TestNotificationConfig implements ProcessorConfiguration.NotificationConfig {
+
+    private final String platformName;
+    @Builder.Default
+    private final Boolean enable = true;
+    private final String topic;
+    private final String url;
+    private final Integer maxConcurrency;
+    private final Integer maxQueued;
+    private final Long timeoutMs;
+    private final PayloadFormat payloadFormat;
+}
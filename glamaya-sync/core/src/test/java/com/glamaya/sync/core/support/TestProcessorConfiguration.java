@@ -0,0 +1,55 @@
+package com.glamaya.sync.core.support;
+
+import com.glamaya.sync.core.domain.model.BufferOverflowPolicy;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.Map;
+
+/**
+ * ProcessorConfiguration for tests; every setting is a builder field, and only the notification channels given
+ * are configured.
+ */
+@Getter
+@Builder
+public class TestProcessorConfiguration implements ProcessorConfiguration<Void> {
+
+    @Builder.Default
+    private final boolean enable = true;
+    private final boolean resetOnStartup;
+    @Builder.Default
+    private final Integer initPage = 1;
+    @Builder.Default
+    private final Integer pageSize = 100;
+    private final String queryUrl;
+    private final Long fetchActiveDelayMs;
+    private final Long stalenessSloMs;
+    private final Long pollActiveIntervalMs;
+    private final Long pollPassiveIntervalMs;
+    private final Integer minPageSize;
+    private final Integer maxPageSize;
+    private final Long targetPageLatencyMs;
+    private final Long maxPageBytes;
+    private final Integer prefetchPages;
+    private final Integer pageConcurrency;
+    private final boolean dedup;
+    private final Integer mappingParallelism;
+    private final Integer notifyBufferPages;
+    private final BufferOverflowPolicy bufferOverflowPolicy;
+    private final Long bufferStallTimeoutMs;
+    @Singular
+    private final Map<NotificationType, NotificationConfig> notificationConfigs;
+
+    @Override
+    public Void get() {
+        return null;
+    }
+
+    @Override
+    public NotificationConfig getNotificationConfig(NotificationType notificationType) {
+        return notificationConfigs.get(notificationType);
+    }
+}
@@ -0,0 +1,99 @@
+package com.glamaya.sync.loadharness;
+
+import com.glamaya.sync.loadharness.common.LoggerConstants;
+import com.glamaya.sync.loadharness.config.HarnessSettings;
+import com.glamaya.sync.loadharness.report.HarnessStats;
+import com.glamaya.sync.loadharness.report.LoadReporter;
+import com.glamaya.sync.loadharness.standin.StandInServer;
+import com.glamaya.sync.loadharness.standin.WahaStandIn;
+import com.glamaya.sync.loadharness.standin.WixStandIn;
+import com.glamaya.sync.loadharness.standin.WooCommerceStandIn;
+import com.glamaya.sync.runner.GlamayaSyncApplication;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the sync runner end to end against local stand-ins of the platform APIs, an in-memory MongoDB and an
+ * in-memory Kafka template, all in this JVM, and reports throughput, live lag and memory while it runs.
+ * <p>
+ * Settings come from load-harness.yml and can be overridden with command line arguments, e.g.
+ * --harness.duration-seconds=600 or --glamaya.sync.execution.mode=priority. The yml also holds the runner
+ * properties that differ from a production run; they take precedence over the runner's own application.yml.
+ */
+@Slf4j
+public final class LoadHarnessApplication {
+
+    private LoadHarnessApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        for (PropertySource<?> source : new YamlPropertySourceLoader().load("load-harness.yml", new ClassPathResource("load-harness.yml"))) {
+            environment.getPropertySources().addLast(source);
+        }
+        HarnessSettings settings = Binder.get(environment).bindOrCreate("harness", HarnessSettings.class);
+        Instant start = Instant.now();
+        Duration duration = Duration.ofSeconds(Math.max(1, settings.getDurationSeconds()));
+        Duration backlog = Duration.ofDays(Math.max(0, settings.getBacklogDays()));
+
+        WooCommerceStandIn wooCommerce = new WooCommerceStandIn(settings.getWoocommerce(), start, backlog);
+        WahaStandIn waha = new WahaStandIn(settings.getWaha(), start, backlog);
+        WixStandIn wix = new WixStandIn(settings.getWix(), start, backlog);
+        List<StandInServer> standIns = List.of(wooCommerce, waha, wix);
+        standIns.forEach(StandInServer::start);
+        MongoServer mongo = new MongoServer(new MemoryBackend());
+        InetSocketAddress mongoAddress = mongo.bind();
+        log.info(LoggerConstants.HARNESS_MONGO_STARTED, mongoAddress);
+
+        // Below the command line, so the endpoints can still be pointed elsewhere
+        environment.getPropertySources().addAfter(SimpleCommandLinePropertySource.COMMAND_LINE_PROPERTY_SOURCE_NAME,
+                new MapPropertySource("loadHarnessEndpoints", Map.of(
+                        "glamaya.sync.woocommerce.api.baseUrl", wooCommerce.baseUrl(),
+                        "glamaya.sync.whatsapp.api.baseUrl", waha.baseUrl(),
+                        "spring.data.mongodb.host", mongoAddress.getHostString(),
+                        "spring.data.mongodb.port", mongoAddress.getPort())));
+
+        HarnessStats stats = new HarnessStats(start, duration);
+        LoadReporter reporter = new LoadReporter(stats, standIns);
+        ConfigurableApplicationContext context = null;
+        try {
+            context = new SpringApplicationBuilder(GlamayaSyncApplication.class, LoadHarnessConfiguration.class)
+                    .web(WebApplicationType.NONE)
+                    .environment(environment)
+                    .initializers(ctx -> {
+                        ctx.getBeanFactory().registerSingleton("harnessSettings", settings);
+                        ctx.getBeanFactory().registerSingleton("harnessStats", stats);
+                    })
+                    .run(args);
+            log.info(LoggerConstants.HARNESS_STARTED, duration.toSeconds(), settings.getReportIntervalSeconds());
+            reporter.start(Duration.ofSeconds(Math.max(1, settings.getReportIntervalSeconds())));
+            Thread.sleep(Math.max(0, Duration.between(Instant.now(), start.plus(duration)).toMillis()));
+            reporter.summary();
+        } finally {
+            reporter.close();
+            if (context != null) {
+                context.close();
+            }
+            mongo.shutdownNow();
+            standIns.forEach(StandInServer::close);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.glamaya.sync.loadharness;
+
+import com.glamaya.sync.loadharness.config.HarnessSettings;
+import com.glamaya.sync.loadharness.kafka.InMemoryKafkaProducerTemplate;
+import com.glamaya.sync.loadharness.report.HarnessStats;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Replaces the runner's infrastructure that the stand-ins do not cover. Added as an extra source of the runner
+ * application rather than found by component scanning, which does not reach this package.
+ */
+@Configuration
+public class LoadHarnessConfiguration {
+
+    /**
+     * Takes the place of the broker-backed template in the Kafka notification adapter.
+     */
+    @Bean
+    @Primary
+    public InMemoryKafkaProducerTemplate inMemoryKafkaProducerTemplate(HarnessStats harnessStats, HarnessSettings harnessSettings) {
+        return new InMemoryKafkaProducerTemplate(harnessStats, Duration.ofMillis(harnessSettings.getKafka().getAckLatencyMs()));
+    }
+}
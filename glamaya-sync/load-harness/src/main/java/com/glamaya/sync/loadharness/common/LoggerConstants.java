@@ -0,0 +1,20 @@
+package com.glamaya.sync.loadharness.common;
+
+public final class LoggerConstants {
+
+    private LoggerConstants() {
+    }
+
+    public static final String HARNESS_STAND_IN_STARTED = "{} stand-in listening on {}";
+    public static final String HARNESS_STAND_IN_FAILED = "{} stand-in failed to answer {}: {}";
+    public static final String HARNESS_MONGO_STARTED = "In-memory MongoDB listening on {}";
+    public static final String HARNESS_STARTED = "Load harness started. durationSeconds={}, reportIntervalSeconds={}";
+    public static final String HARNESS_REPORT = "t={}s notified={} ({}/s, avg {}/s) bytes={} liveLagMs p50={} p95={} p99={} max={} heapMb={} peakHeapMb={} rssMb={} threads={} gcCount={} gcMs={} {}";
+    public static final String HARNESS_REPORT_FAILED = "Load harness report failed: {}";
+    public static final String HARNESS_SUMMARY_HEADER = "===== Load harness summary =====";
+    public static final String HARNESS_SUMMARY_THROUGHPUT = "Duration: {}s, notified records: {} ({}/s), serialized bytes: {}";
+    public static final String HARNESS_SUMMARY_TOPIC = "  topic {}: {} records";
+    public static final String HARNESS_SUMMARY_LAG = "Live lag (items created during the run, creation to notification): count={} p50={}ms p95={}ms p99={}ms max={}ms";
+    public static final String HARNESS_SUMMARY_MEMORY = "Memory: peakHeapMb={} maxHeapMb={} peakNonHeapMb={} peakRssMb={} gcCount={} gcMs={} peakThreads={}";
+    public static final String HARNESS_SUMMARY_STAND_IN = "  {}: requests={} throttled={} failed={} items={}";
+}
@@ -0,0 +1,70 @@
+package com.glamaya.sync.loadharness.config;
+
+import lombok.Data;
+
+/**
+ * Settings of a load harness run, bound from the "harness" prefix; the defaults are in load-harness.yml.
+ */
+@Data
+public class HarnessSettings {
+
+    private long durationSeconds;
+    private long reportIntervalSeconds;
+    // Existing items are spread over this many days before the start of the run
+    private int backlogDays;
+    private WooCommerce woocommerce = new WooCommerce();
+    private Waha waha = new Waha();
+    private Wix wix = new Wix();
+    private Kafka kafka = new Kafka();
+
+    @Data
+    public static class WooCommerce {
+        private Dataset orders = new Dataset();
+        private Dataset customers = new Dataset();
+        private int lineItems;
+        // Whether responses carry X-WP-Total and X-WP-TotalPages
+        private boolean totalHeaders;
+        private Behaviour behaviour = new Behaviour();
+    }
+
+    @Data
+    public static class Waha {
+        private Dataset chats = new Dataset();
+        private Behaviour behaviour = new Behaviour();
+    }
+
+    @Data
+    public static class Wix {
+        private Dataset orders = new Dataset();
+        private Dataset contacts = new Dataset();
+        private Behaviour behaviour = new Behaviour();
+    }
+
+    @Data
+    public static class Kafka {
+        // Time until a sent batch is acknowledged
+        private long ackLatencyMs;
+    }
+
+    /**
+     * Volume of one entity type: the items that exist at the start and the rate at which new ones arrive.
+     */
+    @Data
+    public static class Dataset {
+        private long initial;
+        private double perSecond;
+    }
+
+    /**
+     * How a stand-in answers: latency per request, and the fractions of requests answered with 500 or with
+     * 429 and a Retry-After header.
+     */
+    @Data
+    public static class Behaviour {
+        private long latencyMs;
+        private long latencyJitterMs;
+        private double errorRate;
+        private double throttleRate;
+        private long retryAfterSeconds;
+    }
+}
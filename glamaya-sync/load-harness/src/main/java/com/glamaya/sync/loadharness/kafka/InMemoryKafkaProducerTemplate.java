@@ -0,0 +1,90 @@
+package com.glamaya.sync.loadharness.kafka;
+
+import com.glamaya.datacontracts.ecommerce.serde.EcommerceKafkaDeserializer;
+import com.glamaya.sync.loadharness.report.HarnessStats;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.reactivestreams.Publisher;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.sender.SenderOptions;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Kafka producer template that acknowledges records in memory instead of sending them to a broker. Record values
+ * are the bytes the runner would send, so the byte counts match what a broker would receive, and every send is
+ * acknowledged after the configured latency. Values are read back into their canonical model, the way consumers
+ * do, only to measure the live lag. The underlying sender is never used: it only creates its producer on the
+ * first send.
+ */
+public class InMemoryKafkaProducerTemplate extends ReactiveKafkaProducerTemplate<String, byte[]> {
+
+    private final HarnessStats stats;
+    private final Duration ackLatency;
+    private final EcommerceKafkaDeserializer deserializer = new EcommerceKafkaDeserializer();
+    private final AtomicLong offsets = new AtomicLong();
+
+    public InMemoryKafkaProducerTemplate(HarnessStats stats, Duration ackLatency) {
+        super(SenderOptions.create(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "in-memory:9092",
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class)));
+        this.stats = stats;
+        this.ackLatency = ackLatency;
+    }
+
+    @Override
+    public Mono<SenderResult<Void>> send(ProducerRecord<String, byte[]> record) {
+        return Mono.fromSupplier(() -> this.<Void>acknowledge(record, null))
+                .delaySubscription(ackLatency);
+    }
+
+    @Override
+    public <T> Flux<SenderResult<T>> send(Publisher<? extends SenderRecord<String, byte[], T>> records) {
+        // A batch is acknowledged as a whole, like a producer batch
+        return Flux.<SenderRecord<String, byte[], T>>from(records)
+                .collectList()
+                .delayElement(ackLatency)
+                .flatMapIterable(batch -> batch.stream().map(record -> acknowledge(record, record.correlationMetadata())).toList());
+    }
+
+    private <T> SenderResult<T> acknowledge(ProducerRecord<String, byte[]> record, T correlationMetadata) {
+        byte[] value = record.value();
+        int size = value == null ? 0 : value.length;
+        long offset = offsets.getAndIncrement();
+        stats.acknowledged(record.topic(), decode(record), size, Instant.now());
+        RecordMetadata metadata = new RecordMetadata(new TopicPartition(record.topic(), 0), offset, 0,
+                System.currentTimeMillis(), record.key() == null ? 0 : record.key().length(), size);
+        return new InMemoryResult<>(metadata, correlationMetadata);
+    }
+
+    /**
+     * Reads the value back like a consumer would, or returns null if that is not possible.
+     */
+    private Object decode(ProducerRecord<String, byte[]> record) {
+        try {
+            return deserializer.deserialize(record.topic(), record.headers(), record.value());
+        } catch (SerializationException e) {
+            return null;
+        }
+    }
+
+    private record InMemoryResult<T>(RecordMetadata recordMetadata, T correlationMetadata) implements SenderResult<T> {
+        @Override
+        public Exception exception() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.glamaya.sync.loadharness.report;
+
+import com.glamaya.datacontracts.ecommerce.Contact;
+import com.glamaya.datacontracts.ecommerce.Order;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * What reached the notification channel during a harness run: records and serialized bytes per topic, and the
+ * live lag of the items modified after the start, i.e. the time from their modification on the stand-in to the
+ * acknowledgement of their record. The stand-ins report modification times in whole seconds, so the lag is
+ * overstated by up to a second. It is kept in its own registry, apart from the runner's metrics.
+ */
+public class HarnessStats {
+
+    private final Instant start;
+    private final LongAdder records = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final Map<String, LongAdder> recordsByTopic = new ConcurrentHashMap<>();
+    private final LongAccumulator maxLagMs = new LongAccumulator(Math::max, 0);
+    private final Timer lag;
+
+    public HarnessStats(Instant start, Duration duration) {
+        this.start = start;
+        this.lag = Timer.builder("harness.live.lag")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                // Percentiles over the whole run rather than a rolling window
+                .distributionStatisticExpiry(duration.plusMinutes(5))
+                .distributionStatisticBufferLength(1)
+                .register(new SimpleMeterRegistry());
+    }
+
+    public Instant getStart() {
+        return start;
+    }
+
+    /**
+     * Records an acknowledged record and, if its canonical model was modified during the run, its live lag.
+     */
+    public void acknowledged(String topic, Object value, int size, Instant ackedAt) {
+        records.increment();
+        bytes.add(size);
+        recordsByTopic.computeIfAbsent(topic, t -> new LongAdder()).increment();
+        Instant modifiedAt = modifiedAt(value);
+        if (modifiedAt != null && !modifiedAt.isBefore(start)) {
+            long lagMs = Math.max(0, Duration.between(modifiedAt, ackedAt).toMillis());
+            lag.record(lagMs, TimeUnit.MILLISECONDS);
+            maxLagMs.accumulate(lagMs);
+        }
+    }
+
+    public long records() {
+        return records.sum();
+    }
+
+    public long bytes() {
+        return bytes.sum();
+    }
+
+    public Map<String, Long> recordsByTopic() {
+        Map<String, Long> counts = new TreeMap<>();
+        recordsByTopic.forEach((topic, count) -> counts.put(topic, count.sum()));
+        return counts;
+    }
+
+    public LagSnapshot lag() {
+        HistogramSnapshot snapshot = lag.takeSnapshot();
+        long[] percentiles = new long[3];
+        ValueAtPercentile[] values = snapshot.percentileValues();
+        for (int i = 0; i < Math.min(values.length, percentiles.length); i++) {
+            percentiles[i] = (long) values[i].value(TimeUnit.MILLISECONDS);
+        }
+        return new LagSnapshot(snapshot.count(), percentiles[0], percentiles[1], percentiles[2], maxLagMs.get());
+    }
+
+    private static Instant modifiedAt(Object value) {
+        return switch (value) {
+            case Order order -> order.getUpdatedAt();
+            case Contact contact -> contact.getUpdatedDate();
+            case null, default -> null;
+        };
+    }
+
+    /**
+     * Live lag percentiles in milliseconds.
+     */
+    public record LagSnapshot(long count, long p50, long p95, long p99, long max) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.glamaya.sync.loadharness.report;
+
+import com.glamaya.sync.loadharness.common.LoggerConstants;
+import com.glamaya.sync.loadharness.standin.StandInServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Logs throughput, live lag and memory of the harness JVM at a fixed interval, and a summary at the end. Memory
+ * figures cover the whole JVM, i.e. the runner as well as the stand-ins and the in-memory MongoDB. The resident
+ * set size is read from /proc and is only reported on Linux.
+ */
+@Slf4j
+public class LoadReporter implements AutoCloseable {
+
+    private static final long MB = 1024 * 1024;
+    private static final Path PROC_STATUS = Path.of("/proc/self/status");
+
+    private final HarnessStats stats;
+    private final List<StandInServer> standIns;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("load-reporter").daemon().factory());
+    private long lastRecords;
+    private Instant lastReport;
+    private long peakHeap;
+    private long peakNonHeap;
+    private long peakRss;
+    private int peakThreads;
+
+    public LoadReporter(HarnessStats stats, List<StandInServer> standIns) {
+        this.stats = stats;
+        this.standIns = standIns;
+        this.lastReport = stats.getStart();
+    }
+
+    public void start(Duration interval) {
+        executor.scheduleAtFixedRate(this::report, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Logs the summary of the run.
+     */
+    public synchronized void summary() {
+        sampleMemory();
+        double seconds = Math.max(1, Duration.between(stats.getStart(), Instant.now()).toMillis()) / 1000d;
+        HarnessStats.LagSnapshot lag = stats.lag();
+        log.info(LoggerConstants.HARNESS_SUMMARY_HEADER);
+        log.info(LoggerConstants.HARNESS_SUMMARY_THROUGHPUT, Math.round(seconds), stats.records(),
+                String.format("%.1f", stats.records() / seconds), stats.bytes());
+        stats.recordsByTopic().forEach((topic, count) -> log.info(LoggerConstants.HARNESS_SUMMARY_TOPIC, topic, count));
+        log.info(LoggerConstants.HARNESS_SUMMARY_LAG, lag.count(), lag.p50(), lag.p95(), lag.p99(), lag.max());
+        log.info(LoggerConstants.HARNESS_SUMMARY_MEMORY, peakHeap / MB, memory.getHeapMemoryUsage().getMax() / MB,
+                peakNonHeap / MB, peakRss > 0 ? peakRss / MB : "n/a", gcCount(), gcMillis(), peakThreads);
+        for (StandInServer standIn : standIns) {
+            StandInServer.StandInStats s = standIn.stats();
+            log.info(LoggerConstants.HARNESS_SUMMARY_STAND_IN, s.name(), s.requests(), s.throttled(), s.failed(), s.items());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private synchronized void report() {
+        try {
+            Instant now = Instant.now();
+            long records = stats.records();
+            double interval = Math.max(1, Duration.between(lastReport, now).toMillis()) / 1000d;
+            double elapsed = Math.max(1, Duration.between(stats.getStart(), now).toMillis()) / 1000d;
+            long heap = memory.getHeapMemoryUsage().getUsed();
+            long rss = sampleMemory();
+            HarnessStats.LagSnapshot lag = stats.lag();
+            String standInStats = standIns.stream()
+                    .map(StandInServer::stats)
+                    .map(s -> s.name() + "=" + s.requests())
+                    .collect(Collectors.joining(" ", "requests[", "]"));
+            log.info(LoggerConstants.HARNESS_REPORT, Math.round(elapsed), records,
+                    String.format("%.1f", (records - lastRecords) / interval), String.format("%.1f", records / elapsed),
+                    stats.bytes(), lag.p50(), lag.p95(), lag.p99(), lag.max(), heap / MB, peakHeap / MB,
+                    rss > 0 ? rss / MB : "n/a", Thread.activeCount(), gcCount(), gcMillis(), standInStats);
+            lastRecords = records;
+            lastReport = now;
+        } catch (RuntimeException e) {
+            // A failed report must not cancel the following ones
+            log.warn(LoggerConstants.HARNESS_REPORT_FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Updates the peaks and returns the current resident set size, or 0 if unknown.
+     */
+    private long sampleMemory() {
+        peakHeap = Math.max(peakHeap, memory.getHeapMemoryUsage().getUsed());
+        peakNonHeap = Math.max(peakNonHeap, memory.getNonHeapMemoryUsage().getUsed());
+        peakThreads = Math.max(peakThreads, ManagementFactory.getThreadMXBean().getThreadCount());
+        long rss = procStatusBytes("VmRSS:");
+        peakRss = Math.max(peakRss, Math.max(rss, procStatusBytes("VmHWM:")));
+        return rss;
+    }
+
+    private static long procStatusBytes(String field) {
+        if (!Files.isReadable(PROC_STATUS)) {
+            return 0;
+        }
+        try {
+            for (String line : Files.readAllLines(PROC_STATUS)) {
+                if (line.startsWith(field)) {
+                    // e.g. "VmRSS:     123456 kB"
+                    return Long.parseLong(line.substring(field.length()).replace("kB", "").trim()) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            return 0;
+        }
+        return 0;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).filter(c -> c > 0).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(t -> t > 0).sum();
+    }
+}
@@ -0,0 +1,198 @@
+package com.glamaya.sync.loadharness.standin;
+
+import com.glamaya.sync.loadharness.common.LoggerConstants;
+import com.glamaya.sync.loadharness.config.HarnessSettings;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base of the local platform API stand-ins: an HTTP server on a free loopback port, one virtual thread per
+ * request. Before a request reaches its route, the configured latency is applied and a share of the requests is
+ * answered with 429 (with Retry-After) or 500 instead.
+ */
+@Slf4j
+public abstract class StandInServer implements AutoCloseable {
+
+    private static final byte[] THROTTLED_BODY = "{\"code\":\"too_many_requests\",\"message\":\"Rate limit exceeded\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NOT_FOUND_BODY = "{\"code\":\"not_found\",\"message\":\"No such item\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ERROR_BODY = "{\"code\":\"internal_server_error\",\"message\":\"Synthetic failure\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final String name;
+    private final HarnessSettings.Behaviour behaviour;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder items = new LongAdder();
+
+    protected StandInServer(String name, HarnessSettings.Behaviour behaviour) throws IOException {
+        this.name = name;
+        this.behaviour = behaviour;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.setExecutor(executor);
+    }
+
+    /**
+     * Starts answering requests.
+     */
+    public void start() {
+        server.start();
+        log.info(LoggerConstants.HARNESS_STAND_IN_STARTED, name, baseUrl());
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public StandInStats stats() {
+        return new StandInStats(name, requests.sum(), throttled.sum(), failed.sum(), items.sum());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Answers requests to the path with the route, after the latency and failure behaviour.
+     */
+    protected void route(String path, Route route) {
+        server.createContext(path, exchange -> handle(exchange, route));
+    }
+
+    /**
+     * Counts items served, for the summary.
+     */
+    protected void served(int count) {
+        items.add(count);
+    }
+
+    private void handle(HttpExchange exchange, Route route) {
+        try (exchange) {
+            requests.increment();
+            long latency = behaviour.getLatencyMs()
+                    + (behaviour.getLatencyJitterMs() > 0 ? ThreadLocalRandom.current().nextLong(behaviour.getLatencyJitterMs() + 1) : 0);
+            if (latency > 0) {
+                Thread.sleep(latency);
+            }
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < behaviour.getThrottleRate()) {
+                throttled.increment();
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf(behaviour.getRetryAfterSeconds()));
+                send(exchange, 429, THROTTLED_BODY);
+            } else if (roll < behaviour.getThrottleRate() + behaviour.getErrorRate()) {
+                failed.increment();
+                send(exchange, 500, ERROR_BODY);
+            } else {
+                byte[] body = route.answer(exchange);
+                send(exchange, body != null ? 200 : 404, body != null ? body : NOT_FOUND_BODY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn(LoggerConstants.HARNESS_STAND_IN_FAILED, name, exchange.getRequestURI(), e.getMessage());
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    protected static Map<String, String> queryParams(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String param : query.split("&")) {
+            int eq = param.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? param : param.substring(0, eq), StandardCharsets.UTF_8);
+            params.put(key, eq < 0 ? "" : URLDecoder.decode(param.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    protected static byte[] requestBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return in.readAllBytes();
+        }
+    }
+
+    protected static long longParam(Map<String, String> params, String name, long defaultValue) {
+        String value = params.get(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Parses a date query parameter sent as ISO-8601, with or without offset (UTC), or as epoch seconds; null if
+     * absent or unreadable.
+     */
+    protected static Instant instantParam(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return Instant.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            // WooCommerce also accepts dates without an offset, as sent by some clients
+        }
+        try {
+            return LocalDateTime.parse(trimmed).toInstant(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            // Jackson writes Instants as decimal epoch seconds unless WRITE_DATES_AS_TIMESTAMPS is disabled
+        }
+        try {
+            return Instant.ofEpochMilli((long) (Double.parseDouble(trimmed) * 1000));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Produces the body of a successful response, or null to answer 404; may set response headers.
+     */
+    @FunctionalInterface
+    protected interface Route {
+        byte[] answer(HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * Request counters of one stand-in.
+     */
+    public record StandInStats(String name, long requests, long throttled, long failed, long items) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.glamaya.sync.loadharness.standin;
+
+import com.glamaya.sync.loadharness.config.HarnessSettings;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The modification times of the synthetic items of one entity type, computed instead of stored: the initial
+ * items are spread evenly over the backlog window before the start, and new items arrive at a fixed rate
+ * after it. Items are indexed in modification order, so a page is a range of indexes.
+ */
+public final class SyntheticTimeline {
+
+    private final long initial;
+    private final double perSecond;
+    private final Instant start;
+    private final Duration backlog;
+
+    public SyntheticTimeline(HarnessSettings.Dataset dataset, Instant start, Duration backlog) {
+        this.initial = Math.max(0, dataset.getInitial());
+        this.perSecond = Math.max(0, dataset.getPerSecond());
+        this.start = start;
+        this.backlog = backlog;
+    }
+
+    /**
+     * Returns the number of items that exist at the given time.
+     */
+    public long available(Instant now) {
+        if (perSecond == 0 || now.isBefore(start)) {
+            return initial;
+        }
+        return initial + (long) (Duration.between(start, now).toNanos() / 1e9 * perSecond);
+    }
+
+    /**
+     * Returns when the item was last modified, truncated to seconds like the platforms report it.
+     */
+    public Instant modifiedAt(long index) {
+        if (index < initial) {
+            return start.minus(backlog).plusNanos((long) ((double) backlog.toNanos() * index / initial)).truncatedTo(ChronoUnit.SECONDS);
+        }
+        return start.plusNanos((long) ((index - initial + 1) / perSecond * 1e9)).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    /**
+     * Returns the index of the first item modified strictly after the given time, or available if there is none.
+     */
+    public long firstModifiedAfter(Instant after, long available) {
+        long low = 0;
+        long high = available;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (modifiedAt(mid).isAfter(after)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,45 @@
+package com.glamaya.sync.loadharness.standin;
+
+import com.glamaya.sync.loadharness.config.HarnessSettings;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Stand-in for the WAHA chats API: chats sorted by conversation time, paged with limit and offset.
+ */
+public class WahaStandIn extends StandInServer {
+
+    private final SyntheticTimeline chats;
+
+    public WahaStandIn(HarnessSettings.Waha settings, Instant start, Duration backlog) throws IOException {
+        super("WAHA", settings.getBehaviour());
+        this.chats = new SyntheticTimeline(settings.getChats(), start, backlog);
+        route("/api/default/chats", this::chats);
+    }
+
+    private byte[] chats(HttpExchange exchange) {
+        Map<String, String> params = queryParams(exchange);
+        long limit = Math.clamp(longParam(params, "limit", 100), 1, 1000);
+        long offset = Math.max(0, longParam(params, "offset", 0));
+        long available = chats.available(Instant.now());
+        long to = Math.min(available, offset + limit);
+        StringBuilder json = new StringBuilder(2048).append('[');
+        for (long index = offset; index < to; index++) {
+            if (index > offset) {
+                json.append(',');
+            }
+            Instant at = chats.modifiedAt(index);
+            json.append("{\"id\":\"919").append(String.format("%09d", index % 1_000_000_000L)).append("@c.us\"")
+                    .append(",\"name\":\"Chat ").append(index + 1).append('"')
+                    .append(",\"conversationTimestamp\":").append(at.getEpochSecond())
+                    .append(",\"conversationDateTime\":\"").append(at).append("\"}");
+        }
+        served((int) Math.max(0, to - offset));
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,88 @@
+package com.glamaya.sync.loadharness.standin;
+
+import com.glamaya.sync.loadharness.config.HarnessSettings;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stand-in for the Wix eCommerce orders search and contacts query APIs: items sorted by update time, paged with
+ * cursorPaging, where the cursor is the index of the next item.
+ */
+public class WixStandIn extends StandInServer {
+
+    private static final Pattern LIMIT = Pattern.compile("\"limit\"\\s*:\\s*(\\d+)");
+    private static final Pattern CURSOR = Pattern.compile("\"cursor\"\\s*:\\s*\"(\\d+)\"");
+
+    private final SyntheticTimeline orders;
+    private final SyntheticTimeline contacts;
+
+    public WixStandIn(HarnessSettings.Wix settings, Instant start, Duration backlog) throws IOException {
+        super("Wix", settings.getBehaviour());
+        this.orders = new SyntheticTimeline(settings.getOrders(), start, backlog);
+        this.contacts = new SyntheticTimeline(settings.getContacts(), start, backlog);
+        route("/ecom/v1/orders/search", exchange -> page(exchange, orders, "orders", "metadata", this::order));
+        route("/contacts/v4/contacts/query", exchange -> page(exchange, contacts, "contacts", "pagingMetadata", this::contact));
+    }
+
+    private byte[] page(HttpExchange exchange, SyntheticTimeline timeline, String itemsField, String metadataField,
+                        ItemWriter writer) throws IOException {
+        String body = new String(requestBody(exchange), StandardCharsets.UTF_8);
+        long limit = Math.clamp(match(LIMIT, body, 50), 1, 100);
+        long from = match(CURSOR, body, 0);
+        long available = timeline.available(Instant.now());
+        long to = Math.min(available, from + limit);
+        StringBuilder json = new StringBuilder(4096).append("{\"").append(itemsField).append("\":[");
+        for (long index = from; index < to; index++) {
+            if (index > from) {
+                json.append(',');
+            }
+            writer.write(json, index, timeline.modifiedAt(index));
+        }
+        boolean hasNext = to < available;
+        json.append("],\"").append(metadataField).append("\":{\"count\":").append(Math.max(0, to - from))
+                .append(",\"cursors\":{\"next\":").append(hasNext ? "\"" + to + "\"" : "null").append('}')
+                .append(",\"hasNext\":").append(hasNext).append("}}");
+        served((int) Math.max(0, to - from));
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void order(StringBuilder json, long index, Instant updatedAt) {
+        long id = index + 1;
+        json.append("{\"id\":\"").append(uuid(id)).append('"')
+                .append(",\"number\":\"").append(10000 + id).append('"')
+                .append(",\"createdDate\":\"").append(updatedAt).append("\",\"updatedDate\":\"").append(updatedAt).append('"')
+                .append(",\"status\":\"APPROVED\",\"paymentStatus\":\"PAID\",\"currency\":\"INR\"")
+                .append(",\"buyerInfo\":{\"contactId\":\"").append(uuid(index % 5000 + 1))
+                .append("\",\"email\":\"customer").append(index % 5000 + 1).append("@example.com\"}")
+                .append(",\"priceSummary\":{\"total\":{\"amount\":\"").append(1000 + index % 9000).append(".00\"}}}");
+    }
+
+    private void contact(StringBuilder json, long index, Instant updatedAt) {
+        long id = index + 1;
+        json.append("{\"id\":\"").append(uuid(id)).append('"')
+                .append(",\"createdDate\":\"").append(updatedAt).append("\",\"updatedDate\":\"").append(updatedAt).append('"')
+                .append(",\"primaryInfo\":{\"email\":\"customer").append(id).append("@example.com\"")
+                .append(",\"phone\":\"+919").append(String.format("%09d", index % 1_000_000_000L)).append("\"}")
+                .append(",\"info\":{\"name\":{\"first\":\"First").append(id).append("\",\"last\":\"Last").append(id).append("\"}}}");
+    }
+
+    private static long match(Pattern pattern, String body, long defaultValue) {
+        Matcher matcher = pattern.matcher(body);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : defaultValue;
+    }
+
+    private static String uuid(long id) {
+        return String.format("00000000-0000-4000-8000-%012d", id);
+    }
+
+    @FunctionalInterface
+    private interface ItemWriter {
+        void write(StringBuilder json, long index, Instant updatedAt);
+    }
+}
@@ -0,0 +1,169 @@
+package com.glamaya.sync.loadharness.standin;
+
+import com.glamaya.sync.loadharness.config.HarnessSettings;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+/**
+ * Stand-in for the WooCommerce REST API: orders and customers sorted by modification date, paged with page and
+ * per_page, filtered by modified_after and modified_before, with X-WP-Total and X-WP-TotalPages if enabled.
+ * Dates are in the *_gmt fields with second precision, and modified_after is exclusive, as on a real store.
+ * A single order or customer is returned at /{id}, as long as it has been created by now.
+ */
+public class WooCommerceStandIn extends StandInServer {
+
+    private static final String ORDERS_PATH = "/wp-json/wc/v3/orders";
+    private static final String CUSTOMERS_PATH = "/wp-json/wc/v3/customers";
+    private static final String[] STATUSES = {"processing", "completed", "on-hold", "pending"};
+
+    private final HarnessSettings.WooCommerce settings;
+    private final SyntheticTimeline orders;
+    private final SyntheticTimeline customers;
+
+    public WooCommerceStandIn(HarnessSettings.WooCommerce settings, Instant start, Duration backlog) throws IOException {
+        super("WooCommerce", settings.getBehaviour());
+        this.settings = settings;
+        this.orders = new SyntheticTimeline(settings.getOrders(), start, backlog);
+        this.customers = new SyntheticTimeline(settings.getCustomers(), start, backlog);
+        route(ORDERS_PATH, exchange -> answer(exchange, ORDERS_PATH, orders, this::order));
+        route(CUSTOMERS_PATH, exchange -> answer(exchange, CUSTOMERS_PATH, customers, this::customer));
+    }
+
+    /**
+     * Answers the list path with a page and {path}/{id} with the single item; the context matches both.
+     */
+    private byte[] answer(HttpExchange exchange, String path, SyntheticTimeline timeline, ItemWriter writer) {
+        String rest = exchange.getRequestURI().getPath().substring(path.length());
+        if (rest.isEmpty() || rest.equals("/")) {
+            return page(exchange, timeline, writer);
+        }
+        return item(rest.substring(1), timeline, writer);
+    }
+
+    private byte[] item(String id, SyntheticTimeline timeline, ItemWriter writer) {
+        long index;
+        try {
+            index = Long.parseLong(id) - 1;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (index < 0 || index >= timeline.available(Instant.now())) {
+            return null;
+        }
+        StringBuilder json = new StringBuilder(2048);
+        writer.write(json, index, timeline.modifiedAt(index));
+        served(1);
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] page(HttpExchange exchange, SyntheticTimeline timeline, ItemWriter writer) {
+        Map<String, String> params = queryParams(exchange);
+        long page = Math.max(1, longParam(params, "page", 1));
+        long perPage = Math.clamp(longParam(params, "per_page", 10), 1, 100);
+        long available = timeline.available(Instant.now());
+        Instant after = instantParam(params, "modified_after");
+        Instant before = instantParam(params, "modified_before");
+        long first = after == null ? 0 : timeline.firstModifiedAfter(after, available);
+        long end = before == null ? available : timeline.firstModifiedAfter(before.minusSeconds(1), available);
+        long total = Math.max(0, end - first);
+        if (settings.isTotalHeaders()) {
+            exchange.getResponseHeaders().set("X-WP-Total", String.valueOf(total));
+            exchange.getResponseHeaders().set("X-WP-TotalPages", String.valueOf((total + perPage - 1) / perPage));
+        }
+        long from = first + (page - 1) * perPage;
+        long to = Math.min(end, from + perPage);
+        StringBuilder json = new StringBuilder(4096).append('[');
+        for (long index = from; index < to; index++) {
+            if (index > from) {
+                json.append(',');
+            }
+            writer.write(json, index, timeline.modifiedAt(index));
+        }
+        served((int) Math.max(0, to - from));
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void order(StringBuilder json, long index, Instant modifiedAt) {
+        long id = index + 1;
+        String date = gmt(modifiedAt);
+        json.append("{\"id\":").append(id)
+                .append(",\"number\":\"").append(id).append('"')
+                .append(",\"status\":\"").append(STATUSES[(int) (index % STATUSES.length)]).append('"')
+                .append(",\"currency\":\"INR\",\"currency_symbol\":\"₹\",\"prices_include_tax\":true")
+                .append(",\"date_created\":\"").append(date).append("\",\"date_created_gmt\":\"").append(date).append('"')
+                .append(",\"date_modified\":\"").append(date).append("\",\"date_modified_gmt\":\"").append(date).append('"')
+                .append(",\"date_paid\":\"").append(date).append("\",\"date_paid_gmt\":\"").append(date).append('"')
+                .append(",\"discount_total\":\"0.00\",\"discount_tax\":\"0.00\",\"shipping_total\":\"99.00\",\"shipping_tax\":\"0.00\"")
+                .append(",\"cart_tax\":\"0.00\",\"total\":\"").append(1000 + index % 9000).append(".00\",\"total_tax\":\"0.00\"")
+                .append(",\"customer_id\":\"").append(index % 5000 + 1).append('"')
+                .append(",\"order_key\":\"wc_order_").append(id).append('"')
+                .append(",\"payment_method\":\"razorpay\",\"payment_method_title\":\"Credit Card/Debit Card/NetBanking\"")
+                .append(",\"transaction_id\":\"pay_").append(id).append('"')
+                .append(",\"customer_note\":\"\",\"created_via\":\"checkout\"")
+                .append(",\"billing\":");
+        address(json, index, true);
+        json.append(",\"shipping\":");
+        address(json, index, false);
+        json.append(",\"line_items\":[");
+        for (int i = 0; i < settings.getLineItems(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            long productId = (index * 7 + i) % 500 + 1;
+            json.append("{\"id\":").append(id * 100 + i)
+                    .append(",\"name\":\"Synthetic product ").append(productId).append('"')
+                    .append(",\"product_id\":").append(productId)
+                    .append(",\"variation_id\":0,\"quantity\":").append(i % 3 + 1)
+                    .append(",\"sku\":\"SKU-").append(productId).append('"')
+                    .append(",\"price\":").append(250 + productId)
+                    .append(",\"subtotal\":\"").append(250 + productId).append(".00\",\"total\":\"").append(250 + productId).append(".00\"")
+                    .append(",\"total_tax\":\"0.00\"}");
+        }
+        json.append("]}");
+    }
+
+    private void customer(StringBuilder json, long index, Instant modifiedAt) {
+        long id = index + 1;
+        String date = gmt(modifiedAt);
+        json.append("{\"id\":\"").append(id).append('"')
+                .append(",\"email\":\"customer").append(id).append("@example.com\"")
+                .append(",\"first_name\":\"First").append(id).append("\",\"last_name\":\"Last").append(id).append('"')
+                .append(",\"role\":\"customer\",\"username\":\"customer").append(id).append('"')
+                .append(",\"date_created\":\"").append(date).append("\",\"date_created_gmt\":\"").append(date).append('"')
+                .append(",\"date_modified\":\"").append(date).append("\",\"date_modified_gmt\":\"").append(date).append('"')
+                .append(",\"is_paying_customer\":").append(index % 2 == 0)
+                .append(",\"billing\":");
+        address(json, index, true);
+        json.append(",\"shipping\":");
+        address(json, index, false);
+        json.append('}');
+    }
+
+    private static void address(StringBuilder json, long index, boolean billing) {
+        long id = index + 1;
+        json.append("{\"first_name\":\"First").append(id).append("\",\"last_name\":\"Last").append(id).append('"')
+                .append(",\"company\":\"\",\"address_1\":\"").append(id % 900 + 1).append(" MG Road\",\"address_2\":\"\"")
+                .append(",\"city\":\"Bengaluru\",\"state\":\"KA\",\"postcode\":\"560001\",\"country\":\"IN\"");
+        if (billing) {
+            json.append(",\"email\":\"customer").append(index % 5000 + 1).append("@example.com\"")
+                    .append(",\"phone\":\"+919").append(String.format("%09d", index % 1_000_000_000L)).append('"');
+        }
+        json.append('}');
+    }
+
+    private static String gmt(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC).toString();
+    }
+
+    @FunctionalInterface
+    private interface ItemWriter {
+        void write(StringBuilder json, long index, Instant modifiedAt);
+    }
+}
@@ -1,10 +1,14 @@
 package com.glamaya.sync.platform.whatsapp.adapter.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.glamaya.sync.core.common.RequestRateLimiter;
 import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.port.out.PageRecordPort;
 import com.glamaya.sync.platform.whatsapp.common.LoggerConstants;
 import com.glamaya.sync.platform.whatsapp.adapter.client.descriptor.WhatsappEntityDescriptor;
 import com.glamaya.sync.platform.whatsapp.config.APIConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.codec.DecodingException;
@@ -14,12 +18,16 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
 /**
  * A generic service for interacting with the WAHA WhatsApp API in a reactive way.
  * It uses a descriptor pattern to fetch different types of entities.
- * Authentication is provided via X-Api-Key header (no OAuth1).
+ * Authentication is provided via X-Api-Key header (no OAuth1). Requests go through the rate limiter shared by
+ * all WhatsApp processors. While pages are being recorded, the raw body of every page is appended to the page log
+ * before it is decoded.
  *
  * @param <E> The type of the entity to fetch.
  */
@@ -29,18 +37,31 @@ public class WhatsappApiService<E> {
 
     private final WebClient webClient;
     private final String apiKey;
+    private final RequestRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final PageRecordPort pageRecordPort; // null unless pages are being recorded
 
     /**
      * Constructs the WhatsappApiService with a WebClient and API key.
      *
      * @param webClient The WebClient instance for HTTP requests.
-     * @param apiKey    The API key for authentication.
+     * @param apiKey      The API key for authentication.
+     * @param rateLimiter The rate limiter of the WhatsApp host.
+     * @param objectMapper   The object mapper used to decode recorded pages.
+     * @param pageRecordPort The page log, if pages are recorded or replayed.
      */
     public WhatsappApiService(
             @Qualifier("whatsappWebClient") WebClient webClient,
-            @Value("${glamaya.sync.whatsapp.api.apiKey}") String apiKey) {
+            @Value("${glamaya.sync.whatsapp.api.apiKey}") String apiKey,
+            @Qualifier("whatsappRateLimiter") RequestRateLimiter rateLimiter,
+            ObjectMapper objectMapper,
+            ObjectProvider<PageRecordPort> pageRecordPort) {
         this.webClient = webClient;
         this.apiKey = apiKey;
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        PageRecordPort recordPort = pageRecordPort.getIfAvailable();
+        this.pageRecordPort = recordPort != null && recordPort.isRecording() ? recordPort : null;
     }
 
     /**
@@ -55,26 +76,33 @@ public class WhatsappApiService<E> {
     public Flux<E> fetchPage(WhatsappEntityDescriptor<E> descriptor, Map<String, String> queryParams, ProcessorStatus status, APIConfig config) {
         String relativeUrl = config.getQueryUrl();
 
-        return webClient.get()
-                .uri(uriBuilder -> {
-                    uriBuilder.path(relativeUrl);
-                    if (queryParams != null) {
-                        queryParams.forEach(uriBuilder::queryParam);
+        return rateLimiter.execute(() -> {
+                    WebClient.ResponseSpec response = webClient.get()
+                            .uri(uriBuilder -> {
+                                uriBuilder.path(relativeUrl);
+                                if (queryParams != null) {
+                                    queryParams.forEach(uriBuilder::queryParam);
+                                }
+                                return uriBuilder.build();
+                            })
+                            .header("X-Api-Key", apiKey)
+                            .header(HttpHeaders.ACCEPT, "*/*")
+                            .retrieve()
+                            .onStatus(httpStatusCode -> httpStatusCode.is4xxClientError() || httpStatusCode.is5xxServerError(),
+                                    resp -> resp.bodyToMono(String.class)
+                                            .defaultIfEmpty("<empty body>")
+                                            .flatMap(body -> {
+                                                String procName = descriptor != null ? descriptor.getClass().getSimpleName() : "WhatsappApiService";
+                                                log.error(LoggerConstants.WC_API_ERROR, procName, resp.statusCode(), body);
+                                                return Mono.error(new RuntimeException("Remote API Error: " + resp.statusCode() + " - " + body));
+                                            }));
+                    if (pageRecordPort == null) {
+                        return response.bodyToMono(descriptor.getListTypeReference());
                     }
-                    return uriBuilder.build();
+                    return response.bodyToMono(byte[].class)
+                            .defaultIfEmpty(new byte[0])
+                            .flatMap(body -> record(status, queryParams, body).then(Mono.fromCallable(() -> decode(descriptor, body))));
                 })
-                .header("X-Api-Key", apiKey)
-                .header(HttpHeaders.ACCEPT, "*/*")
-                .retrieve()
-                .onStatus(httpStatusCode -> httpStatusCode.is4xxClientError() || httpStatusCode.is5xxServerError(),
-                        resp -> resp.bodyToMono(String.class)
-                                .defaultIfEmpty("<empty body>")
-                                .flatMap(body -> {
-                                    String procName = descriptor != null ? descriptor.getClass().getSimpleName() : "WhatsappApiService";
-                                    log.error(LoggerConstants.WC_API_ERROR, procName, resp.statusCode(), body);
-                                    return Mono.error(new RuntimeException("Remote API Error: " + resp.statusCode() + " - " + body));
-                                }))
-                .bodyToMono(descriptor.getListTypeReference())
                 .flatMapMany(list -> list == null ? Flux.empty() : Flux.fromIterable(list))
                 .onErrorResume(DecodingException.class, e -> {
                     String procName = descriptor.getClass().getSimpleName();
@@ -82,4 +110,35 @@ public class WhatsappApiService<E> {
                     return Flux.empty();
                 });
     }
+
+    /**
+     * Decodes a raw page body the same way the WebClient does.
+     *
+     * @param descriptor The descriptor defining the entity type.
+     * @param body       The raw response body.
+     * @return The entities of the page.
+     * @throws DecodingException If the body is not a JSON list of entities.
+     */
+    public List<E> decode(WhatsappEntityDescriptor<E> descriptor, byte[] body) {
+        if (body.length == 0) {
+            return List.of();
+        }
+        try {
+            List<E> items = objectMapper.readValue(body, objectMapper.getTypeFactory().constructType(descriptor.getListTypeReference().getType()));
+            return items == null ? List.of() : items;
+        } catch (IOException e) {
+            throw new DecodingException("JSON decoding error: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Appends the raw page to the page log; a failure is logged and does not fail the fetch.
+     */
+    private Mono<Void> record(ProcessorStatus status, Map<String, String> queryParams, byte[] body) {
+        return pageRecordPort.append(status.getProcessorType(), queryParams, body)
+                .onErrorResume(e -> {
+                    log.warn(LoggerConstants.WC_API_RECORD_FAILED, status.getProcessorType(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
 }
@@ -6,13 +6,16 @@ import com.glamaya.datacontracts.whatsapp.Chat;
 import com.glamaya.datacontracts.whatsapp.ChatSearchRequest;
 import com.glamaya.datacontracts.whatsapp.SortBy;
 import com.glamaya.datacontracts.whatsapp.SortOrder;
+import com.glamaya.sync.core.application.service.ReplayDataProvider;
 import com.glamaya.sync.core.domain.model.ProcessorStatus;
 import com.glamaya.sync.core.domain.model.SyncContext;
 import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.PageRecordPort;
 import com.glamaya.sync.platform.whatsapp.adapter.client.descriptor.ChatDescriptor;
 import com.glamaya.sync.platform.whatsapp.adapter.util.WhatsappPagination;
 import com.glamaya.sync.platform.whatsapp.config.APIConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 
@@ -21,6 +24,7 @@ import java.util.Map;
 /**
  * Implementation of DataProvider for fetching WhatsApp Users.
  * This class orchestrates fetching a page and updating the status based on the result.
+ * While pages are being replayed, the recorded pages are fed instead of calling the API.
  */
 @Slf4j
 @Component
@@ -29,6 +33,7 @@ public class WhatsappUserDataProvider implements DataProvider<Chat> {
     private final WhatsappApiService<Chat> apiService;
     private final ChatDescriptor chatDescriptor;
     private final ObjectMapper objectMapper;
+    private final DataProvider<Chat> replayProvider; // null unless pages are being replayed
 
     /**
      * Constructs the WhatsappUserDataProvider with required dependencies.
@@ -36,11 +41,17 @@ public class WhatsappUserDataProvider implements DataProvider<Chat> {
      * @param apiService     The API service for WhatsApp data fetching.
      * @param chatDescriptor The descriptor for WhatsApp user entities.
      * @param objectMapper   The object mapper for query param conversion.
+     * @param pageRecordPort The page log, if pages are recorded or replayed.
      */
-    public WhatsappUserDataProvider(WhatsappApiService<Chat> apiService, ChatDescriptor chatDescriptor, ObjectMapper objectMapper) {
+    public WhatsappUserDataProvider(WhatsappApiService<Chat> apiService, ChatDescriptor chatDescriptor, ObjectMapper objectMapper,
+                                    ObjectProvider<PageRecordPort> pageRecordPort) {
         this.apiService = apiService;
         this.chatDescriptor = chatDescriptor;
         this.objectMapper = objectMapper;
+        PageRecordPort recordPort = pageRecordPort.getIfAvailable();
+        this.replayProvider = recordPort != null && recordPort.isReplaying()
+                ? new ReplayDataProvider<>(recordPort, body -> apiService.decode(chatDescriptor, body))
+                : null;
     }
 
     /**
@@ -51,6 +62,9 @@ public class WhatsappUserDataProvider implements DataProvider<Chat> {
      */
     @Override
     public Flux<Chat> fetchData(SyncContext<?> context) {
+        if (replayProvider != null) {
+            return replayProvider.fetchData(context);
+        }
         var config = (APIConfig) context.configuration().get();
         var status = context.status();
         var queryParams = buildQueryParams(status, config);
@@ -62,6 +76,14 @@ public class WhatsappUserDataProvider implements DataProvider<Chat> {
                 .flatMapMany(Flux::fromIterable);
     }
 
+    /**
+     * Returns the chat id. WAHA has no endpoint for a single chat, so failed chats are kept for inspection only.
+     */
+    @Override
+    public String getItemId(Chat item) {
+        return item.getId();
+    }
+
     /**
      * Builds query parameters for WhatsApp Chat search requests based on status and config.
      *
@@ -72,8 +94,8 @@ public class WhatsappUserDataProvider implements DataProvider<Chat> {
     private Map<String, String> buildQueryParams(ProcessorStatus statusTracker, APIConfig config) {
 
         var builder = ChatSearchRequest.builder()
-                .withLimit(Long.valueOf(config.getPageSize()))
-                .withOffset((long) (statusTracker.getNextPage() - 1) * config.getPageSize())
+                .withLimit(Long.valueOf(statusTracker.getPageSize()))
+                .withOffset((long) (statusTracker.getNextPage() - 1) * statusTracker.getPageSize())
                 .withSortOrder(SortOrder.asc)
                 .withSortBy(SortBy.conversationTimestamp);
 
@@ -30,7 +30,7 @@ public final class WhatsappPagination {
             E lastItem = pageItems.getLast();
             status.setLastDateModified(lastModifiedExtractor.apply(lastItem));
 
-            if (pageItems.size() < config.getPageSize()) {
+            if (pageItems.size() < status.getPageSize()) {
                 status.setMoreDataAvailable(false);
             } else {
                 status.setNextPage(status.getNextPage() + 1);
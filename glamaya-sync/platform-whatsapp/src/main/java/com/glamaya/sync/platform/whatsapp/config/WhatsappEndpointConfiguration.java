@@ -86,7 +86,33 @@ public class WhatsappEndpointConfiguration {
             fm.setActive(src.getFetchDurationMs().getActive());
             copy.setFetchDurationMs(fm);
         }
+        copy.setStalenessSloMs(src.getStalenessSloMs());
+        if (src.getPollIntervalMs() != null) {
+            APIConfig.PollIntervalMs pi = new APIConfig.PollIntervalMs();
+            pi.setActive(src.getPollIntervalMs().getActive());
+            pi.setPassive(src.getPollIntervalMs().getPassive());
+            copy.setPollIntervalMs(pi);
+        }
+        if (src.getBuffers() != null) {
+            APIConfig.Buffers buffers = new APIConfig.Buffers();
+            buffers.setNotifyPages(src.getBuffers().getNotifyPages());
+            buffers.setOverflowPolicy(src.getBuffers().getOverflowPolicy());
+            buffers.setStallTimeoutMs(src.getBuffers().getStallTimeoutMs());
+            copy.setBuffers(buffers);
+        }
+        if (src.getAdaptivePageSize() != null) {
+            APIConfig.AdaptivePageSize aps = new APIConfig.AdaptivePageSize();
+            aps.setMin(src.getAdaptivePageSize().getMin());
+            aps.setMax(src.getAdaptivePageSize().getMax());
+            aps.setTargetLatencyMs(src.getAdaptivePageSize().getTargetLatencyMs());
+            aps.setMaxBytes(src.getAdaptivePageSize().getMaxBytes());
+            copy.setAdaptivePageSize(aps);
+        }
         copy.setQueryUrl(src.getQueryUrl());
+        copy.setPrefetchPages(src.getPrefetchPages());
+        copy.setPageConcurrency(src.getPageConcurrency());
+        copy.setDedup(src.isDedup());
+        copy.setMappingParallelism(src.getMappingParallelism());
         // Deep copy notifications map using EnumMap
         if (src.getNotifications() != null) {
             Map<NotificationType, APIConfig.NotificationConfig> notifCopy = new EnumMap<>(NotificationType.class);
@@ -96,6 +122,10 @@ public class WhatsappEndpointConfiguration {
                     nc.setEnable(v.getEnable());
                     nc.setTopic(v.getTopic());
                     nc.setUrl(v.getUrl());
+                    nc.setMaxConcurrency(v.getMaxConcurrency());
+                    nc.setMaxQueued(v.getMaxQueued());
+                    nc.setTimeoutMs(v.getTimeoutMs());
+                    nc.setPayloadFormat(v.getPayloadFormat());
                     notifCopy.put(type, nc);
                 }
             });
@@ -3,6 +3,7 @@ package com.glamaya.sync.platform.whatsapp.config;
 import com.glamaya.datacontracts.ecommerce.mapper.ContactMapperFactory;
 import com.glamaya.datacontracts.ecommerce.mapper.WhatsappToContactMapperFactoryImpl;
 import com.glamaya.datacontracts.whatsapp.Chat;
+import com.glamaya.sync.core.common.RequestRateLimiter;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
@@ -34,6 +35,12 @@ public class WhatsappModuleConfiguration {
     @Value("${glamaya.sync.whatsapp.api.response-timeout-in-millis}")
     private long responseTimeoutInMillis;
 
+    @Value("${glamaya.sync.whatsapp.api.rate-limit.requests-per-second:0}")
+    private double requestsPerSecond;
+
+    @Value("${glamaya.sync.whatsapp.api.rate-limit.max-concurrent-requests:0}")
+    private int maxConcurrentRequests;
+
     /**
      * Configures and provides a WebClient instance for interacting with the WhatsApp API.
      * It's configured with an increased buffer size and a response timeout.
@@ -64,6 +71,17 @@ public class WhatsappModuleConfiguration {
                 .build();
     }
 
+    /**
+     * Provides the request rate limiter for the WhatsApp host. It is shared by all processors of the module,
+     * so running them in parallel never exceeds the configured request rate or concurrency of the host.
+     *
+     * @return The shared RequestRateLimiter.
+     */
+    @Bean("whatsappRateLimiter")
+    public RequestRateLimiter whatsappRateLimiter() {
+        return new RequestRateLimiter(whatsappApiBaseUrl, requestsPerSecond, maxConcurrentRequests);
+    }
+
     /**
      * Provides the ContactMapperFactory implementation for WhatsApp chats.
      * This is required by the WhatsappUserDataMapper.
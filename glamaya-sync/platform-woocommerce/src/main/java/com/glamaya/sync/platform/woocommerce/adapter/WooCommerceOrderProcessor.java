@@ -3,22 +3,29 @@ package com.glamaya.sync.platform.woocommerce.adapter;
 import com.glamaya.datacontracts.ecommerce.Order;
 import com.glamaya.sync.core.domain.model.EcomModel;
 import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.SyncSink;
 import com.glamaya.sync.platform.woocommerce.adapter.client.WooCommerceOrderDataProvider;
 import com.glamaya.sync.platform.woocommerce.adapter.mapper.WooCommerceOrderDataMapper;
 import com.glamaya.sync.platform.woocommerce.config.WooCommerceEndpointConfiguration;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Concrete implementation of SyncProcessor for WooCommerce Orders.
  * This class groups the DataProvider, DataMapper, and configuration for WooCommerce Orders,
  * making them available to the SyncOrchestrationService in a type-safe manner.
+ * The fetched orders also feed the OrderToContact sink, so the orders endpoint is paged only once.
  */
 @Component
 public class WooCommerceOrderProcessor extends AbstractWooCommerceProcessor<com.glamaya.datacontracts.woocommerce.Order, EcomModel<Order>> {
 
+    private final List<SyncSink<com.glamaya.datacontracts.woocommerce.Order, ?, ?>> sinks;
+
     public WooCommerceOrderProcessor(
             WooCommerceOrderDataProvider dataProvider,
             WooCommerceOrderDataMapper dataMapper,
+            WooCommerceOrderToContactSink orderToContactSink,
             WooCommerceEndpointConfiguration configProvider) {
         super(
                 dataProvider,
@@ -26,5 +33,11 @@ public class WooCommerceOrderProcessor extends AbstractWooCommerceProcessor<com.
                 ProcessorType.WOOCOMMERCE_ORDER,
                 configProvider.getConfiguration(ProcessorType.WOOCOMMERCE_ORDER)
         );
+        this.sinks = List.of(orderToContactSink);
+    }
+
+    @Override
+    public List<SyncSink<com.glamaya.datacontracts.woocommerce.Order, ?, ?>> getSinks() {
+        return sinks;
     }
 }
@@ -0,0 +1,47 @@
+package com.glamaya.sync.platform.woocommerce.adapter;
+
+import com.glamaya.datacontracts.ecommerce.Contact;
+import com.glamaya.datacontracts.woocommerce.Order;
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.DataMapper;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.core.domain.port.out.SyncSink;
+import com.glamaya.sync.platform.woocommerce.adapter.mapper.WooCommerceOrderToContactDataMapper;
+import com.glamaya.sync.platform.woocommerce.config.APIConfig;
+import com.glamaya.sync.platform.woocommerce.config.WooCommerceEndpointConfiguration;
+import org.springframework.stereotype.Component;
+
+/**
+ * SyncSink for WooCommerce OrderToContact.
+ * Orders are fetched once by the WooCommerceOrderProcessor; this sink maps the same orders to contacts
+ * and notifies them with its own configuration, sharing the order processor's checkpoint.
+ */
+@Component
+public class WooCommerceOrderToContactSink implements SyncSink<Order, EcomModel<Contact>, APIConfig> {
+
+    private final DataMapper<Order, EcomModel<Contact>> dataMapper;
+    private final ProcessorConfiguration<APIConfig> configuration;
+
+    public WooCommerceOrderToContactSink(
+            WooCommerceOrderToContactDataMapper dataMapper,
+            WooCommerceEndpointConfiguration configProvider) {
+        this.dataMapper = dataMapper;
+        this.configuration = configProvider.getConfiguration(ProcessorType.WOOCOMMERCE_ORDER_TO_CONTACT);
+    }
+
+    @Override
+    public DataMapper<Order, EcomModel<Contact>> getDataMapper() {
+        return dataMapper;
+    }
+
+    @Override
+    public ProcessorType getProcessorType() {
+        return ProcessorType.WOOCOMMERCE_ORDER_TO_CONTACT;
+    }
+
+    @Override
+    public ProcessorConfiguration<APIConfig> getConfiguration() {
+        return configuration;
+    }
+}
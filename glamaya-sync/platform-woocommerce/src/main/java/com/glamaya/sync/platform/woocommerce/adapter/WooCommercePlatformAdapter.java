@@ -25,6 +25,7 @@ public class WooCommercePlatformAdapter implements PlatformAdapter {
 
     @Override
     public List<ProcessorType> getProcessorTypes() {
-        return List.of(ProcessorType.WOOCOMMERCE_ORDER_TO_CONTACT, ProcessorType.WOOCOMMERCE_USER, ProcessorType.WOOCOMMERCE_ORDER);
+        // WOOCOMMERCE_ORDER_TO_CONTACT is a sink of WOOCOMMERCE_ORDER and runs as part of it
+        return List.of(ProcessorType.WOOCOMMERCE_USER, ProcessorType.WOOCOMMERCE_ORDER);
     }
 }
@@ -1,23 +1,37 @@
 package com.glamaya.sync.platform.woocommerce.adapter.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.glamaya.sync.core.common.RequestRateLimiter;
+import com.glamaya.sync.core.domain.port.out.PageRecordPort;
+import com.glamaya.sync.core.domain.port.out.SyncMetricsPort;
 import com.glamaya.sync.platform.woocommerce.common.LoggerConstants;
 import com.glamaya.sync.platform.woocommerce.adapter.client.descriptor.WooCommerceEntityDescriptor;
 import com.glamaya.sync.platform.woocommerce.config.APIConfig;
 import com.glamaya.sync.platform.woocommerce.port.out.OAuthSignerPort;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.codec.DecodingException;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
+import static com.glamaya.sync.platform.woocommerce.common.Constants.HEADER_WP_TOTAL;
+import static com.glamaya.sync.platform.woocommerce.common.Constants.HEADER_WP_TOTAL_PAGES;
+
 /**
  * A generic service for interacting with the WooCommerce API in a reactive way.
  * It uses a descriptor pattern to fetch different types of entities (Orders, Products, etc.).
+ * Requests go through the rate limiter shared by all WooCommerce processors. While pages are being recorded, the raw
+ * body of every page is appended to the page log before it is decoded.
  *
  * @param <E> The type of the entity to fetch.
  */
@@ -27,12 +41,25 @@ public class WooCommerceApiService<E> {
 
     private final WebClient webClient;
     private final OAuthSignerPort oAuthSigner;
+    private final SyncMetricsPort metricsPort;
+    private final RequestRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final PageRecordPort pageRecordPort; // null unless pages are being recorded
 
     public WooCommerceApiService(
             @Qualifier("woocommerceWebClient") WebClient webClient,
-            OAuthSignerPort oAuthSigner) {
+            OAuthSignerPort oAuthSigner,
+            SyncMetricsPort metricsPort,
+            @Qualifier("woocommerceRateLimiter") RequestRateLimiter rateLimiter,
+            ObjectMapper objectMapper,
+            ObjectProvider<PageRecordPort> pageRecordPort) {
         this.webClient = webClient;
         this.oAuthSigner = oAuthSigner;
+        this.metricsPort = metricsPort;
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        PageRecordPort recordPort = pageRecordPort.getIfAvailable();
+        this.pageRecordPort = recordPort != null && recordPort.isRecording() ? recordPort : null;
     }
 
     /**
@@ -41,34 +68,129 @@ public class WooCommerceApiService<E> {
      * @param descriptor The descriptor defining the entity-specific details.
      * @param status     The current processor status, containing the page number.
      * @param config     The API configuration, containing the URL and page size.
-     * @return A Flux emitting the entities found on the specified page.
+     * @return A Mono emitting the entities found on the specified page along with the pagination totals.
      */
-    public Flux<E> fetchPage(WooCommerceEntityDescriptor<E> descriptor, Map<String, String> queryParams, com.glamaya.sync.core.domain.model.ProcessorStatus status, APIConfig config) {
+    public Mono<WooCommercePage<E>> fetchPage(WooCommerceEntityDescriptor<E> descriptor, Map<String, String> queryParams, com.glamaya.sync.core.domain.model.ProcessorStatus status, APIConfig config) {
         String relativeUrl = config.getQueryUrl();
         String oauthHeader = oAuthSigner.generateOAuth1Header(relativeUrl, queryParams);
 
-        return webClient.get()
+        // The slot is held until the body is decoded, so max-concurrent-requests bounds whole responses
+        return rateLimiter.execute(() -> webClient.get()
                 .uri(uriBuilder -> {
                     uriBuilder.path(relativeUrl);
                     queryParams.forEach(uriBuilder::queryParam);
                     return uriBuilder.build();
                 })
                 .header(HttpHeaders.AUTHORIZATION, oauthHeader)
-                .retrieve()
-                .onStatus(httpStatusCode -> httpStatusCode.is4xxClientError() || httpStatusCode.is5xxServerError(),
-                        resp -> resp.bodyToMono(String.class)
+                .exchangeToMono(resp -> {
+                    if (resp.statusCode().is4xxClientError() || resp.statusCode().is5xxServerError()) {
+                        return resp.bodyToMono(String.class)
                                 .defaultIfEmpty("<empty body>")
                                 .flatMap(body -> {
                                     String procName = descriptor != null ? descriptor.getClass().getSimpleName() : "WooCommerceApiService";
                                     log.error(LoggerConstants.WC_API_ERROR, procName, resp.statusCode(), body);
                                     return Mono.error(new RuntimeException("Remote API Error: " + resp.statusCode() + " - " + body));
-                                }))
-                .bodyToMono(descriptor.getListTypeReference())
-                .flatMapMany(list -> list == null ? Flux.empty() : Flux.fromIterable(list))
+                                });
+                    }
+                    // Headers have arrived; what follows is reading and decoding the body
+                    long bodyStart = System.nanoTime();
+                    Mono<ResponseEntity<List<E>>> decoded = pageRecordPort == null
+                            ? resp.toEntity(descriptor.getListTypeReference())
+                            : resp.toEntity(byte[].class).flatMap(raw -> {
+                                byte[] bytes = raw.getBody() != null ? raw.getBody() : new byte[0];
+                                return record(status, queryParams, bytes)
+                                        .then(Mono.fromCallable(() -> new ResponseEntity<>(decode(descriptor, bytes), raw.getHeaders(), raw.getStatusCode())));
+                            });
+                    return decoded
+                            .doOnSuccess(entity -> metricsPort.recordDecode(status.getProcessorType(),
+                                    Duration.ofNanos(System.nanoTime() - bodyStart)));
+                }))
+                .map(entity -> new WooCommercePage<>(
+                        entity.getBody() == null ? List.of() : entity.getBody(),
+                        parseHeader(entity.getHeaders(), HEADER_WP_TOTAL),
+                        parseHeader(entity.getHeaders(), HEADER_WP_TOTAL_PAGES),
+                        entity.getHeaders().getContentLength() >= 0 ? entity.getHeaders().getContentLength() : null))
                 .onErrorResume(DecodingException.class, e -> {
                     String procName = descriptor != null ? descriptor.getClass().getSimpleName() : "WooCommerceApiService";
                     log.error(LoggerConstants.WC_API_JSON_ERROR, procName, status.getNextPage(), e.getMessage());
-                    return Flux.empty();
+                    return Mono.just(WooCommercePage.empty());
+                });
+    }
+
+    /**
+     * Fetches the current version of a single entity from {queryUrl}/{id}, e.g. to retry an item whose sync failed.
+     *
+     * @param descriptor The descriptor defining the entity-specific details.
+     * @param id         The entity id.
+     * @param config     The API configuration, containing the URL.
+     * @return A Mono emitting the entity, or empty if the API no longer knows it.
+     */
+    public Mono<E> fetchOne(WooCommerceEntityDescriptor<E> descriptor, String id, APIConfig config) {
+        String relativeUrl = config.getQueryUrl() + "/" + id;
+        String oauthHeader = oAuthSigner.generateOAuth1Header(relativeUrl, Map.of());
+
+        return rateLimiter.execute(() -> webClient.get()
+                .uri(uriBuilder -> uriBuilder.path(relativeUrl).build())
+                .header(HttpHeaders.AUTHORIZATION, oauthHeader)
+                .exchangeToMono(resp -> {
+                    if (resp.statusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                        return resp.releaseBody().then(Mono.<E>empty());
+                    }
+                    if (resp.statusCode().is4xxClientError() || resp.statusCode().is5xxServerError()) {
+                        return resp.bodyToMono(String.class)
+                                .defaultIfEmpty("<empty body>")
+                                .flatMap(body -> {
+                                    log.error(LoggerConstants.WC_API_ERROR, descriptor.getClass().getSimpleName(), resp.statusCode(), body);
+                                    return Mono.error(new RuntimeException("Remote API Error: " + resp.statusCode() + " - " + body));
+                                });
+                    }
+                    return resp.bodyToMono(descriptor.getEntityType());
+                }));
+    }
+
+    /**
+     * Decodes a raw page body the same way the WebClient does.
+     *
+     * @param descriptor The descriptor defining the entity type.
+     * @param body       The raw response body.
+     * @return The entities of the page.
+     * @throws DecodingException If the body is not a JSON list of entities.
+     */
+    public List<E> decode(WooCommerceEntityDescriptor<E> descriptor, byte[] body) {
+        if (body.length == 0) {
+            return List.of();
+        }
+        try {
+            List<E> items = objectMapper.readValue(body, objectMapper.getTypeFactory().constructType(descriptor.getListTypeReference().getType()));
+            return items == null ? List.of() : items;
+        } catch (IOException e) {
+            throw new DecodingException("JSON decoding error: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Appends the raw page to the page log; a failure is logged and does not fail the fetch.
+     */
+    private Mono<Void> record(com.glamaya.sync.core.domain.model.ProcessorStatus status, Map<String, String> queryParams, byte[] body) {
+        return pageRecordPort.append(status.getProcessorType(), queryParams, body)
+                .onErrorResume(e -> {
+                    log.warn(LoggerConstants.WC_API_RECORD_FAILED, status.getProcessorType(), e.getMessage());
+                    return Mono.empty();
                 });
     }
+
+    /**
+     * Reads an integer pagination header, returning null if it is absent or not a number.
+     */
+    private static Integer parseHeader(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -6,21 +6,27 @@ import com.glamaya.datacontracts.woocommerce.Order;
 import com.glamaya.datacontracts.woocommerce.OrderOrderBy;
 import com.glamaya.datacontracts.woocommerce.OrderSearchRequest;
 import com.glamaya.datacontracts.woocommerce.SortOrder;
+import com.glamaya.sync.core.application.service.ReplayDataProvider;
 import com.glamaya.sync.core.domain.model.ProcessorStatus;
 import com.glamaya.sync.core.domain.model.SyncContext;
 import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.PageRecordPort;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
 import com.glamaya.sync.platform.woocommerce.adapter.client.descriptor.OrderDescriptor;
 import com.glamaya.sync.platform.woocommerce.adapter.util.WooPagination;
 import com.glamaya.sync.platform.woocommerce.config.APIConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
 /**
  * Implementation of DataProvider for fetching WooCommerce Orders.
  * This class orchestrates fetching a page and updating the status based on the result.
+ * While pages are being replayed, the recorded pages are fed instead of calling the API.
  */
 @Slf4j
 @Component
@@ -29,24 +35,57 @@ public class WooCommerceOrderDataProvider implements DataProvider<Order> {
     private final WooCommerceApiService<Order> apiService;
     private final OrderDescriptor orderDescriptor;
     private final ObjectMapper objectMapper;
+    private final DataProvider<Order> replayProvider; // null unless pages are being replayed
 
-    public WooCommerceOrderDataProvider(WooCommerceApiService<Order> apiService, OrderDescriptor orderDescriptor, ObjectMapper objectMapper) {
+    public WooCommerceOrderDataProvider(WooCommerceApiService<Order> apiService, OrderDescriptor orderDescriptor, ObjectMapper objectMapper,
+                                        ObjectProvider<PageRecordPort> pageRecordPort) {
         this.apiService = apiService;
         this.orderDescriptor = orderDescriptor;
         this.objectMapper = objectMapper;
+        PageRecordPort recordPort = pageRecordPort.getIfAvailable();
+        this.replayProvider = recordPort != null && recordPort.isReplaying()
+                ? new ReplayDataProvider<>(recordPort, body -> apiService.decode(orderDescriptor, body))
+                : null;
     }
 
     @Override
     public Flux<Order> fetchData(SyncContext<?> context) {
+        if (replayProvider != null) {
+            return replayProvider.fetchData(context);
+        }
         var config = (APIConfig) context.configuration().get();
         var status = context.status();
         var queryParams = buildQueryParams(status, config);
 
         return apiService.fetchPage(orderDescriptor, queryParams, status, config)
-                .collectList()
-                .doOnNext(pageItems -> WooPagination.updateStatusAfterPage(status, pageItems, config,
+                .doOnNext(page -> WooPagination.updateStatusAfterPage(status, page, config,
                         orderDescriptor.getLastModifiedExtractor()))
-                .flatMapMany(Flux::fromIterable);
+                .flatMapMany(page -> Flux.fromIterable(page.items()));
+    }
+
+    @Override
+    public String getItemId(Order item) {
+        return orderDescriptor.getIdExtractor().apply(item);
+    }
+
+    @Override
+    public boolean supportsFetchById() {
+        // Recorded pages cannot be looked up by id
+        return replayProvider == null;
+    }
+
+    @Override
+    public Mono<Order> fetchById(String id, ProcessorConfiguration<?> configuration) {
+        if (!supportsFetchById()) {
+            return Mono.empty();
+        }
+        return apiService.fetchOne(orderDescriptor, id, (APIConfig) configuration.get());
+    }
+
+    @Override
+    public boolean supportsTimeSlices() {
+        // Recorded pages cannot be filtered by time
+        return replayProvider == null;
     }
 
     private Map<String, String> buildQueryParams(ProcessorStatus statusTracker, APIConfig config) {
@@ -56,11 +95,14 @@ public class WooCommerceOrderDataProvider implements DataProvider<Order> {
                 .withOrderby(OrderOrderBy.date_modified)
                 .withOrder(SortOrder.asc)
                 .withPage(Long.valueOf(statusTracker.getNextPage()))
-                .withPerPage(Long.valueOf(config.getPageSize()));
+                .withPerPage(Long.valueOf(statusTracker.getPageSize()));
 
         if (statusTracker.isUseLastDateModifiedInQuery() && statusTracker.getLastDateModified() != null) {
             builder.withModifiedAfter(statusTracker.getLastDateModified());
         }
+        if (statusTracker.getModifiedBefore() != null) {
+            builder.withModifiedBefore(statusTracker.getModifiedBefore());
+        }
 
         return objectMapper.convertValue(builder.build(), new TypeReference<>() {
         });
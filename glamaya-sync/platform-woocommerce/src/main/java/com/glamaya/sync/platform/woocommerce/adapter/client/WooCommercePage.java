@@ -0,0 +1,25 @@
+package com.glamaya.sync.platform.woocommerce.adapter.client;
+
+import java.util.List;
+
+/**
+ * A single page of entities returned by a WooCommerce list endpoint, together with the
+ * pagination totals reported in the X-WP-Total and X-WP-TotalPages response headers.
+ *
+ * @param items      The entities of the page.
+ * @param total      Total number of entities matching the query, or null if not reported.
+ * @param totalPages Total number of pages for the query and page size, or null if not reported.
+ * @param bytes      Size of the response body in bytes (Content-Length), or null if not reported.
+ * @param <E>        The type of the entity.
+ */
+public record WooCommercePage<E>(
+        List<E> items,
+        Integer total,
+        Integer totalPages,
+        Long bytes
+) {
+
+    public static <E> WooCommercePage<E> empty() {
+        return new WooCommercePage<>(List.of(), null, null, null);
+    }
+}
@@ -6,21 +6,27 @@ import com.glamaya.datacontracts.woocommerce.SortOrder;
 import com.glamaya.datacontracts.woocommerce.User;
 import com.glamaya.datacontracts.woocommerce.UserOrderBy;
 import com.glamaya.datacontracts.woocommerce.UserSearchRequest;
+import com.glamaya.sync.core.application.service.ReplayDataProvider;
 import com.glamaya.sync.core.domain.model.ProcessorStatus;
 import com.glamaya.sync.core.domain.model.SyncContext;
 import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.PageRecordPort;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
 import com.glamaya.sync.platform.woocommerce.adapter.client.descriptor.UserDescriptor;
 import com.glamaya.sync.platform.woocommerce.adapter.util.WooPagination;
 import com.glamaya.sync.platform.woocommerce.config.APIConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
 /**
  * Implementation of DataProvider for fetching WooCommerce Users.
  * This class orchestrates fetching a page and updating the status based on the result.
+ * While pages are being replayed, the recorded pages are fed instead of calling the API.
  */
 @Slf4j
 @Component
@@ -29,24 +35,51 @@ public class WooCommerceUserDataProvider implements DataProvider<User> {
     private final WooCommerceApiService<User> apiService;
     private final UserDescriptor userDescriptor;
     private final ObjectMapper objectMapper;
+    private final DataProvider<User> replayProvider; // null unless pages are being replayed
 
-    public WooCommerceUserDataProvider(WooCommerceApiService<User> apiService, UserDescriptor userDescriptor, ObjectMapper objectMapper) {
+    public WooCommerceUserDataProvider(WooCommerceApiService<User> apiService, UserDescriptor userDescriptor, ObjectMapper objectMapper,
+                                       ObjectProvider<PageRecordPort> pageRecordPort) {
         this.apiService = apiService;
         this.userDescriptor = userDescriptor;
         this.objectMapper = objectMapper;
+        PageRecordPort recordPort = pageRecordPort.getIfAvailable();
+        this.replayProvider = recordPort != null && recordPort.isReplaying()
+                ? new ReplayDataProvider<>(recordPort, body -> apiService.decode(userDescriptor, body))
+                : null;
     }
 
     @Override
     public Flux<User> fetchData(SyncContext<?> context) {
+        if (replayProvider != null) {
+            return replayProvider.fetchData(context);
+        }
         var config = (APIConfig) context.configuration().get();
         var status = context.status();
         var queryParams = buildQueryParams(status, config);
 
         return apiService.fetchPage(userDescriptor, queryParams, status, config)
-                .collectList()
-                .doOnNext(pageItems -> WooPagination.updateStatusAfterPage(status, pageItems, config,
+                .doOnNext(page -> WooPagination.updateStatusAfterPage(status, page, config,
                         userDescriptor.getLastModifiedExtractor()))
-                .flatMapMany(Flux::fromIterable);
+                .flatMapMany(page -> Flux.fromIterable(page.items()));
+    }
+
+    @Override
+    public String getItemId(User item) {
+        return userDescriptor.getIdExtractor().apply(item);
+    }
+
+    @Override
+    public boolean supportsFetchById() {
+        // Recorded pages cannot be looked up by id
+        return replayProvider == null;
+    }
+
+    @Override
+    public Mono<User> fetchById(String id, ProcessorConfiguration<?> configuration) {
+        if (!supportsFetchById()) {
+            return Mono.empty();
+        }
+        return apiService.fetchOne(userDescriptor, id, (APIConfig) configuration.get());
     }
 
     private Map<String, String> buildQueryParams(ProcessorStatus statusTracker, APIConfig config) {
@@ -56,7 +89,7 @@ public class WooCommerceUserDataProvider implements DataProvider<User> {
                 .withOrderby(UserOrderBy.id)
                 .withOrder(SortOrder.asc)
                 .withPage(Long.valueOf(statusTracker.getNextPage()))
-                .withPerPage(Long.valueOf(config.getPageSize()));
+                .withPerPage(Long.valueOf(statusTracker.getPageSize()));
 
         if (statusTracker.isUseLastDateModifiedInQuery() && statusTracker.getLastDateModified() != null) {
             builder.withModifiedAfter(statusTracker.getLastDateModified());
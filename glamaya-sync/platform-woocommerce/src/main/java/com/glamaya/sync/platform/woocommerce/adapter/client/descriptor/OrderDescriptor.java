@@ -24,6 +24,16 @@ public class OrderDescriptor implements WooCommerceEntityDescriptor<Order> {
         return ORDER_LIST_TYPE;
     }
 
+    @Override
+    public Class<Order> getEntityType() {
+        return Order.class;
+    }
+
+    @Override
+    public Function<Order, String> getIdExtractor() {
+        return order -> order.getId() != null ? String.valueOf(order.getId()) : null;
+    }
+
     @Override
     public Function<Order, Instant> getLastModifiedExtractor() {
         return order -> PARSE_ISO_LOCAL_DATE_TIME_TO_INSTANT.apply(order.getDateModifiedGmt());
@@ -24,6 +24,16 @@ public class UserDescriptor implements WooCommerceEntityDescriptor<User> {
         return USER_LIST_TYPE;
     }
 
+    @Override
+    public Class<User> getEntityType() {
+        return User.class;
+    }
+
+    @Override
+    public Function<User, String> getIdExtractor() {
+        return User::getId;
+    }
+
     @Override
     public Function<User, Instant> getLastModifiedExtractor() {
         return user -> PARSE_ISO_LOCAL_DATE_TIME_TO_INSTANT.apply(user.getDateModifiedGmt());
@@ -21,6 +21,20 @@ public interface WooCommerceEntityDescriptor<E> {
      */
     ParameterizedTypeReference<List<E>> getListTypeReference();
 
+    /**
+     * Provides the entity class, needed by WebClient to deserialize a single entity.
+     *
+     * @return The entity type.
+     */
+    Class<E> getEntityType();
+
+    /**
+     * Provides a function that extracts the id of an entity, under which the API returns it at {queryUrl}/{id}.
+     *
+     * @return A function to extract the entity id; it may return null.
+     */
+    Function<E, String> getIdExtractor();
+
     /**
      * Provides a function that can extract the "last modified" date (as an Instant)
      * from an entity object.
@@ -1,6 +1,7 @@
 package com.glamaya.sync.platform.woocommerce.adapter.util;
 
 import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.platform.woocommerce.adapter.client.WooCommercePage;
 import com.glamaya.sync.platform.woocommerce.config.APIConfig;
 
 import java.time.Instant;
@@ -13,26 +14,52 @@ import java.util.function.Function;
 public final class WooPagination {
     private WooPagination() {}
 
-    public static <E> void updateStatusAfterPage(ProcessorStatus status, List<E> pageItems, APIConfig config,
+    public static <E> void updateStatusAfterPage(ProcessorStatus status, WooCommercePage<E> page, APIConfig config,
                                                  Function<E, Instant> lastModifiedExtractor) {
+        // A backfill slice pages through one fixed [modified_after, modified_before) window
+        boolean slice = status.getModifiedBefore() != null;
+        // Totals describe the query that was just sent. A modified_after query is followed by unfiltered
+        // pages, so its totals do not apply to the rest of the pass and are not kept.
+        boolean filteredQuery = !slice && status.isUseLastDateModifiedInQuery() && status.getLastDateModified() != null;
+        status.setTotalPages(filteredQuery ? null : page.totalPages());
+        status.setLastPageBytes(page.bytes());
+
+        List<E> pageItems = page.items();
         if (pageItems == null || pageItems.isEmpty()) {
-            status.setMoreDataAvailable(false);
-            status.setNextPage(config.getInitPage());
-            status.setUseLastDateModifiedInQuery(true);
+            finishPass(status, config, slice);
         } else {
             status.setTotalItemsSynced(status.getTotalItemsSynced() + pageItems.size());
+            if (slice) {
+                // The window stays fixed; the slice is resumed by page number
+                boolean lastKnownPage = status.getTotalPages() != null && status.getNextPage() >= status.getTotalPages();
+                if (pageItems.size() < status.getPageSize() || lastKnownPage) {
+                    finishPass(status, config, true);
+                } else {
+                    status.setNextPage(status.getNextPage() + 1);
+                }
+                return;
+            }
             E lastItem = pageItems.getLast();
             status.setLastDateModified(lastModifiedExtractor.apply(lastItem));
 
-            if (pageItems.size() < config.getPageSize()) {
-                status.setMoreDataAvailable(false);
-                status.setNextPage(config.getInitPage());
-                status.setUseLastDateModifiedInQuery(true);
+            // With a known total the last page is recognised directly, saving the request for an empty page
+            boolean lastKnownPage = status.getTotalPages() != null && status.getNextPage() >= status.getTotalPages();
+            if (pageItems.size() < status.getPageSize() || lastKnownPage) {
+                finishPass(status, config, false);
             } else {
                 status.setNextPage(status.getNextPage() + 1);
                 status.setUseLastDateModifiedInQuery(false);
             }
         }
     }
-}
 
+    private static void finishPass(ProcessorStatus status, APIConfig config, boolean slice) {
+        status.setMoreDataAvailable(false);
+        if (slice) {
+            return;
+        }
+        status.setNextPage(config.getInitPage());
+        status.setUseLastDateModifiedInQuery(true);
+        status.setTotalPages(null);
+    }
+}
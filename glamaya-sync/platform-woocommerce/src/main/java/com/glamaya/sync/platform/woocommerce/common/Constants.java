@@ -4,4 +4,8 @@ public class Constants {
     private  Constants() {}
 
     public static String PLATFORM_NAME = "WooCommerce";
+
+    // Pagination headers returned by the WooCommerce REST API on list endpoints
+    public static final String HEADER_WP_TOTAL = "X-WP-Total";
+    public static final String HEADER_WP_TOTAL_PAGES = "X-WP-TotalPages";
 }
@@ -6,5 +6,6 @@ public final class LoggerConstants {
     // --- WooCommerce API ---
     public static final String WC_API_ERROR = "{}: API error. status={}, body={}";
     public static final String WC_API_JSON_ERROR = "{}: JSON decoding error. page={}, error={}";
+    public static final String WC_API_RECORD_FAILED = "{}: recording the page failed. error={}";
 }
 
@@ -1,6 +1,8 @@
 package com.glamaya.sync.platform.woocommerce.config;
 
+import com.glamaya.sync.core.domain.model.BufferOverflowPolicy;
 import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.PayloadFormat;
 import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -23,7 +25,15 @@ public class APIConfig implements ProcessorConfiguration<APIConfig> {
     private Integer initPage;
     private Integer pageSize;
     private FetchDurationMs fetchDurationMs = new FetchDurationMs();
+    private Long stalenessSloMs;
+    private PollIntervalMs pollIntervalMs = new PollIntervalMs();
+    private AdaptivePageSize adaptivePageSize = new AdaptivePageSize();
     private String queryUrl;
+    private Integer prefetchPages;
+    private Integer pageConcurrency;
+    private boolean dedup = true;
+    private Integer mappingParallelism;
+    private Buffers buffers = new Buffers();
     private Map<NotificationType, NotificationConfig> notifications = new EnumMap<>(NotificationType.class);
 
     @Override
@@ -36,6 +46,51 @@ public class APIConfig implements ProcessorConfiguration<APIConfig> {
         return fetchDurationMs != null ? fetchDurationMs.getActive() : null;
     }
 
+    @Override
+    public Long getPollActiveIntervalMs() {
+        return pollIntervalMs != null ? pollIntervalMs.getActive() : null;
+    }
+
+    @Override
+    public Long getPollPassiveIntervalMs() {
+        return pollIntervalMs != null ? pollIntervalMs.getPassive() : null;
+    }
+
+    @Override
+    public Integer getNotifyBufferPages() {
+        return buffers != null ? buffers.getNotifyPages() : null;
+    }
+
+    @Override
+    public BufferOverflowPolicy getBufferOverflowPolicy() {
+        return buffers != null ? buffers.getOverflowPolicy() : null;
+    }
+
+    @Override
+    public Long getBufferStallTimeoutMs() {
+        return buffers != null ? buffers.getStallTimeoutMs() : null;
+    }
+
+    @Override
+    public Integer getMinPageSize() {
+        return adaptivePageSize != null ? adaptivePageSize.getMin() : null;
+    }
+
+    @Override
+    public Integer getMaxPageSize() {
+        return adaptivePageSize != null ? adaptivePageSize.getMax() : null;
+    }
+
+    @Override
+    public Long getTargetPageLatencyMs() {
+        return adaptivePageSize != null ? adaptivePageSize.getTargetLatencyMs() : null;
+    }
+
+    @Override
+    public Long getMaxPageBytes() {
+        return adaptivePageSize != null ? adaptivePageSize.getMaxBytes() : null;
+    }
+
     @Override
     public ProcessorConfiguration.NotificationConfig getNotificationConfig(NotificationType notificationType) {
         if (notificationType == null) return null;
@@ -50,12 +105,40 @@ public class APIConfig implements ProcessorConfiguration<APIConfig> {
         private long active;
     }
 
+    @Data
+    @NoArgsConstructor
+    public static class PollIntervalMs {
+        private Long active;
+        private Long passive;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Buffers {
+        private Integer notifyPages;
+        private BufferOverflowPolicy overflowPolicy;
+        private Long stallTimeoutMs;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class AdaptivePageSize {
+        private Integer min;
+        private Integer max;
+        private Long targetLatencyMs;
+        private Long maxBytes;
+    }
+
     @Data
     @NoArgsConstructor
     public static class NotificationConfig {
         private Boolean enable;
         private String topic;
         private String url;
+        private Integer maxConcurrency;
+        private Integer maxQueued;
+        private Long timeoutMs;
+        private PayloadFormat payloadFormat;
         // Add other fields as needed for future notification types
     }
 
@@ -85,5 +168,25 @@ public class APIConfig implements ProcessorConfiguration<APIConfig> {
         public String getUrl() {
             return delegate.getUrl();
         }
+
+        @Override
+        public Integer getMaxConcurrency() {
+            return delegate.getMaxConcurrency();
+        }
+
+        @Override
+        public Integer getMaxQueued() {
+            return delegate.getMaxQueued();
+        }
+
+        @Override
+        public Long getTimeoutMs() {
+            return delegate.getTimeoutMs();
+        }
+
+        @Override
+        public PayloadFormat getPayloadFormat() {
+            return delegate.getPayloadFormat();
+        }
     }
 }
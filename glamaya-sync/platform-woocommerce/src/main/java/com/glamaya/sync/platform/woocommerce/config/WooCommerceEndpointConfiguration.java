@@ -11,6 +11,7 @@ import org.springframework.context.annotation.PropertySource;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Central WooCommerce endpoint configuration loader.
@@ -22,6 +23,9 @@ import java.util.Map;
 @ConfigurationProperties(prefix = "glamaya.sync.woocommerce.api")
 public class WooCommerceEndpointConfiguration {
 
+    // Sinks map the pages fetched by another processor, so they have no paging settings of their own
+    private static final Set<String> SINK_TYPES = Set.of(ProcessorType.WOOCOMMERCE_ORDER_TO_CONTACT.name());
+
     /**
      * YAML: endpoint-configs (String key -> APIConfig).
      */
@@ -40,6 +44,9 @@ public class WooCommerceEndpointConfiguration {
             if (cfg == null) {
                 throw new IllegalStateException("Null config block for key: " + key);
             }
+            if (SINK_TYPES.contains(key)) {
+                return;
+            }
             if (cfg.getQueryUrl() == null || cfg.getQueryUrl().isBlank()) {
                 throw new IllegalStateException("Missing query-url for endpoint-config: " + key);
             }
@@ -71,7 +78,33 @@ public class WooCommerceEndpointConfiguration {
             fm.setActive(src.getFetchDurationMs().getActive());
             copy.setFetchDurationMs(fm);
         }
+        copy.setStalenessSloMs(src.getStalenessSloMs());
+        if (src.getPollIntervalMs() != null) {
+            APIConfig.PollIntervalMs pi = new APIConfig.PollIntervalMs();
+            pi.setActive(src.getPollIntervalMs().getActive());
+            pi.setPassive(src.getPollIntervalMs().getPassive());
+            copy.setPollIntervalMs(pi);
+        }
+        if (src.getBuffers() != null) {
+            APIConfig.Buffers buffers = new APIConfig.Buffers();
+            buffers.setNotifyPages(src.getBuffers().getNotifyPages());
+            buffers.setOverflowPolicy(src.getBuffers().getOverflowPolicy());
+            buffers.setStallTimeoutMs(src.getBuffers().getStallTimeoutMs());
+            copy.setBuffers(buffers);
+        }
+        if (src.getAdaptivePageSize() != null) {
+            APIConfig.AdaptivePageSize aps = new APIConfig.AdaptivePageSize();
+            aps.setMin(src.getAdaptivePageSize().getMin());
+            aps.setMax(src.getAdaptivePageSize().getMax());
+            aps.setTargetLatencyMs(src.getAdaptivePageSize().getTargetLatencyMs());
+            aps.setMaxBytes(src.getAdaptivePageSize().getMaxBytes());
+            copy.setAdaptivePageSize(aps);
+        }
         copy.setQueryUrl(src.getQueryUrl());
+        copy.setPrefetchPages(src.getPrefetchPages());
+        copy.setPageConcurrency(src.getPageConcurrency());
+        copy.setDedup(src.isDedup());
+        copy.setMappingParallelism(src.getMappingParallelism());
         // Deep copy notifications map using EnumMap
         if (src.getNotifications() != null) {
             Map<NotificationType, APIConfig.NotificationConfig> notifCopy = new EnumMap<>(NotificationType.class);
@@ -81,6 +114,10 @@ public class WooCommerceEndpointConfiguration {
                     nc.setEnable(v.getEnable());
                     nc.setTopic(v.getTopic());
                     nc.setUrl(v.getUrl());
+                    nc.setMaxConcurrency(v.getMaxConcurrency());
+                    nc.setMaxQueued(v.getMaxQueued());
+                    nc.setTimeoutMs(v.getTimeoutMs());
+                    nc.setPayloadFormat(v.getPayloadFormat());
                     notifCopy.put(type, nc);
                 }
             });
@@ -7,6 +7,7 @@ import com.glamaya.datacontracts.ecommerce.mapper.WooOrderToOrderMapperFactoryIm
 import com.glamaya.datacontracts.ecommerce.mapper.WooUserToContactMapperFactoryImpl;
 import com.glamaya.datacontracts.woocommerce.Order;
 import com.glamaya.datacontracts.woocommerce.User;
+import com.glamaya.sync.core.common.RequestRateLimiter;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
@@ -38,6 +39,12 @@ public class WooCommerceModuleConfiguration {
     @Value("${glamaya.sync.woocommerce.api.response-timeout-in-millis}")
     private long responseTimeoutInMillis;
 
+    @Value("${glamaya.sync.woocommerce.api.rate-limit.requests-per-second:0}")
+    private double requestsPerSecond;
+
+    @Value("${glamaya.sync.woocommerce.api.rate-limit.max-concurrent-requests:0}")
+    private int maxConcurrentRequests;
+
     /**
      * Configures and provides a WebClient instance for interacting with the WooCommerce API.
      * It's configured with an increased buffer size and a response timeout.
@@ -68,6 +75,17 @@ public class WooCommerceModuleConfiguration {
                 .build();
     }
 
+    /**
+     * Provides the request rate limiter for the WooCommerce host. It is shared by all processors of the module,
+     * so running them in parallel never exceeds the configured request rate or concurrency of the host.
+     *
+     * @return The shared RequestRateLimiter.
+     */
+    @Bean("woocommerceRateLimiter")
+    public RequestRateLimiter woocommerceRateLimiter() {
+        return new RequestRateLimiter(woocommerceApiBaseUrl, requestsPerSecond, maxConcurrentRequests);
+    }
+
     /**
      * Provides the OrderMapperFactory implementation for WooCommerce orders.
      * This is required by the WooCommerceOrderDataMapper.
@@ -0,0 +1,131 @@
+package com.glamaya.sync.platform.woocommerce.adapter.util;
+
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.platform.woocommerce.adapter.client.WooCommercePage;
+import com.glamaya.sync.platform.woocommerce.config.APIConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WooPaginationTest {
+
+    private static final Instant SLICE_FROM = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant SLICE_TO = Instant.parse("2024-01-02T00:00:00Z");
+    private static final Instant MODIFIED = Instant.parse("2024-01-01T12:00:00Z");
+
+    private final APIConfig config = new APIConfig();
+
+    WooPaginationTest() {
+        config.setInitPage(1);
+        config.setPageSize(2);
+    }
+
+    @Test
+    void sliceKeepsItsWindowAndAdvancesByPageNumber() {
+        ProcessorStatus status = sliceStatus(1);
+
+        WooPagination.updateStatusAfterPage(status, page(2, 3), config, Function.identity());
+
+        assertThat(status.getNextPage()).isEqualTo(2);
+        assertThat(status.getTotalPages()).isEqualTo(3);
+        assertThat(status.getLastDateModified()).isEqualTo(SLICE_FROM.minusSeconds(1));
+        assertThat(status.getModifiedBefore()).isEqualTo(SLICE_TO);
+        assertThat(status.isMoreDataAvailable()).isTrue();
+    }
+
+    @Test
+    void sliceEndsOnAShortPageAndKeepsItsPage() {
+        ProcessorStatus status = sliceStatus(3);
+
+        WooPagination.updateStatusAfterPage(status, page(1, 3), config, Function.identity());
+
+        assertThat(status.isMoreDataAvailable()).isFalse();
+        assertThat(status.getNextPage()).isEqualTo(3);
+        assertThat(status.isUseLastDateModifiedInQuery()).isTrue();
+    }
+
+    @Test
+    void sliceEndsOnItsLastKnownPage() {
+        ProcessorStatus status = sliceStatus(3);
+
+        WooPagination.updateStatusAfterPage(status, page(2, 3), config, Function.identity());
+
+        assertThat(status.isMoreDataAvailable()).isFalse();
+    }
+
+    @Test
+    void headSliceWithoutLowerBoundIsStillASlice() {
+        ProcessorStatus status = sliceStatus(1);
+        status.setLastDateModified(null);
+        status.setUseLastDateModifiedInQuery(false);
+
+        WooPagination.updateStatusAfterPage(status, page(2, 5), config, Function.identity());
+
+        assertThat(status.getNextPage()).isEqualTo(2);
+        assertThat(status.getLastDateModified()).isNull();
+        assertThat(status.getTotalPages()).isEqualTo(5);
+    }
+
+    @Test
+    void incrementalPassMovesTheWatermarkAndDropsFilteredTotals() {
+        ProcessorStatus status = incrementalStatus();
+
+        WooPagination.updateStatusAfterPage(status, page(2, 7), config, Function.identity());
+
+        assertThat(status.getLastDateModified()).isEqualTo(MODIFIED);
+        assertThat(status.getTotalPages()).isNull();
+        assertThat(status.getNextPage()).isEqualTo(2);
+        assertThat(status.isUseLastDateModifiedInQuery()).isFalse();
+        assertThat(status.isMoreDataAvailable()).isTrue();
+    }
+
+    @Test
+    void incrementalPassRestartsFromTheWatermarkWhenDone() {
+        ProcessorStatus status = incrementalStatus();
+        status.setNextPage(4);
+        status.setUseLastDateModifiedInQuery(false);
+
+        WooPagination.updateStatusAfterPage(status, page(0, 4), config, Function.identity());
+
+        assertThat(status.isMoreDataAvailable()).isFalse();
+        assertThat(status.getNextPage()).isEqualTo(1);
+        assertThat(status.isUseLastDateModifiedInQuery()).isTrue();
+        assertThat(status.getTotalPages()).isNull();
+    }
+
+    private static WooCommercePage<Instant> page(int items, Integer totalPages) {
+        List<Instant> modified = Collections.nCopies(items, MODIFIED);
+        return new WooCommercePage<>(modified, null, totalPages, 1024L);
+    }
+
+    private static ProcessorStatus sliceStatus(int nextPage) {
+        return ProcessorStatus.builder()
+                .processorType(ProcessorType.WOOCOMMERCE_ORDER)
+                .lastDateModified(SLICE_FROM.minusSeconds(1))
+                .useLastDateModifiedInQuery(true)
+                .modifiedBefore(SLICE_TO)
+                .nextPage(nextPage)
+                .pageSize(2)
+                .moreDataAvailable(true)
+                .totalItemsSynced(0)
+                .build();
+    }
+
+    private static ProcessorStatus incrementalStatus() {
+        return ProcessorStatus.builder()
+                .processorType(ProcessorType.WOOCOMMERCE_ORDER)
+                .lastDateModified(SLICE_FROM)
+                .useLastDateModifiedInQuery(true)
+                .nextPage(1)
+                .pageSize(2)
+                .moreDataAvailable(true)
+                .totalItemsSynced(0)
+                .build();
+    }
+}
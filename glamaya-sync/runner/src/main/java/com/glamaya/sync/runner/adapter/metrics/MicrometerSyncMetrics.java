@@ -0,0 +1,141 @@
+package com.glamaya.sync.runner.adapter.metrics;
+
+import com.glamaya.sync.core.domain.model.FailureStage;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.SyncMetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micrometer implementation of the SyncMetricsPort, exposed through the actuator metrics endpoints.
+ * All meters are tagged with the processor type; notification meters additionally with the channel.
+ * Items per second is available as the rate of glamaya_sync_items_notified_total, and per run as the
+ * glamaya_sync_run_items_per_second gauge. glamaya_sync_queue_depth shows the pages buffered between stages.
+ * glamaya_sync_failed_items_total counts the items set aside by the failure lane, and
+ * glamaya_sync_failed_item_retries_total the outcomes of retrying them.
+ */
+@Component
+public class MicrometerSyncMetrics implements SyncMetricsPort {
+
+    private static final String TAG_PROCESSOR = "processor";
+    private static final String TAG_CHANNEL = "channel";
+    private static final String TAG_OUTCOME = "outcome";
+    private static final String TAG_STAGE = "stage";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<ProcessorType, AtomicLong> runItemsPerSecond = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> queueDepths = new ConcurrentHashMap<>();
+
+    public MicrometerSyncMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void recordFetch(ProcessorType processorType, Duration latency, int pageSize, int items) {
+        timer("glamaya_sync_fetch_duration", processorType).record(latency);
+        DistributionSummary.builder("glamaya_sync_fetch_page_size")
+                .tag(TAG_PROCESSOR, processorType.name())
+                .register(meterRegistry)
+                .record(pageSize);
+        counter("glamaya_sync_items_fetched_total", processorType).increment(items);
+    }
+
+    @Override
+    public void recordFetchFailure(ProcessorType processorType) {
+        counter("glamaya_sync_fetch_error_total", processorType).increment();
+    }
+
+    @Override
+    public void recordDecode(ProcessorType processorType, Duration latency) {
+        timer("glamaya_sync_decode_duration", processorType).record(latency);
+    }
+
+    @Override
+    public void recordMapping(ProcessorType processorType, Duration latency, int mapped, int failed) {
+        timer("glamaya_sync_mapping_duration", processorType).record(latency);
+        if (failed > 0) {
+            counter("glamaya_sync_mapping_error_total", processorType).increment(failed);
+        }
+    }
+
+    @Override
+    public void recordNotify(ProcessorType processorType, NotificationType notificationType, Duration latency,
+                             int items, boolean failed) {
+        Timer.builder("glamaya_sync_notify_duration")
+                .tag(TAG_PROCESSOR, processorType.name())
+                .tag(TAG_CHANNEL, notificationType.name())
+                .tag(TAG_OUTCOME, failed ? "failure" : "success")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(latency);
+        if (!failed) {
+            Counter.builder("glamaya_sync_items_notified_total")
+                    .tag(TAG_PROCESSOR, processorType.name())
+                    .tag(TAG_CHANNEL, notificationType.name())
+                    .register(meterRegistry)
+                    .increment(items);
+        }
+    }
+
+    @Override
+    public void recordQueueDepth(ProcessorType processorType, String stage, int depth) {
+        queueDepths.computeIfAbsent(processorType.name() + ":" + stage, key -> meterRegistry.gauge("glamaya_sync_queue_depth",
+                        Tags.of(TAG_PROCESSOR, processorType.name(), TAG_STAGE, stage), new AtomicLong()))
+                .set(depth);
+    }
+
+    @Override
+    public void recordCheckpoint(ProcessorType processorType, Duration latency) {
+        timer("glamaya_sync_checkpoint_duration", processorType).record(latency);
+    }
+
+    @Override
+    public void recordRun(ProcessorType processorType, Duration duration, long items) {
+        timer("glamaya_sync_run_duration", processorType).record(duration);
+        long millis = Math.max(1, duration.toMillis());
+        runItemsPerSecond.computeIfAbsent(processorType, type -> meterRegistry.gauge("glamaya_sync_run_items_per_second",
+                        Tags.of(TAG_PROCESSOR, type.name()), new AtomicLong()))
+                .set(items * 1000 / millis);
+    }
+
+    @Override
+    public void recordFailedItems(ProcessorType processorType, FailureStage stage, int items) {
+        Counter.builder("glamaya_sync_failed_items_total")
+                .tag(TAG_PROCESSOR, processorType.name())
+                .tag(TAG_STAGE, stage.name().toLowerCase())
+                .register(meterRegistry)
+                .increment(items);
+    }
+
+    @Override
+    public void recordRetry(ProcessorType processorType, String outcome) {
+        Counter.builder("glamaya_sync_failed_item_retries_total")
+                .tag(TAG_PROCESSOR, processorType.name())
+                .tag(TAG_OUTCOME, outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer timer(String name, ProcessorType processorType) {
+        return Timer.builder(name)
+                .tag(TAG_PROCESSOR, processorType.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String name, ProcessorType processorType) {
+        return Counter.builder(name)
+                .tag(TAG_PROCESSOR, processorType.name())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,71 @@
+package com.glamaya.sync.runner.adapter.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.glamaya.datacontracts.ecommerce.serde.EcommercePayloadCodec;
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.PayloadFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Serializes canonical models to the payloads the notification channels send, once per model and format: the
+ * bytes are cached on the EcomModel and shared by Kafka, webhooks and retries of the failure lane.
+ * <p>
+ * The mappers come from EcommercePayloadCodec, which consumers read the payloads with. The JSON matches what
+ * Kafka's JsonSerializer wrote before (same modules and date format), apart from null fields being left out.
+ * Blackbird replaces reflective getter calls with generated lambdas, and the writers are built once, so no
+ * per-call configuration is resolved.
+ */
+@Component
+public class CanonicalPayloadSerializer {
+
+    private final ObjectWriter jsonWriter;
+    private final ObjectWriter smileWriter;
+
+    public CanonicalPayloadSerializer() {
+        this.jsonWriter = EcommercePayloadCodec.jsonMapperBuilder()
+                .addModule(new BlackbirdModule())
+                .build()
+                .writer();
+        this.smileWriter = EcommercePayloadCodec.smileMapperBuilder()
+                .addModule(new BlackbirdModule())
+                .build()
+                .writer();
+    }
+
+    /**
+     * Returns the JSON of the model's data, serializing it only the first time.
+     *
+     * @param model The canonical model.
+     * @return The shared JSON bytes; must not be modified.
+     * @throws UncheckedIOException if the data cannot be serialized.
+     */
+    public byte[] toJson(EcomModel<?> model) {
+        return serialize(model, PayloadFormat.JSON);
+    }
+
+    /**
+     * Returns the model's data in the given format, serializing it only the first time for that format.
+     *
+     * @param model  The canonical model.
+     * @param format The payload format; null means JSON.
+     * @return The shared bytes; must not be modified.
+     * @throws UncheckedIOException if the data cannot be serialized.
+     */
+    public byte[] serialize(EcomModel<?> model, PayloadFormat format) {
+        PayloadFormat effective = format != null ? format : PayloadFormat.JSON;
+        ObjectWriter writer = effective == PayloadFormat.SMILE ? smileWriter : jsonWriter;
+        return model.serialized(effective.name(), data -> write(writer, data));
+    }
+
+    private static byte[] write(ObjectWriter writer, Object data) {
+        try {
+            return writer.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.glamaya.sync.runner.adapter.notification;
+
+import com.glamaya.sync.core.common.Bulkhead;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.runner.common.LoggerConstants;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * One Bulkhead per notification channel and target, so a slow target only fills its own slots: a webhook host
+ * that stalls makes its own batches queue, be rejected or time out, while Kafka keeps its throughput. The target
+ * is the topic for Kafka and the host for webhooks. Limits are taken from the channel configuration of the first
+ * batch sent to a target, so processors sharing a target should configure the same limits.
+ * <p>
+ * Publishes glamaya_sync_channel_in_flight and glamaya_sync_channel_queued per channel and target, and counts
+ * batches given up in glamaya_sync_channel_rejected_total, with reason queue-full or timeout.
+ */
+@Slf4j
+@Component
+public class ChannelBulkheads {
+
+    private static final String TAG_CHANNEL = "channel";
+    private static final String TAG_TARGET = "target";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public ChannelBulkheads(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs a notification call within the bulkhead of its channel and target, with the channel timeout.
+     *
+     * @param type   The notification channel.
+     * @param config The channel configuration of the processor sending the batch.
+     * @param call   Supplies the call; only invoked once it may start.
+     * @return Mono completing with the call; fails with a RejectedExecutionException if the bulkhead is full, or a
+     * TimeoutException if the call took too long.
+     */
+    public Mono<Void> execute(NotificationType type, ProcessorConfiguration.NotificationConfig config, Supplier<Mono<Void>> call) {
+        String target = targetOf(type, config);
+        Bulkhead bulkhead = bulkheads.computeIfAbsent(type.name() + ":" + target, key -> newBulkhead(type, target, config));
+        Mono<Void> guarded = bulkhead.execute(call);
+        Long timeoutMs = config.getTimeoutMs();
+        if (timeoutMs != null && timeoutMs > 0) {
+            guarded = guarded.timeout(Duration.ofMillis(timeoutMs));
+        }
+        return guarded
+                .doOnError(RejectedExecutionException.class, e -> rejected(type, target, "queue-full"))
+                .doOnError(TimeoutException.class, e -> {
+                    log.warn(LoggerConstants.NOTIF_CHANNEL_TIMEOUT, type, target, timeoutMs);
+                    rejected(type, target, "timeout");
+                });
+    }
+
+    private Bulkhead newBulkhead(NotificationType type, String target, ProcessorConfiguration.NotificationConfig config) {
+        Bulkhead bulkhead = new Bulkhead(type + " " + target,
+                config.getMaxConcurrency() != null ? config.getMaxConcurrency() : 0,
+                config.getMaxQueued() != null ? config.getMaxQueued() : -1);
+        Gauge.builder("glamaya_sync_channel_in_flight", bulkhead, Bulkhead::inFlight)
+                .tag(TAG_CHANNEL, type.name())
+                .tag(TAG_TARGET, target)
+                .register(meterRegistry);
+        Gauge.builder("glamaya_sync_channel_queued", bulkhead, Bulkhead::queued)
+                .tag(TAG_CHANNEL, type.name())
+                .tag(TAG_TARGET, target)
+                .register(meterRegistry);
+        return bulkhead;
+    }
+
+    private void rejected(NotificationType type, String target, String reason) {
+        meterRegistry.counter("glamaya_sync_channel_rejected_total",
+                TAG_CHANNEL, type.name(), TAG_TARGET, target, "reason", reason).increment();
+    }
+
+    /**
+     * Returns the topic for Kafka and the host (with port, if any) for webhooks; the full URL would make a
+     * meter per path and leak query parameters into the metrics.
+     */
+    private static String targetOf(NotificationType type, ProcessorConfiguration.NotificationConfig config) {
+        String target = type == NotificationType.KAFKA ? config.getTopic() : hostOf(config.getUrl());
+        return target == null || target.isBlank() ? "default" : target;
+    }
+
+    private static String hostOf(String url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            URI uri = URI.create(url.trim());
+            if (uri.getHost() == null) {
+                return url;
+            }
+            return uri.getPort() >= 0 ? uri.getHost() + ":" + uri.getPort() : uri.getHost();
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+}
@@ -8,7 +8,6 @@ import com.glamaya.sync.runner.common.LoggerConstants;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -16,6 +15,9 @@ import java.util.List;
 /**
  * A composite implementation of NotificationPort that dispatches notifications
  * to all other registered NotificationPort beans. This enables a "fan-out" mechanism.
+ * Every leaf is given the payloads even if another one fails; a failure is then passed on so the caller
+ * can hand the items to its failure lane. Each channel and target runs within its own bulkhead (see
+ * ChannelBulkheads), so a slow channel cannot hold up the others.
  */
 @Slf4j
 @Component("compositeNotificationAdapter")
@@ -23,17 +25,20 @@ import java.util.List;
 public class CompositeNotificationAdapter implements NotificationPort<EcomModel<?>> {
 
     private final List<NotificationPort<EcomModel<?>>> notifiers;
+    private final ChannelBulkheads bulkheads;
 
     /**
      * Spring injects all available NotificationPort beans.
      * We filter out this instance to prevent infinite recursion.
      *
      * @param allNotificationPorts A list of all NotificationPort beans in the application context.
+     * @param bulkheads            Limits the calls in flight per channel and target.
      */
-    public CompositeNotificationAdapter(List<NotificationPort<EcomModel<?>>> allNotificationPorts) {
+    public CompositeNotificationAdapter(List<NotificationPort<EcomModel<?>>> allNotificationPorts, ChannelBulkheads bulkheads) {
         this.notifiers = allNotificationPorts.stream()
                 .filter(n -> n != this) // Exclude self to prevent infinite loop
                 .toList();
+        this.bulkheads = bulkheads;
         log.info(LoggerConstants.NOTIF_COMPOSITE_INIT, notifiers.size());
     }
 
@@ -51,10 +56,24 @@ public class CompositeNotificationAdapter implements NotificationPort<EcomModel<
         if (channelCfg == null) {
             return Mono.empty();
         }
-        return Flux.fromIterable(notifiers)
+        return bulkheads.execute(type, channelCfg, () -> Mono.whenDelayError(notifiers.stream()
                 .filter(n -> n.supports(type))
-                .flatMap(n -> n.notify(payload, processorConfiguration, type)
-                        .onErrorResume(e -> Mono.empty()))
-                .then();
+                .map(n -> n.notify(payload, processorConfiguration, type))
+                .toList()));
+    }
+
+    @Override
+    public Mono<Void> notifyBatch(List<EcomModel<?>> payloads,
+                                  ProcessorConfiguration<?> processorConfiguration,
+                                  NotificationType type) {
+        // Retrieve channel-specific config once; if absent or nothing to send, skip.
+        var channelCfg = processorConfiguration.getNotificationConfig(type);
+        if (channelCfg == null || payloads.isEmpty()) {
+            return Mono.empty();
+        }
+        return bulkheads.execute(type, channelCfg, () -> Mono.whenDelayError(notifiers.stream()
+                .filter(n -> n.supports(type))
+                .map(n -> n.notifyBatch(payloads, processorConfiguration, type))
+                .toList()));
     }
 }
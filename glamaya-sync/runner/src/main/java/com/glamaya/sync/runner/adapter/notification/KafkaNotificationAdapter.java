@@ -1,7 +1,9 @@
 package com.glamaya.sync.runner.adapter.notification;
 
+import com.glamaya.datacontracts.ecommerce.serde.EcommercePayloadCodec;
 import com.glamaya.sync.core.domain.model.EcomModel;
 import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.PayloadFormat;
 import com.glamaya.sync.core.domain.port.out.NotificationPort;
 import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
 import com.glamaya.sync.runner.common.Constants;
@@ -10,23 +12,41 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Reactive Kafka implementation of the NotificationPort.
- * Dispatches canonical domain models to a Kafka topic.
+ * Dispatches canonical domain models to a Kafka topic. Values are the bytes shared with the other channels (see
+ * CanonicalPayloadSerializer), in the payload format of the topic: JSON unless the channel configures SMILE.
+ * Every record carries the type header JsonSerializer used to add; SMILE records also carry the format header,
+ * so consumers using EcommerceKafkaDeserializer read both.
  */
 @Slf4j
 @Component("kafkaNotificationAdapter")
 public class KafkaNotificationAdapter implements NotificationPort<EcomModel<?>> {
 
-    private final ReactiveKafkaProducerTemplate<String, Object> kafkaTemplate;
+    // Failures of a batch attached to the one raised, beyond the first
+    private static final int MAX_SUPPRESSED = 10;
+
+    private static final byte[] SMILE_HEADER_VALUE = EcommercePayloadCodec.FORMAT_SMILE.getBytes(StandardCharsets.UTF_8);
+
+    private final ReactiveKafkaProducerTemplate<String, byte[]> kafkaTemplate;
+    private final CanonicalPayloadSerializer payloadSerializer;
 
     public KafkaNotificationAdapter(
-            ReactiveKafkaProducerTemplate<String, Object> kafkaTemplate) {
+            ReactiveKafkaProducerTemplate<String, byte[]> kafkaTemplate,
+            CanonicalPayloadSerializer payloadSerializer) {
         this.kafkaTemplate = kafkaTemplate;
+        this.payloadSerializer = payloadSerializer;
     }
 
     @Override
@@ -38,19 +58,92 @@ public class KafkaNotificationAdapter implements NotificationPort<EcomModel<?>>
     public Mono<Void> notify(EcomModel<?> payload,
                              ProcessorConfiguration<?> processorConfiguration,
                              NotificationType type) {
-        if (!supports(type)) {
+        var cfg = enabledConfig(processorConfiguration, type);
+        if (cfg == null) {
+            return Mono.empty();
+        }
+        log.debug(LoggerConstants.NOTIF_KAFKA_SEND, cfg.getTopic());
+        // The sender does not stop on errors, so a failed send arrives as a result carrying the exception
+        return kafkaTemplate.send(toProducerRecord(payload, cfg))
+                .flatMap(result -> result.exception() != null ? Mono.error(result.exception()) : Mono.empty());
+    }
+
+    /**
+     * Sends the whole batch through a single sender pipeline, so the producer can fill its batches instead of
+     * being handed one record per subscription. Each record carries the payload id as correlation metadata,
+     * which identifies failed records in the send results. As the sender does not stop on errors, every record
+     * is attempted; if any of them failed, the call fails once all results are in, so the caller hands the batch
+     * to its failure lane.
+     */
+    @Override
+    public Mono<Void> notifyBatch(List<EcomModel<?>> payloads,
+                                  ProcessorConfiguration<?> processorConfiguration,
+                                  NotificationType type) {
+        var cfg = enabledConfig(processorConfiguration, type);
+        if (cfg == null || payloads.isEmpty()) {
             return Mono.empty();
         }
+        log.debug(LoggerConstants.NOTIF_KAFKA_SEND_BATCH, payloads.size(), cfg.getTopic());
+        Flux<SenderRecord<String, byte[], String>> records = Flux.fromIterable(payloads)
+                .map(payload -> SenderRecord.create(toProducerRecord(payload, cfg), payload.getId()));
+        return kafkaTemplate.send(records)
+                .filter(result -> result.exception() != null)
+                .doOnNext(result -> log.error(LoggerConstants.NOTIF_KAFKA_SEND_FAILED, cfg.getTopic(),
+                        result.correlationMetadata(), result.exception().getMessage()))
+                .map(SenderResult::exception)
+                .collectList()
+                .flatMap(failures -> failures.isEmpty() ? Mono.empty() : Mono.error(combine(failures)));
+    }
+
+    /**
+     * Returns the first failure with the other distinct ones suppressed, at most MAX_SUPPRESSED of them. The
+     * producer fails all records of an expired batch with the same exception instance, which must not be
+     * suppressed by itself.
+     */
+    private static Exception combine(List<Exception> failures) {
+        Exception failure = failures.getFirst();
+        Set<Exception> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.add(failure);
+        for (Exception other : failures) {
+            if (distinct.size() > MAX_SUPPRESSED) {
+                break;
+            }
+            if (distinct.add(other)) {
+                failure.addSuppressed(other);
+            }
+        }
+        return failure;
+    }
+
+    /**
+     * Returns the Kafka channel configuration if the channel is supported, enabled and has a topic, otherwise null.
+     */
+    private ProcessorConfiguration.NotificationConfig enabledConfig(ProcessorConfiguration<?> processorConfiguration,
+                                                                   NotificationType type) {
+        if (!supports(type)) {
+            return null;
+        }
         var cfg = processorConfiguration.getNotificationConfig(NotificationType.KAFKA);
         if (cfg == null || !Boolean.TRUE.equals(cfg.getEnable()) || cfg.getTopic() == null || cfg.getTopic().isBlank()) {
-            return Mono.empty();
+            return null;
+        }
+        return cfg;
+    }
+
+    private ProducerRecord<String, byte[]> toProducerRecord(EcomModel<?> payload, ProcessorConfiguration.NotificationConfig cfg) {
+        PayloadFormat format = cfg.getPayloadFormat() != null ? cfg.getPayloadFormat() : PayloadFormat.JSON;
+        ProducerRecord<String, byte[]> producerRecord =
+                new ProducerRecord<>(cfg.getTopic(), payload.getId(), payloadSerializer.serialize(payload, format));
+        if (payload.getData() != null) {
+            producerRecord.headers().add(EcommercePayloadCodec.TYPE_ID_HEADER,
+                    payload.getData().getClass().getName().getBytes(StandardCharsets.UTF_8));
+        }
+        if (format == PayloadFormat.SMILE) {
+            producerRecord.headers().add(EcommercePayloadCodec.FORMAT_HEADER, SMILE_HEADER_VALUE);
         }
-        String topic = cfg.getTopic();
-        log.debug(LoggerConstants.NOTIF_KAFKA_SEND, topic);
-        ProducerRecord<String, Object> producerRecord = new ProducerRecord<>(topic, payload.getId(), payload.getData());
         if (cfg.getPlatformName() != null) {
             producerRecord.headers().add(Constants.SOURCE_ACCOUNT_NAME, cfg.getPlatformName().getBytes(StandardCharsets.UTF_8));
         }
-        return kafkaTemplate.send(producerRecord).then();
+        return producerRecord;
     }
 }
@@ -0,0 +1,261 @@
+package com.glamaya.sync.runner.adapter.notification;
+
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.port.out.NotificationPort;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.runner.common.Constants;
+import com.glamaya.sync.runner.common.LoggerConstants;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reactive webhook implementation of the NotificationPort, e.g. for n8n.
+ * Payloads are posted as JSON arrays of canonical models, at most batch.max-items per request, optionally gzipped.
+ * The arrays are assembled from the JSON bytes shared with the other channels (see CanonicalPayloadSerializer).
+ * With a positive batch.window-ms, payloads sent to the same URL by different calls (pages, processors, retries of
+ * the failure lane) are collected for up to that window, so small pages do not cost one request each. Requests go
+ * through the pooled webhookWebClient, at most concurrency at a time per URL; 5xx, 429 and connection errors are
+ * retried with jittered exponential backoff.
+ * <p>
+ * A call completes once every one of its payloads has been accepted; if a request carrying one of them fails for
+ * good, the call fails and the caller hands the batch to its failure lane. Payloads already collected are still
+ * sent when the call is cancelled (e.g. by the channel timeout), so a retried item may be delivered twice. Once the
+ * adapter has been stopped, calls fail.
+ */
+@Slf4j
+@Component("webhookNotificationAdapter")
+public class WebhookNotificationAdapter implements NotificationPort<EcomModel<?>> {
+
+    private static final Duration EMIT_TIMEOUT = Duration.ofSeconds(1);
+
+    private final WebClient webClient;
+    private final CanonicalPayloadSerializer payloadSerializer;
+    private final int batchMaxItems;
+    private final Duration batchWindow;
+    private final boolean gzip;
+    private final int concurrency;
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Map<String, Batcher> batchers = new ConcurrentHashMap<>();
+
+    public WebhookNotificationAdapter(@Qualifier("webhookWebClient") WebClient webClient,
+                                      CanonicalPayloadSerializer payloadSerializer,
+                                      @Value("${glamaya.sync.webhook.batch.max-items:100}") int batchMaxItems,
+                                      @Value("${glamaya.sync.webhook.batch.window-ms:200}") long batchWindowMs,
+                                      @Value("${glamaya.sync.webhook.gzip:false}") boolean gzip,
+                                      @Value("${glamaya.sync.webhook.concurrency:4}") int concurrency,
+                                      @Value("${glamaya.sync.webhook.retry.max-attempts:3}") int maxRetries,
+                                      @Value("${glamaya.sync.webhook.retry.initial-backoff-ms:500}") long initialBackoffMs,
+                                      @Value("${glamaya.sync.webhook.retry.max-backoff-ms:10000}") long maxBackoffMs) {
+        this.webClient = webClient;
+        this.payloadSerializer = payloadSerializer;
+        this.batchMaxItems = Math.max(1, batchMaxItems);
+        this.batchWindow = Duration.ofMillis(Math.max(0, batchWindowMs));
+        this.gzip = gzip;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.initialBackoff = Duration.ofMillis(Math.max(1, initialBackoffMs));
+        this.maxBackoff = Duration.ofMillis(Math.max(initialBackoffMs, maxBackoffMs));
+        log.info(LoggerConstants.NOTIF_WEBHOOK_INIT, this.batchMaxItems, this.batchWindow.toMillis(), gzip,
+                this.concurrency, this.maxRetries);
+    }
+
+    @PreDestroy
+    void stop() {
+        // Completing the queues sends what has been collected so far
+        batchers.values().forEach(Batcher::complete);
+    }
+
+    @Override
+    public boolean supports(NotificationType type) {
+        return type == NotificationType.WEBHOOK;
+    }
+
+    @Override
+    public Mono<Void> notify(EcomModel<?> payload,
+                             ProcessorConfiguration<?> processorConfiguration,
+                             NotificationType type) {
+        return notifyBatch(List.of(payload), processorConfiguration, type);
+    }
+
+    @Override
+    public Mono<Void> notifyBatch(List<EcomModel<?>> payloads,
+                                  ProcessorConfiguration<?> processorConfiguration,
+                                  NotificationType type) {
+        var cfg = enabledConfig(processorConfiguration, type);
+        if (cfg == null || payloads.isEmpty()) {
+            return Mono.empty();
+        }
+        if (batchWindow.isZero()) {
+            return Flux.fromIterable(payloads)
+                    .buffer(batchMaxItems)
+                    .flatMap(chunk -> post(cfg, chunk), concurrency)
+                    .then();
+        }
+        // The source account is sent as a header, so payloads of different accounts never share a request
+        String key = cfg.getUrl() + '|' + cfg.getPlatformName();
+        return batchers.computeIfAbsent(key, k -> new Batcher(cfg)).submit(payloads);
+    }
+
+    /**
+     * Returns the webhook channel configuration if the channel is supported, enabled and has a URL, otherwise null.
+     */
+    private ProcessorConfiguration.NotificationConfig enabledConfig(ProcessorConfiguration<?> processorConfiguration,
+                                                                   NotificationType type) {
+        if (!supports(type)) {
+            return null;
+        }
+        var cfg = processorConfiguration.getNotificationConfig(NotificationType.WEBHOOK);
+        if (cfg == null || !Boolean.TRUE.equals(cfg.getEnable()) || cfg.getUrl() == null || cfg.getUrl().isBlank()) {
+            return null;
+        }
+        return cfg;
+    }
+
+    /**
+     * Posts one JSON array. The body is encoded once and reused by every retry.
+     */
+    private Mono<Void> post(ProcessorConfiguration.NotificationConfig cfg, List<EcomModel<?>> chunk) {
+        log.debug(LoggerConstants.NOTIF_WEBHOOK_SEND_BATCH, chunk.size(), cfg.getUrl());
+        return Mono.fromCallable(() -> encode(chunk))
+                .flatMap(body -> webClient.post()
+                        .uri(cfg.getUrl().trim())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .headers(headers -> {
+                            if (gzip) {
+                                headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                            }
+                            if (cfg.getPlatformName() != null) {
+                                headers.set(Constants.SOURCE_ACCOUNT_NAME, cfg.getPlatformName());
+                            }
+                        })
+                        .bodyValue(body)
+                        .retrieve()
+                        .toBodilessEntity()
+                        .retryWhen(Retry.backoff(maxRetries, initialBackoff)
+                                .maxBackoff(maxBackoff)
+                                .jitter(0.5)
+                                .filter(WebhookNotificationAdapter::isRetryable)
+                                .doBeforeRetry(signal -> log.warn(LoggerConstants.NOTIF_WEBHOOK_RETRY, cfg.getUrl(),
+                                        signal.totalRetries() + 1, signal.failure().getMessage()))
+                                .onRetryExhaustedThrow((spec, signal) -> signal.failure())))
+                .doOnError(e -> log.error(LoggerConstants.NOTIF_WEBHOOK_SEND_FAILED, cfg.getUrl(), chunk.size(), e.getMessage()))
+                .then();
+    }
+
+    private byte[] encode(List<EcomModel<?>> chunk) throws IOException {
+        List<byte[]> items = new ArrayList<>(chunk.size());
+        int length = 2 + Math.max(0, chunk.size() - 1);
+        for (EcomModel<?> payload : chunk) {
+            byte[] json = payloadSerializer.toJson(payload);
+            items.add(json);
+            length += json.length;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(gzip ? length / 4 + 64 : length);
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+            out.write('[');
+            for (int i = 0; i < items.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(items.get(i));
+            }
+            out.write(']');
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Server errors, rate limiting and failed connections are worth another attempt; other 4xx responses are not.
+     */
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError()
+                    || response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return e instanceof WebClientRequestException;
+    }
+
+    /**
+     * Collects the payloads sent to one URL into requests of up to batch.max-items, flushing a partial request once
+     * the oldest payload in it has waited batch.window-ms.
+     */
+    private final class Batcher {
+
+        private final Sinks.Many<Pending> queue = Sinks.many().unicast().onBackpressureBuffer();
+
+        Batcher(ProcessorConfiguration.NotificationConfig cfg) {
+            queue.asFlux()
+                    .bufferTimeout(batchMaxItems, batchWindow, true)
+                    .flatMap(batch -> post(cfg, batch.stream().<EcomModel<?>>map(Pending::payload).toList())
+                            .doOnSuccess(v -> batch.forEach(pending -> pending.done().tryEmitEmpty()))
+                            .onErrorResume(e -> {
+                                batch.forEach(pending -> pending.done().tryEmitError(e));
+                                return Mono.empty();
+                            }), concurrency)
+                    .subscribe();
+        }
+
+        Mono<Void> submit(List<EcomModel<?>> payloads) {
+            return Mono.defer(() -> {
+                List<Mono<Void>> accepted = new ArrayList<>(payloads.size());
+                for (EcomModel<?> payload : payloads) {
+                    Sinks.Empty<Void> done = Sinks.empty();
+                    Sinks.EmitResult result = offer(new Pending(payload, done));
+                    if (result.isFailure()) {
+                        // Completed on shutdown; emitNext would drop the payload and the call would never complete
+                        return Mono.error(new IllegalStateException("Webhook batch queue rejected the payload: " + result));
+                    }
+                    accepted.add(done.asMono());
+                }
+                return Mono.when(accepted);
+            });
+        }
+
+        /**
+         * Emits into the queue; calls from several threads emit into the same queue, so a concurrent emission is
+         * waited out for up to EMIT_TIMEOUT.
+         */
+        private Sinks.EmitResult offer(Pending pending) {
+            long deadline = System.nanoTime() + EMIT_TIMEOUT.toNanos();
+            Sinks.EmitResult result;
+            while ((result = queue.tryEmitNext(pending)) == Sinks.EmitResult.FAIL_NON_SERIALIZED
+                    && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            return result;
+        }
+
+        void complete() {
+            queue.tryEmitComplete();
+        }
+    }
+
+    private record Pending(EcomModel<?> payload, Sinks.Empty<Void> done) {
+    }
+}
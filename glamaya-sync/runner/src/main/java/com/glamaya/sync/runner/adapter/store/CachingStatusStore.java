@@ -0,0 +1,110 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.StatusStorePort;
+import com.glamaya.sync.runner.common.LoggerConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-through cache in front of the status store, which is the StatusStorePort the core sees.
+ * The latest status per ProcessorType is loaded on the first findStatus and replaced on every save, so runs
+ * read it from memory instead of the database; this instance is the only writer of the processors it runs.
+ * Statuses are copied in and out, since callers modify the status they are given. When another instance may
+ * have written a status, invalidate drops it so it is read again; a failed save drops it as well.
+ * Delegates to the write-behind store if enabled, otherwise to Mongo; with the cache disabled every call
+ * passes straight through.
+ */
+@Slf4j
+@Primary
+@Component
+public class CachingStatusStore implements StatusStorePort {
+
+    private final StatusStorePort delegate;
+    private final boolean enabled;
+    private final MeterRegistry meterRegistry;
+    private final Map<ProcessorType, ProcessorStatus> statuses = new ConcurrentHashMap<>();
+
+    public CachingStatusStore(MongoProcessorStatusRepository mongoStore,
+                              ObjectProvider<WriteBehindStatusStore> writeBehindStore,
+                              MeterRegistry meterRegistry,
+                              @Value("${glamaya.sync.status-store.cache.enabled:true}") boolean enabled) {
+        StatusStorePort writeBehind = writeBehindStore.getIfAvailable();
+        this.delegate = writeBehind != null ? writeBehind : mongoStore;
+        this.enabled = enabled;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gaugeMapSize("glamaya_sync_status_cache_size", Tags.empty(), statuses);
+        log.info(LoggerConstants.STORE_CACHE_INIT, enabled, delegate.getClass().getSimpleName());
+    }
+
+    @Override
+    public Mono<ProcessorStatus> findStatus(ProcessorType processorType) {
+        if (!enabled) {
+            return delegate.findStatus(processorType);
+        }
+        return Mono.defer(() -> {
+            ProcessorStatus cached = statuses.get(processorType);
+            if (cached != null) {
+                count(processorType, "hit");
+                return Mono.just(cached.snapshot());
+            }
+            count(processorType, "miss");
+            // A status saved while loading is newer than the loaded one and is kept
+            return delegate.findStatus(processorType)
+                    .map(loaded -> statuses.computeIfAbsent(processorType, type -> loaded.snapshot()).snapshot());
+        });
+    }
+
+    @Override
+    public Mono<Void> saveStatus(ProcessorStatus status) {
+        return Mono.defer(() -> {
+            cache(status);
+            return delegate.saveStatus(status)
+                    .doOnError(e -> statuses.remove(status.getProcessorType()));
+        });
+    }
+
+    @Override
+    public Mono<Void> saveCheckpoint(ProcessorStatus status) {
+        return Mono.defer(() -> {
+            cache(status);
+            return delegate.saveCheckpoint(status)
+                    .doOnError(e -> statuses.remove(status.getProcessorType()));
+        });
+    }
+
+    @Override
+    public void invalidate(ProcessorType processorType) {
+        if (statuses.remove(processorType) != null) {
+            log.info(LoggerConstants.STORE_CACHE_INVALIDATED, processorType);
+        }
+        delegate.invalidate(processorType);
+    }
+
+    /**
+     * Drops every cached status, e.g. after the statuses were changed in the database by hand.
+     */
+    public void invalidateAll() {
+        statuses.keySet().forEach(this::invalidate);
+    }
+
+    private void cache(ProcessorStatus status) {
+        if (enabled) {
+            statuses.put(status.getProcessorType(), status.snapshot());
+        }
+    }
+
+    private void count(ProcessorType processorType, String result) {
+        meterRegistry.counter("glamaya_sync_status_cache_lookups", "processor", processorType.name(), "result", result).increment();
+    }
+}
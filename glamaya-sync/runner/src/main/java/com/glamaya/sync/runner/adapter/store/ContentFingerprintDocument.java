@@ -0,0 +1,22 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * MongoDB document holding the fingerprint of the last notified content of one canonical model.
+ * The id combines processor type and canonical id, see MongoDedupStore.
+ */
+@Data
+@Document(collection = "content_fingerprint")
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentFingerprintDocument {
+
+    @Id
+    private String id;
+    private long fingerprint;
+}
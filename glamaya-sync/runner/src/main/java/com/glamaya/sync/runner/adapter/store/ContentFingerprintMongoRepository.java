@@ -0,0 +1,19 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive Spring Data MongoDB Repository for ContentFingerprintDocument.
+ */
+@Repository
+public interface ContentFingerprintMongoRepository extends ReactiveMongoRepository<ContentFingerprintDocument, String> {
+
+    /**
+     * Streams every document with only its id read; the fingerprint is left at zero.
+     */
+    @Query(value = "{}", fields = "{ '_id': 1 }")
+    Flux<ContentFingerprintDocument> findAllIds();
+}
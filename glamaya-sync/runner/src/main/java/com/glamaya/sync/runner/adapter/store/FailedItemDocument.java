@@ -0,0 +1,36 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import com.glamaya.sync.core.domain.model.FailureStage;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * MongoDB document holding one item set aside by the failure lane, see MongoFailedItemStore.
+ * The id is the key of the item, so a later failure of the same item on the same channel updates the same document.
+ */
+@Data
+@Document(collection = "failed_item")
+@NoArgsConstructor
+@AllArgsConstructor
+public class FailedItemDocument {
+
+    @Id
+    private String id;
+    private ProcessorType processorType;
+    private String itemId;
+    private FailureStage stage;
+    private NotificationType notificationType;
+    private String reason;
+    private int attempts;
+    private Instant firstFailedAt;
+    private Instant lastFailedAt;
+    private Instant nextAttemptAt;
+    private boolean deadLettered;
+}
@@ -0,0 +1,49 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import com.glamaya.sync.core.domain.model.Lease;
+import com.glamaya.sync.core.domain.port.out.LeasePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory implementation of the LeasePort for a single runner instance and for tests.
+ * Leases are only shared within the JVM, so a single instance simply holds every processor.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "glamaya.sync.sharding", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLeaseStore implements LeasePort {
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Boolean> tryAcquire(String name, String owner, Duration ttl) {
+        return Mono.fromSupplier(() -> {
+            Instant now = Instant.now();
+            Lease lease = leases.compute(name, (key, current) ->
+                    current == null || current.owner().equals(owner) || current.expiresAt().isBefore(now)
+                            ? new Lease(name, owner, now.plus(ttl))
+                            : current);
+            return lease.owner().equals(owner);
+        });
+    }
+
+    @Override
+    public Mono<Void> release(String name, String owner) {
+        return Mono.fromRunnable(() -> leases.computeIfPresent(name, (key, current) -> current.owner().equals(owner) ? null : current));
+    }
+
+    @Override
+    public Flux<Lease> findActive() {
+        return Flux.defer(() -> {
+            Instant now = Instant.now();
+            return Flux.fromStream(leases.values().stream().filter(lease -> lease.expiresAt().isAfter(now)));
+        });
+    }
+}
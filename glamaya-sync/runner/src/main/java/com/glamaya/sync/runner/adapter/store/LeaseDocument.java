@@ -0,0 +1,24 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * MongoDB document holding one lease shared by the runner instances, see MongoLeaseStore.
+ */
+@Data
+@Document(collection = "lease")
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaseDocument {
+
+    @Id
+    private String id;
+    private String owner;
+    private Instant expiresAt;
+}
@@ -0,0 +1,152 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.DedupPort;
+import com.glamaya.sync.runner.common.LoggerConstants;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * MongoDB implementation of the DedupPort.
+ * Stores a 64-bit fingerprint (truncated SHA-256 of the canonical JSON) per processor type and canonical id.
+ * A Bloom filter over the stored ids sits in front of the collection: models whose id it has definitely not
+ * seen are treated as changed without a lookup, so a page of new items costs no Mongo round-trip. Keying the
+ * filter by id alone lets the startup warm-up read just the ids.
+ */
+@Slf4j
+@Repository
+public class MongoDedupStore implements DedupPort {
+
+    private final ContentFingerprintMongoRepository mongoRepository;
+    private final ObjectMapper canonicalMapper;
+    private final BloomFilter bloomFilter;
+
+    public MongoDedupStore(ContentFingerprintMongoRepository mongoRepository,
+                           @Value("${glamaya.sync.dedup.bloom.expected-insertions:1000000}") long expectedInsertions,
+                           @Value("${glamaya.sync.dedup.bloom.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.mongoRepository = mongoRepository;
+        // Sorted properties and map keys make the JSON, and so the fingerprint, independent of field/insertion order
+        this.canonicalMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    @PostConstruct
+    void warmUp() {
+        // Until the filter is loaded, stored fingerprints are missed and the items are simply notified again
+        mongoRepository.findAllIds()
+                .doOnNext(doc -> bloomFilter.put(bloomKey(doc.getId())))
+                .count()
+                .subscribe(count -> log.info(LoggerConstants.DEDUP_WARMED_UP, count),
+                        e -> log.warn(LoggerConstants.DEDUP_WARM_UP_FAILED, e.getMessage()));
+    }
+
+    @Override
+    public Mono<List<EcomModel<?>>> filterChanged(ProcessorType processorType, List<EcomModel<?>> models) {
+        return Mono.defer(() -> {
+            Long[] fingerprints = new Long[models.size()];
+            Set<String> candidateIds = new HashSet<>();
+            for (int i = 0; i < models.size(); i++) {
+                EcomModel<?> model = models.get(i);
+                fingerprints[i] = fingerprint(model);
+                if (fingerprints[i] != null && bloomFilter.mightContain(bloomKey(documentId(processorType, model.getId())))) {
+                    candidateIds.add(documentId(processorType, model.getId()));
+                }
+            }
+            if (candidateIds.isEmpty()) {
+                return Mono.just(models);
+            }
+            return mongoRepository.findAllById(candidateIds)
+                    .collectMap(ContentFingerprintDocument::getId, ContentFingerprintDocument::getFingerprint)
+                    .map(stored -> {
+                        List<EcomModel<?>> changed = new ArrayList<>(models.size());
+                        for (int i = 0; i < models.size(); i++) {
+                            EcomModel<?> model = models.get(i);
+                            if (fingerprints[i] == null
+                                    || !fingerprints[i].equals(stored.get(documentId(processorType, model.getId())))) {
+                                changed.add(model);
+                            }
+                        }
+                        return changed;
+                    });
+        });
+    }
+
+    @Override
+    public Mono<Void> markNotified(ProcessorType processorType, List<EcomModel<?>> models) {
+        return Mono.defer(() -> {
+            List<ContentFingerprintDocument> documents = new ArrayList<>(models.size());
+            for (EcomModel<?> model : models) {
+                Long fingerprint = fingerprint(model);
+                if (fingerprint != null) {
+                    documents.add(new ContentFingerprintDocument(documentId(processorType, model.getId()), fingerprint));
+                }
+            }
+            if (documents.isEmpty()) {
+                return Mono.empty();
+            }
+            return mongoRepository.saveAll(documents)
+                    .doOnNext(doc -> bloomFilter.put(bloomKey(doc.getId())))
+                    .then();
+        });
+    }
+
+    /**
+     * Returns the content fingerprint of a model, or null if it has no id or cannot be serialized
+     * (such models are never deduplicated). The fingerprint is computed once and cached on the model, so
+     * markNotified reuses the one filterChanged computed.
+     */
+    private Long fingerprint(EcomModel<?> model) {
+        if (model.getId() == null) {
+            return null;
+        }
+        return model.fingerprint(data -> computeFingerprint(model.getId(), data));
+    }
+
+    private Long computeFingerprint(String id, Object data) {
+        try {
+            byte[] json = canonicalMapper.writeValueAsBytes(data);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            log.warn(LoggerConstants.DEDUP_FINGERPRINT_FAILED, id, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String documentId(ProcessorType processorType, String canonicalId) {
+        return processorType.name() + ":" + canonicalId;
+    }
+
+    private static long bloomKey(String documentId) {
+        // FNV-1a over the id
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : documentId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,90 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import com.glamaya.sync.core.domain.model.FailedItem;
+import com.glamaya.sync.core.domain.port.out.FailedItemPort;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * MongoDB implementation of the FailedItemPort. One document per failed item and channel, keyed by
+ * FailedItem.key; dead-lettered items stay in the collection for inspection until removed by hand.
+ */
+@Repository
+public class MongoFailedItemStore implements FailedItemPort {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public MongoFailedItemStore(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<Void> save(FailedItem item) {
+        return mongoTemplate.save(toDocument(item)).then();
+    }
+
+    /**
+     * A single upsert: the fields describing the latest failure are always set, the retry state only when the
+     * document is inserted.
+     */
+    @Override
+    public Mono<Void> recordFailure(FailedItem item) {
+        Update update = new Update()
+                .set("reason", item.getReason())
+                .set("lastFailedAt", item.getLastFailedAt())
+                .setOnInsert("processorType", item.getProcessorType())
+                .setOnInsert("itemId", item.getItemId())
+                .setOnInsert("stage", item.getStage())
+                .setOnInsert("notificationType", item.getNotificationType())
+                .setOnInsert("attempts", item.getAttempts())
+                .setOnInsert("firstFailedAt", item.getFirstFailedAt())
+                .setOnInsert("nextAttemptAt", item.getNextAttemptAt())
+                .setOnInsert("deadLettered", item.isDeadLettered());
+        return mongoTemplate.upsert(Query.query(Criteria.where("_id").is(item.key())), update, FailedItemDocument.class)
+                .then();
+    }
+
+    @Override
+    public Flux<FailedItem> findDue(Instant now, int limit) {
+        Query query = Query.query(Criteria.where("deadLettered").is(false).and("nextAttemptAt").lte(now))
+                .with(Sort.by("nextAttemptAt"))
+                .limit(limit);
+        return mongoTemplate.find(query, FailedItemDocument.class)
+                .map(MongoFailedItemStore::toDomain);
+    }
+
+    @Override
+    public Mono<Void> remove(FailedItem item) {
+        return mongoTemplate.remove(Query.query(Criteria.where("_id").is(item.key())), FailedItemDocument.class)
+                .then();
+    }
+
+    private static FailedItemDocument toDocument(FailedItem item) {
+        return new FailedItemDocument(item.key(), item.getProcessorType(), item.getItemId(), item.getStage(),
+                item.getNotificationType(), item.getReason(), item.getAttempts(), item.getFirstFailedAt(),
+                item.getLastFailedAt(), item.getNextAttemptAt(), item.isDeadLettered());
+    }
+
+    private static FailedItem toDomain(FailedItemDocument doc) {
+        return FailedItem.builder()
+                .processorType(doc.getProcessorType())
+                .itemId(doc.getItemId())
+                .stage(doc.getStage())
+                .notificationType(doc.getNotificationType())
+                .reason(doc.getReason())
+                .attempts(doc.getAttempts())
+                .firstFailedAt(doc.getFirstFailedAt())
+                .lastFailedAt(doc.getLastFailedAt())
+                .nextAttemptAt(doc.getNextAttemptAt())
+                .deadLettered(doc.isDeadLettered())
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import com.glamaya.sync.core.domain.model.Lease;
+import com.glamaya.sync.core.domain.port.out.LeasePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * MongoDB implementation of the LeasePort, used when several runner instances share the processors.
+ * Acquiring is a single conditional upsert on the lease id: it matches only if the lease is held by the
+ * same owner or has expired, and otherwise fails with a duplicate key, so at most one instance wins.
+ * Expiry relies on the clocks of the instances; the lease TTL must be well above their skew.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "glamaya.sync.sharding", name = "store", havingValue = "mongo")
+public class MongoLeaseStore implements LeasePort {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public MongoLeaseStore(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<Boolean> tryAcquire(String name, String owner, Duration ttl) {
+        return Mono.defer(() -> {
+            Instant now = Instant.now();
+            Query query = Query.query(Criteria.where("_id").is(name)
+                    .orOperator(Criteria.where("owner").is(owner), Criteria.where("expiresAt").lt(now)));
+            Update update = new Update().set("owner", owner).set("expiresAt", now.plus(ttl));
+            return mongoTemplate.upsert(query, update, LeaseDocument.class)
+                    .thenReturn(true)
+                    .onErrorResume(DuplicateKeyException.class, e -> Mono.just(false));
+        });
+    }
+
+    @Override
+    public Mono<Void> release(String name, String owner) {
+        return mongoTemplate.remove(Query.query(Criteria.where("_id").is(name).and("owner").is(owner)), LeaseDocument.class)
+                .then();
+    }
+
+    @Override
+    public Flux<Lease> findActive() {
+        return Flux.defer(() -> mongoTemplate.find(Query.query(Criteria.where("expiresAt").gt(Instant.now())), LeaseDocument.class))
+                .map(doc -> new Lease(doc.getId(), doc.getOwner(), doc.getExpiresAt()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.glamaya.sync.runner.adapter.store;
 
+import com.glamaya.sync.core.domain.model.BackfillSlice;
 import com.glamaya.sync.core.domain.model.ProcessorType;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -8,6 +9,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
+import java.util.List;
 
 /**
  * MongoDB document representation of the ProcessorStatus.
@@ -27,6 +29,8 @@ public class ProcessorStatusDocument {
     private String cursor;
     private Integer nextPage;
     private Integer pageSize;
+    private Integer totalPages;
     private boolean moreDataAvailable;
     private Integer totalItemsSynced;
+    private List<BackfillSlice> backfillSlices;
 }
@@ -2,10 +2,13 @@ package com.glamaya.sync.runner.adapter.store;
 
 import com.glamaya.sync.core.domain.model.ProcessorStatus;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface ProcessorStatusMapper {
 
+    @Mapping(target = "lastPageBytes", ignore = true)
+    @Mapping(target = "modifiedBefore", ignore = true)
     ProcessorStatus toDomain(ProcessorStatusDocument document);
 
     ProcessorStatusDocument toDocument(ProcessorStatus domain);
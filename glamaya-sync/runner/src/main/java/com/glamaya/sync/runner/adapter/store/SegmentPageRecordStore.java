@@ -0,0 +1,304 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.model.RecordedPage;
+import com.glamaya.sync.core.domain.port.out.PageRecordPort;
+import com.glamaya.sync.runner.common.LoggerConstants;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * File-based implementation of the PageRecordPort: one append-only log per processor type, split into segment
+ * files of about segment-bytes each. A segment is named after the log position of its first record, so positions
+ * stay stable across segments. Each record is
+ * [int length][long recordedAtMillis][int queryLength][query][int bodyLength][body], big-endian; the query is
+ * URL-encoded. Segments are read through memory maps, and a partly written record at the end of the log (e.g.
+ * after a crash) is cut off when the log is opened.
+ */
+@Slf4j
+@Repository
+@ConditionalOnExpression("!'${glamaya.sync.recording.mode:off}'.equalsIgnoreCase('off')")
+public class SegmentPageRecordStore implements PageRecordPort {
+
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean recording;
+    private final Map<ProcessorType, PageLog> logs = new ConcurrentHashMap<>();
+
+    public SegmentPageRecordStore(@Value("${glamaya.sync.recording.mode}") String mode,
+                                  @Value("${glamaya.sync.recording.directory:./recordings}") String directory,
+                                  @Value("${glamaya.sync.recording.segment-bytes:268435456}") long segmentBytes) {
+        this.recording = switch (mode.toLowerCase()) {
+            case "record" -> true;
+            case "replay" -> false;
+            default -> throw new IllegalArgumentException("Invalid recording mode: " + mode);
+        };
+        this.directory = Path.of(directory);
+        // Segments are addressed with int offsets when mapped
+        this.segmentBytes = Math.clamp(segmentBytes, 1, Integer.MAX_VALUE);
+        log.info(LoggerConstants.RECORD_INIT, mode, this.directory.toAbsolutePath(), this.segmentBytes);
+    }
+
+    @Override
+    public boolean isRecording() {
+        return recording;
+    }
+
+    @Override
+    public boolean isReplaying() {
+        return !recording;
+    }
+
+    @Override
+    public Mono<Void> append(ProcessorType processorType, Map<String, String> queryParams, byte[] body) {
+        return Mono.<Void>fromRunnable(() -> pageLog(processorType).append(Instant.now(), encodeQuery(queryParams), body))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<RecordedPage> read(ProcessorType processorType, long position) {
+        return Mono.fromCallable(() -> pageLog(processorType).read(position))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @PreDestroy
+    void close() {
+        logs.values().forEach(PageLog::close);
+    }
+
+    private PageLog pageLog(ProcessorType processorType) {
+        return logs.computeIfAbsent(processorType, type -> new PageLog(type, directory.resolve(type.name())));
+    }
+
+    private static String encodeQuery(Map<String, String> queryParams) {
+        if (queryParams == null) {
+            return "";
+        }
+        return new TreeMap<>(queryParams).entrySet().stream()
+                .map(e -> e.getValue() == null
+                        ? URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8)
+                        : URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8) + "=" + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static Map<String, String> decodeQuery(String query) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (query.isEmpty()) {
+            return params;
+        }
+        for (String param : query.split("&")) {
+            int eq = param.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? param : param.substring(0, eq), StandardCharsets.UTF_8);
+            params.put(key, eq < 0 ? null : URLDecoder.decode(param.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    /**
+     * The log of one processor type; guarded by its own monitor.
+     */
+    private final class PageLog {
+        private final ProcessorType processorType;
+        private final Path directory;
+        // Segment files by the log position of their first record
+        private final NavigableMap<Long, Path> segments = new TreeMap<>();
+        private final Map<Long, MappedByteBuffer> mapped = new HashMap<>();
+        private FileChannel appendChannel;
+        private long appendBase;
+        private long appendSize;
+
+        private PageLog(ProcessorType processorType, Path directory) {
+            this.processorType = processorType;
+            this.directory = directory;
+            try {
+                if (Files.isDirectory(directory)) {
+                    try (Stream<Path> files = Files.list(directory)) {
+                        files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                                .forEach(file -> segments.put(baseOf(file), file));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            log.info(LoggerConstants.RECORD_LOG_OPENED, processorType, segments.size(), directory);
+        }
+
+        private synchronized void append(Instant recordedAt, String query, byte[] body) {
+            byte[] queryBytes = query.getBytes(StandardCharsets.UTF_8);
+            int length = Long.BYTES + LENGTH_BYTES + queryBytes.length + LENGTH_BYTES + body.length;
+            ByteBuffer record = ByteBuffer.allocate(LENGTH_BYTES + length)
+                    .putInt(length)
+                    .putLong(recordedAt.toEpochMilli())
+                    .putInt(queryBytes.length)
+                    .put(queryBytes)
+                    .putInt(body.length)
+                    .put(body)
+                    .flip();
+            try {
+                if (appendChannel == null) {
+                    openForAppend();
+                }
+                if (appendSize > 0 && appendSize + record.remaining() > segmentBytes) {
+                    roll(appendBase + appendSize);
+                }
+                while (record.hasRemaining()) {
+                    appendChannel.write(record);
+                }
+                appendSize += LENGTH_BYTES + length;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private synchronized RecordedPage read(long position) throws IOException {
+            long pos = position;
+            while (true) {
+                Map.Entry<Long, Path> segment = segments.floorEntry(pos);
+                if (segment == null) {
+                    segment = segments.ceilingEntry(pos);
+                    if (segment == null) {
+                        return null;
+                    }
+                    pos = segment.getKey();
+                }
+                MappedByteBuffer buffer = map(segment.getKey(), segment.getValue());
+                long offset = pos - segment.getKey();
+                if (offset + LENGTH_BYTES > buffer.limit()) {
+                    Long next = segments.higherKey(segment.getKey());
+                    if (next == null) {
+                        return null;
+                    }
+                    pos = next;
+                    continue;
+                }
+                int length = buffer.getInt((int) offset);
+                if (offset + LENGTH_BYTES + length > buffer.limit()) {
+                    // Still being written
+                    return null;
+                }
+                ByteBuffer record = buffer.slice((int) offset + LENGTH_BYTES, length);
+                Instant recordedAt = Instant.ofEpochMilli(record.getLong());
+                byte[] query = new byte[record.getInt()];
+                record.get(query);
+                byte[] body = new byte[record.getInt()];
+                record.get(body);
+                return new RecordedPage(processorType, recordedAt, decodeQuery(new String(query, StandardCharsets.UTF_8)),
+                        body, pos, pos + LENGTH_BYTES + length);
+            }
+        }
+
+        /**
+         * Maps the whole segment, mapping it again if it has grown since it was last mapped.
+         */
+        private MappedByteBuffer map(long base, Path file) throws IOException {
+            MappedByteBuffer buffer = mapped.get(base);
+            long size = Files.size(file);
+            if (buffer == null || buffer.capacity() < size) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                }
+                mapped.put(base, buffer);
+            }
+            return buffer;
+        }
+
+        /**
+         * Opens the last segment for appending, after cutting off a partly written record at its end.
+         */
+        private void openForAppend() throws IOException {
+            Files.createDirectories(directory);
+            Map.Entry<Long, Path> last = segments.lastEntry();
+            if (last == null) {
+                roll(0);
+                return;
+            }
+            appendChannel = FileChannel.open(last.getValue(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            appendBase = last.getKey();
+            appendSize = validLength(appendChannel);
+            if (appendSize < appendChannel.size()) {
+                log.warn(LoggerConstants.RECORD_TRUNCATED, processorType, last.getValue(), appendChannel.size() - appendSize);
+                appendChannel.truncate(appendSize);
+                mapped.remove(appendBase);
+            }
+            appendChannel.position(appendSize);
+        }
+
+        private void roll(long base) throws IOException {
+            if (appendChannel != null) {
+                appendChannel.force(false);
+                appendChannel.close();
+            }
+            Path file = directory.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX));
+            appendChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            segments.put(base, file);
+            appendBase = base;
+            appendSize = 0;
+        }
+
+        private synchronized void close() {
+            if (appendChannel == null) {
+                return;
+            }
+            try {
+                appendChannel.force(false);
+                appendChannel.close();
+            } catch (IOException e) {
+                log.warn(LoggerConstants.RECORD_CLOSE_FAILED, processorType, e.getMessage());
+            }
+            appendChannel = null;
+        }
+
+        /**
+         * Returns the length of the complete records at the start of the segment.
+         */
+        private static long validLength(FileChannel channel) throws IOException {
+            long size = channel.size();
+            long offset = 0;
+            ByteBuffer lengthBuffer = ByteBuffer.allocate(LENGTH_BYTES);
+            while (offset + LENGTH_BYTES <= size) {
+                lengthBuffer.clear();
+                channel.read(lengthBuffer, offset);
+                long next = offset + LENGTH_BYTES + lengthBuffer.flip().getInt();
+                if (next > size) {
+                    break;
+                }
+                offset = next;
+            }
+            return offset;
+        }
+
+        private static long baseOf(Path file) {
+            String name = file.getFileName().toString();
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.StatusStorePort;
+import com.glamaya.sync.runner.common.LoggerConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind decorator of the Mongo StatusStorePort.
+ * Page checkpoints are coalesced per ProcessorType and only the latest one is written, every N pages or
+ * every T ms, whichever comes first. Final statuses (saveStatus) are written through immediately and replace
+ * any pending checkpoint; pending checkpoints are also flushed on shutdown.
+ * Writes for the same ProcessorType are chained so an older checkpoint can never overwrite a newer status.
+ * A status stays visible to readers until its write has completed, and a checkpoint whose flush failed is
+ * pending again unless a newer status was accepted since, so the next flush retries it.
+ * It sits below the CachingStatusStore.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "glamaya.sync.status-store.write-behind", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WriteBehindStatusStore implements StatusStorePort {
+
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    private final StatusStorePort delegate;
+    private final int flushEveryPages;
+    private final Duration flushInterval;
+    private final MeterRegistry meterRegistry;
+    private final Map<ProcessorType, Slot> slots = new ConcurrentHashMap<>();
+    private Disposable flushTask;
+
+    public WriteBehindStatusStore(MongoProcessorStatusRepository delegate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${glamaya.sync.status-store.write-behind.flush-every-pages:10}") int flushEveryPages,
+                                  @Value("${glamaya.sync.status-store.write-behind.flush-interval-ms:5000}") long flushIntervalMs) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.flushEveryPages = Math.max(1, flushEveryPages);
+        this.flushInterval = Duration.ofMillis(Math.max(1, flushIntervalMs));
+        meterRegistry.gauge("glamaya_sync_checkpoint_pending", slots, pending -> (double) countPending(pending));
+        log.info(LoggerConstants.STORE_WRITE_BEHIND_INIT, this.flushEveryPages, this.flushInterval.toMillis());
+    }
+
+    @PostConstruct
+    void startFlushTask() {
+        // Ticks arriving while a slow flush is still running are dropped instead of failing the interval, and a
+        // failed pass is logged so the next one runs as usual
+        flushTask = Flux.interval(flushInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> flushAll()
+                        .onErrorResume(e -> {
+                            log.error(LoggerConstants.STORE_FLUSH_PASS_FAILED, e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe(null, e -> log.error(LoggerConstants.STORE_FLUSH_PASS_FAILED, e.getMessage()));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flushTask != null) {
+            flushTask.dispose();
+        }
+        log.info(LoggerConstants.STORE_SHUTDOWN_FLUSH, countPending(slots));
+        flushAll().block(SHUTDOWN_FLUSH_TIMEOUT);
+    }
+
+    @Override
+    public Mono<ProcessorStatus> findStatus(ProcessorType processorType) {
+        // Serve a status not yet written first so readers never see an older status than was accepted
+        return Mono.defer(() -> {
+            Slot slot = slots.get(processorType);
+            ProcessorStatus unwritten = slot == null ? null : slot.unwrittenStatus();
+            return unwritten != null ? Mono.just(unwritten) : delegate.findStatus(processorType);
+        });
+    }
+
+    @Override
+    public Mono<Void> saveStatus(ProcessorStatus status) {
+        return Mono.defer(() -> {
+            Slot slot = slot(status.getProcessorType());
+            synchronized (slot) {
+                ProcessorStatus accepted = status.snapshot();
+                slot.latest = accepted;
+                slot.pending = null;
+                slot.pendingPages = 0;
+                return write(slot, accepted, false);
+            }
+        });
+    }
+
+    @Override
+    public Mono<Void> saveCheckpoint(ProcessorStatus status) {
+        return Mono.defer(() -> {
+            Slot slot = slot(status.getProcessorType());
+            synchronized (slot) {
+                slot.pending = status.snapshot();
+                slot.latest = slot.pending;
+                slot.pendingPages++;
+                if (slot.pendingPages < flushEveryPages) {
+                    return Mono.empty();
+                }
+                return flush(slot);
+            }
+        });
+    }
+
+    /**
+     * Flushes the pending checkpoints of all processor types.
+     */
+    private Mono<Void> flushAll() {
+        return Flux.fromIterable(slots.values())
+                .flatMap(slot -> {
+                    synchronized (slot) {
+                        return flush(slot);
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * Writes the pending checkpoint of a slot, if any. Must be called while holding the slot lock.
+     */
+    private Mono<Void> flush(Slot slot) {
+        if (slot.pending == null) {
+            return Mono.empty();
+        }
+        ProcessorStatus status = slot.pending;
+        slot.pending = null;
+        slot.pendingPages = 0;
+        return write(slot, status, true)
+                .onErrorResume(e -> {
+                    log.error(LoggerConstants.STORE_FLUSH_FAILED, status.getProcessorType(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Starts writing the status once the previous write of the slot has finished. Must be called while holding
+     * the slot lock. The write runs even if nobody subscribes to the returned Mono, which completes with it.
+     * Until then the status is served to readers; a checkpoint that fails to be written is pending again if it
+     * is still the latest status accepted.
+     */
+    private Mono<Void> write(Slot slot, ProcessorStatus status, boolean checkpoint) {
+        Sinks.Empty<Void> done = Sinks.empty();
+        Mono<Void> previous = slot.lastWrite;
+        slot.lastWrite = done.asMono();
+        slot.inFlight = status;
+        Timer timer = meterRegistry.timer("glamaya_sync_checkpoint_flush_duration", "processor", status.getProcessorType().name());
+        previous.onErrorResume(e -> Mono.empty())
+                .then(Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return delegate.saveStatus(status)
+                            .doOnTerminate(() -> timer.record(Duration.ofNanos(System.nanoTime() - start)));
+                }))
+                .subscribe(null, e -> {
+                    synchronized (slot) {
+                        slot.written(status);
+                        if (checkpoint && slot.latest == status) {
+                            slot.pending = status;
+                        }
+                    }
+                    done.tryEmitError(e);
+                }, () -> {
+                    synchronized (slot) {
+                        slot.written(status);
+                    }
+                    done.tryEmitEmpty();
+                });
+        return done.asMono();
+    }
+
+    private Slot slot(ProcessorType processorType) {
+        return slots.computeIfAbsent(processorType, type -> new Slot());
+    }
+
+    private static long countPending(Map<ProcessorType, Slot> slots) {
+        return slots.values().stream().filter(Slot::hasPending).count();
+    }
+
+    /**
+     * Write-behind state of one processor type; guarded by its own monitor.
+     */
+    private static final class Slot {
+        private ProcessorStatus pending;
+        private int pendingPages;
+        // The latest status accepted, and the latest one handed to the delegate whose write has not completed
+        private ProcessorStatus latest;
+        private ProcessorStatus inFlight;
+        private Mono<Void> lastWrite = Mono.empty();
+
+        private synchronized boolean hasPending() {
+            return pending != null;
+        }
+
+        private synchronized ProcessorStatus unwrittenStatus() {
+            ProcessorStatus unwritten = pending != null ? pending : inFlight;
+            return unwritten == null ? null : unwritten.snapshot();
+        }
+
+        private void written(ProcessorStatus status) {
+            if (inFlight == status) {
+                inFlight = null;
+            }
+        }
+    }
+}
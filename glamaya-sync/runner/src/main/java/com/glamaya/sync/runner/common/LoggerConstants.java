@@ -9,9 +9,52 @@ public final class LoggerConstants {
     public static final String SCHEDULER_ALL_COMPLETE = "Scheduler all platforms sync completed. executionMode={}";
     public static final String SCHEDULER_PLATFORM_START = "{}: platform sync started. maxConcurrency={}, executionMode={}";
     public static final String SCHEDULER_PLATFORM_COMPLETE = "{}: platform sync completed. maxConcurrency={}, executionMode={}";
+    public static final String SCHEDULER_PRIORITY_INIT = "PrioritySyncScheduler initialized. processorCount={}, maxConcurrency={}, slos={}";
+    public static final String SCHEDULER_PRIORITY_LOAD_FAILED = "PrioritySyncScheduler: loading last runs failed, treating processors as never run. error={}";
+    public static final String SCHEDULER_PRIORITY_DISPATCH = "{}: dispatching overdue sync. stalenessMs={}, sloMs={}, overdue={}";
+    public static final String SCHEDULER_PRIORITY_FAILED = "{}: sync failed. error={}";
+    public static final String SCHEDULER_FAILED = "Scheduler sync failed. executionMode={}, error={}";
+    public static final String SCHEDULER_SKIPPED_IN_FLIGHT = "Scheduler previous sync still running, skipping this run. executionMode={}";
+    public static final String SCHEDULER_CADENCE_INIT = "CadenceSyncScheduler initialized. processorCount={}";
+    public static final String SCHEDULER_CADENCE_LOOP = "{}: run loop started. activeMs={}, passiveMs={}";
+    public static final String SCHEDULER_CADENCE_ACTIVE = "{}: run fetched new items. items={}, nextRunInMs={}";
+    public static final String SCHEDULER_CADENCE_IDLE = "{}: no new items. emptyRunsInARow={}, nextRunInMs={}";
+    public static final String SCHEDULER_CADENCE_FAILED = "{}: sync failed, backing off. error={}";
+
+    // --- Sharding ---
+    public static final String SHARD_HEARTBEAT_INIT = "ShardHeartbeatScheduler: Initialized. instanceId={}, heartbeatMs={}";
+    public static final String SHARD_HEARTBEAT_FAILED = "ShardHeartbeatScheduler: Heartbeat failed, leases not renewed in time are dropped. instanceId={}, error={}";
+    public static final String RETRY_SCHEDULER_INIT = "FailedItemRetryScheduler: Initialized. intervalMs={}";
+    public static final String RETRY_SCHEDULER_RECOVERED = "FailedItemRetryScheduler: Recovered failed items. items={}";
+    public static final String RETRY_SCHEDULER_FAILED = "FailedItemRetryScheduler: Retry pass failed. error={}";
 
     // --- Notification ---
     public static final String NOTIF_COMPOSITE_INIT = "CompositeNotificationAdapter: Initialized with {} leaf notifiers.";
     public static final String NOTIF_KAFKA_SEND = "KafkaNotificationAdapter: Sending payload to Kafka topic='{}'";
-}
+    public static final String NOTIF_KAFKA_SEND_BATCH = "KafkaNotificationAdapter: Sending batch of {} payloads to Kafka topic='{}'";
+    public static final String NOTIF_CHANNEL_TIMEOUT = "ChannelBulkheads: Batch timed out. channel={}, target='{}', timeoutMs={}";
+    public static final String NOTIF_KAFKA_SEND_FAILED = "KafkaNotificationAdapter: Send failed. topic='{}', id={}, error={}";
+    public static final String NOTIF_WEBHOOK_INIT = "WebhookNotificationAdapter: Initialized. batchMaxItems={}, batchWindowMs={}, gzip={}, concurrency={}, maxRetries={}";
+    public static final String NOTIF_WEBHOOK_SEND_BATCH = "WebhookNotificationAdapter: Posting batch of {} payloads to url='{}'";
+    public static final String NOTIF_WEBHOOK_RETRY = "WebhookNotificationAdapter: Retrying post. url='{}', attempt={}, error={}";
+    public static final String NOTIF_WEBHOOK_SEND_FAILED = "WebhookNotificationAdapter: Post failed. url='{}', payloads={}, error={}";
+
+    // --- Status store ---
+    public static final String STORE_CACHE_INIT = "CachingStatusStore: Initialized. enabled={}, delegate={}";
+    public static final String STORE_CACHE_INVALIDATED = "{}: cached status dropped.";
+    public static final String STORE_WRITE_BEHIND_INIT = "WriteBehindStatusStore: Initialized. flushEveryPages={}, flushIntervalMs={}";
+    public static final String STORE_FLUSH_FAILED = "{}: checkpoint flush failed. error={}";
+    public static final String STORE_FLUSH_PASS_FAILED = "WriteBehindStatusStore: Flush pass failed. error={}";
+    public static final String STORE_SHUTDOWN_FLUSH = "WriteBehindStatusStore: Flushing {} pending checkpoints on shutdown.";
 
+    // --- Page recording ---
+    public static final String RECORD_INIT = "SegmentPageRecordStore: Initialized. mode={}, directory={}, segmentBytes={}";
+    public static final String RECORD_LOG_OPENED = "{}: page log opened. segments={}, directory={}";
+    public static final String RECORD_TRUNCATED = "{}: cut off a partly written record at the end of the page log. segment={}, bytes={}";
+    public static final String RECORD_CLOSE_FAILED = "{}: closing the page log failed. error={}";
+
+    // --- Dedup ---
+    public static final String DEDUP_WARMED_UP = "MongoDedupStore: Bloom filter loaded with {} fingerprints.";
+    public static final String DEDUP_WARM_UP_FAILED = "MongoDedupStore: Bloom filter warm-up failed. error={}";
+    public static final String DEDUP_FINGERPRINT_FAILED = "MongoDedupStore: Fingerprint failed, item is not deduplicated. id={}, error={}";
+}
@@ -1,23 +1,86 @@
 package com.glamaya.sync.runner.config;
 
+import com.glamaya.sync.core.application.service.FailureLane;
+import com.glamaya.sync.core.application.service.ProcessorShardCoordinator;
 import com.glamaya.sync.core.application.service.SyncOrchestrationService;
+import com.glamaya.sync.core.application.service.VirtualThreadSyncOrchestrator;
 import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.port.out.DedupPort;
+import com.glamaya.sync.core.domain.port.out.FailedItemPort;
+import com.glamaya.sync.core.domain.port.out.LeasePort;
 import com.glamaya.sync.core.domain.port.out.NotificationPort;
 import com.glamaya.sync.core.domain.port.out.StatusStorePort;
+import com.glamaya.sync.core.domain.port.out.SyncMetricsPort;
 import com.glamaya.sync.core.domain.port.out.SyncProcessor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
 
 @Configuration
 public class CoreWiringConfig {
 
     @Bean
+    @ConditionalOnProperty(name = "glamaya.sync.engine", havingValue = "reactor", matchIfMissing = true)
     public SyncOrchestrationService syncOrchestrationService(StatusStorePort statusStorePort,
                                                              @Qualifier("compositeNotificationAdapter") NotificationPort<EcomModel<?>> notificationPort,
+                                                             DedupPort dedupPort,
+                                                             SyncMetricsPort metricsPort,
+                                                             ProcessorShardCoordinator shardCoordinator,
+                                                             FailureLane failureLane,
                                                              List<SyncProcessor<?, ?, ?>> syncProcessors) {
-        return new SyncOrchestrationService(statusStorePort, notificationPort, syncProcessors);
+        return new SyncOrchestrationService(statusStorePort, notificationPort, dedupPort, metricsPort, shardCoordinator,
+                failureLane, syncProcessors);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "glamaya.sync.engine", havingValue = "virtual-threads")
+    public VirtualThreadSyncOrchestrator virtualThreadSyncOrchestrator(StatusStorePort statusStorePort,
+                                                                       @Qualifier("compositeNotificationAdapter") NotificationPort<EcomModel<?>> notificationPort,
+                                                                       DedupPort dedupPort,
+                                                                       SyncMetricsPort metricsPort,
+                                                                       ProcessorShardCoordinator shardCoordinator,
+                                                                       FailureLane failureLane,
+                                                                       List<SyncProcessor<?, ?, ?>> syncProcessors,
+                                                                       @Value("${glamaya.sync.virtual-threads.worker-pool-size:64}") int workerPoolSize) {
+        return new VirtualThreadSyncOrchestrator(statusStorePort, notificationPort, dedupPort, metricsPort, shardCoordinator,
+                failureLane, syncProcessors, workerPoolSize);
+    }
+
+    @Bean
+    public FailureLane failureLane(FailedItemPort failedItemPort,
+                                   @Qualifier("compositeNotificationAdapter") NotificationPort<EcomModel<?>> notificationPort,
+                                   DedupPort dedupPort,
+                                   SyncMetricsPort metricsPort,
+                                   ProcessorShardCoordinator shardCoordinator,
+                                   List<SyncProcessor<?, ?, ?>> syncProcessors,
+                                   @Value("${glamaya.sync.failure-lane.enabled:true}") boolean enabled,
+                                   @Value("${glamaya.sync.failure-lane.max-attempts:8}") int maxAttempts,
+                                   @Value("${glamaya.sync.failure-lane.initial-backoff-ms:60000}") long initialBackoffMs,
+                                   @Value("${glamaya.sync.failure-lane.max-backoff-ms:3600000}") long maxBackoffMs,
+                                   @Value("${glamaya.sync.failure-lane.batch-size:100}") int batchSize,
+                                   @Value("${glamaya.sync.failure-lane.concurrency:4}") int concurrency) {
+        return new FailureLane(failedItemPort, notificationPort, dedupPort, metricsPort, shardCoordinator, syncProcessors,
+                new FailureLane.Settings(enabled, maxAttempts, Duration.ofMillis(initialBackoffMs),
+                        Duration.ofMillis(maxBackoffMs), batchSize, concurrency));
+    }
+
+    @Bean
+    public ProcessorShardCoordinator processorShardCoordinator(LeasePort leasePort,
+                                                               @Value("${glamaya.sync.sharding.instance-id:}") String instanceId,
+                                                               @Value("${glamaya.sync.sharding.lease-ttl-ms:30000}") long leaseTtlMs,
+                                                               List<SyncProcessor<?, ?, ?>> syncProcessors,
+                                                               StatusStorePort statusStorePort) {
+        // Without a configured id every start is a new instance; its old leases expire after the TTL
+        String id = instanceId == null || instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId;
+        return new ProcessorShardCoordinator(leasePort, id, Duration.ofMillis(leaseTtlMs),
+                syncProcessors.stream().map(SyncProcessor::getProcessorType).toList(),
+                // Another instance may have synced the processor since its status was cached here
+                statusStorePort::invalidate);
     }
 }
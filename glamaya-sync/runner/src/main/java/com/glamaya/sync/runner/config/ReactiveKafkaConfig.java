@@ -1,5 +1,7 @@
 package com.glamaya.sync.runner.config;
 
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,8 +20,11 @@ public class ReactiveKafkaConfig {
     }
 
     @Bean
-    public ReactiveKafkaProducerTemplate<String, Object> reactiveKafkaProducerTemplate() {
+    public ReactiveKafkaProducerTemplate<String, byte[]> reactiveKafkaProducerTemplate() {
         Map<String, Object> props = kafkaProperties.buildProducerProperties();
-        return new ReactiveKafkaProducerTemplate<>(SenderOptions.create(props));
+        // Values are serialized once per model by CanonicalPayloadSerializer and shared with the other channels
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        // Keep sending the rest of a batch after a failed record; KafkaNotificationAdapter reports every failure
+        return new ReactiveKafkaProducerTemplate<>(SenderOptions.<String, byte[]>create(props).stopOnError(false));
     }
 }
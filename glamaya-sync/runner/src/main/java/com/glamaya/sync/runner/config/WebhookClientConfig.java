@@ -0,0 +1,69 @@
+package com.glamaya.sync.runner.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Provides the WebClient of the WEBHOOK notification channel. All webhook targets share one connection pool, so
+ * batches reuse warm connections instead of opening one per request. HTTP/2 is negotiated on https targets that
+ * offer it, which lets concurrent batches to the same host share a single connection; plain http targets use
+ * HTTP/1.1 keep-alive.
+ */
+@Configuration
+public class WebhookClientConfig {
+
+    @Value("${glamaya.sync.webhook.pool.max-connections:32}")
+    private int maxConnections;
+
+    @Value("${glamaya.sync.webhook.pool.pending-acquire-max:256}")
+    private int pendingAcquireMax;
+
+    @Value("${glamaya.sync.webhook.pool.max-idle-ms:30000}")
+    private long maxIdleMs;
+
+    @Value("${glamaya.sync.webhook.pool.max-life-ms:300000}")
+    private long maxLifeMs;
+
+    @Value("${glamaya.sync.webhook.http2:true}")
+    private boolean http2;
+
+    @Value("${glamaya.sync.webhook.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;
+
+    @Value("${glamaya.sync.webhook.response-timeout-ms:30000}")
+    private long responseTimeoutMs;
+
+    @Bean("webhookWebClient")
+    public WebClient webhookWebClient(WebClient.Builder builder) {
+        // Idle and old connections are evicted in the background, so a load balancer that silently drops them
+        // does not fail the next batch
+        ConnectionProvider provider = ConnectionProvider.builder("webhook")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .maxIdleTime(Duration.ofMillis(maxIdleMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeMs))
+                .evictInBackground(Duration.ofMillis(maxIdleMs))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+        if (http2) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
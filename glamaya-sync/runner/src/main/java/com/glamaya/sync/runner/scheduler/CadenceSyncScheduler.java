@@ -0,0 +1,131 @@
+package com.glamaya.sync.runner.scheduler;
+
+import com.glamaya.sync.core.application.service.ProcessorShardCoordinator;
+import com.glamaya.sync.core.application.usecase.SyncOrchestrator;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.core.domain.port.out.SyncProcessor;
+import com.glamaya.sync.runner.common.LoggerConstants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Scheduler for the CADENCE execution mode: every processor runs in its own loop, independent of the others.
+ * After a run that fetched new items the next run starts after the active interval; after each run that found
+ * nothing the delay doubles up to the passive interval. A loop only starts its next run once the previous one
+ * has finished, and a failed run counts as an empty one so a failing processor backs off as well.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "glamaya.sync.execution.mode", havingValue = "cadence")
+public class CadenceSyncScheduler {
+
+    private final SyncOrchestrator syncOrchestrator;
+    private final ProcessorShardCoordinator shardCoordinator;
+    private final List<ProcessorLoop> loops;
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    public CadenceSyncScheduler(SyncOrchestrator syncOrchestrator,
+                                ProcessorShardCoordinator shardCoordinator,
+                                List<SyncProcessor<?, ?, ?>> syncProcessors,
+                                @Value("${glamaya.sync.scheduler.cadence.default-active-ms:5000}") long defaultActiveMs,
+                                @Value("${glamaya.sync.scheduler.cadence.default-passive-ms:300000}") long defaultPassiveMs) {
+        this.syncOrchestrator = syncOrchestrator;
+        this.shardCoordinator = shardCoordinator;
+        this.loops = syncProcessors.stream()
+                .map(processor -> {
+                    ProcessorConfiguration<?> config = processor.getConfiguration();
+                    long active = Math.max(1, orDefault(config.getPollActiveIntervalMs(), defaultActiveMs));
+                    long passive = Math.max(active, orDefault(config.getPollPassiveIntervalMs(), defaultPassiveMs));
+                    return new ProcessorLoop(processor.getProcessorType(), Duration.ofMillis(active), Duration.ofMillis(passive));
+                })
+                .toList();
+        log.info(LoggerConstants.SCHEDULER_CADENCE_INIT, loops.size());
+    }
+
+    @PostConstruct
+    void start() {
+        loops.forEach(loop -> {
+            log.info(LoggerConstants.SCHEDULER_CADENCE_LOOP, loop.type, loop.active.toMillis(), loop.passive.toMillis());
+            // The first run starts immediately; each repetition waits for the delay left by the previous run
+            subscriptions.add(Mono.defer(() -> runOnce(loop).then(Mono.defer(() -> Mono.delay(loop.nextDelay))))
+                    .repeat()
+                    .subscribe());
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        subscriptions.dispose();
+    }
+
+    /**
+     * Runs the processor once unless a run is already in flight, and updates the delay before the next run.
+     */
+    private Mono<Void> runOnce(ProcessorLoop loop) {
+        if (!shardCoordinator.owns(loop.type)) {
+            // Leased by another instance: check again after the active interval, so a takeover is picked up quickly
+            loop.nextDelay = loop.active;
+            return Mono.empty();
+        }
+        if (!loop.inFlight.compareAndSet(false, true)) {
+            return Mono.empty();
+        }
+        return syncOrchestrator.syncOnce(loop.type)
+                .onErrorResume(e -> {
+                    log.error(LoggerConstants.SCHEDULER_CADENCE_FAILED, loop.type, e.getMessage());
+                    return Mono.just(0L);
+                })
+                .doOnNext(loop::onRunCompleted)
+                .doFinally(signal -> loop.inFlight.set(false))
+                .then();
+    }
+
+    private static long orDefault(Long value, long defaultValue) {
+        return value != null && value > 0 ? value : defaultValue;
+    }
+
+    /**
+     * Cadence state of one processor.
+     */
+    private static final class ProcessorLoop {
+        private final ProcessorType type;
+        private final Duration active;
+        private final Duration passive;
+        private final AtomicBoolean inFlight = new AtomicBoolean();
+        private int emptyRuns;
+        private volatile Duration nextDelay;
+
+        private ProcessorLoop(ProcessorType type, Duration active, Duration passive) {
+            this.type = type;
+            this.active = active;
+            this.passive = passive;
+            this.nextDelay = active;
+        }
+
+        private void onRunCompleted(long items) {
+            if (items > 0) {
+                emptyRuns = 0;
+                nextDelay = active;
+                log.debug(LoggerConstants.SCHEDULER_CADENCE_ACTIVE, type, items, nextDelay.toMillis());
+                return;
+            }
+            emptyRuns++;
+            // Exponential backoff, capped by the passive interval
+            long backoff = active.toMillis() << Math.min(emptyRuns, 30);
+            nextDelay = Duration.ofMillis(Math.min(backoff, passive.toMillis()));
+            log.info(LoggerConstants.SCHEDULER_CADENCE_IDLE, type, emptyRuns, nextDelay.toMillis());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.glamaya.sync.runner.scheduler;
+
+import com.glamaya.sync.core.application.service.FailureLane;
+import com.glamaya.sync.runner.common.LoggerConstants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Retries the items set aside by the failure lane at a fixed interval, independently of the sync runs.
+ * Passes never overlap; a pass that fails is logged and the next one runs as usual.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "glamaya.sync.failure-lane", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FailedItemRetryScheduler {
+
+    private final FailureLane failureLane;
+    private final Duration retryInterval;
+    private Disposable retryTask;
+
+    public FailedItemRetryScheduler(FailureLane failureLane,
+                                    @Value("${glamaya.sync.failure-lane.retry-interval-ms:30000}") long retryIntervalMs) {
+        this.failureLane = failureLane;
+        this.retryInterval = Duration.ofMillis(Math.max(1, retryIntervalMs));
+    }
+
+    @PostConstruct
+    void start() {
+        log.info(LoggerConstants.RETRY_SCHEDULER_INIT, retryInterval.toMillis());
+        // Ticks arriving while a slow pass is still running are dropped instead of failing the interval
+        retryTask = Flux.interval(retryInterval, retryInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> failureLane.retryDue()
+                        .doOnNext(recovered -> {
+                            if (recovered > 0) {
+                                log.info(LoggerConstants.RETRY_SCHEDULER_RECOVERED, recovered);
+                            }
+                        })
+                        .onErrorResume(e -> {
+                            log.error(LoggerConstants.RETRY_SCHEDULER_FAILED, e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe(null, e -> log.error(LoggerConstants.RETRY_SCHEDULER_FAILED, e.getMessage()));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (retryTask != null) {
+            retryTask.dispose();
+        }
+    }
+}
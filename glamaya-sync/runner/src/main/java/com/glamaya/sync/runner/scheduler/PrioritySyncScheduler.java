@@ -0,0 +1,171 @@
+package com.glamaya.sync.runner.scheduler;
+
+import com.glamaya.sync.core.application.service.ProcessorShardCoordinator;
+import com.glamaya.sync.core.application.usecase.SyncOrchestrator;
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.StatusStorePort;
+import com.glamaya.sync.core.domain.port.out.SyncProcessor;
+import com.glamaya.sync.runner.common.LoggerConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scheduler for the PRIORITY execution mode. Instead of running every processor on the same fixed delay, it
+ * keeps each processor's staleness (time since the start of its last successful run) and dispatches the
+ * processors that are most overdue relative to their staleness SLO first, up to the concurrency cap.
+ * A processor is due once its staleness reaches its SLO, so processors with a short SLO run more often.
+ * A processor is never dispatched while its previous run is still in flight, nor while another instance holds its lease.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "glamaya.sync.execution.mode", havingValue = "priority")
+public class PrioritySyncScheduler {
+
+    private final SyncOrchestrator syncOrchestrator;
+    private final StatusStorePort statusStorePort;
+    private final ProcessorShardCoordinator shardCoordinator;
+    private final Map<ProcessorType, Duration> slos = new EnumMap<>(ProcessorType.class);
+    private final int maxConcurrency;
+    private final Duration minInterval;
+    private final Clock clock;
+    // Start of the last successful run (or the last item seen, until the first run) per processor
+    private final Map<ProcessorType, Instant> lastRuns = new ConcurrentHashMap<>();
+    private final Map<ProcessorType, Instant> lastAttempts = new ConcurrentHashMap<>();
+    private final Set<ProcessorType> running = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    @Autowired
+    public PrioritySyncScheduler(SyncOrchestrator syncOrchestrator,
+                                 StatusStorePort statusStorePort,
+                                 ProcessorShardCoordinator shardCoordinator,
+                                 List<SyncProcessor<?, ?, ?>> syncProcessors,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${glamaya.sync.concurrency.max:0}") int maxConcurrency,
+                                 @Value("${glamaya.sync.scheduler.priority.default-slo-ms:300000}") long defaultSloMs,
+                                 @Value("${glamaya.sync.scheduler.priority.min-interval-ms:10000}") long minIntervalMs) {
+        this(syncOrchestrator, statusStorePort, shardCoordinator, syncProcessors, meterRegistry, maxConcurrency,
+                defaultSloMs, minIntervalMs, Clock.systemUTC());
+    }
+
+    /**
+     * As above, with the clock staleness is measured with.
+     */
+    PrioritySyncScheduler(SyncOrchestrator syncOrchestrator, StatusStorePort statusStorePort,
+                          ProcessorShardCoordinator shardCoordinator, List<SyncProcessor<?, ?, ?>> syncProcessors,
+                          MeterRegistry meterRegistry, int maxConcurrency, long defaultSloMs, long minIntervalMs,
+                          Clock clock) {
+        this.clock = clock;
+        this.syncOrchestrator = syncOrchestrator;
+        this.statusStorePort = statusStorePort;
+        this.shardCoordinator = shardCoordinator;
+        for (SyncProcessor<?, ?, ?> processor : syncProcessors) {
+            Long sloMs = processor.getConfiguration().getStalenessSloMs();
+            slos.put(processor.getProcessorType(), Duration.ofMillis(Math.max(1, sloMs != null ? sloMs : defaultSloMs)));
+        }
+        this.maxConcurrency = maxConcurrency > 0 ? Math.min(maxConcurrency, slos.size()) : slos.size();
+        this.minInterval = Duration.ofMillis(Math.max(0, minIntervalMs));
+        slos.keySet().forEach(type -> meterRegistry.gauge("glamaya_sync_staleness_seconds",
+                Tags.of("processor", type.name()), this, scheduler -> scheduler.stalenessSeconds(type)));
+        log.info(LoggerConstants.SCHEDULER_PRIORITY_INIT, slos.size(), this.maxConcurrency, slos);
+    }
+
+    @PostConstruct
+    void loadLastRuns() {
+        // Dispatching starts once the stored statuses are known, so nothing runs just for lack of history
+        Flux.fromIterable(slos.keySet())
+                .flatMap(statusStorePort::findStatus)
+                .doOnNext(status -> {
+                    Instant lastRun = lastRun(status);
+                    if (lastRun != null) {
+                        lastRuns.put(status.getProcessorType(), lastRun);
+                    }
+                })
+                .doFinally(signal -> ready = true)
+                .subscribe(null, e -> log.warn(LoggerConstants.SCHEDULER_PRIORITY_LOAD_FAILED, e.getMessage()));
+    }
+
+    /**
+     * Dispatches the most overdue idle processors while the concurrency cap allows.
+     */
+    @Scheduled(fixedDelayString = "${glamaya.sync.scheduler.priority.tick-ms:1000}")
+    public void tick() {
+        int free = maxConcurrency - running.size();
+        if (!ready || free <= 0) {
+            return;
+        }
+        Instant now = clock.instant();
+        PriorityQueue<Candidate> overdue = new PriorityQueue<>(Comparator.comparingDouble(Candidate::overdue).reversed());
+        slos.forEach((type, slo) -> {
+            // Processors leased by other instances are theirs to schedule
+            if (running.contains(type) || !shardCoordinator.owns(type)) {
+                return;
+            }
+            Instant lastAttempt = lastAttempts.get(type);
+            if (lastAttempt != null && lastAttempt.plus(minInterval).isAfter(now)) {
+                return;
+            }
+            double ratio = (double) staleness(type, now).toMillis() / slo.toMillis();
+            if (ratio >= 1) {
+                overdue.add(new Candidate(type, ratio));
+            }
+        });
+        while (free-- > 0 && !overdue.isEmpty()) {
+            dispatch(overdue.poll(), now);
+        }
+    }
+
+    private void dispatch(Candidate candidate, Instant now) {
+        ProcessorType type = candidate.type();
+        running.add(type);
+        lastAttempts.put(type, now);
+        log.info(LoggerConstants.SCHEDULER_PRIORITY_DISPATCH, type, staleness(type, now).toMillis(),
+                slos.get(type).toMillis(), String.format("%.2f", candidate.overdue()));
+        syncOrchestrator.syncSequential(type)
+                // Data is as fresh as the start of the run that fetched it
+                .doOnSuccess(v -> lastRuns.put(type, now))
+                .doFinally(signal -> running.remove(type))
+                .subscribe(null, e -> log.error(LoggerConstants.SCHEDULER_PRIORITY_FAILED, type, e.getMessage()));
+    }
+
+    /**
+     * Returns how far the processor's data lags behind; effectively infinite if it never ran.
+     */
+    private Duration staleness(ProcessorType type, Instant now) {
+        Instant lastRun = lastRuns.get(type);
+        return lastRun == null ? Duration.ofMillis(Long.MAX_VALUE) : Duration.between(lastRun, now);
+    }
+
+    private double stalenessSeconds(ProcessorType type) {
+        return lastRuns.containsKey(type) ? staleness(type, clock.instant()).toMillis() / 1000d : Double.NaN;
+    }
+
+    private static Instant lastRun(ProcessorStatus status) {
+        return status.getLastSuccessfulRun() != null ? status.getLastSuccessfulRun() : status.getLastDateModified();
+    }
+
+    /**
+     * An idle processor whose staleness exceeds its SLO by the given ratio.
+     */
+    private record Candidate(ProcessorType type, double overdue) {
+    }
+}
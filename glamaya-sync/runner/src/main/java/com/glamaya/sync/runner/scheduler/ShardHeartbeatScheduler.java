@@ -0,0 +1,58 @@
+package com.glamaya.sync.runner.scheduler;
+
+import com.glamaya.sync.core.application.service.ProcessorShardCoordinator;
+import com.glamaya.sync.runner.common.LoggerConstants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Drives the lease heartbeat of this runner instance: renews its leases and rebalances the processors
+ * across instances at a fixed interval, and releases all leases on shutdown so others take over at once.
+ */
+@Slf4j
+@Component
+public class ShardHeartbeatScheduler {
+
+    private static final Duration SHUTDOWN_RELEASE_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ProcessorShardCoordinator shardCoordinator;
+    private final Duration heartbeatInterval;
+    private Disposable heartbeatTask;
+
+    public ShardHeartbeatScheduler(ProcessorShardCoordinator shardCoordinator,
+                                   @Value("${glamaya.sync.sharding.heartbeat-ms:10000}") long heartbeatMs) {
+        this.shardCoordinator = shardCoordinator;
+        this.heartbeatInterval = Duration.ofMillis(Math.max(1, heartbeatMs));
+    }
+
+    @PostConstruct
+    void start() {
+        log.info(LoggerConstants.SHARD_HEARTBEAT_INIT, shardCoordinator.getInstanceId(), heartbeatInterval.toMillis());
+        // Ticks arriving while a slow heartbeat is still running are dropped instead of failing the interval; the
+        // coordinator stops relying on leases that were not renewed in time either way
+        heartbeatTask = Flux.interval(Duration.ZERO, heartbeatInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> shardCoordinator.heartbeat()
+                        .onErrorResume(e -> {
+                            log.error(LoggerConstants.SHARD_HEARTBEAT_FAILED, shardCoordinator.getInstanceId(), e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe(null, e -> log.error(LoggerConstants.SHARD_HEARTBEAT_FAILED, shardCoordinator.getInstanceId(), e.getMessage()));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (heartbeatTask != null) {
+            heartbeatTask.dispose();
+        }
+        shardCoordinator.releaseAll().block(SHUTDOWN_RELEASE_TIMEOUT);
+    }
+}
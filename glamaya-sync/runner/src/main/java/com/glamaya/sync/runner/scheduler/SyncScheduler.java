@@ -6,34 +6,53 @@ import com.glamaya.sync.core.domain.port.out.PlatformAdapter;
 import com.glamaya.sync.runner.common.LoggerConstants;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Scheduler that runs platforms sequentially; within each platform, processors run in parallel
  * with a configurable max concurrency cap.
+ * A run is skipped while the previous one is still in progress, so processors never sync twice at the same time.
+ * Not used in the PRIORITY and CADENCE execution modes, which have their own schedulers.
  */
 @Slf4j
 @Component
+@ConditionalOnExpression("!'${glamaya.sync.execution.mode}'.equalsIgnoreCase('priority')"
+        + " and !'${glamaya.sync.execution.mode}'.equalsIgnoreCase('cadence')")
 public class SyncScheduler {
 
     private final SyncOrchestrator syncOrchestrator;
     private final List<PlatformAdapter> platformAdapters;
     private final int maxConcurrency;
     private final ExecutionMode executionMode;
+    private final Duration backfillLookback;
+    private final Duration backfillSliceSize;
+    private final int backfillSliceConcurrency;
+    private final AtomicBoolean inFlight = new AtomicBoolean();
 
     public SyncScheduler(SyncOrchestrator syncOrchestrator,
                          List<PlatformAdapter> platformAdapters,
                          @Value("${glamaya.sync.concurrency.max:0}") int maxConcurrency,
-                         @Value("${glamaya.sync.execution.mode}") String executionMode) {
+                         @Value("${glamaya.sync.execution.mode}") String executionMode,
+                         @Value("${glamaya.sync.backfill.lookback-days:365}") long backfillLookbackDays,
+                         @Value("${glamaya.sync.backfill.slice-days:7}") long backfillSliceDays,
+                         @Value("${glamaya.sync.backfill.slice-concurrency:8}") int backfillSliceConcurrency) {
         this.syncOrchestrator = syncOrchestrator;
         this.platformAdapters = platformAdapters;
         this.maxConcurrency = maxConcurrency;
         this.executionMode = ExecutionMode.fromString(executionMode);
+        this.backfillLookback = Duration.ofDays(Math.max(1, backfillLookbackDays));
+        this.backfillSliceSize = Duration.ofDays(Math.max(1, backfillSliceDays));
+        this.backfillSliceConcurrency = Math.max(1, backfillSliceConcurrency);
         log.info(LoggerConstants.SCHEDULER_INIT, platformAdapters.size(), this.maxConcurrency, this.executionMode);
     }
 
@@ -42,16 +61,25 @@ public class SyncScheduler {
      */
     @Scheduled(fixedDelayString = "${glamaya.sync.scheduler.fixedDelay:300000}")
     public void run() {
+        if (!inFlight.compareAndSet(false, true)) {
+            log.warn(LoggerConstants.SCHEDULER_SKIPPED_IN_FLIGHT, executionMode);
+            return;
+        }
         log.info(LoggerConstants.SCHEDULER_START, executionMode, maxConcurrency);
-        switch (executionMode) {
+        Mono<Void> sync = switch (executionMode) {
             case SEQUENTIAL -> runSequentialSync();
             case PLATFORM_PARALLEL -> runPlatformParallelSync();
             case PARALLEL -> runParallelSync();
-        }
+            case BACKFILL -> runBackfillSync();
+            // Scheduled by PrioritySyncScheduler and CadenceSyncScheduler
+            case PRIORITY, CADENCE -> Mono.empty();
+        };
+        sync.doFinally(signal -> inFlight.set(false))
+                .subscribe(null, e -> log.error(LoggerConstants.SCHEDULER_FAILED, executionMode, e.getMessage()));
     }
 
-    private void runSequentialSync() {
-        Flux.fromIterable(sortedAdapters())
+    private Mono<Void> runSequentialSync() {
+        return Flux.fromIterable(sortedAdapters())
                 .concatMap(adapter -> {
                     log.info(LoggerConstants.SCHEDULER_PLATFORM_START, adapter.getPlatformName(), 1, executionMode);
                     return Flux.fromIterable(adapter.getProcessorTypes())
@@ -60,25 +88,44 @@ public class SyncScheduler {
                             .doOnSuccess(v -> log.info(LoggerConstants.SCHEDULER_PLATFORM_COMPLETE, adapter.getPlatformName(), 1, executionMode));
                 })
                 .doOnComplete(() -> log.info(LoggerConstants.SCHEDULER_ALL_COMPLETE, executionMode))
-                .subscribe();
+                .then();
+    }
+
+    /**
+     * Backfills processors that have not been synced yet; processors with a watermark get a normal run, so after
+     * the first pass this behaves like the sequential mode. The last lookback-days are fetched in concurrent
+     * slices, older history in a single slice reaching back to the oldest record.
+     */
+    private Mono<Void> runBackfillSync() {
+        Instant to = Instant.now();
+        Instant from = to.minus(backfillLookback);
+        return Flux.fromIterable(sortedAdapters())
+                .concatMap(adapter -> {
+                    log.info(LoggerConstants.SCHEDULER_PLATFORM_START, adapter.getPlatformName(), backfillSliceConcurrency, executionMode);
+                    return Flux.fromIterable(adapter.getProcessorTypes())
+                            .concatMap(type -> syncOrchestrator.syncBackfill(type, from, to, backfillSliceSize, backfillSliceConcurrency))
+                            .then()
+                            .doOnSuccess(v -> log.info(LoggerConstants.SCHEDULER_PLATFORM_COMPLETE, adapter.getPlatformName(), backfillSliceConcurrency, executionMode));
+                })
+                .doOnComplete(() -> log.info(LoggerConstants.SCHEDULER_ALL_COMPLETE, executionMode))
+                .then();
     }
 
-    private void runPlatformParallelSync() {
-        Flux.fromIterable(sortedAdapters())
+    private Mono<Void> runPlatformParallelSync() {
+        return Flux.fromIterable(sortedAdapters())
                 .concatMap(adapter -> {
                     log.info(LoggerConstants.SCHEDULER_PLATFORM_START, adapter.getPlatformName(), maxConcurrency, executionMode);
                     return syncOrchestrator.syncPlatformParallel(adapter.getProcessorTypes(), maxConcurrency)
                             .doOnSuccess(v -> log.info(LoggerConstants.SCHEDULER_PLATFORM_COMPLETE, adapter.getPlatformName(), maxConcurrency, executionMode));
                 })
                 .doOnComplete(() -> log.info(LoggerConstants.SCHEDULER_ALL_COMPLETE, executionMode))
-                .subscribe();
+                .then();
     }
 
-    private void runParallelSync() {
+    private Mono<Void> runParallelSync() {
         log.info(LoggerConstants.SCHEDULER_PLATFORM_START, "All Platforms", maxConcurrency, executionMode);
-        syncOrchestrator.syncParallel(maxConcurrency)
-                .doOnSuccess(v -> log.info(LoggerConstants.SCHEDULER_ALL_COMPLETE, executionMode))
-                .subscribe();
+        return syncOrchestrator.syncParallel(maxConcurrency)
+                .doOnSuccess(v -> log.info(LoggerConstants.SCHEDULER_ALL_COMPLETE, executionMode));
     }
 
     private List<PlatformAdapter> sortedAdapters() {
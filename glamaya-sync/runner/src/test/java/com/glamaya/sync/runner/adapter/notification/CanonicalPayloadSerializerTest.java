@@ -0,0 +1,123 @@
+package com.glamaya.sync.runner.adapter.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.glamaya.datacontracts.ecommerce.Contact;
+import com.glamaya.datacontracts.ecommerce.Email;
+import com.glamaya.datacontracts.ecommerce.LineItem;
+import com.glamaya.datacontracts.ecommerce.Name;
+import com.glamaya.datacontracts.ecommerce.Order;
+import com.glamaya.datacontracts.ecommerce.serde.EcommercePayloadCodec;
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.PayloadFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Serializes canonical models and reads them back with the EcommercePayloadCodec mappers consumers use.
+ */
+class CanonicalPayloadSerializerTest {
+
+    private final CanonicalPayloadSerializer serializer = new CanonicalPayloadSerializer();
+
+    @ParameterizedTest
+    @EnumSource(PayloadFormat.class)
+    void orderDecodesBackToTheSameOrder(PayloadFormat format) throws IOException {
+        Order order = order();
+
+        byte[] bytes = serializer.serialize(new EcomModel<>(order.getId(), order), format);
+
+        assertThat(reader(format).readValue(bytes, Order.class)).isEqualTo(order);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PayloadFormat.class)
+    void contactDecodesBackToTheSameContact(PayloadFormat format) throws IOException {
+        Contact contact = contact();
+
+        byte[] bytes = serializer.serialize(new EcomModel<>(contact.getId(), contact), format);
+
+        assertThat(reader(format).readValue(bytes, Contact.class)).isEqualTo(contact);
+    }
+
+    @Test
+    void readersCanTellTheFormatsApart() {
+        EcomModel<Order> model = new EcomModel<>("1", order());
+
+        assertThat(EcommercePayloadCodec.isSmile(serializer.serialize(model, PayloadFormat.SMILE))).isTrue();
+        assertThat(EcommercePayloadCodec.isSmile(serializer.toJson(model))).isFalse();
+        assertThat(serializer.serialize(model, null)).isSameAs(serializer.toJson(model));
+    }
+
+    @Test
+    void eachFormatIsSerializedOnceUntilTheDataChanges() {
+        Order order = order();
+        EcomModel<Order> model = new EcomModel<>(order.getId(), order);
+
+        byte[] json = serializer.toJson(model);
+        assertThat(serializer.toJson(model)).isSameAs(json);
+
+        Order changed = order();
+        changed.setStatus("cancelled");
+        model.setData(changed);
+
+        assertThat(new String(serializer.toJson(model), StandardCharsets.UTF_8)).contains("cancelled");
+    }
+
+    @Test
+    void nullFieldsAreLeftOut() {
+        Order order = order();
+        order.setNotes(null);
+
+        assertThat(new String(serializer.toJson(new EcomModel<>(order.getId(), order)), StandardCharsets.UTF_8))
+                .doesNotContain("notes");
+    }
+
+    private static ObjectMapper reader(PayloadFormat format) {
+        return format == PayloadFormat.SMILE ? EcommercePayloadCodec.smileMapper() : EcommercePayloadCodec.jsonMapper();
+    }
+
+    private static Order order() {
+        LineItem item = new LineItem();
+        item.setLineId("l-1");
+        item.setSku("RING-7");
+        item.setName("Ring");
+        item.setQuantity(2L);
+        item.setUnitPrice(new BigDecimal("12.50"));
+        item.setTotalPrice(new BigDecimal("25.00"));
+        Order order = new Order();
+        order.setId("o-1");
+        order.setStatus("processing");
+        order.setCreatedAt(Instant.parse("2024-05-01T10:15:30.123Z"));
+        order.setCurrency("INR");
+        order.setTotalPrice(new BigDecimal("25.00"));
+        order.setTotalQuantity(2L);
+        order.setLineItems(List.of(item));
+        order.setTags(List.of("gift"));
+        order.setNotes("Deliver after 6pm");
+        return order;
+    }
+
+    private static Contact contact() {
+        Name name = new Name();
+        name.setFirst("Asha");
+        name.setLast("Rao");
+        Email email = new Email();
+        email.setEmail("asha@example.com");
+        email.setPrimary(true);
+        Contact contact = new Contact();
+        contact.setId("c-1");
+        contact.setName(name);
+        contact.setEmails(List.of(email));
+        contact.setCreatedDate(Instant.parse("2024-05-01T10:15:30Z"));
+        return contact;
+    }
+}
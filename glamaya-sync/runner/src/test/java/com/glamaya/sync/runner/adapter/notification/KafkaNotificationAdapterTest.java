@@ -0,0 +1,125 @@
+package com.glamaya.sync.runner.adapter.notification;
+
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.support.TestNotificationConfig;
+import com.glamaya.sync.core.support.TestProcessorConfiguration;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.sender.SenderOptions;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaNotificationAdapterTest {
+
+    private final TestProcessorConfiguration config = TestProcessorConfiguration.builder()
+            .notificationConfig(NotificationType.KAFKA, TestNotificationConfig.builder().topic("orders").build())
+            .build();
+
+    @Test
+    void batchSucceedsWhenEveryRecordIsSent() {
+        KafkaNotificationAdapter adapter = adapter(id -> null);
+
+        assertThat(failureOf(adapter.notifyBatch(payloads(3), config, NotificationType.KAFKA))).isNull();
+    }
+
+    @Test
+    void expiredBatchFailsWithTheSharedException() {
+        // The producer fails every record of an expired batch with one exception instance
+        TimeoutException expired = new TimeoutException("Expiring 20 record(s)");
+        KafkaNotificationAdapter adapter = adapter(id -> expired);
+
+        Throwable failure = failureOf(adapter.notifyBatch(payloads(20), config, NotificationType.KAFKA));
+
+        assertThat(failure).isSameAs(expired);
+        assertThat(failure.getSuppressed()).isEmpty();
+    }
+
+    @Test
+    void distinctFailuresAreSuppressedUpToALimit() {
+        KafkaNotificationAdapter adapter = adapter(id -> new TimeoutException("failed " + id));
+
+        Throwable failure = failureOf(adapter.notifyBatch(payloads(50), config, NotificationType.KAFKA));
+
+        assertThat(failure).hasMessage("failed id-0");
+        assertThat(failure.getSuppressed()).hasSize(10)
+                .extracting(Throwable::getMessage)
+                .startsWith("failed id-1", "failed id-2");
+    }
+
+    @Test
+    void failedRecordsDoNotHideTheSentOnes() {
+        KafkaNotificationAdapter adapter = adapter(id -> id.equals("id-1") ? new TimeoutException("failed " + id) : null);
+
+        Throwable failure = failureOf(adapter.notifyBatch(payloads(3), config, NotificationType.KAFKA));
+
+        assertThat(failure).hasMessage("failed id-1");
+    }
+
+    /**
+     * Returns the error the call fails with, as raised (block would add a suppressed exception of its own).
+     */
+    private static Throwable failureOf(Mono<Void> call) {
+        return call.then(Mono.<Throwable>empty()).onErrorResume(Mono::just).block();
+    }
+
+    private static List<EcomModel<?>> payloads(int count) {
+        return IntStream.range(0, count).<EcomModel<?>>mapToObj(i -> new EcomModel<>("id-" + i, Map.of("n", i))).toList();
+    }
+
+    private static KafkaNotificationAdapter adapter(Function<String, Exception> failureOf) {
+        return new KafkaNotificationAdapter(new StubTemplate(failureOf), new CanonicalPayloadSerializer());
+    }
+
+    /**
+     * Answers every record with a result carrying the exception given for its correlation id, if any; never
+     * connects to a broker.
+     */
+    private static final class StubTemplate extends ReactiveKafkaProducerTemplate<String, byte[]> {
+
+        private final Function<String, Exception> failureOf;
+
+        private StubTemplate(Function<String, Exception> failureOf) {
+            super(SenderOptions.create(Map.of()));
+            this.failureOf = failureOf;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Flux<SenderResult<T>> send(Publisher<? extends SenderRecord<String, byte[], T>> records) {
+            return Flux.from(records).map(record -> result(record.correlationMetadata(),
+                    failureOf.apply((String) record.correlationMetadata())));
+        }
+
+        private static <T> SenderResult<T> result(T correlationMetadata, Exception exception) {
+            return new SenderResult<>() {
+                @Override
+                public RecordMetadata recordMetadata() {
+                    return null;
+                }
+
+                @Override
+                public Exception exception() {
+                    return exception;
+                }
+
+                @Override
+                public T correlationMetadata() {
+                    return correlationMetadata;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.glamaya.sync.runner.adapter.notification;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.NotificationType;
+import com.glamaya.sync.core.support.TestNotificationConfig;
+import com.glamaya.sync.core.support.TestProcessorConfiguration;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Posts through a real WebClient to a local HTTP server that records every request and answers with the
+ * statuses queued for it (200 once the queue is empty).
+ */
+class WebhookNotificationAdapterTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+    private HttpServer server;
+    private TestProcessorConfiguration config;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/hook", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                requests.add(new Request(exchange.getRequestHeaders().getFirst("Content-Encoding"), body.readAllBytes()));
+            }
+            Integer status = statuses.poll();
+            exchange.sendResponseHeaders(status != null ? status : 200, -1);
+            exchange.close();
+        });
+        server.start();
+        String url = "http://localhost:" + server.getAddress().getPort() + "/hook";
+        config = TestProcessorConfiguration.builder()
+                .notificationConfig(NotificationType.WEBHOOK, TestNotificationConfig.builder().url(url).build())
+                .build();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void callsWithinTheWindowShareOneRequest() throws IOException {
+        WebhookNotificationAdapter adapter = adapter(200, false);
+
+        Mono.when(notify(adapter, 0, 2), notify(adapter, 2, 2)).block(Duration.ofSeconds(10));
+
+        assertThat(requests).hasSize(1);
+        assertThat(ids(requests.getFirst().json())).containsExactlyInAnyOrder("0", "1", "2", "3");
+    }
+
+    @Test
+    void requestsHoldAtMostMaxItems() throws IOException {
+        WebhookNotificationAdapter adapter = adapter(0, false);
+
+        notify(adapter, 0, 250).block(Duration.ofSeconds(10));
+
+        assertThat(requests).hasSize(3);
+        int items = 0;
+        for (Request request : requests) {
+            items += request.json().size();
+        }
+        assertThat(items).isEqualTo(250);
+    }
+
+    @Test
+    void failedBatchFailsEveryCallWaitingForIt() {
+        statuses.add(400);
+        WebhookNotificationAdapter adapter = adapter(200, false);
+
+        var failures = Mono.zip(errorOf(notify(adapter, 0, 1)), errorOf(notify(adapter, 1, 1)))
+                .block(Duration.ofSeconds(10));
+
+        assertThat(failures).isNotNull();
+        assertThat(failures.getT2()).isSameAs(failures.getT1());
+        // A 400 is not retried
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void serverErrorsAndRateLimitingAreRetried() {
+        statuses.add(503);
+        statuses.add(429);
+        WebhookNotificationAdapter adapter = adapter(0, false);
+
+        assertThat(failureOf(notify(adapter, 0, 1))).isNull();
+
+        assertThat(requests).hasSize(3);
+    }
+
+    @Test
+    void retriesStopAfterMaxAttempts() {
+        statuses.addAll(List.of(500, 500, 500, 500, 500));
+        WebhookNotificationAdapter adapter = adapter(0, false);
+
+        assertThat(failureOf(notify(adapter, 0, 1))).isNotNull();
+
+        // The first attempt and three retries
+        assertThat(requests).hasSize(4);
+    }
+
+    @Test
+    void gzippedBodyIsTheSameJsonArray() throws IOException {
+        WebhookNotificationAdapter adapter = adapter(0, true);
+
+        notify(adapter, 0, 3).block(Duration.ofSeconds(10));
+
+        Request request = requests.getFirst();
+        assertThat(request.contentEncoding()).isEqualTo("gzip");
+        assertThat(ids(request.json())).containsExactly("0", "1", "2");
+    }
+
+    @Test
+    void plainBodyIsSentWithoutContentEncoding() throws IOException {
+        WebhookNotificationAdapter adapter = adapter(0, false);
+
+        notify(adapter, 0, 1).block(Duration.ofSeconds(10));
+
+        assertThat(requests.getFirst().contentEncoding()).isNull();
+        assertThat(ids(requests.getFirst().json())).containsExactly("0");
+    }
+
+    @Test
+    void callsAfterStopFailInsteadOfThrowing() {
+        WebhookNotificationAdapter adapter = adapter(200, false);
+        notify(adapter, 0, 1).block(Duration.ofSeconds(10));
+        adapter.stop();
+
+        Mono<Void> call = notify(adapter, 1, 1);
+
+        assertThat(failureOf(call)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private WebhookNotificationAdapter adapter(long windowMs, boolean gzip) {
+        return new WebhookNotificationAdapter(WebClient.create(), new CanonicalPayloadSerializer(), 100, windowMs, gzip,
+                4, 3, 1, 5);
+    }
+
+    private Mono<Void> notify(WebhookNotificationAdapter adapter, int firstId, int count) {
+        List<EcomModel<?>> payloads = IntStream.range(firstId, firstId + count)
+                .<EcomModel<?>>mapToObj(i -> new EcomModel<>(String.valueOf(i), Map.of("id", String.valueOf(i))))
+                .toList();
+        return adapter.notifyBatch(payloads, config, NotificationType.WEBHOOK);
+    }
+
+    private static Throwable failureOf(Mono<Void> call) {
+        return errorOf(call).block(Duration.ofSeconds(10));
+    }
+
+    /**
+     * Emits the error the call fails with; empty if it succeeds.
+     */
+    private static Mono<Throwable> errorOf(Mono<Void> call) {
+        return call.then(Mono.<Throwable>empty()).onErrorResume(Mono::just);
+    }
+
+    private static List<String> ids(JsonNode array) {
+        return IntStream.range(0, array.size()).mapToObj(i -> array.get(i).get("id").asText()).toList();
+    }
+
+    private record Request(String contentEncoding, byte[] body) {
+
+        JsonNode json() throws IOException {
+            if ("gzip".equals(contentEncoding)) {
+                try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                    return MAPPER.readTree(in);
+                }
+            }
+            return MAPPER.readTree(body);
+        }
+    }
+}
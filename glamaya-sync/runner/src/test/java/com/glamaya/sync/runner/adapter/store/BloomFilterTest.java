@@ -0,0 +1,53 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+
+    @Test
+    void insertedKeysAreAlwaysFound() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        SplittableRandom random = new SplittableRandom(42);
+        long[] keys = random.longs(INSERTIONS).toArray();
+
+        for (long key : keys) {
+            filter.put(key);
+        }
+
+        for (long key : keys) {
+            assertThat(filter.mightContain(key)).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredProbability() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        // Even keys are inserted, odd keys probed, so no probe was inserted
+        for (long key = 0; key < 2L * INSERTIONS; key += 2) {
+            filter.put(key);
+        }
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (long key = 1; key < 2L * probes; key += 2) {
+            if (filter.mightContain(key)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+
+        assertThat(new SplittableRandom(7).longs(1_000).noneMatch(filter::mightContain)).isTrue();
+    }
+}
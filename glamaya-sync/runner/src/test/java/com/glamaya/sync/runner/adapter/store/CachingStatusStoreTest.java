@@ -0,0 +1,167 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import com.glamaya.sync.core.application.service.ProcessorShardCoordinator;
+import com.glamaya.sync.core.domain.model.BackfillSlice;
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.support.InMemoryLeasePort;
+import com.glamaya.sync.core.support.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingStatusStoreTest {
+
+    private static final ProcessorType TYPE = ProcessorType.WOOCOMMERCE_ORDER;
+
+    private final InMemoryRepository repository = new InMemoryRepository();
+
+    @Test
+    void repeatedReadsAreServedFromTheCache() {
+        repository.statuses.put(TYPE, status(3));
+        CachingStatusStore store = store(true);
+
+        store.findStatus(TYPE).block();
+        ProcessorStatus second = store.findStatus(TYPE).block();
+
+        assertThat(second.getNextPage()).isEqualTo(3);
+        assertThat(repository.reads).hasValue(1);
+    }
+
+    @Test
+    void changesToAReadStatusDoNotReachTheCache() {
+        repository.statuses.put(TYPE, status(3));
+        CachingStatusStore store = store(true);
+
+        ProcessorStatus read = store.findStatus(TYPE).block();
+        read.setNextPage(99);
+        read.getBackfillSlices().getFirst().setDone(true);
+
+        ProcessorStatus again = store.findStatus(TYPE).block();
+        assertThat(again).isNotSameAs(read);
+        assertThat(again.getNextPage()).isEqualTo(3);
+        assertThat(again.getBackfillSlices().getFirst().isDone()).isFalse();
+    }
+
+    @Test
+    void changesToASavedStatusDoNotReachTheCache() {
+        CachingStatusStore store = store(true);
+        ProcessorStatus saved = status(4);
+        store.saveCheckpoint(saved).block();
+
+        saved.setNextPage(99);
+        saved.getBackfillSlices().getFirst().setNextPage(99);
+
+        ProcessorStatus read = store.findStatus(TYPE).block();
+        assertThat(read.getNextPage()).isEqualTo(4);
+        assertThat(read.getBackfillSlices().getFirst().getNextPage()).isNull();
+        assertThat(repository.reads).hasValue(0);
+    }
+
+    @Test
+    void failedSaveDropsTheCachedStatus() {
+        CachingStatusStore store = store(true);
+        store.saveStatus(status(4)).block();
+        repository.statuses.put(TYPE, status(3));
+        repository.failing = true;
+
+        store.saveStatus(status(5)).onErrorResume(e -> Mono.empty()).block();
+
+        assertThat(store.findStatus(TYPE).block().getNextPage()).isEqualTo(3);
+        assertThat(repository.reads).hasValue(1);
+    }
+
+    @Test
+    void statusIsReadAgainOnceTheLeaseIsRetakenFromAnotherInstance() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        InMemoryLeasePort leasePort = new InMemoryLeasePort(clock);
+        Duration ttl = Duration.ofSeconds(30);
+        CachingStatusStore store = store(true);
+        // Wired like the runner wires its coordinator
+        ProcessorShardCoordinator a = new ProcessorShardCoordinator(leasePort, "a", ttl, List.of(TYPE), store::invalidate, clock);
+        ProcessorShardCoordinator b = new ProcessorShardCoordinator(leasePort, "b", ttl, List.of(TYPE), type -> {
+        }, clock);
+        a.heartbeat().block();
+        store.saveCheckpoint(status(4)).block();
+
+        // a stalls past the TTL; b takes over, writes page 8 and dies in turn
+        clock.advance(ttl.plusSeconds(1));
+        b.heartbeat().block();
+        repository.statuses.put(TYPE, status(8));
+        assertThat(store.findStatus(TYPE).block().getNextPage()).isEqualTo(4);
+        clock.advance(ttl.plusSeconds(1));
+        a.heartbeat().block();
+
+        assertThat(a.owns(TYPE)).isTrue();
+        assertThat(store.findStatus(TYPE).block().getNextPage()).isEqualTo(8);
+    }
+
+    @Test
+    void disabledCachePassesEveryReadThrough() {
+        repository.statuses.put(TYPE, status(3));
+        CachingStatusStore store = store(false);
+
+        store.findStatus(TYPE).block();
+        store.findStatus(TYPE).block();
+
+        assertThat(repository.reads).hasValue(2);
+    }
+
+    private CachingStatusStore store(boolean enabled) {
+        // No write-behind store, so the cache writes to the repository directly
+        return new CachingStatusStore(repository,
+                new StaticListableBeanFactory().getBeanProvider(WriteBehindStatusStore.class),
+                new SimpleMeterRegistry(), enabled);
+    }
+
+    private static ProcessorStatus status(int nextPage) {
+        List<BackfillSlice> slices = new ArrayList<>();
+        slices.add(BackfillSlice.builder().to(Instant.parse("2024-01-01T00:00:00Z")).build());
+        return ProcessorStatus.builder().processorType(TYPE).nextPage(nextPage).backfillSlices(slices).build();
+    }
+
+    /**
+     * Keeps the statuses in a map, as stored copies, and counts the reads; every save fails while failing is set.
+     */
+    private static final class InMemoryRepository extends MongoProcessorStatusRepository {
+
+        private final Map<ProcessorType, ProcessorStatus> statuses = new ConcurrentHashMap<>();
+        private final AtomicInteger reads = new AtomicInteger();
+        private volatile boolean failing;
+
+        private InMemoryRepository() {
+            super(null, null);
+        }
+
+        @Override
+        public Mono<ProcessorStatus> findStatus(ProcessorType processorType) {
+            return Mono.fromSupplier(() -> {
+                reads.incrementAndGet();
+                ProcessorStatus status = statuses.get(processorType);
+                return status != null ? status.snapshot() : null;
+            });
+        }
+
+        @Override
+        public Mono<Void> saveStatus(ProcessorStatus status) {
+            return Mono.defer(() -> {
+                if (failing) {
+                    return Mono.error(new IllegalStateException("write failed"));
+                }
+                statuses.put(status.getProcessorType(), status.snapshot());
+                return Mono.empty();
+            });
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MongoDedupStoreTest {
+
+    private static final ProcessorType TYPE = ProcessorType.WOOCOMMERCE_ORDER;
+
+    private final InMemoryRepository repository = new InMemoryRepository();
+
+    @Test
+    void newItemsPassWithoutALookup() {
+        MongoDedupStore store = store();
+
+        assertThat(ids(store.filterChanged(TYPE, List.of(model("1", "a"), model("2", "b"))).block()))
+                .containsExactly("1", "2");
+        assertThat(repository.lookups).hasValue(0);
+    }
+
+    @Test
+    void unchangedContentIsSkippedAndChangedContentPasses() {
+        MongoDedupStore store = store();
+        store.markNotified(TYPE, List.of(model("1", "a"), model("2", "b"))).block();
+
+        List<EcomModel<?>> changed = store.filterChanged(TYPE, List.of(model("1", "a"), model("2", "B"), model("3", "c")))
+                .block();
+
+        assertThat(ids(changed)).containsExactly("2", "3");
+        assertThat(repository.lookups).hasValue(1);
+    }
+
+    @Test
+    void fingerprintDoesNotDependOnMapKeyOrder() {
+        MongoDedupStore store = store();
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("status", "paid");
+        data.put("total", 10);
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("total", 10);
+        reordered.put("status", "paid");
+        store.markNotified(TYPE, List.of(new EcomModel<>("1", data))).block();
+
+        assertThat(store.filterChanged(TYPE, List.of(new EcomModel<>("1", reordered))).block()).isEmpty();
+    }
+
+    @Test
+    void fingerprintDoesNotDependOnPropertyDeclarationOrder() {
+        MongoDedupStore store = store();
+        store.markNotified(TYPE, List.of(new EcomModel<>("1", new StatusFirst("paid", 10)))).block();
+
+        assertThat(store.filterChanged(TYPE, List.of(new EcomModel<>("1", new TotalFirst(10, "paid")))).block()).isEmpty();
+    }
+
+    @Test
+    void sameIdOfAnotherProcessorTypeIsNotADuplicate() {
+        MongoDedupStore store = store();
+        store.markNotified(TYPE, List.of(model("1", "a"))).block();
+
+        assertThat(ids(store.filterChanged(ProcessorType.WOOCOMMERCE_PRODUCT, List.of(model("1", "a"))).block()))
+                .containsExactly("1");
+    }
+
+    @Test
+    void modelsWithoutAnIdAreNeverDeduplicated() {
+        MongoDedupStore store = store();
+        EcomModel<?> anonymous = model(null, "a");
+        store.markNotified(TYPE, List.of(anonymous)).block();
+
+        assertThat(repository.documents).isEmpty();
+        assertThat(store.filterChanged(TYPE, List.of(anonymous)).block()).containsExactly(anonymous);
+    }
+
+    @Test
+    void warmUpLoadsTheStoredIdsSoUnchangedContentIsSkippedAfterARestart() {
+        store().markNotified(TYPE, List.of(model("1", "a"))).block();
+        MongoDedupStore restarted = store();
+
+        // A cold filter misses the stored fingerprint and lets the item through
+        assertThat(ids(restarted.filterChanged(TYPE, List.of(model("1", "a"))).block())).containsExactly("1");
+
+        restarted.warmUp();
+
+        assertThat(restarted.filterChanged(TYPE, List.of(model("1", "a"))).block()).isEmpty();
+        assertThat(repository.idOnlyReads).hasValue(1);
+    }
+
+    private MongoDedupStore store() {
+        return new MongoDedupStore(repository.proxy(), 1_000, 0.01);
+    }
+
+    private static EcomModel<?> model(String id, String status) {
+        return new EcomModel<>(id, Map.of("status", status));
+    }
+
+    private static List<String> ids(List<EcomModel<?>> models) {
+        return models.stream().map(EcomModel::getId).toList();
+    }
+
+    private record StatusFirst(String status, int total) {
+    }
+
+    private record TotalFirst(int total, String status) {
+    }
+
+    /**
+     * ContentFingerprintMongoRepository over a map, implementing only the methods the store calls; the
+     * id-only read leaves the fingerprint at zero like the projection does. Every other method fails.
+     */
+    private static final class InMemoryRepository implements InvocationHandler {
+
+        private final Map<String, Long> documents = new ConcurrentHashMap<>();
+        private final AtomicInteger lookups = new AtomicInteger();
+        private final AtomicInteger idOnlyReads = new AtomicInteger();
+
+        ContentFingerprintMongoRepository proxy() {
+            return (ContentFingerprintMongoRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{ContentFingerprintMongoRepository.class}, this);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "findAllIds" -> {
+                    idOnlyReads.incrementAndGet();
+                    yield Flux.fromIterable(documents.keySet()).map(id -> new ContentFingerprintDocument(id, 0));
+                }
+                case "findAllById" -> {
+                    lookups.incrementAndGet();
+                    yield Flux.fromIterable((Iterable<String>) args[0])
+                            .filter(documents::containsKey)
+                            .map(id -> new ContentFingerprintDocument(id, documents.get(id)));
+                }
+                case "saveAll" -> Flux.fromIterable((Iterable<ContentFingerprintDocument>) args[0])
+                        .doOnNext(doc -> documents.put(doc.getId(), doc.getFingerprint()));
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        }
+    }
+}
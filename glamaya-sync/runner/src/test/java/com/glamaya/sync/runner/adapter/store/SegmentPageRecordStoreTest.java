@@ -0,0 +1,172 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.glamaya.sync.core.application.service.ReplayDataProvider;
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.model.RecordedPage;
+import com.glamaya.sync.core.domain.model.SyncContext;
+import com.glamaya.sync.core.support.TestProcessorConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records pages into a temporary directory and replays them through a second store opened on the same
+ * directory, the way a replay run follows a recording run.
+ */
+class SegmentPageRecordStoreTest {
+
+    private static final ProcessorType TYPE = ProcessorType.WOOCOMMERCE_ORDER;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void recordedPagesAreReplayedInOrderAcrossSegments() throws IOException {
+        // Small segments, so every page starts a new one
+        SegmentPageRecordStore recorder = store("record", 64);
+        record(recorder, page(1, "a", "b"), page(2, "c"), page(3, "d", "e", "f"));
+        recorder.close();
+
+        ProcessorStatus status = status();
+        List<String> replayed = replay(store("replay", 64), status);
+
+        assertThat(replayed).containsExactly("a", "b", "c", "d", "e", "f");
+        assertThat(status.getTotalItemsSynced()).isEqualTo(6);
+        assertThat(status.isMoreDataAvailable()).isFalse();
+        try (Stream<Path> segments = Files.list(directory.resolve(TYPE.name()))) {
+            assertThat(segments.count()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void interruptedReplayResumesFromTheCursor() {
+        SegmentPageRecordStore recorder = store("record", 64);
+        record(recorder, page(1, "a"), page(2, "b"), page(3, "c"));
+        recorder.close();
+        SegmentPageRecordStore replayer = store("replay", 64);
+        ReplayDataProvider<String> provider = provider(replayer);
+        ProcessorStatus status = status();
+
+        assertThat(provider.fetchData(new SyncContext<>(status, configuration())).collectList().block()).containsExactly("a");
+
+        // A new run starts from the stored cursor only
+        ProcessorStatus resumed = status();
+        resumed.setCursor(status.getCursor());
+        assertThat(replay(replayer, resumed)).containsExactly("b", "c");
+    }
+
+    @Test
+    void queryParametersAndBodySurviveTheRoundTrip() {
+        SegmentPageRecordStore recorder = store("record", 1024);
+        Map<String, String> query = new HashMap<>();
+        query.put("page", "2");
+        query.put("search", "a&b=c d");
+        query.put("flag", null);
+        byte[] body = "[\"x\"]".getBytes(StandardCharsets.UTF_8);
+        recorder.append(TYPE, query, body).block();
+        recorder.close();
+
+        RecordedPage page = store("replay", 1024).read(TYPE, 0).block();
+
+        assertThat(page).isNotNull();
+        assertThat(page.queryParams()).isEqualTo(query);
+        assertThat(page.body()).isEqualTo(body);
+        assertThat(page.recordedAt()).isNotNull();
+        assertThat(page.position()).isZero();
+    }
+
+    @Test
+    void partlyWrittenRecordIsCutOffWhenTheLogIsReopened() throws IOException {
+        SegmentPageRecordStore recorder = store("record", 1024);
+        record(recorder, page(1, "a"), page(2, "b"));
+        recorder.close();
+        // A crash in the middle of a record: its length is written, most of it is missing
+        Path segment;
+        try (Stream<Path> segments = Files.list(directory.resolve(TYPE.name()))) {
+            segment = segments.findFirst().orElseThrow();
+        }
+        Files.write(segment, ByteBuffer.allocate(6).putInt(100).array(), StandardOpenOption.APPEND);
+
+        SegmentPageRecordStore reopened = store("record", 1024);
+        record(reopened, page(3, "c"));
+        reopened.close();
+
+        assertThat(replay(store("replay", 1024), status())).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void logsOfOtherProcessorTypesAreSeparate() {
+        SegmentPageRecordStore recorder = store("record", 1024);
+        record(recorder, page(1, "a"));
+        recorder.close();
+
+        assertThat(store("replay", 1024).read(ProcessorType.WOOCOMMERCE_PRODUCT, 0).blockOptional()).isEmpty();
+    }
+
+    private SegmentPageRecordStore store(String mode, long segmentBytes) {
+        return new SegmentPageRecordStore(mode, directory.toString(), segmentBytes);
+    }
+
+    /**
+     * Fetches pages until the log is used up; returns the items of all of them.
+     */
+    private static List<String> replay(SegmentPageRecordStore store, ProcessorStatus status) {
+        ReplayDataProvider<String> provider = provider(store);
+        List<String> items = new ArrayList<>();
+        while (status.isMoreDataAvailable()) {
+            items.addAll(provider.fetchData(new SyncContext<>(status, configuration())).collectList().block());
+        }
+        return items;
+    }
+
+    private static ReplayDataProvider<String> provider(SegmentPageRecordStore store) {
+        return new ReplayDataProvider<>(store, body -> {
+            try {
+                return MAPPER.readValue(body, new TypeReference<List<String>>() {
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static void record(SegmentPageRecordStore store, RecordedPage... pages) {
+        for (RecordedPage page : pages) {
+            store.append(TYPE, page.queryParams(), page.body()).block();
+        }
+    }
+
+    private static RecordedPage page(int number, String... items) {
+        try {
+            return new RecordedPage(TYPE, null, Map.of("page", String.valueOf(number)), MAPPER.writeValueAsBytes(items), 0, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ProcessorStatus status() {
+        return ProcessorStatus.builder().processorType(TYPE).moreDataAvailable(true).build();
+    }
+
+    private static TestProcessorConfiguration configuration() {
+        return TestProcessorConfiguration.builder().build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.glamaya.sync.runner.adapter.store;
+
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBehindStatusStoreTest {
+
+    private static final ProcessorType TYPE = ProcessorType.WOOCOMMERCE_ORDER;
+
+    private final RecordingRepository delegate = new RecordingRepository();
+
+    private WriteBehindStatusStore store(int flushEveryPages) {
+        return new WriteBehindStatusStore(delegate, new SimpleMeterRegistry(), flushEveryPages, 60_000);
+    }
+
+    @Test
+    void onlyTheLatestCheckpointIsWrittenEveryNPages() {
+        WriteBehindStatusStore store = store(3);
+
+        store.saveCheckpoint(status(1)).block();
+        store.saveCheckpoint(status(2)).block();
+        assertThat(delegate.writtenPages).isEmpty();
+
+        store.saveCheckpoint(status(3)).block();
+        assertThat(delegate.writtenPages).containsExactly(3);
+    }
+
+    @Test
+    void pendingCheckpointIsServedBeforeItIsWritten() {
+        WriteBehindStatusStore store = store(10);
+
+        store.saveCheckpoint(status(4)).block();
+
+        assertThat(store.findStatus(TYPE).block().getNextPage()).isEqualTo(4);
+        assertThat(delegate.writtenPages).isEmpty();
+    }
+
+    @Test
+    void finalStatusReplacesThePendingCheckpoint() {
+        WriteBehindStatusStore store = store(10);
+
+        store.saveCheckpoint(status(1)).block();
+        store.saveStatus(status(2)).block();
+        store.stop();
+
+        assertThat(delegate.writtenPages).containsExactly(2);
+    }
+
+    @Test
+    void pendingCheckpointsAreFlushedOnShutdown() {
+        WriteBehindStatusStore store = store(10);
+
+        store.saveCheckpoint(status(1)).block();
+        store.saveCheckpoint(status(2)).block();
+        store.stop();
+
+        assertThat(delegate.writtenPages).containsExactly(2);
+    }
+
+    @Test
+    void finalStatusIsWrittenAfterASlowerCheckpointFlush() {
+        WriteBehindStatusStore store = store(1);
+        delegate.holdPage(1);
+
+        store.saveCheckpoint(status(1)).subscribe();
+        Mono<Void> finalWrite = store.saveStatus(status(2)).cache();
+        finalWrite.subscribe();
+        assertThat(delegate.writtenPages).isEmpty();
+
+        delegate.release();
+        finalWrite.block();
+
+        assertThat(delegate.writtenPages).containsExactly(1, 2);
+    }
+
+    @Test
+    void checkpointIsServedWhileItIsBeingWritten() {
+        WriteBehindStatusStore store = store(1);
+        delegate.holdPage(1);
+
+        store.saveCheckpoint(status(1)).subscribe();
+
+        assertThat(store.findStatus(TYPE).block().getNextPage()).isEqualTo(1);
+        delegate.release();
+        assertThat(delegate.writtenPages).containsExactly(1);
+    }
+
+    @Test
+    void finalStatusIsServedWhileItIsBeingWritten() {
+        WriteBehindStatusStore store = store(10);
+        delegate.holdPage(2);
+
+        store.saveStatus(status(2)).subscribe();
+
+        assertThat(store.findStatus(TYPE).block().getNextPage()).isEqualTo(2);
+    }
+
+    @Test
+    void checkpointWhoseFlushFailedIsFlushedAgain() {
+        WriteBehindStatusStore store = store(1);
+        delegate.failPage(1);
+
+        store.saveCheckpoint(status(1)).block();
+        assertThat(delegate.writtenPages).isEmpty();
+        assertThat(store.findStatus(TYPE).block().getNextPage()).isEqualTo(1);
+
+        store.stop();
+        assertThat(delegate.writtenPages).containsExactly(1);
+    }
+
+    @Test
+    void failedFlushDoesNotReplaceANewerCheckpoint() {
+        WriteBehindStatusStore store = store(2);
+        delegate.holdPage(2);
+        delegate.failPage(2);
+
+        store.saveCheckpoint(status(1)).block();
+        store.saveCheckpoint(status(2)).subscribe();
+        store.saveCheckpoint(status(3)).block();
+        delegate.release();
+
+        assertThat(store.findStatus(TYPE).block().getNextPage()).isEqualTo(3);
+        store.stop();
+        assertThat(delegate.writtenPages).containsExactly(3);
+    }
+
+    @Test
+    void failedFlushDoesNotReplaceALaterFinalStatus() {
+        WriteBehindStatusStore store = store(1);
+        delegate.holdPage(1);
+        delegate.failPage(1);
+
+        store.saveCheckpoint(status(1)).subscribe();
+        Mono<Void> finalWrite = store.saveStatus(status(2)).cache();
+        finalWrite.subscribe();
+        delegate.release();
+        finalWrite.block();
+
+        store.stop();
+        assertThat(delegate.writtenPages).containsExactly(2);
+    }
+
+    private static ProcessorStatus status(int nextPage) {
+        return ProcessorStatus.builder().processorType(TYPE).nextPage(nextPage).moreDataAvailable(true).build();
+    }
+
+    /**
+     * Records the pages of the statuses written, in order; the write of one page can be held back, and the
+     * first write of one page can fail.
+     */
+    private static final class RecordingRepository extends MongoProcessorStatusRepository {
+
+        private final List<Integer> writtenPages = new CopyOnWriteArrayList<>();
+        private final Sinks.Empty<Void> gate = Sinks.empty();
+        private volatile Integer heldPage;
+        private volatile Integer failingPage;
+
+        private RecordingRepository() {
+            super(null, null);
+        }
+
+        void holdPage(int page) {
+            heldPage = page;
+        }
+
+        void failPage(int page) {
+            failingPage = page;
+        }
+
+        void release() {
+            gate.tryEmitEmpty();
+        }
+
+        @Override
+        public Mono<ProcessorStatus> findStatus(ProcessorType processorType) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> saveStatus(ProcessorStatus status) {
+            Mono<Void> hold = Integer.valueOf(status.getNextPage()).equals(heldPage) ? gate.asMono() : Mono.empty();
+            return hold.then(Mono.defer(() -> {
+                if (Integer.valueOf(status.getNextPage()).equals(failingPage)) {
+                    failingPage = null;
+                    return Mono.error(new IllegalStateException("write failed"));
+                }
+                writtenPages.add(status.getNextPage());
+                return Mono.empty();
+            }));
+        }
+    }
+}
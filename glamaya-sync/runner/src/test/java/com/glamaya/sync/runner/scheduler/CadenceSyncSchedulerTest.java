@@ -0,0 +1,265 @@
+package com.glamaya.sync.runner.scheduler;
+
+import com.glamaya.sync.core.application.service.ProcessorShardCoordinator;
+import com.glamaya.sync.core.application.usecase.SyncOrchestrator;
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.DataMapper;
+import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.core.domain.port.out.SyncProcessor;
+import com.glamaya.sync.core.support.InMemoryLeasePort;
+import com.glamaya.sync.core.support.TestProcessorConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the processor loops in virtual time with the default 5s active and 60s passive intervals. Every run is
+ * recorded as "TYPE@second" and returns the next scripted outcome: an item count or an exception; 0 items once
+ * the script is used up.
+ */
+class CadenceSyncSchedulerTest {
+
+    private static final ProcessorType ORDER = ProcessorType.WOOCOMMERCE_ORDER;
+    private static final ProcessorType PRODUCT = ProcessorType.WOOCOMMERCE_PRODUCT;
+
+    private final Sinks.Many<String> runs = Sinks.many().replay().all();
+    private final ScriptedOrchestrator orchestrator = new ScriptedOrchestrator();
+    private ProcessorShardCoordinator coordinator;
+    private CadenceSyncScheduler scheduler;
+
+    @AfterEach
+    void stopScheduler() {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+    }
+
+    @Test
+    void processorWithNewItemsRunsAgainAfterTheActiveInterval() {
+        orchestrator.script(ORDER, 3L, 3L, 3L);
+
+        StepVerifier.withVirtualTime(() -> start(true, processor(ORDER)))
+                .expectNext("WOOCOMMERCE_ORDER@0")
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNext("WOOCOMMERCE_ORDER@5")
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNext("WOOCOMMERCE_ORDER@10")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void idleProcessorBacksOffExponentiallyUpToThePassiveInterval() {
+        StepVerifier.withVirtualTime(() -> start(true, processor(ORDER)))
+                .expectNext("WOOCOMMERCE_ORDER@0")
+                .thenAwait(Duration.ofSeconds(10))
+                .expectNext("WOOCOMMERCE_ORDER@10")
+                .thenAwait(Duration.ofSeconds(20))
+                .expectNext("WOOCOMMERCE_ORDER@30")
+                .thenAwait(Duration.ofSeconds(40))
+                .expectNext("WOOCOMMERCE_ORDER@70")
+                .thenAwait(Duration.ofSeconds(60))
+                .expectNext("WOOCOMMERCE_ORDER@130")
+                .thenAwait(Duration.ofSeconds(60))
+                .expectNext("WOOCOMMERCE_ORDER@190")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void newItemsResetTheBackoff() {
+        orchestrator.script(ORDER, 0L, 0L, 4L, 0L);
+
+        StepVerifier.withVirtualTime(() -> start(true, processor(ORDER)))
+                .expectNext("WOOCOMMERCE_ORDER@0")
+                .thenAwait(Duration.ofSeconds(10))
+                .expectNext("WOOCOMMERCE_ORDER@10")
+                .thenAwait(Duration.ofSeconds(20))
+                .expectNext("WOOCOMMERCE_ORDER@30")
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNext("WOOCOMMERCE_ORDER@35")
+                .thenAwait(Duration.ofSeconds(10))
+                .expectNext("WOOCOMMERCE_ORDER@45")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void failedRunBacksOffLikeAnEmptyOne() {
+        orchestrator.script(ORDER, new IllegalStateException("platform down"), new IllegalStateException("platform down"), 2L);
+
+        StepVerifier.withVirtualTime(() -> start(true, processor(ORDER)))
+                .expectNext("WOOCOMMERCE_ORDER@0")
+                .thenAwait(Duration.ofSeconds(10))
+                .expectNext("WOOCOMMERCE_ORDER@10")
+                .thenAwait(Duration.ofSeconds(20))
+                .expectNext("WOOCOMMERCE_ORDER@30")
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNext("WOOCOMMERCE_ORDER@35")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void nextRunStartsOnlyOnceThePreviousOneHasFinished() {
+        orchestrator.runTime = Duration.ofSeconds(30);
+        orchestrator.script(ORDER, 1L, 1L, 1L);
+
+        StepVerifier.withVirtualTime(() -> start(true, processor(ORDER)))
+                .expectNext("WOOCOMMERCE_ORDER@0")
+                .expectNoEvent(Duration.ofSeconds(34))
+                .thenAwait(Duration.ofSeconds(1))
+                .expectNext("WOOCOMMERCE_ORDER@35")
+                .thenAwait(Duration.ofSeconds(35))
+                .expectNext("WOOCOMMERCE_ORDER@70")
+                .thenCancel()
+                .verify();
+
+        assertThat(orchestrator.maxRunning).hasValue(1);
+    }
+
+    @Test
+    void processorsRunOnTheirOwnCadence() {
+        orchestrator.script(ORDER, 1L, 1L, 1L, 1L, 1L, 1L);
+        orchestrator.script(PRODUCT, 1L, 1L, 1L);
+        SyncProcessor<?, ?, ?> product = new Processor(PRODUCT, TestProcessorConfiguration.builder()
+                .pollActiveIntervalMs(12_000L)
+                .build());
+
+        StepVerifier.withVirtualTime(() -> start(true, processor(ORDER), product))
+                .expectNext("WOOCOMMERCE_ORDER@0", "WOOCOMMERCE_PRODUCT@0")
+                .thenAwait(Duration.ofSeconds(25))
+                .expectNext("WOOCOMMERCE_ORDER@5", "WOOCOMMERCE_ORDER@10", "WOOCOMMERCE_PRODUCT@12", "WOOCOMMERCE_ORDER@15",
+                        "WOOCOMMERCE_ORDER@20", "WOOCOMMERCE_PRODUCT@24", "WOOCOMMERCE_ORDER@25")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void processorLeasedByAnotherInstanceRunsOnceTheLeaseIsTakenOver() {
+        StepVerifier.withVirtualTime(() -> start(false, processor(ORDER)))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofSeconds(1))
+                .then(() -> coordinator.heartbeat().block())
+                // Checked again after the active interval
+                .thenAwait(Duration.ofSeconds(4))
+                .expectNext("WOOCOMMERCE_ORDER@5")
+                .thenCancel()
+                .verify();
+    }
+
+    /**
+     * Starts the loops of the given processors; returns the recorded runs.
+     */
+    private Flux<String> start(boolean owned, SyncProcessor<?, ?, ?>... processors) {
+        List<SyncProcessor<?, ?, ?>> syncProcessors = Arrays.asList(processors);
+        coordinator = new ProcessorShardCoordinator(new InMemoryLeasePort(Clock.systemUTC()), "test",
+                Duration.ofMinutes(5), syncProcessors.stream().map(SyncProcessor::getProcessorType).toList());
+        if (owned) {
+            coordinator.heartbeat().block();
+        }
+        scheduler = new CadenceSyncScheduler(orchestrator, coordinator, syncProcessors, 5_000, 60_000);
+        scheduler.start();
+        return runs.asFlux();
+    }
+
+    private static SyncProcessor<?, ?, ?> processor(ProcessorType type) {
+        return new Processor(type, TestProcessorConfiguration.builder().build());
+    }
+
+    /**
+     * Records every run and how many are in flight at most; each run takes runTime.
+     */
+    private final class ScriptedOrchestrator implements SyncOrchestrator {
+
+        private final Map<ProcessorType, Deque<Object>> scripts = new EnumMap<>(ProcessorType.class);
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+        private volatile Duration runTime = Duration.ZERO;
+
+        void script(ProcessorType type, Object... outcomes) {
+            scripts.put(type, new ArrayDeque<>(Arrays.asList(outcomes)));
+        }
+
+        @Override
+        public Mono<Long> syncOnce(ProcessorType processorType) {
+            return Mono.defer(() -> {
+                runs.tryEmitNext(processorType + "@" + VirtualTimeScheduler.get().now(TimeUnit.SECONDS));
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Object outcome = scripts.getOrDefault(processorType, new ArrayDeque<>()).poll();
+                Mono<Long> result = outcome instanceof RuntimeException e ? Mono.error(e)
+                        : Mono.just(outcome != null ? (Long) outcome : 0L);
+                Mono<Long> run = runTime.isZero() ? result : Mono.delay(runTime).then(result);
+                return run.doFinally(signal -> running.decrementAndGet());
+            });
+        }
+
+        @Override
+        public Mono<Void> syncSequential(ProcessorType processorType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Void> syncBackfill(ProcessorType processorType, Instant from, Instant to, Duration sliceSize,
+                                       int sliceConcurrency) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Void> syncParallel(int maxConcurrency) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Void> syncPlatformParallel(List<ProcessorType> types, int maxConcurrency) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Only the type and configuration are read by the scheduler.
+     */
+    private record Processor(ProcessorType processorType, ProcessorConfiguration<Void> configuration)
+            implements SyncProcessor<Object, EcomModel<Object>, Void> {
+
+        @Override
+        public ProcessorType getProcessorType() {
+            return processorType;
+        }
+
+        @Override
+        public ProcessorConfiguration<Void> getConfiguration() {
+            return configuration;
+        }
+
+        @Override
+        public DataProvider<Object> getDataProvider() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DataMapper<Object, EcomModel<Object>> getDataMapper() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.glamaya.sync.runner.scheduler;
+
+import com.glamaya.sync.core.application.service.ProcessorShardCoordinator;
+import com.glamaya.sync.core.application.usecase.SyncOrchestrator;
+import com.glamaya.sync.core.domain.model.EcomModel;
+import com.glamaya.sync.core.domain.model.ProcessorStatus;
+import com.glamaya.sync.core.domain.model.ProcessorType;
+import com.glamaya.sync.core.domain.port.out.DataMapper;
+import com.glamaya.sync.core.domain.port.out.DataProvider;
+import com.glamaya.sync.core.domain.port.out.ProcessorConfiguration;
+import com.glamaya.sync.core.domain.port.out.StatusStorePort;
+import com.glamaya.sync.core.domain.port.out.SyncProcessor;
+import com.glamaya.sync.core.support.InMemoryLeasePort;
+import com.glamaya.sync.core.support.TestProcessorConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the scheduler tick by tick in virtual time. Runs take RUN_TIME unless set otherwise, and every dispatch
+ * is recorded as "TYPE@second".
+ */
+class PrioritySyncSchedulerTest {
+
+    private static final ProcessorType ORDER = ProcessorType.WOOCOMMERCE_ORDER;
+    private static final ProcessorType PRODUCT = ProcessorType.WOOCOMMERCE_PRODUCT;
+    private static final ProcessorType USER = ProcessorType.WOOCOMMERCE_USER;
+    private static final Duration RUN_TIME = Duration.ofSeconds(1);
+
+    private final Sinks.Many<String> dispatches = Sinks.many().replay().all();
+    private final RecordingOrchestrator orchestrator = new RecordingOrchestrator();
+    // Stored last successful runs; the virtual clock starts at the epoch
+    private final Map<ProcessorType, Instant> storedRuns = new EnumMap<>(ProcessorType.class);
+    private ProcessorShardCoordinator coordinator;
+    private PrioritySyncScheduler scheduler;
+
+    @Test
+    void mostOverdueProcessorRelativeToItsSloRunsFirst() {
+        storedRuns.put(ORDER, Instant.EPOCH.minusSeconds(120));
+        storedRuns.put(PRODUCT, Instant.EPOCH.minusSeconds(30));
+        storedRuns.put(USER, Instant.EPOCH.minusSeconds(300));
+
+        // ORDER is at twice its SLO, PRODUCT at three times, USER within it
+        StepVerifier.withVirtualTime(() -> start(1, 0, Map.of(ORDER, 60L, PRODUCT, 10L, USER, 600L)))
+                .expectNext("WOOCOMMERCE_PRODUCT@0")
+                .thenAwait(RUN_TIME)
+                .then(() -> scheduler.tick())
+                .expectNext("WOOCOMMERCE_ORDER@1")
+                // PRODUCT's short SLO makes it due again first
+                .thenAwait(Duration.ofSeconds(9))
+                .then(() -> scheduler.tick())
+                .expectNext("WOOCOMMERCE_PRODUCT@10")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void processorThatNeverRanIsTheMostOverdue() {
+        storedRuns.put(ORDER, Instant.EPOCH.minusSeconds(6000));
+
+        StepVerifier.withVirtualTime(() -> start(1, 0, Map.of(ORDER, 60L, PRODUCT, 60L)))
+                .expectNext("WOOCOMMERCE_PRODUCT@0")
+                .thenAwait(RUN_TIME)
+                .then(() -> scheduler.tick())
+                .expectNext("WOOCOMMERCE_ORDER@1")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void concurrencyCapLimitsTheRunsInFlight() {
+        StepVerifier.withVirtualTime(() -> start(2, 0, Map.of(ORDER, 60L, PRODUCT, 60L, USER, 60L)))
+                .expectNextCount(2)
+                .then(() -> scheduler.tick())
+                .expectNoEvent(RUN_TIME.dividedBy(2))
+                .thenAwait(RUN_TIME.dividedBy(2))
+                .then(() -> scheduler.tick())
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+
+        assertThat(orchestrator.maxRunning).hasValue(2);
+    }
+
+    @Test
+    void processorIsNotDispatchedAgainWhileItsRunIsInFlight() {
+        storedRuns.put(ORDER, Instant.EPOCH.minusSeconds(1000));
+        orchestrator.runTimes.put(ORDER, Duration.ofSeconds(100));
+
+        StepVerifier.withVirtualTime(() -> start(2, 0, Map.of(ORDER, 10L, PRODUCT, 10L)))
+                .expectNext("WOOCOMMERCE_PRODUCT@0", "WOOCOMMERCE_ORDER@0")
+                .thenAwait(Duration.ofSeconds(50))
+                .then(() -> scheduler.tick())
+                .expectNext("WOOCOMMERCE_PRODUCT@50")
+                .thenAwait(Duration.ofSeconds(50))
+                .then(() -> scheduler.tick())
+                // Staleness counts from the start of the run: ORDER is at ten times its SLO, PRODUCT at five
+                .expectNext("WOOCOMMERCE_ORDER@100", "WOOCOMMERCE_PRODUCT@100")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void failedRunIsRetriedOnceTheMinimumIntervalHasPassed() {
+        orchestrator.failing = true;
+
+        StepVerifier.withVirtualTime(() -> start(1, 30_000, Map.of(ORDER, 10L)))
+                .expectNext("WOOCOMMERCE_ORDER@0")
+                .thenAwait(Duration.ofSeconds(10))
+                .then(() -> scheduler.tick())
+                .expectNoEvent(Duration.ofSeconds(20))
+                .then(() -> scheduler.tick())
+                .expectNext("WOOCOMMERCE_ORDER@30")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void processorsLeasedByAnotherInstanceAreLeftAlone() {
+        StepVerifier.withVirtualTime(() -> start(1, 0, false, Map.of(ORDER, 10L)))
+                .expectSubscription()
+                .expectNoEvent(RUN_TIME)
+                .then(() -> coordinator.heartbeat().block())
+                .then(() -> scheduler.tick())
+                .expectNext("WOOCOMMERCE_ORDER@1")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void nothingIsDispatchedBeforeTheStoredStatusesAreLoaded() {
+        StepVerifier.withVirtualTime(() -> {
+                    scheduler = scheduler(1, 0, Map.of(ORDER, 10L));
+                    coordinator.heartbeat().block();
+                    scheduler.tick();
+                    return dispatches.asFlux();
+                })
+                .expectSubscription()
+                .expectNoEvent(RUN_TIME)
+                .then(() -> scheduler.loadLastRuns())
+                .then(() -> scheduler.tick())
+                .expectNext("WOOCOMMERCE_ORDER@1")
+                .thenCancel()
+                .verify();
+    }
+
+    private Flux<String> start(int maxConcurrency, long minIntervalMs, Map<ProcessorType, Long> slosSeconds) {
+        return start(maxConcurrency, minIntervalMs, true, slosSeconds);
+    }
+
+    /**
+     * Creates the scheduler, loads the stored statuses and ticks once; returns the recorded dispatches.
+     */
+    private Flux<String> start(int maxConcurrency, long minIntervalMs, boolean owned,
+                                                      Map<ProcessorType, Long> slosSeconds) {
+        scheduler = scheduler(maxConcurrency, minIntervalMs, slosSeconds);
+        if (owned) {
+            coordinator.heartbeat().block();
+        }
+        scheduler.loadLastRuns();
+        scheduler.tick();
+        return dispatches.asFlux();
+    }
+
+    private PrioritySyncScheduler scheduler(int maxConcurrency, long minIntervalMs, Map<ProcessorType, Long> slosSeconds) {
+        List<SyncProcessor<?, ?, ?>> processors = new EnumMap<>(slosSeconds).entrySet().stream()
+                .<SyncProcessor<?, ?, ?>>map(slo -> new Processor(slo.getKey(), TestProcessorConfiguration.builder()
+                        .stalenessSloMs(TimeUnit.SECONDS.toMillis(slo.getValue()))
+                        .build()))
+                .toList();
+        coordinator = new ProcessorShardCoordinator(new InMemoryLeasePort(Clock.systemUTC()), "test",
+                Duration.ofMinutes(5), List.copyOf(slosSeconds.keySet()));
+        return new PrioritySyncScheduler(orchestrator, new StoredStatuses(), coordinator, processors,
+                new SimpleMeterRegistry(), maxConcurrency, 300_000, minIntervalMs, new VirtualClock());
+    }
+
+    private static long virtualSeconds() {
+        return VirtualTimeScheduler.get().now(TimeUnit.SECONDS);
+    }
+
+    /**
+     * Records every dispatch and how many runs are in flight at most.
+     */
+    private final class RecordingOrchestrator implements SyncOrchestrator {
+
+        private final Map<ProcessorType, Duration> runTimes = new EnumMap<>(ProcessorType.class);
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+        private volatile boolean failing;
+
+        @Override
+        public Mono<Void> syncSequential(ProcessorType processorType) {
+            return Mono.defer(() -> {
+                dispatches.tryEmitNext(processorType + "@" + virtualSeconds());
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                return Mono.delay(runTimes.getOrDefault(processorType, RUN_TIME))
+                        .then(failing ? Mono.<Void>error(new IllegalStateException("platform down")) : Mono.<Void>empty())
+                        .doFinally(signal -> running.decrementAndGet());
+            });
+        }
+
+        @Override
+        public Mono<Long> syncOnce(ProcessorType processorType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Void> syncBackfill(ProcessorType processorType, Instant from, Instant to, Duration sliceSize,
+                                       int sliceConcurrency) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Void> syncParallel(int maxConcurrency) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Void> syncPlatformParallel(List<ProcessorType> types, int maxConcurrency) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Serves a status with the stored last successful run, if there is one.
+     */
+    private final class StoredStatuses implements StatusStorePort {
+
+        @Override
+        public Mono<ProcessorStatus> findStatus(ProcessorType processorType) {
+            return Mono.justOrEmpty(storedRuns.get(processorType))
+                    .map(lastRun -> ProcessorStatus.builder().processorType(processorType).lastSuccessfulRun(lastRun).build());
+        }
+
+        @Override
+        public Mono<Void> saveStatus(ProcessorStatus status) {
+            return Mono.empty();
+        }
+    }
+
+    /**
+     * Reads the virtual time, so staleness grows as the test advances it.
+     */
+    private static final class VirtualClock extends Clock {
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(VirtualTimeScheduler.get().now(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Only the type and configuration are read by the scheduler.
+     */
+    private record Processor(ProcessorType processorType, ProcessorConfiguration<Void> configuration)
+            implements SyncProcessor<Object, EcomModel<Object>, Void> {
+
+        @Override
+        public ProcessorType getProcessorType() {
+            return processorType;
+        }
+
+        @Override
+        public ProcessorConfiguration<Void> getConfiguration() {
+            return configuration;
+        }
+
+        @Override
+        public DataProvider<Object> getDataProvider() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DataMapper<Object, EcomModel<Object>> getDataMapper() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}